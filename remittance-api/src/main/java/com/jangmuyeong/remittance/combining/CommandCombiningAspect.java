@@ -0,0 +1,72 @@
+package com.jangmuyeong.remittance.combining;
+
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.function.Supplier;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.jangmuyeong.remittance.application.dto.command.DepositCommand;
+import com.jangmuyeong.remittance.application.dto.command.RemitCommand;
+import com.jangmuyeong.remittance.application.dto.command.WithdrawCommand;
+import com.jangmuyeong.remittance.application.service.AccountCommandCombiner;
+import com.jangmuyeong.remittance.application.service.WriteMode;
+
+/**
+ * 계좌별 명령 결합 모드(remittance.write.mode=COMBINING)에서 입금/출금/송금을 AccountCommandCombiner로 보내는 Aspect.
+ *
+ * 배치 트랜잭션은 리더 스레드가 따로 열므로 서비스의 트랜잭션 프록시 바깥에서 가로챈다.
+ * - 대상: MoneyService.deposit/withdraw, RemittanceService.remit (WriteConflictRetryAspect와 같음)
+ * - 이미 바깥 트랜잭션 안에서 호출됐으면 결합하지 않고 원래 경로(락 조회)로 실행
+ * - 결합하지 않는 명령(잔액 샤딩 계좌, 동일 계좌 송금)은 combiner가 원래 경로(direct)를 호출
+ *
+ * UseCaseMetricsAspect(HIGHEST_PRECEDENCE) 안쪽에서 실행되므로 유스케이스 Timer는 배치 대기 시간을 포함한다.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 3)
+public class CommandCombiningAspect {
+
+	private final WriteMode writeMode;
+	private final AccountCommandCombiner combiner;
+
+	public CommandCombiningAspect(@Value("${remittance.write.mode:PESSIMISTIC}") WriteMode writeMode,
+		AccountCommandCombiner combiner) {
+		this.writeMode = writeMode;
+		this.combiner = combiner;
+	}
+
+	@Around("execution(public * com.jangmuyeong.remittance.application.service.MoneyService.deposit(..))"
+		+ " || execution(public * com.jangmuyeong.remittance.application.service.MoneyService.withdraw(..))"
+		+ " || execution(public * com.jangmuyeong.remittance.application.service.RemittanceService.remit(..))")
+	public Object combine(ProceedingJoinPoint pjp) throws Throwable {
+		if (writeMode != WriteMode.COMBINING || TransactionSynchronizationManager.isActualTransactionActive()) {
+			return pjp.proceed();
+		}
+
+		Object command = pjp.getArgs()[0];
+		if (command instanceof DepositCommand deposit) return combiner.deposit(deposit, direct(pjp));
+		if (command instanceof WithdrawCommand withdraw) return combiner.withdraw(withdraw, direct(pjp));
+		if (command instanceof RemitCommand remit) return combiner.remit(remit, direct(pjp));
+		return pjp.proceed();
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> Supplier<T> direct(ProceedingJoinPoint pjp) {
+		return () -> {
+			try {
+				return (T)pjp.proceed();
+			} catch (RuntimeException | Error e) {
+				throw e;
+			} catch (Throwable t) {
+				throw new UndeclaredThrowableException(t);
+			}
+		};
+	}
+}
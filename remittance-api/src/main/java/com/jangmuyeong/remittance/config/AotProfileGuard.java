@@ -0,0 +1,29 @@
+package com.jangmuyeong.remittance.config;
+
+import org.springframework.aot.AotDetector;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+/**
+ * AOT 실행(spring.aot.enabled=true)에서 AOT 처리 때와 다른 빈 구성을 요구하는 프로파일이면 기동을 중단한다.
+ *
+ * processAot는 fast 프로파일 기준으로 빈 정의와 @Profile/@Conditional 평가 결과를 고정한다.
+ * 그래서 AOT 이미지에 jdbc 프로파일을 더해도 JDBC 어댑터 대신 JPA 어댑터가 조용히 그대로 쓰인다.
+ * jdbc 프로파일은 AOT 없이(JVM 모드) 실행해야 한다.
+ */
+@Component
+public class AotProfileGuard {
+
+	static final String JDBC_PROFILE = "jdbc";
+
+	public AotProfileGuard(Environment environment) {
+		check(AotDetector.useGeneratedArtifacts(), environment);
+	}
+
+	static void check(boolean aot, Environment environment) {
+		if (aot && environment.matchesProfiles(JDBC_PROFILE)) {
+			throw new IllegalStateException("jdbc profile is not part of the AOT build (processAot uses the fast profile);"
+				+ " run without -Dspring.aot.enabled=true to use the JDBC adapters");
+		}
+	}
+}
@@ -3,6 +3,8 @@ package com.jangmuyeong.remittance.error;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.dao.PessimisticLockingFailureException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -80,4 +82,24 @@ public class GlobalExceptionHandler {
 		return ResponseEntity.status(409)
 			.body(ErrorResponse.of("DUPLICATE_RESOURCE", "duplicate resource"));
 	}
+
+	/**
+	 * 낙관적 쓰기 모드의 버전 충돌이 재시도(WriteConflictRetryAspect) 후에도 계속된 경우
+	 * - 반영된 것이 없으므로 클라이언트가 다시 시도할 수 있도록 409
+	 */
+	@ExceptionHandler(OptimisticLockingFailureException.class)
+	public ResponseEntity<ErrorResponse> handleWriteConflict(OptimisticLockingFailureException e) {
+		return ResponseEntity.status(409)
+			.body(ErrorResponse.of("WRITE_CONFLICT", "concurrent update, retry later"));
+	}
+
+	/**
+	 * 락 대기 시간 초과/교착이 재시도(LockFailureRetryAspect) 후에도 계속된 경우
+	 * - 롤백되어 반영된 것이 없고 계좌가 일시적으로 붐비는 상황이므로 503
+	 */
+	@ExceptionHandler(PessimisticLockingFailureException.class)
+	public ResponseEntity<ErrorResponse> handleLockFailure(PessimisticLockingFailureException e) {
+		return ResponseEntity.status(503)
+			.body(ErrorResponse.of("LOCK_TIMEOUT", "account is busy, retry later"));
+	}
 }
@@ -0,0 +1,116 @@
+package com.jangmuyeong.remittance.locking;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.jangmuyeong.remittance.application.dto.command.DepositCommand;
+import com.jangmuyeong.remittance.application.dto.command.RemitCommand;
+import com.jangmuyeong.remittance.application.dto.command.WithdrawCommand;
+import com.jangmuyeong.remittance.application.service.AccountLockQueue;
+import com.jangmuyeong.remittance.application.service.ResolvedAccountIds;
+import com.jangmuyeong.remittance.metrics.UseCaseMetricsAspect;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 계좌별 JVM 내부 락(remittance.write.local-locks.enabled=true)을 트랜잭션 프록시 바깥에서 잡는 Aspect.
+ *
+ * 계좌 락 대기를 커넥션 풀 밖으로 옮기기 위해 @Transactional(커넥션 획득)보다 먼저 AccountLockQueue의 stripe 락을 잡고,
+ * 유스케이스(커밋 포함)가 끝나면 푼다.
+ * - 대상: MoneyService.deposit/withdraw, RemittanceService.remit
+ * - 이미 바깥 트랜잭션 안에서 호출됐으면 잡지 않는다. (커넥션을 이미 잡고 있고, DB 락 순서를 바깥 트랜잭션이 정함)
+ * - timeout 안에 못 잡으면 CannotAcquireLockException (DB 락 대기 시간 초과와 같은 종류의 실패)
+ * - stripe를 고르기 위한 계좌 id 조회는 트랜잭션 밖에서 하고(락 대기 중에는 커넥션을 잡지 않음),
+ *   ResolvedAccountIds로 유스케이스에 넘겨 트랜잭션 안에서 다시 조회하지 않는다. (SQL 왕복 수는 락을 쓰지 않을 때와 같음)
+ *
+ * 메트릭:
+ * - remittance.account.lock.wait (Timer, usecase, outcome=acquired|timeout 태그): stripe 락 대기 시간
+ * - remittance.account.lock.queued (Gauge): 지금 stripe 락을 기다리는 스레드 수
+ *
+ * 재시도 Aspect(LockFailureRetryAspect, WriteConflictRetryAspect)와 명령 결합 Aspect 안쪽에서 실행되므로
+ * 재시도마다 다시 잡고(대기 시간 초과도 락 실패로 재시도), 결합된 배치에는 적용되지 않는다.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 4)
+public class AccountLockQueueAspect {
+
+	static final String WAIT_TIMER_NAME = "remittance.account.lock.wait";
+	static final String QUEUED_GAUGE_NAME = "remittance.account.lock.queued";
+
+	private final MeterRegistry registry;
+	private final boolean enabled;
+	private final AccountLockQueue locks;
+
+	public AccountLockQueueAspect(MeterRegistry registry,
+		@Value("${remittance.write.local-locks.enabled:false}") boolean enabled, AccountLockQueue locks) {
+		this.registry = registry;
+		this.enabled = enabled;
+		this.locks = locks;
+		if (enabled) {
+			Gauge.builder(QUEUED_GAUGE_NAME, locks, AccountLockQueue::queued)
+				.description("JVM 내부 계좌 락을 기다리는 스레드 수")
+				.register(registry);
+		}
+	}
+
+	@Around("execution(public * com.jangmuyeong.remittance.application.service.MoneyService.deposit(..))"
+		+ " || execution(public * com.jangmuyeong.remittance.application.service.MoneyService.withdraw(..))"
+		+ " || execution(public * com.jangmuyeong.remittance.application.service.RemittanceService.remit(..))")
+	public Object lock(ProceedingJoinPoint pjp) throws Throwable {
+		if (!enabled || TransactionSynchronizationManager.isActualTransactionActive()) {
+			return pjp.proceed();
+		}
+
+		try (ResolvedAccountIds ids = ResolvedAccountIds.open()) {
+			int[] held = stripesFor(pjp.getArgs()[0]);
+			if (held.length == 0) return pjp.proceed();
+
+			String useCase = UseCaseMetricsAspect.useCaseName(pjp);
+			Timer.Sample wait = Timer.start(registry);
+			boolean acquired;
+			try {
+				acquired = locks.lock(held);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				stopWait(wait, useCase, "timeout");
+				throw new CannotAcquireLockException(useCase + " interrupted while waiting for account lock", e);
+			}
+			if (!acquired) {
+				stopWait(wait, useCase, "timeout");
+				throw new CannotAcquireLockException(useCase + " account lock wait timed out");
+			}
+			stopWait(wait, useCase, "acquired");
+
+			try {
+				return pjp.proceed();
+			} finally {
+				locks.unlock(held);
+			}
+		}
+	}
+
+	private int[] stripesFor(Object command) {
+		if (command instanceof DepositCommand deposit) return locks.stripesFor(deposit);
+		if (command instanceof WithdrawCommand withdraw) return locks.stripesFor(withdraw);
+		if (command instanceof RemitCommand remit) return locks.stripesFor(remit);
+		return new int[0];
+	}
+
+	private void stopWait(Timer.Sample wait, String useCase, String outcome) {
+		wait.stop(Timer.builder(WAIT_TIMER_NAME)
+			.description("트랜잭션 전 JVM 내부 계좌 락 대기 시간")
+			.tag("usecase", useCase)
+			.tag("outcome", outcome)
+			.register(registry));
+	}
+}
@@ -0,0 +1,89 @@
+package com.jangmuyeong.remittance.metrics;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import com.jangmuyeong.remittance.domain.exception.DomainException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 유스케이스(application.service 의 public 메서드) 단위 메트릭 수집 Aspect.
+ *
+ * 수집 항목:
+ * - remittance.usecase (Timer): 유스케이스별 처리 시간 분포 (usecase, outcome, error_code 태그)
+ * - remittance.usecase.rejections (Counter): 비즈니스 거절 건수 (usecase, error_code 태그)
+ *
+ * outcome:
+ * - success  : 정상 처리
+ * - rejected : DomainException (잔액 부족, 일 한도 초과 등 ErrorCode 로 태깅)
+ * - error    : 그 외 예외 (error_code 에 예외 클래스명)
+ *
+ * 트랜잭션 커밋 시간까지 포함되도록 @Transactional 프록시보다 바깥(HIGHEST_PRECEDENCE)에서 측정한다.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class UseCaseMetricsAspect {
+
+	static final String TIMER_NAME = "remittance.usecase";
+	static final String REJECTION_COUNTER_NAME = "remittance.usecase.rejections";
+
+	private static final String NONE = "none";
+
+	private final MeterRegistry registry;
+
+	public UseCaseMetricsAspect(MeterRegistry registry) {
+		this.registry = registry;
+	}
+
+	@Around("execution(public * com.jangmuyeong.remittance.application.service.*Service.*(..))")
+	public Object measure(ProceedingJoinPoint pjp) throws Throwable {
+		String useCase = useCaseName(pjp);
+		Timer.Sample sample = Timer.start(registry);
+		try {
+			Object result = pjp.proceed();
+			stop(sample, useCase, "success", NONE);
+			return result;
+		} catch (DomainException e) {
+			String errorCode = e.getErrorCode().name();
+			stop(sample, useCase, "rejected", errorCode);
+			Counter.builder(REJECTION_COUNTER_NAME)
+				.description("비즈니스 규칙에 의해 거절된 유스케이스 호출 수")
+				.tag("usecase", useCase)
+				.tag("error_code", errorCode)
+				.register(registry)
+				.increment();
+			throw e;
+		} catch (Throwable t) {
+			stop(sample, useCase, "error", t.getClass().getSimpleName());
+			throw t;
+		}
+	}
+
+	private void stop(Timer.Sample sample, String useCase, String outcome, String errorCode) {
+		sample.stop(Timer.builder(TIMER_NAME)
+			.description("유스케이스 처리 시간(트랜잭션 커밋 포함)")
+			.tag("usecase", useCase)
+			.tag("outcome", outcome)
+			.tag("error_code", errorCode)
+			// Prometheus 에서 histogram_quantile 로 p99 등을 계산할 수 있도록 버킷 노출
+			.publishPercentileHistogram()
+			.register(registry));
+	}
+
+	/**
+	 * 예: MoneyService.withdraw → "money.withdraw", RemittanceService.remit → "remittance.remit"
+	 */
+	public static String useCaseName(ProceedingJoinPoint pjp) {
+		String type = pjp.getSignature().getDeclaringType().getSimpleName();
+		String prefix = type.endsWith("Service") ? type.substring(0, type.length() - "Service".length()) : type;
+		return Character.toLowerCase(prefix.charAt(0)) + prefix.substring(1) + "." + pjp.getSignature().getName();
+	}
+}
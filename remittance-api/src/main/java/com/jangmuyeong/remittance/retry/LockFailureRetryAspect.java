@@ -0,0 +1,185 @@
+package com.jangmuyeong.remittance.retry;
+
+import java.sql.SQLException;
+import java.sql.SQLTransactionRollbackException;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.jangmuyeong.remittance.domain.port.LockTimeoutPort;
+import com.jangmuyeong.remittance.metrics.UseCaseMetricsAspect;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.LockTimeoutException;
+import jakarta.persistence.PessimisticLockException;
+
+/**
+ * 쓰기 유스케이스의 락 대기 시간 초과/교착 재시도 Aspect (쓰기 모드와 무관).
+ *
+ * 락 실패는 트랜잭션 전체가 롤백되므로 트랜잭션 프록시 바깥에서 유스케이스 전체(새 트랜잭션)를 다시 실행한다.
+ * - 대상: MoneyService.deposit/withdraw, RemittanceService.remit, AccountService.delete (계좌 행을 락 조회하는 유스케이스)
+ * - 대상 예외: PessimisticLockingFailureException(CannotAcquireLockException, 교착 등), JPA/Hibernate 락 예외,
+ *   SQLTransactionRollbackException, MySQL 1205/1213, H2 50200 (원인 체인에서 찾음)
+ * - 최대 max-attempts회 실행, 재시도 사이에는 full jitter 지수 백오프 (0 ~ min(backoff-max, backoff * 2^n))
+ * - 첫 시도부터 budget이 지났거나 다음 대기가 budget을 넘기면 더 시도하지 않는다. (느린 락 대기가 재시도로 길어지지 않도록)
+ * - 소진되면 PessimisticLockingFailureException (GlobalExceptionHandler에서 503)
+ * - 이미 바깥 트랜잭션 안에서 호출됐으면 재실행해도 같은 트랜잭션이므로 재시도하지 않는다.
+ *
+ * 유스케이스별 행 락 대기 시간: remittance.write.lock-timeout.{usecase} (예: money.withdraw), 없으면 lock-timeout.default
+ * 값이 있으면 LockTimeoutPort에 묶어 계좌 행 락 조회 전에 DB 세션에 설정한다. (둘 다 없으면 DB 기본값, 쿼리 없음)
+ *
+ * 메트릭: remittance.write.lock-failures (Counter, usecase, outcome=retried|exhausted, exception 태그)
+ *
+ * UseCaseMetricsAspect(HIGHEST_PRECEDENCE) 바로 안쪽에서 실행되므로 버전 충돌 재시도, 명령 결합, JVM 내부 계좌 락 대기 시간 초과까지 감싼다.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class LockFailureRetryAspect {
+
+	static final String LOCK_FAILURE_COUNTER_NAME = "remittance.write.lock-failures";
+
+	private static final String LOCK_TIMEOUT_PREFIX = "remittance.write.lock-timeout.";
+	// MySQL 락 대기 시간 초과/교착, H2 락 대기 시간 초과 (예외 변환을 거치지 않은 SQLException)
+	private static final Set<Integer> LOCK_ERROR_CODES = Set.of(1205, 1213, 50200);
+
+	private final MeterRegistry registry;
+	private final LockTimeoutPort lockTimeouts;
+	private final Function<String, Duration> lockTimeoutLookup;
+	private final int maxAttempts;
+	private final long backoffNanos;
+	private final long backoffMaxNanos;
+	private final long budgetNanos;
+	private final WriteConflictRetryAspect.Sleeper sleeper;
+	private final LongSupplier nanoClock;
+
+	private final ConcurrentHashMap<String, Optional<Duration>> lockTimeoutByUseCase = new ConcurrentHashMap<>();
+
+	@Autowired
+	public LockFailureRetryAspect(MeterRegistry registry, LockTimeoutPort lockTimeouts, Environment environment,
+		@Value("${remittance.write.lock-retry.max-attempts:4}") int maxAttempts,
+		@Value("${remittance.write.lock-retry.backoff:5ms}") Duration backoff,
+		@Value("${remittance.write.lock-retry.backoff-max:100ms}") Duration backoffMax,
+		@Value("${remittance.write.lock-retry.budget:2s}") Duration budget) {
+		this(registry, lockTimeouts, useCase -> environment.getProperty(LOCK_TIMEOUT_PREFIX + useCase, Duration.class,
+				environment.getProperty(LOCK_TIMEOUT_PREFIX + "default", Duration.class)),
+			maxAttempts, backoff, backoffMax, budget, TimeUnit.NANOSECONDS::sleep, System::nanoTime);
+	}
+
+	LockFailureRetryAspect(MeterRegistry registry, LockTimeoutPort lockTimeouts,
+		Function<String, Duration> lockTimeoutLookup, int maxAttempts, Duration backoff, Duration backoffMax,
+		Duration budget, WriteConflictRetryAspect.Sleeper sleeper, LongSupplier nanoClock) {
+		if (maxAttempts < 1) throw new IllegalArgumentException("lock-retry.max-attempts must be >= 1: " + maxAttempts);
+		this.registry = registry;
+		this.lockTimeouts = lockTimeouts;
+		this.lockTimeoutLookup = lockTimeoutLookup;
+		this.maxAttempts = maxAttempts;
+		this.backoffNanos = backoff.toNanos();
+		this.backoffMaxNanos = backoffMax.toNanos();
+		this.budgetNanos = budget.toNanos();
+		this.sleeper = sleeper;
+		this.nanoClock = nanoClock;
+	}
+
+	@Around("execution(public * com.jangmuyeong.remittance.application.service.MoneyService.deposit(..))"
+		+ " || execution(public * com.jangmuyeong.remittance.application.service.MoneyService.withdraw(..))"
+		+ " || execution(public * com.jangmuyeong.remittance.application.service.RemittanceService.remit(..))"
+		+ " || execution(public * com.jangmuyeong.remittance.application.service.AccountService.delete(..))")
+	public Object retry(ProceedingJoinPoint pjp) throws Throwable {
+		if (TransactionSynchronizationManager.isActualTransactionActive()) {
+			return pjp.proceed();
+		}
+
+		String useCase = UseCaseMetricsAspect.useCaseName(pjp);
+		Duration previous = lockTimeouts.bind(lockTimeout(useCase));
+		try {
+			long deadline = nanoClock.getAsLong() + budgetNanos;
+			for (int attempt = 1; ; attempt++) {
+				try {
+					return pjp.proceed();
+				} catch (RuntimeException e) {
+					Throwable lockFailure = lockFailureOf(e);
+					if (lockFailure == null) throw e;
+					long pause = jitter(attempt);
+					if (attempt >= maxAttempts || nanoClock.getAsLong() + pause > deadline) {
+						count(useCase, "exhausted", lockFailure);
+						throw e instanceof PessimisticLockingFailureException failure ? failure
+							: new CannotAcquireLockException(useCase + " lock failure", e);
+					}
+					count(useCase, "retried", lockFailure);
+					sleep(pause, e);
+				}
+			}
+		} finally {
+			lockTimeouts.bind(previous);
+		}
+	}
+
+	/**
+	 * 원인 체인에서 재시도할 락 실패(대기 시간 초과, 교착)를 찾는다. 없으면 null
+	 * 커밋/리포지토리 예외는 스프링이 변환하지만, EntityManager 직접 호출이나 변환 전 예외는 원래 예외 그대로 올라온다.
+	 */
+	static Throwable lockFailureOf(Throwable e) {
+		for (Throwable t = e; t != null; t = t.getCause()) {
+			if (t instanceof PessimisticLockingFailureException
+				|| t instanceof PessimisticLockException
+				|| t instanceof LockTimeoutException
+				|| t instanceof org.hibernate.PessimisticLockException
+				|| t instanceof org.hibernate.exception.LockAcquisitionException
+				|| t instanceof SQLTransactionRollbackException) {
+				return t;
+			}
+			if (t instanceof SQLException sql && LOCK_ERROR_CODES.contains(sql.getErrorCode())) return t;
+		}
+		return null;
+	}
+
+	private Duration lockTimeout(String useCase) {
+		return lockTimeoutByUseCase.computeIfAbsent(useCase, k -> Optional.ofNullable(lockTimeoutLookup.apply(k)))
+			.orElse(null);
+	}
+
+	private long jitter(int attempt) {
+		long ceiling = Math.min(backoffMaxNanos, backoffNanos << Math.min(attempt - 1, 30));
+		return ceiling <= 0 ? 0L : ThreadLocalRandom.current().nextLong(ceiling + 1);
+	}
+
+	private void sleep(long nanos, RuntimeException failure) {
+		if (nanos <= 0) return;
+		try {
+			sleeper.sleep(nanos);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw failure;
+		}
+	}
+
+	private void count(String useCase, String outcome, Throwable lockFailure) {
+		Counter.builder(LOCK_FAILURE_COUNTER_NAME)
+			.description("락 대기 시간 초과/교착 수 (retried: 재시도함, exhausted: 재시도 소진/시간 예산 초과로 실패)")
+			.tag("usecase", useCase)
+			.tag("outcome", outcome)
+			.tag("exception", lockFailure.getClass().getSimpleName())
+			.register(registry)
+			.increment();
+	}
+}
@@ -0,0 +1,142 @@
+package com.jangmuyeong.remittance.retry;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.jangmuyeong.remittance.application.service.AccountContentionTracker;
+import com.jangmuyeong.remittance.application.service.WriteMode;
+import com.jangmuyeong.remittance.metrics.UseCaseMetricsAspect;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.OptimisticLockException;
+
+/**
+ * 낙관적 쓰기 모드(remittance.write.mode=OPTIMISTIC, ADAPTIVE)의 버전 충돌 재시도 Aspect.
+ *
+ * 버전 충돌은 대부분 커밋(flush) 시점에 드러나므로 @Transactional 메서드 안이 아니라
+ * 트랜잭션 프록시 바깥에서 유스케이스 전체(새 트랜잭션)를 다시 실행한다.
+ * - 대상: MoneyService.deposit/withdraw, RemittanceService.remit
+ * - 최대 max-attempts회 실행, 재시도 사이에는 full jitter 지수 백오프 (0 ~ min(backoff-max, backoff * 2^n))
+ * - 소진되면 OptimisticLockingFailureException (GlobalExceptionHandler에서 409)
+ * - 이미 바깥 트랜잭션 안에서 호출됐으면 재실행해도 같은 트랜잭션이므로 재시도하지 않는다.
+ * - ADAPTIVE는 충돌한 시도에서 낙관적으로 읽은 계좌를 AccountContentionTracker에 기록한다. (경합이 잦으면 다음 시도부터 락 조회)
+ *
+ * 메트릭: remittance.write.conflicts (Counter, usecase, outcome=retried|exhausted 태그)
+ *
+ * UseCaseMetricsAspect(HIGHEST_PRECEDENCE)와 LockFailureRetryAspect 안쪽에서 실행되므로 유스케이스 Timer는 재시도를 포함한 전체 시간을 재고,
+ * 락 실패는 이 Aspect를 지나 LockFailureRetryAspect가 유스케이스 전체를 다시 실행한다.
+ * 모드는 실행 시점에 확인한다. (AOT 처리는 fast 프로파일 기준이므로 빈 등록 조건으로 나누지 않음)
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+public class WriteConflictRetryAspect {
+
+	static final String CONFLICT_COUNTER_NAME = "remittance.write.conflicts";
+
+	private final MeterRegistry registry;
+	private final WriteMode writeMode;
+	private final AccountContentionTracker contention;
+	private final int maxAttempts;
+	private final long backoffNanos;
+	private final long backoffMaxNanos;
+	private final Sleeper sleeper;
+
+	@Autowired
+	public WriteConflictRetryAspect(MeterRegistry registry,
+		@Value("${remittance.write.mode:PESSIMISTIC}") WriteMode writeMode,
+		AccountContentionTracker contention,
+		@Value("${remittance.write.optimistic.max-attempts:5}") int maxAttempts,
+		@Value("${remittance.write.optimistic.backoff:1ms}") Duration backoff,
+		@Value("${remittance.write.optimistic.backoff-max:50ms}") Duration backoffMax) {
+		this(registry, writeMode, contention, maxAttempts, backoff, backoffMax, TimeUnit.NANOSECONDS::sleep);
+	}
+
+	WriteConflictRetryAspect(MeterRegistry registry, WriteMode writeMode, AccountContentionTracker contention,
+		int maxAttempts, Duration backoff, Duration backoffMax, Sleeper sleeper) {
+		if (maxAttempts < 1) throw new IllegalArgumentException("max-attempts must be >= 1: " + maxAttempts);
+		this.registry = registry;
+		this.writeMode = writeMode;
+		this.contention = contention;
+		this.maxAttempts = maxAttempts;
+		this.backoffNanos = backoff.toNanos();
+		this.backoffMaxNanos = backoffMax.toNanos();
+		this.sleeper = sleeper;
+	}
+
+	@Around("execution(public * com.jangmuyeong.remittance.application.service.MoneyService.deposit(..))"
+		+ " || execution(public * com.jangmuyeong.remittance.application.service.MoneyService.withdraw(..))"
+		+ " || execution(public * com.jangmuyeong.remittance.application.service.RemittanceService.remit(..))")
+	public Object retry(ProceedingJoinPoint pjp) throws Throwable {
+		boolean optimistic = writeMode == WriteMode.OPTIMISTIC || writeMode == WriteMode.ADAPTIVE;
+		if (!optimistic || TransactionSynchronizationManager.isActualTransactionActive()) {
+			return pjp.proceed();
+		}
+
+		String useCase = UseCaseMetricsAspect.useCaseName(pjp);
+		for (int attempt = 1; ; attempt++) {
+			try {
+				return pjp.proceed();
+			} catch (RuntimeException e) {
+				if (!isConflict(e)) throw e;
+				if (writeMode == WriteMode.ADAPTIVE) contention.attemptConflicted();
+				if (attempt >= maxAttempts) {
+					count(useCase, "exhausted");
+					throw e instanceof OptimisticLockingFailureException conflict ? conflict
+						: new OptimisticLockingFailureException(useCase + " write conflict", e);
+				}
+				count(useCase, "retried");
+				backoff(attempt, e);
+			}
+		}
+	}
+
+	/**
+	 * 충돌(version 불일치, 당일 일 한도 행 동시 생성)인지 확인
+	 * 커밋 시점 예외는 JpaTransactionManager가 변환하지만, 어댑터의 EntityManager 호출에서 난 예외는 JPA 예외 그대로 올라온다.
+	 */
+	static boolean isConflict(Throwable e) {
+		for (Throwable t = e; t != null; t = t.getCause()) {
+			if (t instanceof OptimisticLockingFailureException || t instanceof OptimisticLockException) return true;
+		}
+		return false;
+	}
+
+	private void backoff(int attempt, RuntimeException conflict) {
+		long ceiling = Math.min(backoffMaxNanos, backoffNanos << Math.min(attempt - 1, 30));
+		if (ceiling <= 0) return;
+		try {
+			sleeper.sleep(ThreadLocalRandom.current().nextLong(ceiling + 1));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw conflict;
+		}
+	}
+
+	private void count(String useCase, String outcome) {
+		Counter.builder(CONFLICT_COUNTER_NAME)
+			.description("낙관적 쓰기 모드의 버전 충돌 수 (retried: 재시도함, exhausted: 재시도 소진으로 실패)")
+			.tag("usecase", useCase)
+			.tag("outcome", outcome)
+			.register(registry)
+			.increment();
+	}
+
+	@FunctionalInterface
+	interface Sleeper {
+		void sleep(long nanos) throws InterruptedException;
+	}
+}
@@ -0,0 +1,64 @@
+-- remittance 스키마 (MySQL 8)
+-- fast 프로파일은 ddl-auto: none 이므로 배포 전에 한 번 적용한다. (create table if not exists, 반복 적용 가능)
+-- 엔티티(*JpaEntity)를 바꾸면 이 파일도 같이 바꾼다. (FastStartupProfileTest가 ddl-auto: validate로 검증)
+
+create table if not exists accounts (
+    id                 bigint      not null,
+    account_no         varchar(40) not null,
+    status             tinyint     not null, -- 1: ACTIVE, 2: DELETED (AccountMapper.statusCode)
+    balance            bigint      not null,
+    version            bigint      not null default 0, -- remittance.write.mode=OPTIMISTIC 충돌 검사
+    -- 일 한도 누적치 (remittance.daily-limit.storage=account-row)
+    limit_date         date,
+    limit_withdraw_sum bigint      not null default 0,
+    limit_transfer_sum bigint      not null default 0,
+    primary key (id),
+    constraint uk_account_no unique (account_no)
+) engine=InnoDB;
+
+create table if not exists daily_limits (
+    id           bigint not null,
+    account_id   bigint not null,
+    limit_date   date   not null,
+    withdraw_sum bigint not null,
+    transfer_sum bigint not null,
+    version      bigint not null default 0,
+    primary key (id),
+    constraint uk_daily_limit unique (account_id, limit_date)
+) engine=InnoDB;
+
+create table if not exists ledger_entries (
+    id                      bigint      not null,
+    account_id              bigint      not null,
+    counterparty_account_id bigint,
+    type                    tinyint     not null, -- 1: DEPOSIT, 2: WITHDRAW, 3: TRANSFER_OUT, 4: TRANSFER_IN, 5: FEE (LedgerMapper.typeCode)
+    amount                  bigint      not null,
+    fee_amount              bigint      not null,
+    occurred_at             datetime(6) not null,
+    balance_after           bigint      not null,
+    primary key (id),
+    -- 거래내역 조회(account_id = ? order by occurred_at desc, id desc limit ?)를 filesort 없이 인덱스 순서로 읽음
+    index idx_ledger_account_time_id (account_id, occurred_at, id)
+) engine=InnoDB;
+
+-- 잔액 샤딩 계좌의 하위 잔액 (remittance.balance-shards.accounts, 계좌 잔액 = accounts.balance + shard 합)
+create table if not exists account_balance_shards (
+    id         bigint not null,
+    account_id bigint not null,
+    shard_no   int    not null,
+    balance    bigint not null,
+    primary key (id),
+    constraint uk_account_balance_shard unique (account_id, shard_no)
+) engine=InnoDB;
+
+-- 입금 지연 반영 계좌의 미반영 입금 (remittance.pending-credits.accounts, 계좌 잔액 = accounts.balance + 미반영 합)
+create table if not exists pending_credits (
+    id                      bigint      not null,
+    account_id              bigint      not null,
+    counterparty_account_id bigint,
+    type                    tinyint     not null, -- 원장과 같은 코드 (1: DEPOSIT, 4: TRANSFER_IN)
+    amount                  bigint      not null,
+    occurred_at             datetime(6) not null,
+    primary key (id),
+    index idx_pending_credit_account_id (account_id, id)
+) engine=InnoDB;
@@ -0,0 +1,64 @@
+package com.jangmuyeong.remittance;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * fast 프로파일(빠른 기동 모드) 검증
+ * - db/schema.sql만으로 만든 스키마가 엔티티와 일치 (ddl-auto: validate)
+ * - JDBC 메타데이터 조회 없이도 송금 흐름이 동작
+ * - OpenAPI 문서 빈/엔드포인트가 등록되지 않음
+ */
+@ActiveProfiles("fast")
+@SpringBootTest(properties = {
+	"spring.datasource.url=jdbc:h2:mem:fast;MODE=MySQL;DB_CLOSE_DELAY=-1;INIT=RUNSCRIPT FROM 'classpath:db/schema.sql'",
+	"spring.datasource.username=sa",
+	"spring.datasource.password=",
+	"spring.jpa.hibernate.ddl-auto=validate",
+	"remittance.id.node-id=0",
+	// 운영은 MySQL 고정, 테스트만 H2로 덮어씀
+	"spring.jpa.properties.jakarta.persistence.database-product-name=H2",
+	"spring.jpa.properties.jakarta.persistence.database-major-version=2",
+	"spring.jpa.properties.jakarta.persistence.database-minor-version=4"
+})
+@AutoConfigureMockMvc
+class FastStartupProfileTest {
+
+	@Autowired MockMvc mvc;
+	@Autowired ApplicationContext context;
+
+	@Test
+	void remit_works_on_pre_applied_schema() throws Exception {
+		send("/accounts", "{\"accountNo\":\"FAST-A\"}", 200);
+		send("/accounts", "{\"accountNo\":\"FAST-B\"}", 200);
+		send("/accounts/FAST-A/deposit", "{\"amount\":1000000}", 200);
+
+		send("/remittances", "{\"fromAccountNo\":\"FAST-A\",\"toAccountNo\":\"FAST-B\",\"amount\":100000}", 200);
+	}
+
+	@Test
+	void openapi_is_not_registered() throws Exception {
+		assertThat(context.containsBean("swaggerConfig")).isFalse();
+
+		// 매핑 없는 경로는 GlobalExceptionHandler가 처리하므로 "200이 아님"만 확인
+		int status = mvc.perform(get("/v3/api-docs")).andReturn().getResponse().getStatus();
+		assertThat(status).isNotEqualTo(200);
+	}
+
+	private void send(String url, String json, int expectedStatus) throws Exception {
+		int status = mvc.perform(post(url)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(json))
+			.andReturn().getResponse().getStatus();
+		assertThat(status).as(url).isEqualTo(expectedStatus);
+	}
+}
@@ -0,0 +1,74 @@
+package com.jangmuyeong.remittance;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.jangmuyeong.remittance.application.dto.command.CreateAccountCommand;
+import com.jangmuyeong.remittance.application.dto.command.DepositCommand;
+import com.jangmuyeong.remittance.application.dto.command.RemitCommand;
+import com.jangmuyeong.remittance.application.service.AccountService;
+import com.jangmuyeong.remittance.application.service.MoneyService;
+import com.jangmuyeong.remittance.application.service.RemittanceService;
+import com.jangmuyeong.remittance.application.service.TransactionQueryService;
+import com.jangmuyeong.remittance.domain.ledger.LedgerEntry;
+import com.jangmuyeong.remittance.domain.ledger.TransactionType;
+import com.jangmuyeong.remittance.infra.persistence.mapper.LedgerMapper;
+import com.jangmuyeong.remittance.infra.persistence.migration.LedgerTransferMigration;
+
+/**
+ * 분리 형식으로 쌓인 송금 원장을 통합 형식으로 옮긴 뒤에도
+ * 거래내역 조회 결과(타입/금액/수수료/잔액/시각)가 그대로인지 검증
+ */
+@ActiveProfiles("local")
+@SpringBootTest
+class LedgerTransferMigrationTest {
+
+	@Autowired JdbcTemplate jdbc;
+	@Autowired LedgerTransferMigration migration;
+	@Autowired AccountService accountService;
+	@Autowired MoneyService moneyService;
+	@Autowired RemittanceService remittanceService;
+	@Autowired TransactionQueryService transactionQueryService;
+
+	@Test
+	void migration_merges_fee_rows_without_changing_transactions() {
+		String fromNo = "MIG-A-" + System.nanoTime();
+		String toNo = "MIG-B-" + System.nanoTime();
+		accountService.create(new CreateAccountCommand(fromNo));
+		accountService.create(new CreateAccountCommand(toNo));
+		moneyService.deposit(new DepositCommand(fromNo, 1_000_000L));
+		remittanceService.remit(new RemitCommand(fromNo, toNo, 100_000L));
+		remittanceService.remit(new RemitCommand(fromNo, toNo, 200_000L));
+		List<String> before = view(transactionQueryService.latest(fromNo, 20));
+
+		assertThat(migration.migrateAll()).isGreaterThanOrEqualTo(2);
+
+		assertThat(types(fromNo))
+			.containsExactly(TransactionType.DEPOSIT, TransactionType.TRANSFER_OUT, TransactionType.TRANSFER_OUT);
+		assertThat(view(transactionQueryService.latest(fromNo, 20))).isEqualTo(before);
+		// 이미 옮긴 행은 짝이 없으므로 다시 실행해도 변화 없음
+		assertThat(migration.migrateAll()).isZero();
+		assertThat(view(transactionQueryService.latest(fromNo, 20))).isEqualTo(before);
+	}
+
+	private List<TransactionType> types(String accountNo) {
+		return jdbc.queryForList("""
+			select l.type from ledger_entries l join accounts a on a.id = l.account_id
+			where a.account_no = ? order by l.id
+			""", Byte.class, accountNo).stream().map(LedgerMapper::typeOf).toList();
+	}
+
+	private static List<String> view(List<LedgerEntry> entries) {
+		return entries.stream()
+			.map(e -> e.getType() + "/" + e.getAmount() + "/" + e.getFeeAmount() + "/"
+				+ e.getBalanceAfter() + "/" + e.getOccurredAt())
+			.toList();
+	}
+}
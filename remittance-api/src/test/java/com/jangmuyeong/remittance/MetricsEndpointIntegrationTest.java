@@ -0,0 +1,55 @@
+package com.jangmuyeong.remittance;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.micrometer.metrics.test.autoconfigure.AutoConfigureMetrics;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@ActiveProfiles("local")
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureMetrics
+class MetricsEndpointIntegrationTest {
+
+	private final ObjectMapper om = new ObjectMapper();
+	@Autowired MockMvc mvc;
+
+	@Test
+	void prometheus_exposes_usecase_timers_rejections_and_hikari_gauges() throws Exception {
+		String accountNo = "MET-" + System.nanoTime();
+		postJson("/accounts", Map.of("accountNo", accountNo), 200);
+		postJson("/accounts/" + accountNo + "/deposit", Map.of("amount", 1_000), 200);
+		postJson("/accounts/" + accountNo + "/withdraw", Map.of("amount", 5_000), 400); // 잔액 부족
+
+		MvcResult result = mvc.perform(get("/actuator/prometheus")).andReturn();
+		assertThat(result.getResponse().getStatus()).isEqualTo(200);
+		String body = result.getResponse().getContentAsString();
+
+		assertThat(body).contains("remittance_usecase_seconds_bucket");
+		assertThat(body).containsPattern(
+			"remittance_usecase_seconds_count\\{[^}]*outcome=\"success\"[^}]*usecase=\"money.deposit\"");
+		assertThat(body).containsPattern(
+			"remittance_usecase_rejections_total\\{[^}]*error_code=\"INSUFFICIENT_BALANCE\"[^}]*usecase=\"money.withdraw\"");
+		assertThat(body).contains("hikaricp_connections_active");
+	}
+
+	private void postJson(String uri, Map<String, Object> body, int expectedStatus) throws Exception {
+		MvcResult result = mvc.perform(post(uri)
+				.contentType(MediaType.APPLICATION_JSON)
+				.content(om.writeValueAsString(body)))
+			.andReturn();
+		assertThat(result.getResponse().getStatus()).isEqualTo(expectedStatus);
+	}
+}
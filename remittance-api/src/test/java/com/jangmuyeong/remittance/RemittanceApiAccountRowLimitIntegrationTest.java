@@ -0,0 +1,26 @@
+package com.jangmuyeong.remittance;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.TestPropertySource;
+
+import com.jangmuyeong.remittance.domain.port.DailyLimitPort;
+import com.jangmuyeong.remittance.infra.persistence.adapter.AccountRowDailyLimitPortAdapter;
+
+/**
+ * 일 한도를 계좌 행에 저장하는 모드(remittance.daily-limit.storage=account-row)로
+ * RemittanceApiIntegrationTest의 시나리오(출금/이체 일 한도 포함)를 그대로 다시 실행
+ */
+@TestPropertySource(properties = "remittance.daily-limit.storage=account-row")
+class RemittanceApiAccountRowLimitIntegrationTest extends RemittanceApiIntegrationTest {
+
+	@Autowired ApplicationContext context;
+
+	@Test
+	void daily_limit_port_is_account_row_adapter() {
+		assertThat(context.getBean(DailyLimitPort.class)).isInstanceOf(AccountRowDailyLimitPortAdapter.class);
+	}
+}
@@ -0,0 +1,11 @@
+package com.jangmuyeong.remittance;
+
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * 계좌별 적응형 쓰기 모드(remittance.write.mode=ADAPTIVE)로 낙관적 모드의 시나리오(기본 시나리오 + 동시 입금/양방향 송금 보존)를 다시 실행
+ * (한 계좌에 충돌이 몰리면 그 계좌는 도중에 락 조회로 바뀌므로 두 경로가 섞여도 잔액/원장이 맞아야 함)
+ */
+@TestPropertySource(properties = "remittance.write.mode=ADAPTIVE")
+class RemittanceApiAdaptiveWriteIntegrationTest extends RemittanceApiOptimisticWriteIntegrationTest {
+}
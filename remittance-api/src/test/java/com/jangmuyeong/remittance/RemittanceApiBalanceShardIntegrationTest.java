@@ -0,0 +1,161 @@
+package com.jangmuyeong.remittance;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.jangmuyeong.remittance.application.dto.command.CreateAccountCommand;
+import com.jangmuyeong.remittance.application.dto.command.DepositCommand;
+import com.jangmuyeong.remittance.application.dto.command.RemitCommand;
+import com.jangmuyeong.remittance.application.dto.command.WithdrawCommand;
+import com.jangmuyeong.remittance.application.dto.result.BalanceResult;
+import com.jangmuyeong.remittance.application.service.AccountService;
+import com.jangmuyeong.remittance.application.service.MoneyService;
+import com.jangmuyeong.remittance.application.service.RemittanceService;
+import com.jangmuyeong.remittance.domain.exception.DomainException;
+import com.jangmuyeong.remittance.domain.exception.ErrorCode;
+import com.jangmuyeong.remittance.infra.persistence.shard.BalanceShardRegistry;
+
+/**
+ * 잔액 샤딩 계좌(remittance.balance-shards)에 입금/이체가 동시에 몰려도
+ * 잔액(계좌 행 + shard 합)이 원장 합계와 같고, 출금/송금은 여러 shard에 걸쳐 정확히 차감되는지 확인
+ */
+@ActiveProfiles("local")
+@SpringBootTest(properties = "remittance.balance-shards.count=4")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class RemittanceApiBalanceShardIntegrationTest {
+
+	private static final int THREADS = 8;
+	private static final int OPS_PER_THREAD = 20;
+
+	// 계좌별 부호 있는 원장 합계 (DEPOSIT/TRANSFER_IN +, 나머지 -(amount + fee_amount))
+	private static final String LEDGER_SUM = """
+		select coalesce(sum(case when l.type in (1, 4) then l.amount else -(l.amount + l.fee_amount) end), 0)
+		from ledger_entries l join accounts a on a.id = l.account_id where a.account_no = ?
+		""";
+
+	@Autowired JdbcTemplate jdbc;
+	@Autowired AccountService accountService;
+	@Autowired MoneyService moneyService;
+	@Autowired RemittanceService remittanceService;
+	@Autowired BalanceShardRegistry registry;
+
+	@Test
+	void concurrent_credits_spread_over_shards_and_match_ledger() throws Exception {
+		String merchant = "SHARD-M-" + System.nanoTime();
+		String payer = "SHARD-P-" + System.nanoTime();
+		accountService.create(new CreateAccountCommand(merchant));
+		accountService.create(new CreateAccountCommand(payer));
+		moneyService.deposit(new DepositCommand(merchant, 10_000L)); // 지정 전 잔액은 계좌 행에 남음
+		moneyService.deposit(new DepositCommand(payer, 1_000_000L));
+		long merchantId = registry.designate(merchant);
+
+		runConcurrently(t -> {
+			if (t % 2 == 0) {
+				moneyService.deposit(new DepositCommand(merchant, 1_000L));
+			} else {
+				remittanceService.remit(new RemitCommand(payer, merchant, 1_000L));
+			}
+		});
+
+		long credited = THREADS * OPS_PER_THREAD * 1_000L;
+		assertThat(balance(merchant)).isEqualTo(10_000L + credited);
+		assertThat(balance(merchant)).isEqualTo(ledgerSum(merchant));
+		assertThat(jdbc.queryForObject("select balance from accounts where id = ?", Long.class, merchantId))
+			.isEqualTo(10_000L);
+		assertThat(jdbc.queryForObject(
+			"select count(*) from account_balance_shards where account_id = ? and balance > 0", Long.class, merchantId))
+			.isGreaterThan(1L);
+		assertThat(balance(payer)).isEqualTo(1_000_000L - THREADS / 2 * OPS_PER_THREAD * 1_010L);
+
+		// 동시 요청이 없으면 원장 balance_after는 그 시점 잔액과 같음
+		BalanceResult last = moneyService.deposit(new DepositCommand(merchant, 1L));
+		assertThat(last.balance()).isEqualTo(10_000L + credited + 1L);
+		assertThat(jdbc.queryForObject("""
+			select l.balance_after from ledger_entries l where l.account_id = ? order by l.id desc limit 1
+			""", Long.class, merchantId)).isEqualTo(last.balance());
+	}
+
+	@Test
+	void debits_span_shards_and_account_row_exactly() {
+		String merchant = "SHARD-D-" + System.nanoTime();
+		String other = "SHARD-O-" + System.nanoTime();
+		accountService.create(new CreateAccountCommand(merchant));
+		accountService.create(new CreateAccountCommand(other));
+		moneyService.deposit(new DepositCommand(merchant, 50_000L));
+		registry.designate(merchant);
+		for (int i = 0; i < 40; i++) moneyService.deposit(new DepositCommand(merchant, 10_000L));
+
+		// 450,000 중 shard 하나로는 모자라는 금액
+		BalanceResult withdrawn = moneyService.withdraw(new WithdrawCommand(merchant, 300_000L));
+		assertThat(withdrawn.balance()).isEqualTo(150_000L);
+
+		var remitted = remittanceService.remit(new RemitCommand(merchant, other, 100_000L));
+		assertThat(remitted.fromBalance()).isEqualTo(49_000L);
+		assertThat(balance(other)).isEqualTo(100_000L);
+
+		assertThatThrownBy(() -> moneyService.withdraw(new WithdrawCommand(merchant, 49_001L)))
+			.isInstanceOf(DomainException.class)
+			.hasMessageContaining(ErrorCode.INSUFFICIENT_BALANCE.name());
+
+		assertThat(balance(merchant)).isEqualTo(49_000L).isEqualTo(ledgerSum(merchant));
+		assertThat(jdbc.queryForObject("""
+			select count(*) from account_balance_shards s join accounts a on a.id = s.account_id
+			where a.account_no = ? and s.balance < 0
+			""", Long.class, merchant)).isZero();
+	}
+
+	@Test
+	void deleted_sharded_account_rejects_credits() {
+		String merchant = "SHARD-X-" + System.nanoTime();
+		accountService.create(new CreateAccountCommand(merchant));
+		registry.designate(merchant);
+		accountService.delete(merchant);
+
+		assertThatThrownBy(() -> moneyService.deposit(new DepositCommand(merchant, 1_000L)))
+			.isInstanceOf(DomainException.class)
+			.hasMessageContaining(ErrorCode.ACCOUNT_INACTIVE.name());
+	}
+
+	private void runConcurrently(ThreadTask task) throws Exception {
+		ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+		try {
+			List<Future<Void>> futures = new ArrayList<>();
+			for (int t = 0; t < THREADS; t++) {
+				int thread = t;
+				futures.add(pool.submit((Callable<Void>)() -> {
+					for (int i = 0; i < OPS_PER_THREAD; i++) task.run(thread);
+					return null;
+				}));
+			}
+			for (Future<Void> f : futures) f.get();
+		} finally {
+			pool.shutdownNow();
+		}
+	}
+
+	private long balance(String accountNo) {
+		return moneyService.balance(accountNo).balance();
+	}
+
+	private long ledgerSum(String accountNo) {
+		return jdbc.queryForObject(LEDGER_SUM, Long.class, accountNo);
+	}
+
+	@FunctionalInterface
+	private interface ThreadTask {
+		void run(int thread);
+	}
+}
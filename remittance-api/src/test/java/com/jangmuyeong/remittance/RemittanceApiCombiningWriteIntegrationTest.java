@@ -0,0 +1,64 @@
+package com.jangmuyeong.remittance;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.TestPropertySource;
+
+import com.jangmuyeong.remittance.application.dto.command.CreateAccountCommand;
+import com.jangmuyeong.remittance.application.dto.command.DepositCommand;
+import com.jangmuyeong.remittance.application.dto.command.WithdrawCommand;
+import com.jangmuyeong.remittance.domain.exception.DomainException;
+import com.jangmuyeong.remittance.domain.exception.ErrorCode;
+
+/**
+ * 계좌별 명령 결합 모드(remittance.write.mode=COMBINING)로 낙관적 모드의 시나리오(기본 시나리오 + 동시 입금/양방향 송금 보존)를 다시 실행하고,
+ * 한 배치 안에서 일부 출금만 잔액 부족으로 실패해도 성공한 출금만 잔액/원장에 반영되는지 확인
+ */
+@TestPropertySource(properties = "remittance.write.mode=COMBINING")
+class RemittanceApiCombiningWriteIntegrationTest extends RemittanceApiOptimisticWriteIntegrationTest {
+
+	@Test
+	void concurrent_withdraws_fail_individually_when_balance_runs_out() throws Exception {
+		String accountNo = "CMB-W-" + System.nanoTime();
+		accountService.create(new CreateAccountCommand(accountNo));
+		moneyService.deposit(new DepositCommand(accountNo, 50_000L));
+
+		ExecutorService pool = Executors.newFixedThreadPool(8);
+		int succeeded = 0;
+		try {
+			List<Future<Long>> futures = new ArrayList<>();
+			for (int i = 0; i < 80; i++) {
+				futures.add(pool.submit((Callable<Long>)
+					() -> moneyService.withdraw(new WithdrawCommand(accountNo, 1_000L)).balance()));
+			}
+			for (Future<Long> f : futures) {
+				try {
+					assertThat(f.get()).isGreaterThanOrEqualTo(0L);
+					succeeded++;
+				} catch (ExecutionException e) {
+					assertThat(e.getCause()).isInstanceOf(DomainException.class);
+					assertThat(((DomainException)e.getCause()).getErrorCode()).isEqualTo(ErrorCode.INSUFFICIENT_BALANCE);
+				}
+			}
+		} finally {
+			pool.shutdownNow();
+		}
+
+		assertThat(succeeded).isEqualTo(50);
+		assertThat(jdbc.queryForObject("select balance from accounts where account_no = ?", Long.class, accountNo))
+			.isZero();
+		assertThat(jdbc.queryForObject("""
+			select count(*) from ledger_entries l join accounts a on a.id = l.account_id
+			where a.account_no = ? and l.type = 2
+			""", Long.class, accountNo)).isEqualTo(50L);
+	}
+}
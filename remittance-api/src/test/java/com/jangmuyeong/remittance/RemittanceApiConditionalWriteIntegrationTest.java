@@ -0,0 +1,11 @@
+package com.jangmuyeong.remittance;
+
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * 조건부 UPDATE 쓰기 모드(remittance.write.mode=CONDITIONAL)로 RemittanceApiIntegrationTest의 시나리오를 그대로 다시 실행
+ * (비활성 계좌/잔액 부족/일 한도 초과 시 오류 코드와 잔액 롤백이 기본 모드와 같아야 함)
+ */
+@TestPropertySource(properties = "remittance.write.mode=CONDITIONAL")
+class RemittanceApiConditionalWriteIntegrationTest extends RemittanceApiIntegrationTest {
+}
@@ -0,0 +1,51 @@
+package com.jangmuyeong.remittance;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import com.jangmuyeong.remittance.application.dto.command.CreateAccountCommand;
+import com.jangmuyeong.remittance.application.dto.command.DepositCommand;
+import com.jangmuyeong.remittance.application.dto.command.RemitCommand;
+import com.jangmuyeong.remittance.application.service.AccountService;
+import com.jangmuyeong.remittance.application.service.MoneyService;
+import com.jangmuyeong.remittance.application.service.RemittanceService;
+import com.jangmuyeong.remittance.domain.ledger.TransactionType;
+import com.jangmuyeong.remittance.infra.persistence.mapper.LedgerMapper;
+
+/**
+ * 송금 원장 통합 형식(remittance.ledger.transfer-format=CONSOLIDATED)으로
+ * RemittanceApiIntegrationTest의 시나리오(거래내역의 TRANSFER_OUT/FEE 항목 포함)를 그대로 다시 실행
+ */
+@TestPropertySource(properties = "remittance.ledger.transfer-format=CONSOLIDATED")
+class RemittanceApiConsolidatedLedgerIntegrationTest extends RemittanceApiIntegrationTest {
+
+	@Autowired JdbcTemplate jdbc;
+	@Autowired AccountService accountService;
+	@Autowired MoneyService moneyService;
+	@Autowired RemittanceService remittanceService;
+
+	@Test
+	void remit_stores_one_row_per_account() {
+		String fromNo = "CONS-A-" + System.nanoTime();
+		String toNo = "CONS-B-" + System.nanoTime();
+		accountService.create(new CreateAccountCommand(fromNo));
+		accountService.create(new CreateAccountCommand(toNo));
+		moneyService.deposit(new DepositCommand(fromNo, 1_000_000L));
+
+		remittanceService.remit(new RemitCommand(fromNo, toNo, 100_000L));
+
+		assertThat(jdbc.queryForList("""
+			select l.type from ledger_entries l join accounts a on a.id = l.account_id
+			where a.account_no = ? order by l.id
+			""", Byte.class, fromNo)).map(LedgerMapper::typeOf)
+			.containsExactly(TransactionType.DEPOSIT, TransactionType.TRANSFER_OUT);
+		assertThat(jdbc.queryForObject("""
+			select l.fee_amount from ledger_entries l join accounts a on a.id = l.account_id
+			where a.account_no = ? and l.type = ?
+			""", Long.class, fromNo, LedgerMapper.typeCode(TransactionType.TRANSFER_OUT))).isEqualTo(1_000L);
+	}
+}
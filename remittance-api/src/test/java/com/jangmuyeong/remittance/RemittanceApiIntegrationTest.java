@@ -55,6 +55,17 @@ class RemittanceApiIntegrationTest {
 		assertThat(err.path("code").asText()).isEqualTo("WITHDRAW_DAILY_LIMIT_EXCEEDED");
 	}
 
+	@Test
+	void rejected_withdraw_leaves_balance_unchanged() throws Exception {
+		String aNo = createAccount(randomAccountNo("WR"));
+		deposit(aNo, 2_000_000);
+		withdraw(aNo, 900_000, 200);
+
+		withdraw(aNo, 200_000, 400); // 일 한도 초과 -> 잔액 변경도 롤백
+
+		assertThat(balance(aNo).path("balance").asLong()).isEqualTo(1_100_000);
+	}
+
 	// -------------------- 3) 이체 일한도 3,000,000 --------------------
 	@Test
 	void transfer_daily_limit_3_000_000_is_enforced() throws Exception {
@@ -0,0 +1,35 @@
+package com.jangmuyeong.remittance;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.jangmuyeong.remittance.domain.port.AccountPort;
+import com.jangmuyeong.remittance.domain.port.DailyLimitPort;
+import com.jangmuyeong.remittance.domain.port.LedgerPort;
+import com.jangmuyeong.remittance.infra.persistence.jdbc.JdbcAccountPortAdapter;
+import com.jangmuyeong.remittance.infra.persistence.jdbc.JdbcDailyLimitPortAdapter;
+import com.jangmuyeong.remittance.infra.persistence.jdbc.JdbcLedgerPortAdapter;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * jdbc 프로파일(Jdbc*PortAdapter)로 RemittanceApiIntegrationTest의 시나리오를 그대로 다시 실행
+ * (local 프로파일은 상위 클래스에서 상속)
+ */
+@ActiveProfiles("jdbc")
+class RemittanceApiJdbcIntegrationTest extends RemittanceApiIntegrationTest {
+
+	@Autowired ApplicationContext context;
+
+	@Test
+	void ports_are_jdbc_adapters_without_jpa() {
+		assertThat(context.getBean(AccountPort.class)).isInstanceOf(JdbcAccountPortAdapter.class);
+		assertThat(context.getBean(DailyLimitPort.class)).isInstanceOf(JdbcDailyLimitPortAdapter.class);
+		assertThat(context.getBean(LedgerPort.class)).isInstanceOf(JdbcLedgerPortAdapter.class);
+		assertThat(context.getBeanNamesForType(EntityManagerFactory.class)).isEmpty();
+	}
+}
@@ -0,0 +1,10 @@
+package com.jangmuyeong.remittance;
+
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * jdbc 프로파일(JdbcPendingCreditPortAdapter)로 RemittanceApiPendingCreditIntegrationTest의 시나리오를 그대로 다시 실행
+ */
+@ActiveProfiles("jdbc")
+class RemittanceApiJdbcPendingCreditIntegrationTest extends RemittanceApiPendingCreditIntegrationTest {
+}
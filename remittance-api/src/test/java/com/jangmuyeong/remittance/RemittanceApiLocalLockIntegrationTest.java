@@ -0,0 +1,108 @@
+package com.jangmuyeong.remittance;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.test.context.TestPropertySource;
+
+import com.jangmuyeong.remittance.application.dto.command.CreateAccountCommand;
+import com.jangmuyeong.remittance.application.dto.command.DepositCommand;
+import com.jangmuyeong.remittance.application.service.AccountLockQueue;
+import com.jangmuyeong.remittance.application.service.AccountService;
+import com.jangmuyeong.remittance.application.service.MoneyService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * JVM 내부 계좌 락(remittance.write.local-locks.enabled=true)으로 RemittanceApiIntegrationTest의 시나리오를 그대로 다시 실행하고,
+ * 핫 계좌 대기자가 커넥션 풀보다 많아도 다른 계좌의 요청은 풀을 기다리지 않는지, 대기 시간 초과는 CannotAcquireLockException인지 확인
+ */
+@TestPropertySource(properties = {
+	"remittance.write.local-locks.enabled=true",
+	"remittance.write.local-locks.timeout=3s",
+	"spring.datasource.hikari.maximum-pool-size=4"
+})
+class RemittanceApiLocalLockIntegrationTest extends RemittanceApiIntegrationTest {
+
+	private static final int WAITERS = 8;
+
+	@Autowired AccountService accountService;
+	@Autowired MoneyService moneyService;
+	@Autowired AccountLockQueue lockQueue;
+	@Autowired MeterRegistry meterRegistry;
+
+	@Test
+	void hot_account_waiters_do_not_hold_pooled_connections() throws Exception {
+		String hot = "LCK-H-" + System.nanoTime();
+		accountService.create(new CreateAccountCommand(hot));
+		int[] hotStripe = lockQueue.stripesFor(new DepositCommand(hot, 1L));
+		String other;
+		do { // 핫 계좌와 다른 stripe의 계좌
+			other = "LCK-O-" + System.nanoTime();
+			accountService.create(new CreateAccountCommand(other));
+		} while (Arrays.equals(lockQueue.stripesFor(new DepositCommand(other, 1L)), hotStripe));
+		String otherNo = other;
+
+		ExecutorService pool = Executors.newFixedThreadPool(WAITERS + 1);
+		assertThat(lockQueue.lock(hotStripe)).isTrue(); // 다른 요청이 핫 계좌 락을 잡고 있는 상황
+		try {
+			List<Future<Long>> waiters = new ArrayList<>();
+			for (int i = 0; i < WAITERS; i++) {
+				waiters.add(pool.submit((Callable<Long>)
+					() -> moneyService.deposit(new DepositCommand(hot, 1_000L)).balance()));
+			}
+			long deadline = System.nanoTime() + Duration.ofSeconds(2).toNanos();
+			while (lockQueue.queued() < WAITERS && System.nanoTime() < deadline) Thread.sleep(1);
+			assertThat(lockQueue.queued()).isEqualTo(WAITERS);
+
+			// 풀(4개)보다 많은 대기자가 있어도 다른 계좌의 입금은 바로 커넥션을 얻음
+			Future<Long> unrelated = pool.submit((Callable<Long>)
+				() -> moneyService.deposit(new DepositCommand(otherNo, 1_000L)).balance());
+			assertThat(unrelated.get(1, TimeUnit.SECONDS)).isEqualTo(1_000L);
+
+			lockQueue.unlock(hotStripe);
+			hotStripe = null;
+			List<Long> balances = new ArrayList<>();
+			for (Future<Long> f : waiters) balances.add(f.get());
+			assertThat(balances)
+				.containsExactlyInAnyOrder(1_000L, 2_000L, 3_000L, 4_000L, 5_000L, 6_000L, 7_000L, 8_000L);
+		} finally {
+			if (hotStripe != null) lockQueue.unlock(hotStripe);
+			pool.shutdownNow();
+		}
+		assertThat(moneyService.balance(hot).balance()).isEqualTo(WAITERS * 1_000L);
+	}
+
+	@Test
+	void lock_wait_timeout_fails_with_cannot_acquire_lock() throws Exception {
+		String hot = "LCK-T-" + System.nanoTime();
+		accountService.create(new CreateAccountCommand(hot));
+		int[] hotStripe = lockQueue.stripesFor(new DepositCommand(hot, 1L));
+
+		ExecutorService pool = Executors.newSingleThreadExecutor();
+		assertThat(lockQueue.lock(hotStripe)).isTrue();
+		try {
+			Future<?> blocked = pool.submit(() -> moneyService.deposit(new DepositCommand(hot, 1_000L)));
+			assertThatThrownBy(blocked::get).hasCauseInstanceOf(CannotAcquireLockException.class);
+		} finally {
+			lockQueue.unlock(hotStripe);
+			pool.shutdownNow();
+		}
+
+		assertThat(moneyService.balance(hot).balance()).isZero();
+		assertThat(meterRegistry.get("remittance.account.lock.wait")
+			.tag("usecase", "money.deposit").tag("outcome", "timeout").timer().count()).isEqualTo(1L);
+	}
+}
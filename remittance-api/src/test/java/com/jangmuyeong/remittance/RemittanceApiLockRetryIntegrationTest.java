@@ -0,0 +1,181 @@
+package com.jangmuyeong.remittance;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jangmuyeong.remittance.application.dto.command.CreateAccountCommand;
+import com.jangmuyeong.remittance.application.dto.command.DepositCommand;
+import com.jangmuyeong.remittance.application.dto.command.WithdrawCommand;
+import com.jangmuyeong.remittance.application.service.AccountService;
+import com.jangmuyeong.remittance.application.service.MoneyService;
+import com.jangmuyeong.remittance.domain.port.LockTimeoutPort;
+import com.jangmuyeong.remittance.infra.persistence.lock.LockTimeoutSession;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 다른 트랜잭션이 계좌 행 락을 오래 잡고 있을 때 출금이 유스케이스 락 대기 시간(lock-timeout.money.withdraw)만 기다리고
+ * 재시도하다가, 락이 풀리면 성공하고 끝까지 안 풀리면 503(LOCK_TIMEOUT)으로 실패하는지 확인 (H2 LOCK_TIMEOUT)
+ * 트랜잭션이 끝나면 커넥션의 세션 값이 설정 전 값으로 돌아오는지도 확인
+ */
+@ActiveProfiles("local")
+@SpringBootTest(properties = {
+	"remittance.write.lock-timeout.default=1s",
+	"remittance.write.lock-timeout.money.withdraw=100ms",
+	"remittance.write.lock-retry.max-attempts=4",
+	"remittance.write.lock-retry.budget=2s"
+})
+@AutoConfigureMockMvc
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class RemittanceApiLockRetryIntegrationTest {
+
+	private final ObjectMapper om = new ObjectMapper();
+
+	@Autowired MockMvc mvc;
+	@Autowired JdbcTemplate jdbc;
+	@Autowired PlatformTransactionManager transactionManager;
+	@Autowired AccountService accountService;
+	@Autowired MoneyService moneyService;
+	@Autowired MeterRegistry meterRegistry;
+	@Autowired DataSource dataSource;
+	@Autowired LockTimeoutPort lockTimeouts;
+	@Autowired LockTimeoutSession lockTimeoutSession;
+
+	@Test
+	void withdraw_retries_lock_timeouts_until_row_lock_is_released() throws Exception {
+		String accountNo = "LRT-R-" + System.nanoTime();
+		accountService.create(new CreateAccountCommand(accountNo));
+		moneyService.deposit(new DepositCommand(accountNo, 10_000L));
+
+		CountDownLatch locked = new CountDownLatch(1);
+		ExecutorService pool = Executors.newSingleThreadExecutor();
+		try {
+			Future<?> holder = pool.submit(() -> holdRowLock(accountNo, locked, new CountDownLatch(0), 250));
+			locked.await();
+
+			assertThat(moneyService.withdraw(new WithdrawCommand(accountNo, 1_000L)).balance()).isEqualTo(9_000L);
+			holder.get();
+		} finally {
+			pool.shutdownNow();
+		}
+		assertThat(lockFailures("retried")).isGreaterThanOrEqualTo(1.0);
+		assertThat(lockFailures("exhausted")).isZero();
+	}
+
+	@Test
+	void withdraw_gives_up_with_503_when_row_lock_is_never_released() throws Exception {
+		String accountNo = "LRT-X-" + System.nanoTime();
+		accountService.create(new CreateAccountCommand(accountNo));
+		moneyService.deposit(new DepositCommand(accountNo, 10_000L));
+
+		CountDownLatch locked = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		ExecutorService pool = Executors.newSingleThreadExecutor();
+		try {
+			Future<?> holder = pool.submit(() -> holdRowLock(accountNo, locked, release, 0));
+			locked.await();
+
+			MvcResult result = mvc.perform(post("/accounts/" + accountNo + "/withdraw")
+					.contentType(MediaType.APPLICATION_JSON)
+					.content(om.writeValueAsString(Map.of("amount", 1_000))))
+				.andReturn();
+			assertThat(result.getResponse().getStatus()).isEqualTo(503);
+			assertThat(om.readTree(result.getResponse().getContentAsString()).path("code").asText())
+				.isEqualTo("LOCK_TIMEOUT");
+
+			release.countDown();
+			holder.get();
+		} finally {
+			release.countDown();
+			pool.shutdownNow();
+		}
+		assertThat(lockFailures("retried")).isEqualTo(3.0);
+		assertThat(lockFailures("exhausted")).isEqualTo(1.0);
+		assertThat(moneyService.balance(accountNo).balance()).isEqualTo(10_000L);
+	}
+
+	@Test
+	void session_lock_timeout_is_restored_when_transaction_completes() throws Exception {
+		Connection[] used = new Connection[1];
+		long[] before = new long[1];
+		long[] applied = new long[1];
+		Duration previous = lockTimeouts.bind(Duration.ofMillis(100));
+		try {
+			new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+				try {
+					// 풀 프록시가 아닌 실제 세션 커넥션 (커밋 후 풀에 돌아가도 같은 세션)
+					used[0] = DataSourceUtils.getConnection(dataSource).unwrap(Connection.class);
+					before[0] = lockTimeout(used[0]);
+					lockTimeoutSession.applyToCurrentTransaction();
+					applied[0] = lockTimeout(used[0]);
+				} catch (SQLException e) {
+					throw new IllegalStateException(e);
+				}
+			});
+		} finally {
+			lockTimeouts.bind(previous);
+		}
+
+		assertThat(applied[0]).isEqualTo(100L);
+		assertThat(before[0]).isNotEqualTo(100L);
+		assertThat(lockTimeout(used[0])).isEqualTo(before[0]);
+	}
+
+	private long lockTimeout(Connection connection) throws SQLException {
+		try (Statement statement = connection.createStatement();
+			 ResultSet rs = statement.executeQuery("select lock_timeout()")) {
+			rs.next();
+			return rs.getLong(1);
+		}
+	}
+
+	// 다른 트랜잭션이 계좌 행 락을 잡고 release 후(또는 holdMillis 동안) 유지
+	private Void holdRowLock(String accountNo, CountDownLatch locked, CountDownLatch release, long holdMillis) {
+		new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+			jdbc.queryForObject("select id from accounts where account_no = ? for update", Long.class, accountNo);
+			locked.countDown();
+			try {
+				release.await();
+				Thread.sleep(holdMillis);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		});
+		return null;
+	}
+
+	private double lockFailures(String outcome) {
+		return meterRegistry.find("remittance.write.lock-failures")
+			.tag("usecase", "money.withdraw").tag("outcome", outcome)
+			.counters().stream().mapToDouble(Counter::count).sum();
+	}
+}
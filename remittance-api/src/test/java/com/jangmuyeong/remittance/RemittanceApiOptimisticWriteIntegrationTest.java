@@ -0,0 +1,100 @@
+package com.jangmuyeong.remittance;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import com.jangmuyeong.remittance.application.dto.command.CreateAccountCommand;
+import com.jangmuyeong.remittance.application.dto.command.DepositCommand;
+import com.jangmuyeong.remittance.application.dto.command.RemitCommand;
+import com.jangmuyeong.remittance.application.service.AccountService;
+import com.jangmuyeong.remittance.application.service.MoneyService;
+import com.jangmuyeong.remittance.application.service.RemittanceService;
+
+/**
+ * 낙관적 쓰기 모드(remittance.write.mode=OPTIMISTIC)로 RemittanceApiIntegrationTest의 시나리오를 그대로 다시 실행하고,
+ * 같은 계좌에 동시 요청이 몰려 버전 충돌/재시도가 나도 잔액/수수료 합이 보존되는지 확인
+ * (테스트에서는 재시도 소진으로 실패하지 않도록 max-attempts를 크게 둔다)
+ */
+@TestPropertySource(properties = {
+	"remittance.write.mode=OPTIMISTIC",
+	"remittance.write.optimistic.max-attempts=100"
+})
+class RemittanceApiOptimisticWriteIntegrationTest extends RemittanceApiIntegrationTest {
+
+	private static final int THREADS = 8;
+	private static final int OPS_PER_THREAD = 20;
+
+	@Autowired JdbcTemplate jdbc;
+	@Autowired AccountService accountService;
+	@Autowired MoneyService moneyService;
+	@Autowired RemittanceService remittanceService;
+
+	@Test
+	void concurrent_deposits_to_one_account_are_not_lost() throws Exception {
+		String accountNo = "OPT-D-" + System.nanoTime();
+		accountService.create(new CreateAccountCommand(accountNo));
+
+		runConcurrently(t -> moneyService.deposit(new DepositCommand(accountNo, 1_000L)));
+
+		assertThat(balance(accountNo)).isEqualTo(THREADS * OPS_PER_THREAD * 1_000L);
+		assertThat(jdbc.queryForObject("""
+			select count(*) from ledger_entries l join accounts a on a.id = l.account_id where a.account_no = ?
+			""", Long.class, accountNo)).isEqualTo(THREADS * OPS_PER_THREAD);
+	}
+
+	@Test
+	void concurrent_remits_in_both_directions_conserve_money() throws Exception {
+		String a = "OPT-A-" + System.nanoTime();
+		String b = "OPT-B-" + System.nanoTime();
+		accountService.create(new CreateAccountCommand(a));
+		accountService.create(new CreateAccountCommand(b));
+		moneyService.deposit(new DepositCommand(a, 1_000_000L));
+		moneyService.deposit(new DepositCommand(b, 1_000_000L));
+
+		runConcurrently(t -> remittanceService.remit(t % 2 == 0
+			? new RemitCommand(a, b, 1_000L)
+			: new RemitCommand(b, a, 1_000L)));
+
+		// 이체 1건 수수료 10원(1%)만큼만 두 계좌 합이 줄어야 함
+		long fees = THREADS * OPS_PER_THREAD * 10L;
+		assertThat(balance(a) + balance(b)).isEqualTo(2_000_000L - fees);
+		assertThat(balance(a)).isEqualTo(1_000_000L - THREADS / 2 * OPS_PER_THREAD * 10L);
+	}
+
+	private void runConcurrently(ThreadTask task) throws Exception {
+		ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+		try {
+			List<Future<Void>> futures = new ArrayList<>();
+			for (int t = 0; t < THREADS; t++) {
+				int thread = t;
+				futures.add(pool.submit((Callable<Void>)() -> {
+					for (int i = 0; i < OPS_PER_THREAD; i++) task.run(thread);
+					return null;
+				}));
+			}
+			for (Future<Void> f : futures) f.get();
+		} finally {
+			pool.shutdownNow();
+		}
+	}
+
+	private long balance(String accountNo) {
+		return jdbc.queryForObject("select balance from accounts where account_no = ?", Long.class, accountNo);
+	}
+
+	@FunctionalInterface
+	private interface ThreadTask {
+		void run(int thread);
+	}
+}
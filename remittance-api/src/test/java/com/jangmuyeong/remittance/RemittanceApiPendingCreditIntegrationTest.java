@@ -0,0 +1,176 @@
+package com.jangmuyeong.remittance;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.jangmuyeong.remittance.application.dto.command.CreateAccountCommand;
+import com.jangmuyeong.remittance.application.dto.command.DepositCommand;
+import com.jangmuyeong.remittance.application.dto.command.RemitCommand;
+import com.jangmuyeong.remittance.application.dto.command.WithdrawCommand;
+import com.jangmuyeong.remittance.application.dto.result.BalanceResult;
+import com.jangmuyeong.remittance.application.service.AccountService;
+import com.jangmuyeong.remittance.application.service.MoneyService;
+import com.jangmuyeong.remittance.application.service.RemittanceService;
+import com.jangmuyeong.remittance.domain.exception.DomainException;
+import com.jangmuyeong.remittance.domain.exception.ErrorCode;
+import com.jangmuyeong.remittance.infra.persistence.credit.PendingCreditFolder;
+import com.jangmuyeong.remittance.infra.persistence.credit.PendingCreditRegistry;
+
+/**
+ * 입금 지연 반영 계좌(remittance.pending-credits)에 입금/이체가 동시에 몰려도 잔액 조회는 미반영 입금을 포함하고,
+ * 반영 후에는 계좌 행 잔액이 원장 합계와 같고 원장 balance_after가 반영 순서대로 누적되는지 확인
+ * (백그라운드 반영은 끄고 foldAll/출금 직전 반영만 사용)
+ */
+@ActiveProfiles("local")
+@SpringBootTest(properties = "remittance.pending-credits.fold-interval=0")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class RemittanceApiPendingCreditIntegrationTest {
+
+	private static final int THREADS = 8;
+	private static final int OPS_PER_THREAD = 20;
+
+	// 계좌별 부호 있는 원장 합계 (DEPOSIT/TRANSFER_IN +, 나머지 -(amount + fee_amount))
+	private static final String LEDGER_SUM = """
+		select coalesce(sum(case when l.type in (1, 4) then l.amount else -(l.amount + l.fee_amount) end), 0)
+		from ledger_entries l join accounts a on a.id = l.account_id where a.account_no = ?
+		""";
+
+	@Autowired JdbcTemplate jdbc;
+	@Autowired AccountService accountService;
+	@Autowired MoneyService moneyService;
+	@Autowired RemittanceService remittanceService;
+	@Autowired PendingCreditRegistry registry;
+	@Autowired PendingCreditFolder folder;
+
+	@Test
+	void concurrent_credits_are_pending_until_folded_then_match_ledger() throws Exception {
+		String merchant = "PEND-M-" + System.nanoTime();
+		String payer = "PEND-P-" + System.nanoTime();
+		accountService.create(new CreateAccountCommand(merchant));
+		accountService.create(new CreateAccountCommand(payer));
+		moneyService.deposit(new DepositCommand(merchant, 10_000L)); // 지정 전 입금은 계좌 행에 바로 반영
+		moneyService.deposit(new DepositCommand(payer, 1_000_000L));
+		long merchantId = registry.designate(merchant);
+
+		runConcurrently(t -> {
+			if (t % 2 == 0) {
+				moneyService.deposit(new DepositCommand(merchant, 1_000L));
+			} else {
+				remittanceService.remit(new RemitCommand(payer, merchant, 1_000L));
+			}
+		});
+
+		long credited = THREADS * OPS_PER_THREAD * 1_000L;
+		assertThat(balance(merchant)).isEqualTo(10_000L + credited);
+		assertThat(accountRowBalance(merchantId)).isEqualTo(10_000L);
+		assertThat(ledgerSum(merchant)).isEqualTo(10_000L); // 미반영 입금의 원장은 반영 시 기록
+		assertThat(balance(payer)).isEqualTo(1_000_000L - THREADS / 2 * OPS_PER_THREAD * 1_010L);
+
+		assertThat(folder.foldAll()).isEqualTo(THREADS * OPS_PER_THREAD);
+
+		assertThat(jdbc.queryForObject("select count(*) from pending_credits where account_id = ?",
+			Long.class, merchantId)).isZero();
+		assertThat(accountRowBalance(merchantId)).isEqualTo(10_000L + credited);
+		assertThat(balance(merchant)).isEqualTo(ledgerSum(merchant));
+
+		// 반영한 원장의 balance_after는 기록 순서대로 1,000씩 누적
+		List<Long> balanceAfters = jdbc.queryForList(
+			"select balance_after from ledger_entries where account_id = ? order by id", Long.class, merchantId);
+		assertThat(balanceAfters).hasSize(1 + THREADS * OPS_PER_THREAD);
+		for (int i = 0; i < balanceAfters.size(); i++) {
+			assertThat(balanceAfters.get(i)).isEqualTo(10_000L + i * 1_000L);
+		}
+	}
+
+	@Test
+	void debits_fold_pending_credits_first() {
+		String merchant = "PEND-D-" + System.nanoTime();
+		String other = "PEND-O-" + System.nanoTime();
+		accountService.create(new CreateAccountCommand(merchant));
+		accountService.create(new CreateAccountCommand(other));
+		moneyService.deposit(new DepositCommand(merchant, 50_000L));
+		long merchantId = registry.designate(merchant);
+		for (int i = 0; i < 40; i++) moneyService.deposit(new DepositCommand(merchant, 10_000L));
+
+		// 계좌 행 잔액(50,000)만으로는 모자라는 금액
+		BalanceResult withdrawn = moneyService.withdraw(new WithdrawCommand(merchant, 300_000L));
+		assertThat(withdrawn.balance()).isEqualTo(150_000L);
+		assertThat(jdbc.queryForObject("select count(*) from pending_credits where account_id = ?",
+			Long.class, merchantId)).isZero();
+
+		var remitted = remittanceService.remit(new RemitCommand(merchant, other, 100_000L));
+		assertThat(remitted.fromBalance()).isEqualTo(49_000L);
+		assertThat(balance(other)).isEqualTo(100_000L);
+
+		moneyService.deposit(new DepositCommand(merchant, 1_000L));
+		assertThatThrownBy(() -> moneyService.withdraw(new WithdrawCommand(merchant, 50_001L)))
+			.isInstanceOf(DomainException.class)
+			.hasMessageContaining(ErrorCode.INSUFFICIENT_BALANCE.name());
+
+		// 실패한 출금의 반영은 함께 롤백되어 미반영 입금으로 남음
+		assertThat(balance(merchant)).isEqualTo(50_000L);
+		assertThat(accountRowBalance(merchantId)).isEqualTo(49_000L);
+		folder.foldAll();
+		assertThat(accountRowBalance(merchantId)).isEqualTo(50_000L).isEqualTo(ledgerSum(merchant));
+	}
+
+	@Test
+	void deleted_deferred_account_rejects_credits() {
+		String merchant = "PEND-X-" + System.nanoTime();
+		accountService.create(new CreateAccountCommand(merchant));
+		registry.designate(merchant);
+		accountService.delete(merchant);
+
+		assertThatThrownBy(() -> moneyService.deposit(new DepositCommand(merchant, 1_000L)))
+			.isInstanceOf(DomainException.class)
+			.hasMessageContaining(ErrorCode.ACCOUNT_INACTIVE.name());
+		assertThat(jdbc.queryForObject("select count(*) from pending_credits", Long.class)).isZero();
+	}
+
+	private void runConcurrently(ThreadTask task) throws Exception {
+		ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+		try {
+			List<Future<Void>> futures = new ArrayList<>();
+			for (int t = 0; t < THREADS; t++) {
+				int thread = t;
+				futures.add(pool.submit((Callable<Void>)() -> {
+					for (int i = 0; i < OPS_PER_THREAD; i++) task.run(thread);
+					return null;
+				}));
+			}
+			for (Future<Void> f : futures) f.get();
+		} finally {
+			pool.shutdownNow();
+		}
+	}
+
+	private long balance(String accountNo) {
+		return moneyService.balance(accountNo).balance();
+	}
+
+	private long accountRowBalance(long accountId) {
+		return jdbc.queryForObject("select balance from accounts where id = ?", Long.class, accountId);
+	}
+
+	private long ledgerSum(String accountNo) {
+		return jdbc.queryForObject(LEDGER_SUM, Long.class, accountNo);
+	}
+
+	@FunctionalInterface
+	private interface ThreadTask {
+		void run(int thread);
+	}
+}
@@ -0,0 +1,40 @@
+package com.jangmuyeong.remittance;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.TestPropertySource;
+
+import com.jangmuyeong.remittance.application.dto.command.RemitCommand;
+import com.jangmuyeong.remittance.application.dto.command.WithdrawCommand;
+
+/**
+ * 일 한도를 계좌 행에 저장하는 모드(remittance.daily-limit.storage=account-row)의 SQL 왕복 예산
+ * (상위 클래스의 예산도 그대로 만족해야 함)
+ */
+@TestPropertySource(properties = "remittance.daily-limit.storage=account-row")
+class SqlRoundTripBudgetAccountRowLimitTest extends SqlRoundTripBudgetTest {
+
+	// 일 한도 FOR UPDATE/UPDATE/당일 첫 INSERT가 없어지고 누적치는 계좌 UPDATE에 함께 실림 (당일 첫 요청도 같은 예산)
+	// withdraw: 계좌번호 조회 + FOR UPDATE + 계좌 UPDATE + 원장 INSERT
+	static final int ACCOUNT_ROW_WITHDRAW_BUDGET = 4;
+	// remit: 계좌번호 조회 2 + FOR UPDATE 2 + 계좌 UPDATE batch + 원장 INSERT batch
+	static final int ACCOUNT_ROW_REMIT_BUDGET = 6;
+
+	@Test
+	void withdraw_with_limit_on_account_row() {
+		String accountNo = openAccount("AW", 100_000);
+		assertBudget("withdraw(account-row, first)", ACCOUNT_ROW_WITHDRAW_BUDGET,
+			() -> moneyService.withdraw(new WithdrawCommand(accountNo, 1_000)));
+		assertBudget("withdraw(account-row)", ACCOUNT_ROW_WITHDRAW_BUDGET,
+			() -> moneyService.withdraw(new WithdrawCommand(accountNo, 1_000)));
+	}
+
+	@Test
+	void remit_with_limit_on_account_row() {
+		String from = openAccount("ARF", 1_000_000);
+		String to = openAccount("ART", 0);
+		assertBudget("remit(account-row, first)", ACCOUNT_ROW_REMIT_BUDGET,
+			() -> remittanceService.remit(new RemitCommand(from, to, 10_000)));
+		assertBudget("remit(account-row)", ACCOUNT_ROW_REMIT_BUDGET,
+			() -> remittanceService.remit(new RemitCommand(from, to, 10_000)));
+	}
+}
@@ -0,0 +1,11 @@
+package com.jangmuyeong.remittance;
+
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * JVM 내부 계좌 락(remittance.write.local-locks.enabled=true)에서도 상위 클래스의 SQL 왕복 예산을 그대로 만족
+ * (stripe를 고르려고 트랜잭션 전에 조회한 계좌 id를 서비스가 다시 조회하지 않음)
+ */
+@TestPropertySource(properties = "remittance.write.local-locks.enabled=true")
+class SqlRoundTripBudgetLocalLockTest extends SqlRoundTripBudgetTest {
+}
@@ -0,0 +1,26 @@
+package com.jangmuyeong.remittance;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * 계좌 행 락 대기 시간(remittance.write.lock-timeout)을 설정하면 락 조회 유스케이스마다
+ * 세션 변수 설정 1 + 트랜잭션 종료 시 복원 1만큼 statement가 늘어난다.
+ */
+@TestPropertySource(properties = "remittance.write.lock-timeout.default=2s")
+class SqlRoundTripBudgetLockTimeoutTest extends SqlRoundTripBudgetTest {
+
+	// 세션 변수 SET + 복원 SET
+	static final int LOCK_TIMEOUT_STATEMENTS = 2;
+
+	@BeforeEach
+	void detectSessionDefault() {
+		// 기동 후 처음 적용할 때 한 번 읽는 세션 기본값(H2) 조회를 예산 측정 밖으로
+		openAccount("LT", 1_000);
+	}
+
+	@Override
+	int lockTimeoutStatements() {
+		return LOCK_TIMEOUT_STATEMENTS;
+	}
+}
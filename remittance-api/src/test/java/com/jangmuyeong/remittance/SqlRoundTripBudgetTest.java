@@ -0,0 +1,163 @@
+package com.jangmuyeong.remittance;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.jangmuyeong.remittance.application.dto.command.CreateAccountCommand;
+import com.jangmuyeong.remittance.application.dto.command.DepositCommand;
+import com.jangmuyeong.remittance.application.dto.command.RemitCommand;
+import com.jangmuyeong.remittance.application.dto.command.WithdrawCommand;
+import com.jangmuyeong.remittance.application.service.AccountService;
+import com.jangmuyeong.remittance.application.service.MoneyService;
+import com.jangmuyeong.remittance.application.service.RemittanceService;
+import com.jangmuyeong.remittance.application.service.TransactionQueryService;
+import com.jangmuyeong.remittance.domain.account.Account;
+import com.jangmuyeong.remittance.domain.port.AccountPort;
+
+/**
+ * 유스케이스별 SQL 왕복(statement) 횟수 예산 검증.
+ *
+ * 운영(MySQL)에서는 쿼리 왕복이 가장 큰 비용이므로, 영속성 어댑터 변경으로
+ * 쿼리가 조용히 늘어나면 빌드를 실패시킨다. 쿼리를 줄였다면 예산도 같이 낮춘다.
+ * DataSource 단위로 세므로(SqlStatementCounter) Hibernate 밖의 JdbcTemplate statement도 예산에 포함된다.
+ * 락 대기 시간 세션 설정/복원 statement는 lock-timeout을 설정했을 때만 나가므로 SqlRoundTripBudgetLockTimeoutTest에서 따로 센다.
+ */
+@ActiveProfiles("local")
+@SpringBootTest
+@Import(SqlStatementCounter.class)
+class SqlRoundTripBudgetTest {
+
+	// 예산(statement 수) - 현재 구현 기준
+	// create: 계좌번호 중복 조회 + INSERT
+	static final int CREATE_BUDGET = 2;
+	// delete: 계좌번호 조회 + FOR UPDATE + UPDATE
+	static final int DELETE_BUDGET = 3;
+	// deposit: 계좌번호 조회 + FOR UPDATE + 계좌 UPDATE + 원장 INSERT
+	static final int DEPOSIT_BUDGET = 4;
+	// withdraw: deposit + 일 한도 FOR UPDATE + 일 한도 UPDATE (당일 첫 출금은 일 한도 INSERT 추가)
+	static final int WITHDRAW_BUDGET = 6;
+	static final int WITHDRAW_FIRST_OF_DAY_BUDGET = 7;
+	// remit: 계좌번호 조회 2 + FOR UPDATE 2 + 일 한도 FOR UPDATE + 일 한도 UPDATE + 계좌 UPDATE batch + 원장 INSERT batch
+	// (id를 미리 발급하므로 계좌 UPDATE 2건, 원장 INSERT 3건이 각각 JDBC batch 하나로 나감)
+	static final int REMIT_BUDGET = 8;
+	static final int REMIT_FIRST_OF_DAY_BUDGET = 9;
+	// balance: 계좌번호 조회
+	static final int BALANCE_BUDGET = 1;
+	// latest: 계좌번호 조회 + 원장 조회
+	static final int LATEST_BUDGET = 2;
+	// 한 트랜잭션에서 같은 계좌를 두 번 락 조회: 첫 FOR UPDATE만 (UnitOfWork identity map)
+	static final int LOCK_TWICE_BUDGET = 1;
+
+	@Autowired SqlStatementCounter sqlStatements;
+	@Autowired AccountService accountService;
+	@Autowired MoneyService moneyService;
+	@Autowired RemittanceService remittanceService;
+	@Autowired TransactionQueryService transactionQueryService;
+	@Autowired AccountPort accountPort;
+	@Autowired PlatformTransactionManager transactionManager;
+
+	@Test
+	void create_account() {
+		String accountNo = accountNo("C");
+		assertBudget("create", CREATE_BUDGET, () -> accountService.create(new CreateAccountCommand(accountNo)));
+	}
+
+	@Test
+	void delete_account() {
+		String accountNo = openAccount("D", 0);
+		assertBudget("delete", DELETE_BUDGET + lockTimeoutStatements(), () -> {
+			accountService.delete(accountNo);
+			return null;
+		});
+	}
+
+	@Test
+	void deposit() {
+		String accountNo = openAccount("DP", 0);
+		assertBudget("deposit", DEPOSIT_BUDGET + lockTimeoutStatements(), () -> moneyService.deposit(new DepositCommand(accountNo, 1_000)));
+	}
+
+	@Test
+	void withdraw() {
+		String accountNo = openAccount("W", 100_000);
+		// 당일 첫 출금: 일 한도 row INSERT 포함
+		assertBudget("withdraw(first of day)", WITHDRAW_FIRST_OF_DAY_BUDGET + lockTimeoutStatements(),
+			() -> moneyService.withdraw(new WithdrawCommand(accountNo, 1_000)));
+		assertBudget("withdraw", WITHDRAW_BUDGET + lockTimeoutStatements(),
+			() -> moneyService.withdraw(new WithdrawCommand(accountNo, 1_000)));
+	}
+
+	@Test
+	void remit() {
+		String from = openAccount("RF", 1_000_000);
+		String to = openAccount("RT", 0);
+		// 당일 첫 이체: 일 한도 row INSERT 포함
+		assertBudget("remit(first of day)", REMIT_FIRST_OF_DAY_BUDGET + lockTimeoutStatements(),
+			() -> remittanceService.remit(new RemitCommand(from, to, 10_000)));
+		assertBudget("remit", REMIT_BUDGET + lockTimeoutStatements(),
+			() -> remittanceService.remit(new RemitCommand(from, to, 10_000)));
+	}
+
+	@Test
+	void balance() {
+		String accountNo = openAccount("B", 1_000);
+		assertBudget("balance", BALANCE_BUDGET, () -> moneyService.balance(accountNo));
+	}
+
+	@Test
+	void latest_transactions() {
+		String accountNo = openAccount("L", 1_000);
+		assertBudget("latest", LATEST_BUDGET, () -> transactionQueryService.latest(accountNo, 20));
+	}
+
+	@Test
+	void lock_same_account_twice_in_one_transaction() {
+		long accountId = accountPort.findIdByAccountNo(openAccount("U", 1_000));
+		TransactionTemplate tx = new TransactionTemplate(transactionManager);
+		assertBudget("lock twice", LOCK_TWICE_BUDGET, () -> tx.execute(status -> {
+			Account first = accountPort.findByIdForUpdate(accountId);
+			assertThat(accountPort.findByIdForUpdate(accountId)).isSameAs(first);
+			return null;
+		}));
+	}
+
+	// ===================== Helpers =====================
+
+	/**
+	 * 계좌 행을 락 조회하는 유스케이스(입금/출금/송금/삭제)에 더해지는 락 대기 시간 세션 설정 statement 수
+	 * (lock-timeout 미설정: 0)
+	 */
+	int lockTimeoutStatements() {
+		return 0;
+	}
+
+	void assertBudget(String useCase, int budget, Supplier<?> action) {
+		long statements = sqlStatements.count(action);
+		assertThat(statements)
+			.as("%s: SQL 왕복 횟수(%d)가 예산(%d)을 초과", useCase, statements, budget)
+			.isLessThanOrEqualTo(budget)
+			.isPositive(); // 0이면 카운터가 DataSource를 감싸지 못한 것
+	}
+
+	String openAccount(String prefix, long balance) {
+		String accountNo = accountNo(prefix);
+		accountService.create(new CreateAccountCommand(accountNo));
+		if (balance > 0) {
+			moneyService.deposit(new DepositCommand(accountNo, balance));
+		}
+		return accountNo;
+	}
+
+	private String accountNo(String prefix) {
+		return "SQL-" + prefix + "-" + System.nanoTime();
+	}
+}
@@ -0,0 +1,91 @@
+package com.jangmuyeong.remittance;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+/**
+ * DataSource 단위 SQL 왕복 카운터 (테스트 전용, @Import로 등록).
+ *
+ * DataSource를 감싸 count() 중인 스레드가 DB로 보낸 statement 수를 센다.
+ * Hibernate 통계와 달리 JdbcTemplate(JDBC 어댑터, shard/미반영 입금 SQL, 락 대기 시간 SET 등)도 같이 센다.
+ * - prepareStatement/prepareCall: 1 (JDBC batch는 executeBatch 한 번이므로 1)
+ * - createStatement: execute* 호출마다 1
+ * 다른 스레드(입금 반영기 등)의 statement는 세지 않는다.
+ */
+public class SqlStatementCounter implements BeanPostProcessor {
+
+	private static final Set<String> PREPARE = Set.of("prepareStatement", "prepareCall");
+	private static final Set<String> EXECUTE = Set.of("execute", "executeQuery", "executeUpdate",
+		"executeLargeUpdate", "executeBatch", "executeLargeBatch");
+
+	private final ThreadLocal<long[]> counting = new ThreadLocal<>();
+
+	@Override
+	public Object postProcessAfterInitialization(Object bean, String beanName) {
+		return bean instanceof DataSource dataSource
+			? proxy(DataSource.class, dataSource, (target, method, args) -> {
+				Object result = invoke(target, method, args);
+				return result instanceof Connection connection ? proxy(Connection.class, connection, this::onConnection) : result;
+			})
+			: bean;
+	}
+
+	/**
+	 * action을 실행하는 동안 이 스레드가 보낸 statement 수
+	 */
+	public long count(Supplier<?> action) {
+		long[] statements = new long[1];
+		counting.set(statements);
+		try {
+			action.get();
+		} finally {
+			counting.remove();
+		}
+		return statements[0];
+	}
+
+	private Object onConnection(Object target, Method method, Object[] args) throws Throwable {
+		Object result = invoke(target, method, args);
+		if (PREPARE.contains(method.getName())) {
+			increment();
+		} else if (method.getName().equals("createStatement")) {
+			return proxy(Statement.class, (Statement) result, (statement, m, a) -> {
+				if (EXECUTE.contains(m.getName())) increment();
+				return invoke(statement, m, a);
+			});
+		}
+		return result;
+	}
+
+	private void increment() {
+		long[] statements = counting.get();
+		if (statements != null) statements[0]++;
+	}
+
+	private interface Handler {
+		Object handle(Object target, Method method, Object[] args) throws Throwable;
+	}
+
+	private static <T> T proxy(Class<T> type, T target, Handler handler) {
+		InvocationHandler invocation = (proxy, method, args) -> handler.handle(target, method, args);
+		return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, invocation));
+	}
+
+	private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+		try {
+			return method.invoke(target, args);
+		} catch (InvocationTargetException e) {
+			throw e.getCause();
+		}
+	}
+}
@@ -0,0 +1,30 @@
+package com.jangmuyeong.remittance.config;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+class AotProfileGuardTest {
+
+	@Test
+	void jdbc_profile_with_aot_fails_fast() {
+		MockEnvironment environment = new MockEnvironment();
+		environment.setActiveProfiles("fast", "jdbc");
+
+		assertThatThrownBy(() -> AotProfileGuard.check(true, environment))
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessageContaining("jdbc");
+	}
+
+	@Test
+	void jdbc_profile_without_aot_and_fast_profile_with_aot_are_allowed() {
+		MockEnvironment jdbc = new MockEnvironment();
+		jdbc.setActiveProfiles("fast", "jdbc");
+		MockEnvironment fast = new MockEnvironment();
+		fast.setActiveProfiles("fast");
+
+		assertThatCode(() -> AotProfileGuard.check(false, jdbc)).doesNotThrowAnyException();
+		assertThatCode(() -> AotProfileGuard.check(true, fast)).doesNotThrowAnyException();
+	}
+}
@@ -0,0 +1,123 @@
+package com.jangmuyeong.remittance.retry;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.PessimisticLockingFailureException;
+
+import com.jangmuyeong.remittance.application.service.MoneyService;
+import com.jangmuyeong.remittance.domain.port.LockTimeoutPort;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.LockTimeoutException;
+
+class LockFailureRetryAspectTest {
+
+	private static final Duration WITHDRAW_TIMEOUT = Duration.ofMillis(300);
+
+	SimpleMeterRegistry registry;
+	LockTimeoutPort lockTimeouts;
+	AtomicLong clock;
+	List<Long> sleeps;
+	ProceedingJoinPoint pjp;
+
+	@BeforeEach
+	void setUp() {
+		registry = new SimpleMeterRegistry();
+		lockTimeouts = mock(LockTimeoutPort.class);
+		when(lockTimeouts.bind(any())).thenReturn(null); // 묶인 값이 없던 스레드
+		clock = new AtomicLong();
+		sleeps = new ArrayList<>();
+		pjp = mock(ProceedingJoinPoint.class);
+		Signature signature = mock(Signature.class);
+		when(signature.getDeclaringType()).thenReturn(MoneyService.class);
+		when(signature.getName()).thenReturn("withdraw");
+		when(pjp.getSignature()).thenReturn(signature);
+	}
+
+	@Test
+	void retries_lock_failures_with_use_case_lock_timeout_bound() throws Throwable {
+		when(pjp.proceed())
+			.thenThrow(new CannotAcquireLockException("lock wait timeout"))
+			.thenThrow(new IllegalStateException("flush", new LockTimeoutException("timeout")))
+			.thenReturn("ok");
+
+		assertThat(aspect(5, Duration.ofSeconds(2)).retry(pjp)).isEqualTo("ok");
+
+		verify(pjp, times(3)).proceed();
+		assertThat(count("retried", "CannotAcquireLockException")).isEqualTo(1);
+		assertThat(count("retried", "LockTimeoutException")).isEqualTo(1);
+		// full jitter: 1회차 상한 5ms, 2회차 상한 10ms
+		assertThat(sleeps).hasSize(2);
+		assertThat(sleeps.get(0)).isBetween(0L, Duration.ofMillis(5).toNanos());
+		assertThat(sleeps.get(1)).isBetween(0L, Duration.ofMillis(10).toNanos());
+		// 유스케이스 동안 대기 시간을 묶고 끝나면 이전 값으로 복원
+		verify(lockTimeouts).bind(WITHDRAW_TIMEOUT);
+		verify(lockTimeouts).bind(null);
+	}
+
+	@Test
+	void gives_up_after_max_attempts_with_pessimistic_locking_failure() throws Throwable {
+		when(pjp.proceed()).thenThrow(new IllegalStateException("flush", new SQLException("deadlock", "40001", 1213)));
+
+		assertThatThrownBy(() -> aspect(3, Duration.ofSeconds(2)).retry(pjp))
+			.isInstanceOf(PessimisticLockingFailureException.class)
+			.hasRootCauseInstanceOf(SQLException.class);
+
+		verify(pjp, times(3)).proceed();
+		assertThat(count("retried", "SQLException")).isEqualTo(2);
+		assertThat(count("exhausted", "SQLException")).isEqualTo(1);
+	}
+
+	@Test
+	void stops_retrying_when_time_budget_is_spent() throws Throwable {
+		when(pjp.proceed()).thenAnswer(inv -> {
+			clock.addAndGet(Duration.ofMillis(600).toNanos()); // 락 대기 시간 초과까지 걸린 시간
+			throw new CannotAcquireLockException("lock wait timeout");
+		});
+
+		assertThatThrownBy(() -> aspect(10, Duration.ofSeconds(1)).retry(pjp))
+			.isInstanceOf(CannotAcquireLockException.class);
+
+		verify(pjp, times(2)).proceed();
+		assertThat(count("exhausted", "CannotAcquireLockException")).isEqualTo(1);
+	}
+
+	@Test
+	void other_exceptions_are_not_retried() throws Throwable {
+		when(pjp.proceed()).thenThrow(new DataIntegrityViolationException("duplicate"));
+
+		assertThatThrownBy(() -> aspect(5, Duration.ofSeconds(2)).retry(pjp))
+			.isInstanceOf(DataIntegrityViolationException.class);
+
+		verify(pjp, times(1)).proceed();
+		assertThat(registry.find(LockFailureRetryAspect.LOCK_FAILURE_COUNTER_NAME).counters()).isEmpty();
+	}
+
+	private LockFailureRetryAspect aspect(int maxAttempts, Duration budget) {
+		return new LockFailureRetryAspect(registry, lockTimeouts,
+			useCase -> useCase.equals("money.withdraw") ? WITHDRAW_TIMEOUT : null,
+			maxAttempts, Duration.ofMillis(5), Duration.ofMillis(100), budget, sleeps::add, clock::get);
+	}
+
+	private double count(String outcome, String exception) {
+		var counter = registry.find(LockFailureRetryAspect.LOCK_FAILURE_COUNTER_NAME)
+			.tag("usecase", "money.withdraw")
+			.tag("outcome", outcome)
+			.tag("exception", exception)
+			.counter();
+		return counter == null ? 0 : counter.count();
+	}
+}
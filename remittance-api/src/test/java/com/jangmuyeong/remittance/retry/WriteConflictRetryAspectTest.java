@@ -0,0 +1,138 @@
+package com.jangmuyeong.remittance.retry;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import com.jangmuyeong.remittance.application.service.AccountContentionTracker;
+import com.jangmuyeong.remittance.application.service.MoneyService;
+import com.jangmuyeong.remittance.application.service.WriteMode;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.OptimisticLockException;
+
+class WriteConflictRetryAspectTest {
+
+	SimpleMeterRegistry registry;
+	AccountContentionTracker contention;
+	List<Long> sleeps;
+	ProceedingJoinPoint pjp;
+
+	@BeforeEach
+	void setUp() {
+		registry = new SimpleMeterRegistry();
+		contention = mock(AccountContentionTracker.class);
+		sleeps = new ArrayList<>();
+		pjp = mock(ProceedingJoinPoint.class);
+		Signature signature = mock(Signature.class);
+		when(signature.getDeclaringType()).thenReturn(MoneyService.class);
+		when(signature.getName()).thenReturn("withdraw");
+		when(pjp.getSignature()).thenReturn(signature);
+	}
+
+	@Test
+	void retries_conflicts_then_returns_result() throws Throwable {
+		when(pjp.proceed())
+			.thenThrow(new ObjectOptimisticLockingFailureException("AccountJpaEntity", 1L))
+			.thenThrow(new IllegalStateException("flush", new OptimisticLockException("stale")))
+			.thenReturn("ok");
+
+		assertThat(aspect(WriteMode.OPTIMISTIC, 5).retry(pjp)).isEqualTo("ok");
+
+		verify(pjp, times(3)).proceed();
+		assertThat(count("retried")).isEqualTo(2);
+		assertThat(count("exhausted")).isZero();
+		// full jitter: 1회차 상한 1ms, 2회차 상한 2ms
+		assertThat(sleeps).hasSize(2);
+		assertThat(sleeps.get(0)).isBetween(0L, Duration.ofMillis(1).toNanos());
+		assertThat(sleeps.get(1)).isBetween(0L, Duration.ofMillis(2).toNanos());
+	}
+
+	@Test
+	void gives_up_after_max_attempts_with_optimistic_locking_failure() throws Throwable {
+		when(pjp.proceed()).thenThrow(new IllegalStateException("flush", new OptimisticLockException("stale")));
+
+		assertThatThrownBy(() -> aspect(WriteMode.OPTIMISTIC, 3).retry(pjp))
+			.isInstanceOf(OptimisticLockingFailureException.class)
+			.hasRootCauseInstanceOf(OptimisticLockException.class);
+
+		verify(pjp, times(3)).proceed();
+		assertThat(count("retried")).isEqualTo(2);
+		assertThat(count("exhausted")).isEqualTo(1);
+	}
+
+	@Test
+	void other_exceptions_are_not_retried() throws Throwable {
+		when(pjp.proceed()).thenThrow(new DataIntegrityViolationException("duplicate"));
+
+		assertThatThrownBy(() -> aspect(WriteMode.OPTIMISTIC, 5).retry(pjp))
+			.isInstanceOf(DataIntegrityViolationException.class);
+
+		verify(pjp, times(1)).proceed();
+		assertThat(sleeps).isEmpty();
+	}
+
+	@Test
+	void other_modes_pass_through() throws Throwable {
+		when(pjp.proceed()).thenThrow(new ObjectOptimisticLockingFailureException("AccountJpaEntity", 1L));
+
+		assertThatThrownBy(() -> aspect(WriteMode.PESSIMISTIC, 5).retry(pjp))
+			.isInstanceOf(ObjectOptimisticLockingFailureException.class);
+
+		verify(pjp, times(1)).proceed();
+		assertThat(registry.find(WriteConflictRetryAspect.CONFLICT_COUNTER_NAME).counter()).isNull();
+	}
+
+	@Test
+	void adaptive_mode_retries_and_reports_conflicting_attempts() throws Throwable {
+		when(pjp.proceed())
+			.thenThrow(new ObjectOptimisticLockingFailureException("AccountJpaEntity", 1L))
+			.thenReturn("ok");
+
+		assertThat(aspect(WriteMode.ADAPTIVE, 5).retry(pjp)).isEqualTo("ok");
+
+		verify(pjp, times(2)).proceed();
+		verify(contention, times(1)).attemptConflicted();
+	}
+
+	@Test
+	void optimistic_mode_does_not_touch_contention_tracker() throws Throwable {
+		when(pjp.proceed())
+			.thenThrow(new ObjectOptimisticLockingFailureException("AccountJpaEntity", 1L))
+			.thenReturn("ok");
+
+		aspect(WriteMode.OPTIMISTIC, 5).retry(pjp);
+
+		verifyNoInteractions(contention);
+	}
+
+	@Test
+	void rejects_non_positive_max_attempts() {
+		assertThatThrownBy(() -> aspect(WriteMode.OPTIMISTIC, 0))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	private WriteConflictRetryAspect aspect(WriteMode mode, int maxAttempts) {
+		return new WriteConflictRetryAspect(registry, mode, contention, maxAttempts,
+			Duration.ofMillis(1), Duration.ofMillis(50), sleeps::add);
+	}
+
+	private double count(String outcome) {
+		var counter = registry.find(WriteConflictRetryAspect.CONFLICT_COUNTER_NAME)
+			.tag("usecase", "money.withdraw")
+			.tag("outcome", outcome)
+			.counter();
+		return counter == null ? 0 : counter.count();
+	}
+}
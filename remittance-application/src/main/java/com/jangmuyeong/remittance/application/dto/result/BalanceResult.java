@@ -3,4 +3,4 @@ package com.jangmuyeong.remittance.application.dto.result;
 /**
  * 잔액 변경(입/출금) 결과
  */
-public record BalanceResult(Long accountId, String accountNo, long balance) {}
\ No newline at end of file
+public record BalanceResult(long accountId, String accountNo, long balance) {}
\ No newline at end of file
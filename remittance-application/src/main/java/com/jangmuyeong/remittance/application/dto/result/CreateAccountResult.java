@@ -3,4 +3,4 @@ package com.jangmuyeong.remittance.application.dto.result;
 /**
  * 계좌 생성 결과
  */
-public record CreateAccountResult(Long accountId, String accountNo) {}
\ No newline at end of file
+public record CreateAccountResult(long accountId, String accountNo) {}
\ No newline at end of file
@@ -4,9 +4,9 @@ package com.jangmuyeong.remittance.application.dto.result;
  * 이체 결과
  */
 public record RemitResult(
-	Long fromAccountId,
+	long fromAccountId,
 	String fromAccountNo,
-	Long toAccountId,
+	long toAccountId,
 	String toAccountNo,
 	long amount,
 	long fee,
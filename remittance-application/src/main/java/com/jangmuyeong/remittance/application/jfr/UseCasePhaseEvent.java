@@ -0,0 +1,114 @@
+package com.jangmuyeong.remittance.application.jfr;
+
+import com.jangmuyeong.remittance.domain.exception.DomainException;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 유스케이스 단계별 JFR(JDK Flight Recorder) 이벤트.
+ *
+ * - 이벤트 duration = 해당 단계 소요 시간 (락 대기 포함)
+ * - 운영에서 상시 녹화를 켜 둘 수 있도록 스택 트레이스는 수집하지 않는다.
+ * - 녹화 중이 아닐 때는 공유 인스턴스(DISABLED)를 돌려주므로 start/finish 가 객체를 할당하지 않는다.
+ * - 단계가 예외로 끝나면 fail(e)로 기록한다. (락 대기 시간 초과/교착, 한도 초과 등 느린 꼬리 구간도 남도록)
+ *
+ * 예) jcmd <pid> JFR.start settings=profile
+ *     jfr print --events com.jangmuyeong.remittance.UseCasePhase recording.jfr
+ */
+@Name(UseCasePhaseEvent.NAME)
+@Label("UseCase Phase")
+@Category({"Remittance", "UseCase"})
+@Description("송금/출금 유스케이스의 단계별 소요 시간")
+@StackTrace(false)
+public final class UseCasePhaseEvent extends Event {
+
+	public static final String NAME = "com.jangmuyeong.remittance.UseCasePhase";
+
+	public static final String OK = "OK";
+
+	// 녹화 중이 아닐 때 돌려주는 공유 인스턴스 (절대 commit 하지 않음)
+	private static final UseCasePhaseEvent DISABLED = new UseCasePhaseEvent();
+
+	/**
+	 * 계측 대상 단계
+	 */
+	public enum Phase {
+		RESOLVE_ACCOUNT,   // 계좌번호 → id 조회
+		LOCK_ACCOUNT,      // findByIdForUpdate (비관적 락 획득)
+		DAILY_LIMIT,       // 일 한도 getOrCreate + 누적 + 저장
+		BALANCE_MUTATION,  // 도메인 잔액 변경
+		ACCOUNT_SAVE,      // 계좌 저장 (조건부 UPDATE면 detail = conditional)
+		LEDGER_SAVE        // 원장 기록 (detail = TransactionType, 여러 건이면 쉼표로 연결)
+	}
+
+	@Label("Use Case")
+	String useCase;
+
+	@Label("Phase")
+	String phase;
+
+	@Label("Detail")
+	String detail;
+
+	@Label("Outcome")
+	@Description("OK, 도메인 예외면 ErrorCode, 그 외 예외면 예외 클래스 이름")
+	String outcome;
+
+	@Label("Account Id")
+	long accountId;
+
+	@Label("Counterparty Account Id")
+	long counterpartyAccountId;
+
+	/**
+	 * 단계 시작. accountId/counterpartyAccountId 가 아직 없으면 0(NO_ID)으로 전달.
+	 */
+	public static UseCasePhaseEvent start(String useCase, Phase phase, long accountId, long counterpartyAccountId) {
+		// isEnabled()는 이벤트 타입 단위 플래그이므로 공유 인스턴스로 확인해도 된다
+		if (!DISABLED.isEnabled()) {
+			return DISABLED;
+		}
+		UseCasePhaseEvent event = new UseCasePhaseEvent();
+		event.useCase = useCase;
+		event.phase = phase.name();
+		event.accountId = accountId;
+		event.counterpartyAccountId = counterpartyAccountId;
+		event.begin();
+		return event;
+	}
+
+	public UseCasePhaseEvent detail(String detail) {
+		if (this != DISABLED) {
+			this.detail = detail;
+		}
+		return this;
+	}
+
+	/**
+	 * 단계 정상 종료. 임계값(threshold)을 넘은 경우에만 기록된다.
+	 */
+	public void finish() {
+		record(OK);
+	}
+
+	/**
+	 * 단계가 예외로 끝남. outcome에 실패 원인을 남기고 기록한 뒤 예외를 그대로 돌려준다. (throw phase.fail(e))
+	 */
+	public <E extends RuntimeException> E fail(E e) {
+		record(e instanceof DomainException domain ? domain.getErrorCode().name() : e.getClass().getSimpleName());
+		return e;
+	}
+
+	private void record(String outcome) {
+		// start 이후에 녹화가 켜졌더라도 공유 인스턴스는 기록하지 않는다
+		if (this != DISABLED && isEnabled()) {
+			this.outcome = outcome;
+			commit();
+		}
+	}
+}
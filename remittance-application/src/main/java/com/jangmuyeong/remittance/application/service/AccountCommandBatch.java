@@ -0,0 +1,213 @@
+package com.jangmuyeong.remittance.application.service;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.jangmuyeong.remittance.application.dto.result.BalanceResult;
+import com.jangmuyeong.remittance.application.dto.result.RemitResult;
+import com.jangmuyeong.remittance.domain.account.Account;
+import com.jangmuyeong.remittance.domain.exception.DomainException;
+import com.jangmuyeong.remittance.domain.exception.ErrorCode;
+import com.jangmuyeong.remittance.domain.ledger.LedgerEntry;
+import com.jangmuyeong.remittance.domain.ledger.TransactionType;
+import com.jangmuyeong.remittance.domain.limit.DailyLimit;
+import com.jangmuyeong.remittance.domain.policy.FeePolicy;
+import com.jangmuyeong.remittance.domain.port.AccountPort;
+import com.jangmuyeong.remittance.domain.port.DailyLimitPort;
+import com.jangmuyeong.remittance.domain.port.LedgerPort;
+
+/**
+ * AccountCommandCombiner가 모은 명령들을 한 트랜잭션으로 처리 (remittance.write.mode=COMBINING)
+ *
+ * 1) 관련 계좌 전체를 id 오름차순으로 한 번씩 락 조회 (서비스와 같은 락 순서)
+ * 2) 명령을 도착 순서대로 적용: 계좌/일 한도 사본에 먼저 실행해 도메인 규칙을 통과한 명령만 실제 객체에 반영
+ *    (실패한 명령은 상태를 바꾸지 않고 그 명령의 DomainException만 돌려줌, 오류 판정 순서는 서비스와 같음)
+ * 3) 바뀐 계좌/일 한도 저장, 원장은 배치 전체를 saveAll 한 번으로 기록
+ * 트랜잭션이 실패하면(커밋 실패 등) 배치의 모든 명령이 같은 예외로 실패한다.
+ */
+@Component
+public class AccountCommandBatch {
+
+	private static final long NO_ID = LedgerEntry.NO_ID;
+
+	private final AccountPort accountPort;
+	private final DailyLimitPort dailyLimitPort;
+	private final LedgerPort ledgerPort;
+	private final FeePolicy feePolicy;
+	private final Clock clock;
+	private final TransferLedgerFormat ledgerFormat;
+
+	public AccountCommandBatch(AccountPort accountPort, DailyLimitPort dailyLimitPort, LedgerPort ledgerPort,
+		FeePolicy feePolicy, Clock clock,
+		@Value("${remittance.ledger.transfer-format:SPLIT}") TransferLedgerFormat ledgerFormat) {
+		this.accountPort = accountPort;
+		this.dailyLimitPort = dailyLimitPort;
+		this.ledgerPort = ledgerPort;
+		this.feePolicy = feePolicy;
+		this.clock = clock;
+		this.ledgerFormat = ledgerFormat;
+	}
+
+	/**
+	 * @return 명령과 같은 순서의 결과 (성공이면 BalanceResult/RemitResult, 실패면 DomainException)
+	 */
+	@Transactional
+	public List<Object> apply(List<Mutation> mutations) {
+		Instant now = Instant.now(clock);
+		LocalDate today = LocalDate.ofInstant(now, clock.getZone());
+
+		TreeSet<Long> accountIds = new TreeSet<>();
+		for (Mutation m : mutations) {
+			accountIds.add(m.accountId());
+			if (m.kind() == Kind.REMIT) accountIds.add(m.counterpartyId());
+		}
+		Map<Long, Account> accounts = new HashMap<>();
+		for (long accountId : accountIds) {
+			Account account = accountPort.findByIdForUpdate(accountId);
+			if (account != null) accounts.put(accountId, account);
+		}
+
+		State state = new State(accounts, today);
+		List<Object> results = new ArrayList<>(mutations.size());
+		for (Mutation m : mutations) {
+			try {
+				results.add(switch (m.kind()) {
+					case DEPOSIT -> deposit(state, m, now);
+					case WITHDRAW -> withdraw(state, m, now);
+					case REMIT -> remit(state, m, now);
+				});
+			} catch (DomainException e) {
+				results.add(e);
+			}
+		}
+
+		for (Account account : state.changedAccounts) accountPort.update(account);
+		for (DailyLimit limit : state.changedLimits) dailyLimitPort.save(limit);
+		if (!state.ledger.isEmpty()) ledgerPort.saveAll(state.ledger);
+		return results;
+	}
+
+	private BalanceResult deposit(State state, Mutation m, Instant now) {
+		Account account = state.account(m.accountId());
+		account.deposit(m.amount()); // 검증 후 변경하므로 실패하면 그대로
+		state.changedAccounts.add(account);
+
+		state.ledger.add(new LedgerEntry(NO_ID, m.accountId(), NO_ID, TransactionType.DEPOSIT,
+			m.amount(), 0L, now, account.getBalance()));
+		return new BalanceResult(m.accountId(), account.getAccountNo(), account.getBalance());
+	}
+
+	private BalanceResult withdraw(State state, Mutation m, Instant now) {
+		Account account = state.account(m.accountId());
+		DailyLimit limit = state.limit(m.accountId());
+
+		// 서비스와 같은 순서(일 한도 → 잔액)로 사본에서 먼저 검증
+		copyOf(limit).addWithdraw(m.amount());
+		copyOf(account).withdraw(m.amount());
+
+		limit.addWithdraw(m.amount());
+		account.withdraw(m.amount());
+		state.changedLimits.add(limit);
+		state.changedAccounts.add(account);
+
+		state.ledger.add(new LedgerEntry(NO_ID, m.accountId(), NO_ID, TransactionType.WITHDRAW,
+			m.amount(), 0L, now, account.getBalance()));
+		return new BalanceResult(m.accountId(), account.getAccountNo(), account.getBalance());
+	}
+
+	private RemitResult remit(State state, Mutation m, Instant now) {
+		long fromId = m.accountId();
+		long toId = m.counterpartyId();
+		Account from = state.account(fromId);
+		Account to = state.account(toId);
+		long fee = feePolicy.calculateFee(m.amount());
+		long totalDebit = m.amount() + fee;
+		DailyLimit limit = state.limit(fromId);
+
+		copyOf(limit).addTransfer(m.amount());
+		copyOf(from).withdraw(totalDebit);
+		copyOf(to).deposit(m.amount());
+
+		limit.addTransfer(m.amount());
+		from.withdraw(totalDebit);
+		to.deposit(m.amount());
+		state.changedLimits.add(limit);
+		state.changedAccounts.add(from);
+		state.changedAccounts.add(to);
+
+		state.ledger.addAll(ledgerFormat.entries(fromId, toId, m.amount(), fee, now,
+			from.getBalance(), to.getBalance()));
+		return new RemitResult(fromId, from.getAccountNo(), toId, to.getAccountNo(), m.amount(), fee,
+			from.getBalance(), to.getBalance());
+	}
+
+	private static Account copyOf(Account account) {
+		return new Account(account.getId(), account.getAccountNo(), account.getStatus(), account.getBalance());
+	}
+
+	private static DailyLimit copyOf(DailyLimit limit) {
+		return new DailyLimit(limit.getId(), limit.getAccountId(), limit.getDate(),
+			limit.getWithdrawSum(), limit.getTransferSum());
+	}
+
+	/**
+	 * 배치에서 처리할 명령 하나 (계좌 id는 호출 스레드가 트랜잭션 밖에서 미리 조회)
+	 * REMIT은 accountId = 송금 계좌, counterpartyId = 수취 계좌
+	 */
+	public record Mutation(Kind kind, long accountId, long counterpartyId, long amount) {
+
+		public static Mutation deposit(long accountId, long amount) {
+			return new Mutation(Kind.DEPOSIT, accountId, Account.NO_ID, amount);
+		}
+
+		public static Mutation withdraw(long accountId, long amount) {
+			return new Mutation(Kind.WITHDRAW, accountId, Account.NO_ID, amount);
+		}
+
+		public static Mutation remit(long fromId, long toId, long amount) {
+			return new Mutation(Kind.REMIT, fromId, toId, amount);
+		}
+	}
+
+	public enum Kind { DEPOSIT, WITHDRAW, REMIT }
+
+	/**
+	 * 배치 트랜잭션 안의 작업 상태 (락 조회한 계좌, 당일 일 한도, 바뀐 객체, 원장)
+	 */
+	private final class State {
+		final Map<Long, Account> accounts;
+		final LocalDate today;
+		final Map<Long, DailyLimit> limits = new HashMap<>();
+		final Set<Account> changedAccounts = new LinkedHashSet<>();
+		final Set<DailyLimit> changedLimits = new LinkedHashSet<>();
+		final List<LedgerEntry> ledger = new ArrayList<>();
+
+		State(Map<Long, Account> accounts, LocalDate today) {
+			this.accounts = accounts;
+			this.today = today;
+		}
+
+		Account account(long accountId) {
+			Account account = accounts.get(accountId);
+			if (account == null) throw new DomainException(ErrorCode.ACCOUNT_NOT_FOUND);
+			return account;
+		}
+
+		// 일 한도 행은 처음 필요할 때 락 조회 (계좌 행 락을 이미 잡았으므로 순서와 무관하게 교착 없음)
+		DailyLimit limit(long accountId) {
+			return limits.computeIfAbsent(accountId, id -> dailyLimitPort.getOrCreate(id, today));
+		}
+	}
+}
@@ -0,0 +1,157 @@
+package com.jangmuyeong.remittance.application.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.jangmuyeong.remittance.application.dto.command.DepositCommand;
+import com.jangmuyeong.remittance.application.dto.command.RemitCommand;
+import com.jangmuyeong.remittance.application.dto.command.WithdrawCommand;
+import com.jangmuyeong.remittance.application.dto.result.BalanceResult;
+import com.jangmuyeong.remittance.application.dto.result.RemitResult;
+import com.jangmuyeong.remittance.application.service.AccountCommandBatch.Mutation;
+import com.jangmuyeong.remittance.domain.port.AccountPort;
+import com.jangmuyeong.remittance.domain.port.BalanceShardPort;
+import com.jangmuyeong.remittance.domain.port.PendingCreditPort;
+
+/**
+ * 계좌별 flat combining 실행기 (remittance.write.mode=COMBINING)
+ *
+ * 같은 계좌에 동시에 들어온 명령을 계좌별 대기열에 넣고, 대기열 락을 잡은 스레드(리더) 하나가
+ * 최대 max-batch건을 꺼내 AccountCommandBatch로 한 트랜잭션에 처리한 뒤 각 호출자에게 결과를 돌려준다.
+ * 나머지 호출자는 poll 간격으로 깨어나 자기 결과가 왔는지 보고, 리더가 떠났으면 직접 리더가 된다.
+ *
+ * - 대기열 키: 입금/출금은 그 계좌, 송금은 수취 계좌 (입금이 몰리는 계좌의 송금/입금/출금이 한 배치로 모임)
+ * - 트랜잭션 밖에서 호출해야 한다. (리더의 배치 트랜잭션이 호출자 트랜잭션과 섞이지 않도록)
+ * - 잔액 샤딩/입금 지연 반영 계좌, 동일 계좌 송금은 direct(서비스 원래 경로)로 처리
+ * - 명령별 도메인 오류(INSUFFICIENT_BALANCE 등)는 그 호출자에게만, 배치 트랜잭션 실패는 배치의 모든 호출자에게 전달
+ */
+@Component
+public class AccountCommandCombiner {
+
+	private final AccountPort accountPort;
+	private final BalanceShardPort balanceShards;
+	private final PendingCreditPort pendingCredits;
+	private final AccountCommandBatch batch;
+	private final int maxBatch;
+	private final long pollNanos;
+
+	private final ConcurrentHashMap<Long, Slot> slots = new ConcurrentHashMap<>();
+
+	public AccountCommandCombiner(AccountPort accountPort, BalanceShardPort balanceShards,
+		PendingCreditPort pendingCredits, AccountCommandBatch batch,
+		@Value("${remittance.write.combining.max-batch:64}") int maxBatch,
+		@Value("${remittance.write.combining.poll:200us}") Duration poll) {
+		if (maxBatch < 1) throw new IllegalArgumentException("combining.max-batch must be >= 1: " + maxBatch);
+		this.accountPort = accountPort;
+		this.balanceShards = balanceShards;
+		this.pendingCredits = pendingCredits;
+		this.batch = batch;
+		this.maxBatch = maxBatch;
+		this.pollNanos = Math.max(1L, poll.toNanos());
+	}
+
+	public BalanceResult deposit(DepositCommand command, Supplier<BalanceResult> direct) {
+		long accountId = AccountLookups.requireId(accountPort, command.accountNo());
+		if (bypasses(accountId)) return direct.get();
+		return (BalanceResult)combine(accountId, Mutation.deposit(accountId, command.amount()));
+	}
+
+	public BalanceResult withdraw(WithdrawCommand command, Supplier<BalanceResult> direct) {
+		long accountId = AccountLookups.requireId(accountPort, command.accountNo());
+		if (bypasses(accountId)) return direct.get();
+		return (BalanceResult)combine(accountId, Mutation.withdraw(accountId, command.amount()));
+	}
+
+	public RemitResult remit(RemitCommand command, Supplier<RemitResult> direct) {
+		if (command.fromAccountNo().equals(command.toAccountNo())) return direct.get();
+		long fromId = AccountLookups.requireId(accountPort, command.fromAccountNo());
+		long toId = AccountLookups.requireId(accountPort, command.toAccountNo());
+		if (bypasses(fromId) || bypasses(toId)) return direct.get();
+		return (RemitResult)combine(toId, Mutation.remit(fromId, toId, command.amount()));
+	}
+
+	// 계좌 행 락 없이 입금하는 계좌는 배치로 묶을 이점이 없고, 배치가 계좌 행만 다루므로 원래 경로로
+	private boolean bypasses(long accountId) {
+		return balanceShards.isSharded(accountId) || pendingCredits.isDeferred(accountId);
+	}
+
+	/**
+	 * 대기열에 넣고 결과가 올 때까지 대기 (리더 자리가 비면 직접 배치 실행)
+	 * 대기열이 비어 맵에서 빠진 뒤 같은 계좌의 새 대기열이 잠시 함께 있을 수 있지만, 각 대기열의 명령은 그 호출자가 직접
+	 * 리더가 되어 처리하므로 유실되지 않는다. (동시에 두 배치가 돌아도 계좌 행 락으로 직렬화됨)
+	 */
+	private Object combine(long key, Mutation mutation) {
+		Request request = new Request(mutation, Thread.currentThread());
+		Slot slot = slots.computeIfAbsent(key, k -> new Slot());
+		slot.queue.add(request);
+
+		while (request.outcome == null) {
+			if (slot.leader.compareAndSet(false, true)) {
+				try {
+					runBatch(slot);
+				} finally {
+					slot.leader.set(false);
+				}
+				if (slot.queue.isEmpty()) {
+					slots.remove(key, slot);
+				} else {
+					Request next = slot.queue.peek();
+					if (next != null) LockSupport.unpark(next.waiter);
+				}
+			} else {
+				LockSupport.parkNanos(this, pollNanos);
+			}
+		}
+
+		Object outcome = request.outcome;
+		if (outcome instanceof RuntimeException e) throw e;
+		if (outcome instanceof Error e) throw e;
+		return outcome;
+	}
+
+	private void runBatch(Slot slot) {
+		List<Request> requests = new ArrayList<>();
+		Request request;
+		while (requests.size() < maxBatch && (request = slot.queue.poll()) != null) requests.add(request);
+		if (requests.isEmpty()) return;
+
+		List<Mutation> mutations = new ArrayList<>(requests.size());
+		for (Request r : requests) mutations.add(r.mutation);
+		try {
+			List<Object> results = batch.apply(mutations);
+			for (int i = 0; i < requests.size(); i++) requests.get(i).complete(results.get(i));
+		} catch (RuntimeException | Error e) {
+			for (Request r : requests) r.complete(e);
+		}
+	}
+
+	private static final class Slot {
+		final ConcurrentLinkedQueue<Request> queue = new ConcurrentLinkedQueue<>();
+		final AtomicBoolean leader = new AtomicBoolean();
+	}
+
+	private static final class Request {
+		final Mutation mutation;
+		final Thread waiter;
+		volatile Object outcome; // 결과 또는 예외
+
+		Request(Mutation mutation, Thread waiter) {
+			this.mutation = mutation;
+			this.waiter = waiter;
+		}
+
+		void complete(Object result) {
+			outcome = result;
+			LockSupport.unpark(waiter);
+		}
+	}
+}
@@ -0,0 +1,148 @@
+package com.jangmuyeong.remittance.application.service;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 계좌별 최근 경합 추적기 (remittance.write.mode=ADAPTIVE)
+ *
+ * 낙관적 쓰기의 버전 충돌과 락 조회의 대기(lock-wait-threshold 이상)를 계좌별 점수로 누적하고,
+ * 점수가 contended-score 이상인 계좌만 락 조회(PESSIMISTIC), 나머지는 락 없는 조회(OPTIMISTIC)로 처리하게 한다.
+ * 점수는 half-life마다 절반으로 줄어들므로 트래픽이 잦아들면 다시 낙관적 경로로 돌아간다.
+ *
+ * 메모리는 slots개 고정: 계좌 id 해시로 슬롯 하나에 대응시키고 (direct-mapped)
+ * 다른 계좌가 같은 슬롯을 쓰려 하면 기존 계좌가 경합 중이 아닐 때만 자리를 넘긴다. (핫 계좌 기록이 조용한 계좌에 밀려나지 않음)
+ * 추적되지 않는 계좌는 조용한 계좌로 본다.
+ */
+@Component
+public class AccountContentionTracker {
+
+	private static final ThreadLocal<Attempt> ATTEMPT = ThreadLocal.withInitial(Attempt::new);
+
+	private final AtomicReferenceArray<Slot> slots;
+	private final int mask;
+	private final double halfLifeNanos;
+	private final double contendedScore;
+	private final long lockWaitThresholdNanos;
+	private final LongSupplier nanoClock;
+
+	@Autowired
+	public AccountContentionTracker(
+		@Value("${remittance.write.adaptive.slots:4096}") int slots,
+		@Value("${remittance.write.adaptive.half-life:10s}") Duration halfLife,
+		@Value("${remittance.write.adaptive.contended-score:3}") double contendedScore,
+		@Value("${remittance.write.adaptive.lock-wait-threshold:2ms}") Duration lockWaitThreshold) {
+		this(slots, halfLife, contendedScore, lockWaitThreshold, System::nanoTime);
+	}
+
+	AccountContentionTracker(int slots, Duration halfLife, double contendedScore, Duration lockWaitThreshold,
+		LongSupplier nanoClock) {
+		if (slots < 1) throw new IllegalArgumentException("slots must be >= 1: " + slots);
+		int size = Integer.highestOneBit(slots) == slots ? slots : Integer.highestOneBit(slots) << 1;
+		this.slots = new AtomicReferenceArray<>(size);
+		this.mask = size - 1;
+		this.halfLifeNanos = halfLife.toNanos();
+		this.contendedScore = contendedScore;
+		this.lockWaitThresholdNanos = lockWaitThreshold.toNanos();
+		this.nanoClock = nanoClock;
+	}
+
+	/**
+	 * 한 계좌만 바꾸는 유스케이스(입금/출금)의 조회 방식
+	 */
+	WriteMode strategyFor(long accountId) {
+		if (isContended(accountId)) return WriteMode.PESSIMISTIC;
+		ATTEMPT.get().note(accountId);
+		return WriteMode.OPTIMISTIC;
+	}
+
+	/**
+	 * 두 계좌를 바꾸는 유스케이스(송금)의 조회 방식
+	 * 한쪽만 락 조회하면 커밋 시 다른 쪽 UPDATE가 락 순서(id 오름차순) 밖에서 행 락을 잡으므로, 둘 중 하나라도 경합 중이면 둘 다 락 조회한다.
+	 */
+	WriteMode strategyFor(long firstId, long secondId) {
+		if (isContended(firstId) || isContended(secondId)) return WriteMode.PESSIMISTIC;
+		Attempt attempt = ATTEMPT.get();
+		attempt.note(firstId);
+		attempt.note(secondId);
+		return WriteMode.OPTIMISTIC;
+	}
+
+	/**
+	 * 유스케이스 시작 시 이번 시도에서 낙관적으로 읽은 계좌 기록을 비운다.
+	 */
+	void beginAttempt() {
+		ATTEMPT.get().size = 0;
+	}
+
+	/**
+	 * 이번 스레드의 마지막 시도가 버전 충돌로 실패했을 때 호출 (WriteConflictRetryAspect)
+	 * 그 시도에서 낙관적으로 읽은 계좌에 충돌을 기록한다.
+	 */
+	public void attemptConflicted() {
+		Attempt attempt = ATTEMPT.get();
+		for (int i = 0; i < attempt.size; i++) {
+			recordConflict(attempt.ids[i]);
+		}
+		attempt.size = 0;
+	}
+
+	public void recordConflict(long accountId) {
+		record(accountId);
+	}
+
+	/**
+	 * 락 조회에 걸린 시간 기록, lock-wait-threshold 이상일 때만 경합으로 센다.
+	 */
+	public void recordLockWait(long accountId, long waitNanos) {
+		if (waitNanos >= lockWaitThresholdNanos) record(accountId);
+	}
+
+	public boolean isContended(long accountId) {
+		Slot slot = slots.get(index(accountId));
+		return slot != null && slot.accountId == accountId && slot.scoreAt(nanoClock.getAsLong(), halfLifeNanos) >= contendedScore;
+	}
+
+	private void record(long accountId) {
+		int i = index(accountId);
+		long now = nanoClock.getAsLong();
+		while (true) {
+			Slot current = slots.get(i);
+			Slot next;
+			if (current != null && current.accountId == accountId) {
+				next = new Slot(accountId, current.scoreAt(now, halfLifeNanos) + 1, now);
+			} else if (current == null || current.scoreAt(now, halfLifeNanos) < contendedScore) {
+				next = new Slot(accountId, 1, now);
+			} else {
+				return; // 경합 중인 다른 계좌의 슬롯은 뺏지 않음
+			}
+			if (slots.compareAndSet(i, current, next)) return;
+		}
+	}
+
+	private int index(long accountId) {
+		// 시간순 id는 하위 비트(시퀀스/노드)가 치우치므로 섞어서 사용
+		long h = accountId * 0x9E3779B97F4A7C15L;
+		return (int) (h ^ (h >>> 32)) & mask;
+	}
+
+	private record Slot(long accountId, double score, long atNanos) {
+		double scoreAt(long now, double halfLifeNanos) {
+			return score * Math.pow(0.5, (now - atNanos) / halfLifeNanos);
+		}
+	}
+
+	private static final class Attempt {
+		final long[] ids = new long[2];
+		int size;
+
+		void note(long accountId) {
+			if (size < ids.length) ids[size++] = accountId;
+		}
+	}
+}
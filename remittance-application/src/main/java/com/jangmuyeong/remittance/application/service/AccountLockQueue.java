@@ -0,0 +1,124 @@
+package com.jangmuyeong.remittance.application.service;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.jangmuyeong.remittance.application.dto.command.DepositCommand;
+import com.jangmuyeong.remittance.application.dto.command.RemitCommand;
+import com.jangmuyeong.remittance.application.dto.command.WithdrawCommand;
+import com.jangmuyeong.remittance.domain.port.AccountPort;
+import com.jangmuyeong.remittance.domain.port.BalanceShardPort;
+import com.jangmuyeong.remittance.domain.port.PendingCreditPort;
+
+/**
+ * 계좌별 JVM 내부 락 대기열 (remittance.write.local-locks)
+ *
+ * 같은 계좌에 동시에 들어온 쓰기가 커넥션을 잡은 채 SELECT ... FOR UPDATE에서 기다리지 않도록,
+ * 트랜잭션(커넥션)을 열기 전에 계좌 id 해시로 고른 stripe 락을 먼저 잡게 한다.
+ * - stripe 락은 공정(fair) ReentrantLock: 먼저 온 요청부터 진행, 대기는 커넥션 풀 밖에서
+ * - 한 유스케이스의 stripe는 인덱스 오름차순으로 잡는다. (해시로 id 순서가 섞이므로 id 순서가 아닌 stripe 순서로 교착 방지)
+ * - 각 stripe는 timeout까지 기다리고, 못 잡으면 이미 잡은 stripe를 풀고 실패 (호출자가 예외로 변환)
+ * - DB 행 락은 그대로 잡으므로 여러 인스턴스에서도 정합성은 DB 락이 보장한다. (이 락은 같은 인스턴스 안의 대기만 줄임)
+ *
+ * 계좌 행 락을 잡지 않는 입금(잔액 샤딩/입금 지연 반영 계좌의 입금/수취)과 동일 계좌 송금은 stripe를 잡지 않는다.
+ * stripesFor가 조회한 계좌 id는 ResolvedAccountIds 범위가 열려 있으면 거기 기록되어 서비스가 다시 조회하지 않는다.
+ */
+@Component
+public class AccountLockQueue {
+
+	private static final int[] NO_STRIPES = new int[0];
+
+	private final AccountPort accountPort;
+	private final BalanceShardPort balanceShards;
+	private final PendingCreditPort pendingCredits;
+	private final ReentrantLock[] stripes;
+	private final int mask;
+	private final long timeoutNanos;
+
+	public AccountLockQueue(AccountPort accountPort, BalanceShardPort balanceShards,
+		PendingCreditPort pendingCredits,
+		@Value("${remittance.write.local-locks.stripes:1024}") int stripes,
+		@Value("${remittance.write.local-locks.timeout:5s}") Duration timeout) {
+		if (stripes < 1) throw new IllegalArgumentException("local-locks.stripes must be >= 1: " + stripes);
+		int size = Integer.highestOneBit(stripes) == stripes ? stripes : Integer.highestOneBit(stripes) << 1;
+		this.accountPort = accountPort;
+		this.balanceShards = balanceShards;
+		this.pendingCredits = pendingCredits;
+		this.stripes = new ReentrantLock[size];
+		for (int i = 0; i < size; i++) this.stripes[i] = new ReentrantLock(true);
+		this.mask = size - 1;
+		this.timeoutNanos = timeout.toNanos();
+	}
+
+	public int[] stripesFor(DepositCommand command) {
+		long accountId = AccountLookups.requireId(accountPort, command.accountNo());
+		return locksRowOnCredit(accountId) ? new int[] {stripe(accountId)} : NO_STRIPES;
+	}
+
+	public int[] stripesFor(WithdrawCommand command) {
+		return new int[] {stripe(AccountLookups.requireId(accountPort, command.accountNo()))};
+	}
+
+	/**
+	 * 송금은 송금 계좌와(계좌 행 락을 잡는 경우) 수취 계좌의 stripe를 오름차순으로 (같은 stripe면 한 번)
+	 */
+	public int[] stripesFor(RemitCommand command) {
+		if (command.fromAccountNo().equals(command.toAccountNo())) return NO_STRIPES;
+		long fromId = AccountLookups.requireId(accountPort, command.fromAccountNo());
+		long toId = AccountLookups.requireId(accountPort, command.toAccountNo());
+		int from = stripe(fromId);
+		if (!locksRowOnCredit(toId)) return new int[] {from};
+		int to = stripe(toId);
+		if (from == to) return new int[] {from};
+		return from < to ? new int[] {from, to} : new int[] {to, from};
+	}
+
+	/**
+	 * stripe를 배열 순서대로 잡는다. (stripesFor의 결과는 오름차순)
+	 * @return 모두 잡았으면 true, 한 stripe라도 timeout 안에 못 잡았으면 잡은 것을 풀고 false
+	 */
+	public boolean lock(int[] held) throws InterruptedException {
+		long deadline = System.nanoTime() + timeoutNanos;
+		for (int i = 0; i < held.length; i++) {
+			boolean acquired;
+			try {
+				acquired = stripes[held[i]].tryLock(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+			} catch (InterruptedException e) {
+				unlock(Arrays.copyOf(held, i));
+				throw e;
+			}
+			if (!acquired) {
+				unlock(Arrays.copyOf(held, i));
+				return false;
+			}
+		}
+		return true;
+	}
+
+	public void unlock(int[] held) {
+		for (int i = held.length - 1; i >= 0; i--) stripes[held[i]].unlock();
+	}
+
+	/** 지금 stripe 락을 기다리는 스레드 수 (추정치, 게이지용) */
+	public int queued() {
+		int queued = 0;
+		for (ReentrantLock stripe : stripes) queued += stripe.getQueueLength();
+		return queued;
+	}
+
+	// 잔액 샤딩/입금 지연 반영 계좌는 입금/수취 때 계좌 행 락을 잡지 않음
+	private boolean locksRowOnCredit(long accountId) {
+		return !balanceShards.isSharded(accountId) && !pendingCredits.isDeferred(accountId);
+	}
+
+	private int stripe(long accountId) {
+		// 시간순 id는 하위 비트(시퀀스/노드)가 치우치므로 섞어서 사용
+		long h = accountId * 0x9E3779B97F4A7C15L;
+		return (int) (h ^ (h >>> 32)) & mask;
+	}
+}
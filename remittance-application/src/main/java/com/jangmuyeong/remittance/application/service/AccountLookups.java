@@ -0,0 +1,85 @@
+package com.jangmuyeong.remittance.application.service;
+
+import com.jangmuyeong.remittance.domain.account.Account;
+import com.jangmuyeong.remittance.domain.exception.DomainException;
+import com.jangmuyeong.remittance.domain.exception.ErrorCode;
+import com.jangmuyeong.remittance.domain.port.AccountPort;
+import com.jangmuyeong.remittance.domain.port.BalanceShardPort;
+import com.jangmuyeong.remittance.domain.port.PendingCreditPort;
+
+/**
+ * 서비스 공통 계좌 조회 (없으면 ACCOUNT_NOT_FOUND)
+ * 쓰기 경로는 id만 조회한 뒤 락 조회하므로 Optional/중간 도메인 객체를 만들지 않는다.
+ */
+final class AccountLookups {
+
+	private AccountLookups() {
+	}
+
+	/**
+	 * 계좌번호 → id. ResolvedAccountIds 범위 안에서 이미 조회한 계좌번호면 쿼리 없이 같은 id
+	 */
+	static long requireId(AccountPort accountPort, String accountNo) {
+		long resolved = ResolvedAccountIds.find(accountNo);
+		if (resolved != Account.NO_ID) return resolved;
+		long accountId = accountPort.findIdByAccountNo(accountNo);
+		if (accountId == Account.NO_ID) throw new DomainException(ErrorCode.ACCOUNT_NOT_FOUND);
+		ResolvedAccountIds.remember(accountNo, accountId);
+		return accountId;
+	}
+
+	static Account lock(AccountPort accountPort, long accountId) {
+		Account account = accountPort.findByIdForUpdate(accountId);
+		if (account == null) throw new DomainException(ErrorCode.ACCOUNT_NOT_FOUND);
+		return account;
+	}
+
+	/**
+	 * 쓰기 모드에 맞는 잔액 변경용 조회 (OPTIMISTIC이면 락 없는 조회, 그 외 락 조회)
+	 * ADAPTIVE는 서비스가 계좌별로 고른 OPTIMISTIC/PESSIMISTIC을 넘긴다.
+	 */
+	static Account load(AccountPort accountPort, long accountId, WriteMode writeMode) {
+		if (writeMode != WriteMode.OPTIMISTIC) return lock(accountPort, accountId);
+		Account account = accountPort.findByIdOptimistic(accountId);
+		if (account == null) throw new DomainException(ErrorCode.ACCOUNT_NOT_FOUND);
+		return account;
+	}
+
+	/**
+	 * ADAPTIVE의 락 조회: 걸린 시간(락 대기 포함)을 경합 추적기에 기록
+	 */
+	static Account lockTimed(AccountPort accountPort, long accountId, AccountContentionTracker contention) {
+		long start = System.nanoTime();
+		Account account = lock(accountPort, accountId);
+		contention.recordLockWait(accountId, System.nanoTime() - start);
+		return account;
+	}
+
+	/**
+	 * 잔액 샤딩 계좌의 출금용 락 조회 (잔액은 계좌 행 + shard 합)
+	 */
+	static Account lockForDebit(BalanceShardPort balanceShards, long accountId) {
+		Account account = balanceShards.findByIdForDebit(accountId);
+		if (account == null) throw new DomainException(ErrorCode.ACCOUNT_NOT_FOUND);
+		return account;
+	}
+
+	/**
+	 * 잔액 샤딩 계좌 출금 반영, 반영 후 잔액 반환
+	 * 계좌 행 락으로 다른 출금과 직렬화되고 입금은 더하기만 하므로, 도메인 검증을 통과했다면 부족할 수 없다.
+	 */
+	static long debit(BalanceShardPort balanceShards, long accountId, long amount) {
+		long balance = balanceShards.debit(accountId, amount);
+		if (balance == AccountPort.NOT_UPDATED) throw new DomainException(ErrorCode.INSUFFICIENT_BALANCE);
+		return balance;
+	}
+
+	/**
+	 * 입금 지연 반영 계좌의 출금용 락 조회: 미반영 입금을 전부 잔액에 반영(계좌 행 락 포함)한 뒤 락 조회
+	 * 쓰기 모드와 무관하게 락 조회한다. (반영한 잔액으로 도메인 검증)
+	 */
+	static Account lockFolded(PendingCreditPort pendingCredits, AccountPort accountPort, long accountId) {
+		pendingCredits.fold(accountId, PendingCreditPort.ALL);
+		return lock(accountPort, accountId);
+	}
+}
@@ -31,7 +31,7 @@ public class AccountService {
 		accountPort.findByAccountNo(command.accountNo())
 			.ifPresent(a -> { throw new DomainException(ErrorCode.DUPLICATE_ACCOUNT_NO); });
 
-		Account saved = accountPort.save(new Account(null, command.accountNo(), AccountStatus.ACTIVE, 0L));
+		Account saved = accountPort.save(new Account(Account.NO_ID, command.accountNo(), AccountStatus.ACTIVE, 0L));
 		return new CreateAccountResult(saved.getId(), saved.getAccountNo());
 	}
 
@@ -41,13 +41,10 @@ public class AccountService {
 	 */
 	@Transactional
 	public void delete(String accountNo) {
-		Account base = accountPort.findByAccountNo(accountNo)
-			.orElseThrow(() -> new DomainException(ErrorCode.ACCOUNT_NOT_FOUND));
-
-		Account account = accountPort.findByIdForUpdate(base.getId())
-			.orElseThrow(() -> new DomainException(ErrorCode.ACCOUNT_NOT_FOUND));
+		long accountId = AccountLookups.requireId(accountPort, accountNo);
+		Account account = AccountLookups.lock(accountPort, accountId);
 
 		account.delete();
-		accountPort.save(account);
+		accountPort.update(account);
 	}
 }
@@ -4,21 +4,27 @@ import java.time.Clock;
 import java.time.Instant;
 import java.time.LocalDate;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.jangmuyeong.remittance.application.dto.command.DepositCommand;
 import com.jangmuyeong.remittance.application.dto.command.WithdrawCommand;
 import com.jangmuyeong.remittance.application.dto.result.BalanceResult;
+import com.jangmuyeong.remittance.application.jfr.UseCasePhaseEvent;
+import com.jangmuyeong.remittance.application.jfr.UseCasePhaseEvent.Phase;
 import com.jangmuyeong.remittance.domain.account.Account;
+import com.jangmuyeong.remittance.domain.account.AccountRules;
 import com.jangmuyeong.remittance.domain.exception.DomainException;
 import com.jangmuyeong.remittance.domain.exception.ErrorCode;
 import com.jangmuyeong.remittance.domain.ledger.LedgerEntry;
 import com.jangmuyeong.remittance.domain.ledger.TransactionType;
 import com.jangmuyeong.remittance.domain.limit.DailyLimit;
 import com.jangmuyeong.remittance.domain.port.AccountPort;
+import com.jangmuyeong.remittance.domain.port.BalanceShardPort;
 import com.jangmuyeong.remittance.domain.port.DailyLimitPort;
 import com.jangmuyeong.remittance.domain.port.LedgerPort;
+import com.jangmuyeong.remittance.domain.port.PendingCreditPort;
 
 /**
  * 입출금 애플리케이션 서비스
@@ -26,16 +32,32 @@ import com.jangmuyeong.remittance.domain.port.LedgerPort;
 @Service
 public class MoneyService {
 
+	private static final String WITHDRAW = "withdraw";
+	private static final String CONDITIONAL = "conditional";
+	private static final String SHARDED = "sharded";
+	private static final String DEFERRED = "deferred";
+	private static final long NO_ID = LedgerEntry.NO_ID;
+
 	private final AccountPort accountPort;
 	private final DailyLimitPort dailyLimitPort;
 	private final LedgerPort ledgerPort;
 	private final Clock clock;
+	private final WriteMode writeMode;
+	private final AccountContentionTracker contention;
+	private final BalanceShardPort balanceShards;
+	private final PendingCreditPort pendingCredits;
 
-	public MoneyService(AccountPort accountPort, DailyLimitPort dailyLimitPort, LedgerPort ledgerPort, Clock clock) {
+	public MoneyService(AccountPort accountPort, DailyLimitPort dailyLimitPort, LedgerPort ledgerPort, Clock clock,
+		@Value("${remittance.write.mode:PESSIMISTIC}") WriteMode writeMode, AccountContentionTracker contention,
+		BalanceShardPort balanceShards, PendingCreditPort pendingCredits) {
 		this.accountPort = accountPort;
 		this.dailyLimitPort = dailyLimitPort;
 		this.ledgerPort = ledgerPort;
 		this.clock = clock;
+		this.writeMode = writeMode;
+		this.contention = contention;
+		this.balanceShards = balanceShards;
+		this.pendingCredits = pendingCredits;
 	}
 
 	/**
@@ -43,59 +65,280 @@ public class MoneyService {
 	 */
 	@Transactional
 	public BalanceResult deposit(DepositCommand command) {
-		// 잔액 변경이므로 for update 락 조회
-		Long accountId = accountPort.findByAccountNo(command.accountNo())
-			.orElseThrow(() -> new DomainException(ErrorCode.ACCOUNT_NOT_FOUND))
-			.getId();
+		long accountId = AccountLookups.requireId(accountPort, command.accountNo());
+		if (balanceShards.isSharded(accountId)) {
+			return depositSharded(accountId, command);
+		}
+		if (pendingCredits.isDeferred(accountId)) {
+			return depositDeferred(accountId, command);
+		}
+		if (writeMode == WriteMode.CONDITIONAL) {
+			return depositConditional(accountId, command);
+		}
 
-		Account account = accountPort.findByIdForUpdate(accountId)
-			.orElseThrow(() -> new DomainException(ErrorCode.ACCOUNT_NOT_FOUND));
+		// 잔액 변경이므로 for update 락 조회 (OPTIMISTIC이면 락 없이 조회, 커밋 시 version 검사)
+		Account account = load(accountId, readMode(accountId));
 
 		account.deposit(command.amount());
-		Account saved = accountPort.save(account);
+		accountPort.update(account);
 
 		// 입금 원장 기록
-		ledgerPort.save(new LedgerEntry(null, saved.getId(), null, TransactionType.DEPOSIT,
-			command.amount(), 0L, Instant.now(clock), saved.getBalance()));
+		ledgerPort.save(new LedgerEntry(NO_ID, accountId, NO_ID, TransactionType.DEPOSIT,
+			command.amount(), 0L, Instant.now(clock), account.getBalance()));
 
-		return new BalanceResult(saved.getId(), saved.getAccountNo(), saved.getBalance());
+		return new BalanceResult(accountId, account.getAccountNo(), account.getBalance());
 	}
 
 	/**
-	 * 출금
+	 * 출금 (각 단계는 UseCasePhaseEvent(JFR)로 소요 시간을 남긴다)
 	 */
 	@Transactional
 	public BalanceResult withdraw(WithdrawCommand command) {
-		Long accountId = accountPort.findByAccountNo(command.accountNo())
-			.orElseThrow(() -> new DomainException(ErrorCode.ACCOUNT_NOT_FOUND))
-			.getId();
+		UseCasePhaseEvent resolve = UseCasePhaseEvent.start(WITHDRAW, Phase.RESOLVE_ACCOUNT, NO_ID, NO_ID);
+		long accountId;
+		try {
+			accountId = AccountLookups.requireId(accountPort, command.accountNo());
+		} catch (RuntimeException e) {
+			throw resolve.fail(e);
+		}
+		resolve.finish();
+		if (balanceShards.isSharded(accountId)) {
+			return withdrawSharded(accountId, command);
+		}
+		boolean deferred = pendingCredits.isDeferred(accountId);
+		if (writeMode == WriteMode.CONDITIONAL && !deferred) {
+			return withdrawConditional(accountId, command);
+		}
 
-		Account account = accountPort.findByIdForUpdate(accountId)
-			.orElseThrow(() -> new DomainException(ErrorCode.ACCOUNT_NOT_FOUND));
+		// 입금 지연 반영 계좌는 미반영 입금을 먼저 잔액에 반영하고 락 조회 (쓰기 모드와 무관)
+		UseCasePhaseEvent lock = UseCasePhaseEvent.start(WITHDRAW, Phase.LOCK_ACCOUNT, accountId, NO_ID);
+		if (deferred) lock.detail(DEFERRED);
+		WriteMode mode = deferred ? WriteMode.PESSIMISTIC : readMode(accountId);
+		Account account;
+		try {
+			account = deferred
+				? AccountLookups.lockFolded(pendingCredits, accountPort, accountId)
+				: load(accountId, mode);
+		} catch (RuntimeException e) {
+			throw lock.fail(e);
+		}
+		lock.finish();
+
+		// 시각은 한 번만 읽어 한도 일자와 원장 시각에 같이 사용
+		Instant now = Instant.now(clock);
 
 		// 요구사항: 출금 일 한도 1,000,000원
-		DailyLimit limit = dailyLimitPort.getOrCreate(account.getId(), LocalDate.now(clock));
-		limit.addWithdraw(command.amount());
-		dailyLimitPort.save(limit);
+		UseCasePhaseEvent dailyLimit = UseCasePhaseEvent.start(WITHDRAW, Phase.DAILY_LIMIT, accountId, NO_ID);
+		try {
+			DailyLimit limit = dailyLimit(accountId, LocalDate.ofInstant(now, clock.getZone()), mode);
+			limit.addWithdraw(command.amount());
+			dailyLimitPort.save(limit);
+		} catch (RuntimeException e) {
+			throw dailyLimit.fail(e);
+		}
+		dailyLimit.finish();
 
-		account.withdraw(command.amount());
-		Account saved = accountPort.save(account);
+		UseCasePhaseEvent mutation = UseCasePhaseEvent.start(WITHDRAW, Phase.BALANCE_MUTATION, accountId, NO_ID);
+		try {
+			account.withdraw(command.amount());
+		} catch (RuntimeException e) {
+			throw mutation.fail(e);
+		}
+		mutation.finish();
+
+		UseCasePhaseEvent accountSave = UseCasePhaseEvent.start(WITHDRAW, Phase.ACCOUNT_SAVE, accountId, NO_ID);
+		try {
+			accountPort.update(account);
+		} catch (RuntimeException e) {
+			throw accountSave.fail(e);
+		}
+		accountSave.finish();
 
 		// 출금 원장 기록
-		ledgerPort.save(new LedgerEntry(null, saved.getId(), null, TransactionType.WITHDRAW,
-			command.amount(), 0L, Instant.now(clock), saved.getBalance()));
+		saveWithdrawLedger(accountId, command.amount(), now, account.getBalance());
+
+		return new BalanceResult(accountId, account.getAccountNo(), account.getBalance());
+	}
+
+	private void saveWithdrawLedger(long accountId, long amount, Instant now, long balanceAfter) {
+		UseCasePhaseEvent ledger = UseCasePhaseEvent.start(WITHDRAW, Phase.LEDGER_SAVE, accountId, NO_ID)
+			.detail(TransactionType.WITHDRAW.name());
+		try {
+			ledgerPort.save(new LedgerEntry(NO_ID, accountId, NO_ID, TransactionType.WITHDRAW,
+				amount, 0L, now, balanceAfter));
+		} catch (RuntimeException e) {
+			throw ledger.fail(e);
+		}
+		ledger.finish();
+	}
+
+	/**
+	 * 조건부 입금: UPDATE 한 문장으로 검증+반영 → 원장 기록
+	 */
+	private BalanceResult depositConditional(long accountId, DepositCommand command) {
+		AccountRules.validatePositive(command.amount());
+		long balance = accountPort.depositIfActive(accountId, command.amount());
+		if (balance == AccountPort.NOT_UPDATED) {
+			Account account = AccountLookups.lock(accountPort, accountId);
+			account.deposit(command.amount()); // 비활성이면 여기서 ACCOUNT_INACTIVE
+			accountPort.update(account);
+			balance = account.getBalance();
+		}
+
+		ledgerPort.save(new LedgerEntry(NO_ID, accountId, NO_ID, TransactionType.DEPOSIT,
+			command.amount(), 0L, Instant.now(clock), balance));
+
+		return new BalanceResult(accountId, command.accountNo(), balance);
+	}
+
+	/**
+	 * 조건부 출금: UPDATE 한 문장으로 검증+반영(이때 계좌 행 락 획득) → 일 한도 → 원장 기록
+	 * 일 한도를 넘으면 예외로 트랜잭션이 롤백되어 잔액 변경도 취소된다.
+	 * (계좌 행 락을 먼저 잡으므로 같은 계좌의 당일 일 한도 행은 동시에 생성되지 않음)
+	 */
+	private BalanceResult withdrawConditional(long accountId, WithdrawCommand command) {
+		Instant now = Instant.now(clock);
+
+		UseCasePhaseEvent accountSave = UseCasePhaseEvent.start(WITHDRAW, Phase.ACCOUNT_SAVE, accountId, NO_ID)
+			.detail(CONDITIONAL);
+		long balance;
+		try {
+			AccountRules.validatePositive(command.amount());
+			balance = accountPort.withdrawIfSufficient(accountId, command.amount());
+			if (balance == AccountPort.NOT_UPDATED) {
+				// 조건 불만족: 락 조회 후 도메인 규칙으로 판정 (그 사이 입금 등으로 조건을 만족하게 됐다면 그대로 반영)
+				Account account = AccountLookups.lock(accountPort, accountId);
+				account.withdraw(command.amount());
+				accountPort.update(account);
+				balance = account.getBalance();
+			}
+		} catch (RuntimeException e) {
+			throw accountSave.fail(e);
+		}
+		accountSave.finish();
+
+		addDailyWithdraw(accountId, command.amount(), now);
+
+		saveWithdrawLedger(accountId, command.amount(), now, balance);
+
+		return new BalanceResult(accountId, command.accountNo(), balance);
+	}
+
+	/**
+	 * 잔액 샤딩 계좌 입금: 계좌 행 락 없이 shard 하나에 반영 → 원장 기록 (쓰기 모드와 무관)
+	 * 동시 입금의 원장 balance_after는 각자 반영 시점에 보이는 합계 + 자기 금액이다. (계좌 전체 잔액 = 원장 합계는 항상 성립)
+	 */
+	private BalanceResult depositSharded(long accountId, DepositCommand command) {
+		AccountRules.validatePositive(command.amount());
+		long balance = balanceShards.creditIfActive(accountId, command.amount());
+		if (balance == AccountPort.NOT_UPDATED) throw new DomainException(ErrorCode.ACCOUNT_INACTIVE);
+
+		ledgerPort.save(new LedgerEntry(NO_ID, accountId, NO_ID, TransactionType.DEPOSIT,
+			command.amount(), 0L, Instant.now(clock), balance));
+
+		return new BalanceResult(accountId, command.accountNo(), balance);
+	}
+
+	/**
+	 * 입금 지연 반영 계좌 입금: 계좌 행 락 없이 미반영 입금 행 추가 (쓰기 모드와 무관)
+	 * 원장은 반영(fold) 시점에 그때의 잔액을 balance_after로 기록한다.
+	 */
+	private BalanceResult depositDeferred(long accountId, DepositCommand command) {
+		AccountRules.validatePositive(command.amount());
+		long balance = pendingCredits.appendIfActive(accountId, NO_ID, TransactionType.DEPOSIT, command.amount(),
+			Instant.now(clock));
+		if (balance == AccountPort.NOT_UPDATED) throw new DomainException(ErrorCode.ACCOUNT_INACTIVE);
+
+		return new BalanceResult(accountId, command.accountNo(), balance);
+	}
+
+	/**
+	 * 잔액 샤딩 계좌 출금: 계좌 행 락(잔액은 shard 합 포함) → 일 한도 → 도메인 검증 → shard에서 차감 → 원장 기록 (쓰기 모드와 무관)
+	 */
+	private BalanceResult withdrawSharded(long accountId, WithdrawCommand command) {
+		UseCasePhaseEvent lock = UseCasePhaseEvent.start(WITHDRAW, Phase.LOCK_ACCOUNT, accountId, NO_ID);
+		Account account;
+		try {
+			account = AccountLookups.lockForDebit(balanceShards, accountId);
+		} catch (RuntimeException e) {
+			throw lock.fail(e);
+		}
+		lock.finish();
+
+		Instant now = Instant.now(clock);
+
+		addDailyWithdraw(accountId, command.amount(), now);
+
+		UseCasePhaseEvent mutation = UseCasePhaseEvent.start(WITHDRAW, Phase.BALANCE_MUTATION, accountId, NO_ID);
+		try {
+			account.withdraw(command.amount());
+		} catch (RuntimeException e) {
+			throw mutation.fail(e);
+		}
+		mutation.finish();
+
+		UseCasePhaseEvent accountSave = UseCasePhaseEvent.start(WITHDRAW, Phase.ACCOUNT_SAVE, accountId, NO_ID)
+			.detail(SHARDED);
+		long balance;
+		try {
+			balance = AccountLookups.debit(balanceShards, accountId, command.amount());
+		} catch (RuntimeException e) {
+			throw accountSave.fail(e);
+		}
+		accountSave.finish();
+
+		saveWithdrawLedger(accountId, command.amount(), now, balance);
+
+		return new BalanceResult(accountId, account.getAccountNo(), balance);
+	}
+
+	/**
+	 * 이번 요청의 조회 방식: ADAPTIVE면 계좌의 최근 경합 여부로 OPTIMISTIC/PESSIMISTIC 중 하나, 그 외는 설정된 모드
+	 */
+	private WriteMode readMode(long accountId) {
+		if (writeMode != WriteMode.ADAPTIVE) return writeMode;
+		contention.beginAttempt();
+		return contention.strategyFor(accountId);
+	}
+
+	private Account load(long accountId, WriteMode mode) {
+		return writeMode == WriteMode.ADAPTIVE && mode == WriteMode.PESSIMISTIC
+			? AccountLookups.lockTimed(accountPort, accountId, contention)
+			: AccountLookups.load(accountPort, accountId, mode);
+	}
+
+	/**
+	 * 출금 일 한도 누적 (조건부/샤딩 출금: 계좌 행 락을 이미 잡은 상태이므로 항상 getOrCreate)
+	 */
+	private void addDailyWithdraw(long accountId, long amount, Instant now) {
+		UseCasePhaseEvent dailyLimit = UseCasePhaseEvent.start(WITHDRAW, Phase.DAILY_LIMIT, accountId, NO_ID);
+		try {
+			DailyLimit limit = dailyLimitPort.getOrCreate(accountId, LocalDate.ofInstant(now, clock.getZone()));
+			limit.addWithdraw(amount);
+			dailyLimitPort.save(limit);
+		} catch (RuntimeException e) {
+			throw dailyLimit.fail(e);
+		}
+		dailyLimit.finish();
+	}
 
-		return new BalanceResult(saved.getId(), saved.getAccountNo(), saved.getBalance());
+	private DailyLimit dailyLimit(long accountId, LocalDate date, WriteMode mode) {
+		return mode == WriteMode.OPTIMISTIC
+			? dailyLimitPort.getOrCreateOptimistic(accountId, date)
+			: dailyLimitPort.getOrCreate(accountId, date);
 	}
 
 	/**
-	 * 잔액 조회
+	 * 잔액 조회 (잔액 샤딩 계좌는 계좌 행 + shard 합, 입금 지연 반영 계좌는 계좌 행 + 미반영 입금 합)
 	 */
 	@Transactional(readOnly = true)
 	public BalanceResult balance(String accountNo) {
 		Account account = accountPort.findByAccountNo(accountNo)
 			.orElseThrow(() -> new DomainException(ErrorCode.ACCOUNT_NOT_FOUND));
 
-		return new BalanceResult(account.getId(), account.getAccountNo(), account.getBalance());
+		long balance = account.getBalance();
+		if (balanceShards.isSharded(account.getId())) balance += balanceShards.shardBalance(account.getId());
+		if (pendingCredits.isDeferred(account.getId())) balance += pendingCredits.pendingBalance(account.getId());
+		return new BalanceResult(account.getId(), account.getAccountNo(), balance);
 	}
 }
@@ -3,13 +3,18 @@ package com.jangmuyeong.remittance.application.service;
 import java.time.Clock;
 import java.time.Instant;
 import java.time.LocalDate;
+import java.util.List;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.jangmuyeong.remittance.application.dto.command.RemitCommand;
 import com.jangmuyeong.remittance.application.dto.result.RemitResult;
+import com.jangmuyeong.remittance.application.jfr.UseCasePhaseEvent;
+import com.jangmuyeong.remittance.application.jfr.UseCasePhaseEvent.Phase;
 import com.jangmuyeong.remittance.domain.account.Account;
+import com.jangmuyeong.remittance.domain.account.AccountRules;
 import com.jangmuyeong.remittance.domain.exception.DomainException;
 import com.jangmuyeong.remittance.domain.exception.ErrorCode;
 import com.jangmuyeong.remittance.domain.ledger.LedgerEntry;
@@ -17,8 +22,10 @@ import com.jangmuyeong.remittance.domain.ledger.TransactionType;
 import com.jangmuyeong.remittance.domain.limit.DailyLimit;
 import com.jangmuyeong.remittance.domain.policy.FeePolicy;
 import com.jangmuyeong.remittance.domain.port.AccountPort;
+import com.jangmuyeong.remittance.domain.port.BalanceShardPort;
 import com.jangmuyeong.remittance.domain.port.DailyLimitPort;
 import com.jangmuyeong.remittance.domain.port.LedgerPort;
+import com.jangmuyeong.remittance.domain.port.PendingCreditPort;
 
 /**
  * 이체 애플리케이션 서비스
@@ -26,19 +33,37 @@ import com.jangmuyeong.remittance.domain.port.LedgerPort;
 @Service
 public class RemittanceService {
 
+	private static final String USE_CASE = "remit";
+	private static final long NO_ID = LedgerEntry.NO_ID;
+	private static final String LEDGER_DETAIL = "TRANSFER_OUT,FEE,TRANSFER_IN";
+	private static final String CONSOLIDATED_LEDGER_DETAIL = "TRANSFER_OUT,TRANSFER_IN";
+
 	private final AccountPort accountPort;
 	private final DailyLimitPort dailyLimitPort;
 	private final LedgerPort ledgerPort;
 	private final FeePolicy feePolicy;
 	private final Clock clock;
+	private final TransferLedgerFormat ledgerFormat;
+	private final WriteMode writeMode;
+	private final AccountContentionTracker contention;
+	private final BalanceShardPort balanceShards;
+	private final PendingCreditPort pendingCredits;
 
 	public RemittanceService(AccountPort accountPort, DailyLimitPort dailyLimitPort,
-		LedgerPort ledgerPort, FeePolicy feePolicy, Clock clock) {
+		LedgerPort ledgerPort, FeePolicy feePolicy, Clock clock,
+		@Value("${remittance.ledger.transfer-format:SPLIT}") TransferLedgerFormat ledgerFormat,
+		@Value("${remittance.write.mode:PESSIMISTIC}") WriteMode writeMode, AccountContentionTracker contention,
+		BalanceShardPort balanceShards, PendingCreditPort pendingCredits) {
 		this.accountPort = accountPort;
 		this.dailyLimitPort = dailyLimitPort;
 		this.ledgerPort = ledgerPort;
 		this.feePolicy = feePolicy;
 		this.clock = clock;
+		this.ledgerFormat = ledgerFormat;
+		this.writeMode = writeMode;
+		this.contention = contention;
+		this.balanceShards = balanceShards;
+		this.pendingCredits = pendingCredits;
 	}
 
 	/**
@@ -50,6 +75,12 @@ public class RemittanceService {
 	 * 5) 출금 계좌: amount + fee 만큼 차감
 	 * 6) 수취 계좌: amount 만큼 증가
 	 * 7) 원장 기록(TRANSFER_OUT, FEE, TRANSFER_IN)
+	 *
+	 * 잔액 샤딩 계좌(BalanceShardPort)는 수취 쪽이면 계좌 행 락 없이 shard 하나에 입금하고,
+	 * 송금 쪽이면 계좌 행 락 후 shard에서 차감한다. (shard 행 락도 계좌 id 오름차순)
+	 * 입금 지연 반영 계좌(PendingCreditPort)는 수취 쪽이면 계좌 행 락 없이 미반영 입금 행만 추가하고(TRANSFER_IN 원장은 반영 시 기록),
+	 * 송금 쪽이면 락 조회 순서에 맞춰 미반영 입금을 먼저 반영한 뒤 락 조회한다.
+	 * 각 단계는 UseCasePhaseEvent(JFR)로 소요 시간을 남긴다.
 	 */
 	@Transactional
 	public RemitResult remit(RemitCommand command) {
@@ -58,63 +89,163 @@ public class RemittanceService {
 			throw new DomainException(ErrorCode.SAME_ACCOUNT_TRANSFER_NOT_ALLOWED);
 		}
 
-		Long fromId = accountPort.findByAccountNo(command.fromAccountNo())
-			.orElseThrow(() -> new DomainException(ErrorCode.ACCOUNT_NOT_FOUND))
-			.getId();
-
-		Long toId = accountPort.findByAccountNo(command.toAccountNo())
-			.orElseThrow(() -> new DomainException(ErrorCode.ACCOUNT_NOT_FOUND))
-			.getId();
+		UseCasePhaseEvent resolve = UseCasePhaseEvent.start(USE_CASE, Phase.RESOLVE_ACCOUNT, NO_ID, NO_ID);
+		long fromId;
+		long toId;
+		try {
+			fromId = AccountLookups.requireId(accountPort, command.fromAccountNo());
+			toId = AccountLookups.requireId(accountPort, command.toAccountNo());
+		} catch (RuntimeException e) {
+			throw resolve.fail(e);
+		}
+		resolve.finish();
 
-		// 2) 데드락 방지: accountId 오름차순으로 락 획득
-		Long firstId = Math.min(fromId, toId);
-		Long secondId = Math.max(fromId, toId);
+		// 2) 데드락 방지: accountId 오름차순으로 락 획득 (OPTIMISTIC이면 락 없이 조회, 커밋 시 version 검사)
+		long firstId = Math.min(fromId, toId);
+		long secondId = Math.max(fromId, toId);
+		WriteMode mode = readMode(firstId, secondId);
 
-		Account first = accountPort.findByIdForUpdate(firstId)
-			.orElseThrow(() -> new DomainException(ErrorCode.ACCOUNT_NOT_FOUND));
-		Account second = accountPort.findByIdForUpdate(secondId)
-			.orElseThrow(() -> new DomainException(ErrorCode.ACCOUNT_NOT_FOUND));
+		Account first = lock(firstId, firstId == fromId, mode);
+		Account second = lock(secondId, secondId == fromId, mode);
 
-		Account from = fromId.equals(firstId) ? first : second;
-		Account to = toId.equals(firstId) ? first : second;
+		Account from = fromId == firstId ? first : second;
+		Account to = toId == firstId ? first : second;
 
 		long fee = feePolicy.calculateFee(command.amount());
 		long totalDebit = command.amount() + fee;
 
+		// 시각은 한 번만 읽어 한도 일자와 원장 시각에 같이 사용
+		Instant now = Instant.now(clock);
+
 		// 요구사항: 이체 일 한도 3,000,000원(이체 금액 기준)
-		DailyLimit limit = dailyLimitPort.getOrCreate(from.getId(), LocalDate.now(clock));
-		limit.addTransfer(command.amount());
-		dailyLimitPort.save(limit);
+		UseCasePhaseEvent dailyLimit = UseCasePhaseEvent.start(USE_CASE, Phase.DAILY_LIMIT, fromId, toId);
+		try {
+			LocalDate today = LocalDate.ofInstant(now, clock.getZone());
+			DailyLimit limit = mode == WriteMode.OPTIMISTIC
+				? dailyLimitPort.getOrCreateOptimistic(fromId, today)
+				: dailyLimitPort.getOrCreate(fromId, today);
+			limit.addTransfer(command.amount());
+			dailyLimitPort.save(limit);
+		} catch (RuntimeException e) {
+			throw dailyLimit.fail(e);
+		}
+		dailyLimit.finish();
 
 		// 잔액 변경
-		from.withdraw(totalDebit);
-		to.deposit(command.amount());
-
-		Account savedFrom = accountPort.save(from);
-		Account savedTo = accountPort.save(to);
-
-		Instant now = Instant.now(clock);
+		UseCasePhaseEvent mutation = UseCasePhaseEvent.start(USE_CASE, Phase.BALANCE_MUTATION, fromId, toId);
+		try {
+			from.withdraw(totalDebit);
+			if (to != null) {
+				to.deposit(command.amount());
+			} else {
+				AccountRules.validatePositive(command.amount()); // 샤딩/지연 반영 수취 계좌의 상태는 입금 조건으로 확인
+			}
+		} catch (RuntimeException e) {
+			throw mutation.fail(e);
+		}
+		mutation.finish();
 
 		// 송금/수취/수수료를 기록으로 남김
-		long fromBalanceAfter = savedFrom.getBalance(); // amount + fee 총 차감 후 잔액
-		long toBalanceAfter = savedTo.getBalance();     // 입금 후 잔액
-
-		ledgerPort.save(new LedgerEntry(null, savedFrom.getId(), savedTo.getId(), TransactionType.TRANSFER_OUT,
-			command.amount(), 0L, now, fromBalanceAfter));
-		ledgerPort.save(new LedgerEntry(null, savedFrom.getId(), savedTo.getId(), TransactionType.FEE,
-			0L, fee, now, fromBalanceAfter));
-		ledgerPort.save(new LedgerEntry(null, savedTo.getId(), savedFrom.getId(), TransactionType.TRANSFER_IN,
-			command.amount(), 0L, now, toBalanceAfter));
+		long fromBalanceAfter; // amount + fee 총 차감 후 잔액
+		long toBalanceAfter;   // 입금 후 잔액
+		UseCasePhaseEvent accountSave = UseCasePhaseEvent.start(USE_CASE, Phase.ACCOUNT_SAVE, fromId, toId);
+		try {
+			if (fromId == firstId) {
+				fromBalanceAfter = saveDebit(from, totalDebit);
+				toBalanceAfter = saveCredit(fromId, toId, to, command.amount(), now);
+			} else {
+				toBalanceAfter = saveCredit(fromId, toId, to, command.amount(), now);
+				fromBalanceAfter = saveDebit(from, totalDebit);
+			}
+		} catch (RuntimeException e) {
+			throw accountSave.fail(e);
+		}
+		accountSave.finish();
+
+		// 두 계좌 행 락을 잡은 상태이므로 한 번의 왕복으로 기록 (락 보유 시간 단축)
+		UseCasePhaseEvent ledger = UseCasePhaseEvent.start(USE_CASE, Phase.LEDGER_SAVE, fromId, toId)
+			.detail(ledgerFormat.consolidates(fee) ? CONSOLIDATED_LEDGER_DETAIL : LEDGER_DETAIL);
+		try {
+			List<LedgerEntry> entries = ledgerFormat.entries(fromId, toId, command.amount(), fee, now,
+				fromBalanceAfter, toBalanceAfter);
+			if (to == null && pendingCredits.isDeferred(toId)) {
+				// 미반영 입금의 TRANSFER_IN(항상 마지막 행)은 반영 시점 잔액으로 반영기가 기록
+				entries = entries.subList(0, entries.size() - 1);
+			}
+			ledgerPort.saveAll(entries);
+		} catch (RuntimeException e) {
+			throw ledger.fail(e);
+		}
+		ledger.finish();
 
 		return new RemitResult(
-			savedFrom.getId(),
-			savedFrom.getAccountNo(),
-			savedTo.getId(),
-			savedTo.getAccountNo(),
+			fromId,
+			from.getAccountNo(),
+			toId,
+			command.toAccountNo(),
 			command.amount(),
 			fee,
-			savedFrom.getBalance(),
-			savedTo.getBalance()
+			fromBalanceAfter,
+			toBalanceAfter
 		);
 	}
+
+	/**
+	 * 이번 요청의 조회 방식: ADAPTIVE면 두 계좌의 최근 경합 여부로 OPTIMISTIC/PESSIMISTIC 중 하나, 그 외는 설정된 모드
+	 */
+	private WriteMode readMode(long firstId, long secondId) {
+		if (writeMode != WriteMode.ADAPTIVE) return writeMode;
+		contention.beginAttempt();
+		return contention.strategyFor(firstId, secondId);
+	}
+
+	private Account lock(long accountId, boolean debit, WriteMode mode) {
+		UseCasePhaseEvent lock = UseCasePhaseEvent.start(USE_CASE, Phase.LOCK_ACCOUNT, accountId, NO_ID);
+		Account account;
+		try {
+			account = load(accountId, debit, mode);
+		} catch (RuntimeException e) {
+			throw lock.fail(e);
+		}
+		lock.finish();
+		return account;
+	}
+
+	/**
+	 * 잔액 샤딩/입금 지연 반영 계좌는 쓰기 모드와 무관: 송금 쪽이면 출금용 락 조회(잔액은 shard 합/미반영 입금 포함),
+	 * 수취 쪽이면 조회하지 않음(null)
+	 */
+	private Account load(long accountId, boolean debit, WriteMode mode) {
+		if (balanceShards.isSharded(accountId)) {
+			return debit ? AccountLookups.lockForDebit(balanceShards, accountId) : null;
+		}
+		if (pendingCredits.isDeferred(accountId)) {
+			return debit ? AccountLookups.lockFolded(pendingCredits, accountPort, accountId) : null;
+		}
+		return load(accountId, mode);
+	}
+
+	private long saveDebit(Account from, long amount) {
+		if (balanceShards.isSharded(from.getId())) return AccountLookups.debit(balanceShards, from.getId(), amount);
+		accountPort.update(from);
+		return from.getBalance();
+	}
+
+	private long saveCredit(long fromId, long toId, Account to, long amount, Instant now) {
+		if (to != null) {
+			accountPort.update(to);
+			return to.getBalance();
+		}
+		long balance = balanceShards.isSharded(toId)
+			? balanceShards.creditIfActive(toId, amount)
+			: pendingCredits.appendIfActive(toId, fromId, TransactionType.TRANSFER_IN, amount, now);
+		if (balance == AccountPort.NOT_UPDATED) throw new DomainException(ErrorCode.ACCOUNT_INACTIVE);
+		return balance;
+	}
+
+	private Account load(long accountId, WriteMode mode) {
+		return writeMode == WriteMode.ADAPTIVE && mode == WriteMode.PESSIMISTIC
+			? AccountLookups.lockTimed(accountPort, accountId, contention)
+			: AccountLookups.load(accountPort, accountId, mode);
+	}
 }
@@ -0,0 +1,63 @@
+package com.jangmuyeong.remittance.application.service;
+
+import com.jangmuyeong.remittance.domain.account.Account;
+
+/**
+ * 유스케이스 한 번 동안 이 스레드가 조회한 계좌번호 → id (최대 2건: 입출금 1, 송금 2)
+ *
+ * JVM 내부 계좌 락(AccountLockQueueAspect)은 stripe를 고르려고 트랜잭션 전에 계좌 id를 조회한다.
+ * 그 범위를 open()으로 열어 두면 AccountLookups.requireId가 여기 기록된 id를 다시 쓰므로
+ * 서비스가 트랜잭션 안에서 같은 계좌번호를 다시 조회하지 않는다. (SQL 왕복 수는 락을 쓰지 않을 때와 같음)
+ * 계좌번호 → id는 바뀌지 않으므로(삭제도 상태 변경) 트랜잭션 밖에서 조회한 값을 써도 된다.
+ * 범위가 열려 있지 않으면 아무것도 기록하지 않는다.
+ */
+public final class ResolvedAccountIds implements AutoCloseable {
+
+	private static final ThreadLocal<ResolvedAccountIds> CURRENT = new ThreadLocal<>();
+
+	private final ResolvedAccountIds previous;
+	private String firstNo;
+	private long firstId;
+	private String secondNo;
+	private long secondId;
+
+	private ResolvedAccountIds(ResolvedAccountIds previous) {
+		this.previous = previous;
+	}
+
+	public static ResolvedAccountIds open() {
+		ResolvedAccountIds scope = new ResolvedAccountIds(CURRENT.get());
+		CURRENT.set(scope);
+		return scope;
+	}
+
+	@Override
+	public void close() {
+		if (previous == null) {
+			CURRENT.remove();
+		} else {
+			CURRENT.set(previous);
+		}
+	}
+
+	/** 열린 범위에 기록된 id, 없으면 Account.NO_ID */
+	static long find(String accountNo) {
+		ResolvedAccountIds scope = CURRENT.get();
+		if (scope == null) return Account.NO_ID;
+		if (accountNo.equals(scope.firstNo)) return scope.firstId;
+		if (accountNo.equals(scope.secondNo)) return scope.secondId;
+		return Account.NO_ID;
+	}
+
+	static void remember(String accountNo, long accountId) {
+		ResolvedAccountIds scope = CURRENT.get();
+		if (scope == null) return;
+		if (scope.firstNo == null) {
+			scope.firstNo = accountNo;
+			scope.firstId = accountId;
+		} else if (scope.secondNo == null) {
+			scope.secondNo = accountNo;
+			scope.secondId = accountId;
+		}
+	}
+}
@@ -1,12 +1,11 @@
 package com.jangmuyeong.remittance.application.service;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import com.jangmuyeong.remittance.domain.exception.DomainException;
-import com.jangmuyeong.remittance.domain.exception.ErrorCode;
 import com.jangmuyeong.remittance.domain.ledger.LedgerEntry;
 import com.jangmuyeong.remittance.domain.port.AccountPort;
 import com.jangmuyeong.remittance.domain.port.LedgerPort;
@@ -32,11 +31,38 @@ public class TransactionQueryService {
 	 */
 	@Transactional(readOnly = true)
 	public List<LedgerEntry> latest(String accountNo, int size) {
-		Long accountId = accountPort.findByAccountNo(accountNo)
-			.orElseThrow(() -> new DomainException(ErrorCode.ACCOUNT_NOT_FOUND))
-			.getId();
+		long accountId = AccountLookups.requireId(accountPort, accountNo);
 
 		// 요구사항: 최신순
-		return ledgerPort.findLatestByAccountId(accountId, size);
+		List<LedgerEntry> rows = ledgerPort.findLatestByAccountId(accountId, size);
+		return splitConsolidated(rows, size);
+	}
+
+	/**
+	 * 통합 형식의 송금인 측 행(TRANSFER_OUT + 수수료)을 분리 형식과 같은 TRANSFER_OUT, FEE 두 항목으로 펼친다.
+	 * 분리 형식에서 FEE가 TRANSFER_OUT보다 나중 id이므로 최신순으로는 FEE, TRANSFER_OUT 순서.
+	 * 행 수 ≤ 항목 수이므로 size행을 읽어 size개로 자르면 분리 형식과 같은 결과가 된다.
+	 */
+	static List<LedgerEntry> splitConsolidated(List<LedgerEntry> rows, int size) {
+		boolean any = false;
+		for (LedgerEntry row : rows) {
+			if (row.isConsolidatedTransferOut()) {
+				any = true;
+				break;
+			}
+		}
+		if (!any) return rows;
+
+		List<LedgerEntry> items = new ArrayList<>(Math.min(size, rows.size() * 2));
+		for (LedgerEntry row : rows) {
+			if (items.size() == size) break;
+			if (!row.isConsolidatedTransferOut()) {
+				items.add(row);
+				continue;
+			}
+			items.add(row.feePart());
+			if (items.size() < size) items.add(row.transferOutPart());
+		}
+		return items;
 	}
 }
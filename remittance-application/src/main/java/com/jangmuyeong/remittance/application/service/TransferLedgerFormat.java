@@ -0,0 +1,53 @@
+package com.jangmuyeong.remittance.application.service;
+
+import java.time.Instant;
+import java.util.List;
+
+import com.jangmuyeong.remittance.domain.ledger.LedgerEntry;
+import com.jangmuyeong.remittance.domain.ledger.TransactionType;
+
+/**
+ * 송금 원장 저장 형식 (remittance.ledger.transfer-format)
+ * 조회(TransactionQueryService.latest)는 두 형식 모두 TRANSFER_OUT, FEE를 별도 항목으로 돌려준다.
+ */
+public enum TransferLedgerFormat {
+
+	/** 기본: TRANSFER_OUT, FEE, TRANSFER_IN 3행 */
+	SPLIT,
+
+	/**
+	 * 송금인 측을 TRANSFER_OUT 1행(amount + feeAmount)으로 저장 → TRANSFER_IN과 합쳐 2행
+	 * 수수료가 0원이면 통합 행과 구분되지 않으므로 SPLIT과 같이 3행으로 저장한다.
+	 * 기존 행은 LedgerTransferMigration으로 통합한다.
+	 */
+	CONSOLIDATED;
+
+	/** 이 송금의 송금인 측을 1행으로 저장하는지 (CONSOLIDATED이고 수수료가 있을 때) */
+	boolean consolidates(long fee) {
+		return this == CONSOLIDATED && fee > 0;
+	}
+
+	/**
+	 * 송금 1건의 원장 행 (송금인 측 → TRANSFER_IN 순으로 TRANSFER_IN은 항상 마지막, RemittanceService와 AccountCommandBatch가 같이 사용)
+	 */
+	List<LedgerEntry> entries(long fromId, long toId, long amount, long fee, Instant now,
+		long fromBalanceAfter, long toBalanceAfter) {
+		LedgerEntry transferIn = new LedgerEntry(LedgerEntry.NO_ID, toId, fromId, TransactionType.TRANSFER_IN,
+			amount, 0L, now, toBalanceAfter);
+		if (consolidates(fee)) {
+			// 송금인 측 1행: 이체 금액과 수수료를 함께 기록 (조회 시 TRANSFER_OUT, FEE로 분리)
+			return List.of(
+				new LedgerEntry(LedgerEntry.NO_ID, fromId, toId, TransactionType.TRANSFER_OUT,
+					amount, fee, now, fromBalanceAfter),
+				transferIn
+			);
+		}
+		return List.of(
+			new LedgerEntry(LedgerEntry.NO_ID, fromId, toId, TransactionType.TRANSFER_OUT,
+				amount, 0L, now, fromBalanceAfter),
+			new LedgerEntry(LedgerEntry.NO_ID, fromId, toId, TransactionType.FEE,
+				0L, fee, now, fromBalanceAfter),
+			transferIn
+		);
+	}
+}
@@ -0,0 +1,39 @@
+package com.jangmuyeong.remittance.application.service;
+
+/**
+ * 잔액 변경 방식 (remittance.write.mode)
+ */
+public enum WriteMode {
+
+	/** 기본: findByIdForUpdate로 락 조회 → 도메인 객체에서 검증/변경 → UPDATE */
+	PESSIMISTIC,
+
+	/**
+	 * 입금/출금을 조건부 UPDATE 한 문장으로 처리 (status/잔액 조건은 AccountRules 정의를 SQL로 옮긴 것)
+	 * 조건 불만족이면 락 조회 경로로 내려가 도메인 규칙이 오류(ACCOUNT_INACTIVE, INSUFFICIENT_BALANCE 등)를 판정한다.
+	 * 송금은 PESSIMISTIC과 같다.
+	 */
+	CONDITIONAL,
+
+	/**
+	 * 락 없이 읽고(findByIdOptimistic, getOrCreateOptimistic) 커밋 시 version 조건 UPDATE로 충돌을 검사
+	 * 충돌하면 OptimisticLockingFailureException으로 롤백되고, 서비스 바깥(트랜잭션 밖)에서 제한된 횟수만큼 재시도한다.
+	 * 검증 규칙/원장 기록은 PESSIMISTIC과 같다. (버전 검사를 지원하지 않는 어댑터는 락 조회로 동작)
+	 */
+	OPTIMISTIC,
+
+	/**
+	 * 계좌별로 OPTIMISTIC/PESSIMISTIC 중 하나를 고름 (AccountContentionTracker)
+	 * 최근 버전 충돌/락 대기가 잦은 계좌는 락 조회, 조용한 계좌는 락 없는 조회 + version 검사로 처리하고
+	 * 경합 점수가 시간에 따라 줄어들면 자동으로 다시 낙관적 경로로 돌아간다.
+	 * 송금은 두 계좌 중 하나라도 경합 중이면 둘 다 락 조회한다. (락 순서 유지)
+	 */
+	ADAPTIVE,
+
+	/**
+	 * 같은 계좌에 동시에 들어온 입금/출금/송금(수취 계좌 기준)을 한 스레드가 모아 한 트랜잭션으로 처리 (AccountCommandCombiner)
+	 * 관련 계좌를 id 오름차순으로 한 번씩 락 조회하고, 명령마다 도메인 규칙으로 성공/실패를 따로 판정한 뒤 원장을 한 번에 저장한다.
+	 * 요청 N건의 락 획득/커밋이 1번으로 줄어든다. 검증 규칙/원장 형식은 PESSIMISTIC과 같다.
+	 */
+	COMBINING
+}
@@ -0,0 +1,127 @@
+package com.jangmuyeong.remittance.application.jfr;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+
+import com.jangmuyeong.remittance.application.dto.command.RemitCommand;
+import com.jangmuyeong.remittance.application.dto.command.WithdrawCommand;
+import com.jangmuyeong.remittance.application.service.MoneyService;
+import com.jangmuyeong.remittance.application.service.RemittanceService;
+import com.jangmuyeong.remittance.application.service.UseCaseServices;
+import com.jangmuyeong.remittance.domain.account.Account;
+import com.jangmuyeong.remittance.domain.account.AccountStatus;
+import com.jangmuyeong.remittance.domain.exception.DomainException;
+import com.jangmuyeong.remittance.domain.limit.DailyLimit;
+import com.jangmuyeong.remittance.domain.port.AccountPort;
+import com.jangmuyeong.remittance.domain.port.DailyLimitPort;
+import com.jangmuyeong.remittance.domain.port.LedgerPort;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+@ExtendWith(MockitoExtension.class)
+class UseCasePhaseEventTest {
+
+	@Mock AccountPort accountPort;
+	@Mock DailyLimitPort dailyLimitPort;
+	@Mock LedgerPort ledgerPort;
+
+	@TempDir Path tempDir;
+
+	Clock clock = Clock.fixed(Instant.parse("2025-12-30T10:00:00Z"), ZoneOffset.UTC);
+
+	@Test
+	void remit_records_one_event_per_phase_in_order() throws Exception {
+		RemittanceService service = UseCaseServices.of(accountPort, dailyLimitPort, ledgerPort, clock).remittanceService();
+
+		when(accountPort.findIdByAccountNo("A")).thenReturn(2L);
+		when(accountPort.findIdByAccountNo("B")).thenReturn(1L);
+		when(accountPort.findByIdForUpdate(2L)).thenReturn(new Account(2L, "A", AccountStatus.ACTIVE, 1_000_000L));
+		when(accountPort.findByIdForUpdate(1L)).thenReturn(new Account(1L, "B", AccountStatus.ACTIVE, 0L));
+		when(dailyLimitPort.getOrCreate(2L, LocalDate.now(clock)))
+			.thenReturn(new DailyLimit(1L, 2L, LocalDate.now(clock), 0L, 0L));
+
+		List<RecordedEvent> events = record("remit.jfr", () -> service.remit(new RemitCommand("A", "B", 100_000L)));
+
+		assertThat(events).extracting(e -> e.getString("phase")).containsExactly(
+			"RESOLVE_ACCOUNT", "LOCK_ACCOUNT", "LOCK_ACCOUNT", "DAILY_LIMIT",
+			"BALANCE_MUTATION", "ACCOUNT_SAVE", "LEDGER_SAVE");
+		assertThat(events).allSatisfy(e -> assertThat(e.getString("useCase")).isEqualTo("remit"));
+		assertThat(events).allSatisfy(e -> assertThat(e.getString("outcome")).isEqualTo(UseCasePhaseEvent.OK));
+
+		// 락은 id 오름차순으로 획득
+		assertThat(events.get(1).getLong("accountId")).isEqualTo(1L);
+		assertThat(events.get(2).getLong("accountId")).isEqualTo(2L);
+
+		// 원장 3건은 한 번에 기록
+		assertThat(events.get(6).getString("detail")).isEqualTo("TRANSFER_OUT,FEE,TRANSFER_IN");
+	}
+
+	@Test
+	void withdraw_records_lock_account_event_when_lock_wait_times_out() throws Exception {
+		MoneyService service = UseCaseServices.of(accountPort, dailyLimitPort, ledgerPort, clock).moneyService();
+
+		when(accountPort.findIdByAccountNo("A")).thenReturn(1L);
+		when(accountPort.findByIdForUpdate(1L)).thenThrow(new CannotAcquireLockException("lock wait timeout"));
+
+		List<RecordedEvent> events = record("withdraw-timeout.jfr", () ->
+			assertThatThrownBy(() -> service.withdraw(new WithdrawCommand("A", 1_000L)))
+				.isInstanceOf(CannotAcquireLockException.class));
+
+		assertThat(events).extracting(e -> e.getString("phase")).containsExactly("RESOLVE_ACCOUNT", "LOCK_ACCOUNT");
+		assertThat(events.get(1).getLong("accountId")).isEqualTo(1L);
+		assertThat(events.get(1).getString("outcome")).isEqualTo("CannotAcquireLockException");
+	}
+
+	@Test
+	void remit_records_failed_daily_limit_phase_with_error_code() throws Exception {
+		RemittanceService service = UseCaseServices.of(accountPort, dailyLimitPort, ledgerPort, clock).remittanceService();
+
+		when(accountPort.findIdByAccountNo("A")).thenReturn(1L);
+		when(accountPort.findIdByAccountNo("B")).thenReturn(2L);
+		when(accountPort.findByIdForUpdate(1L)).thenReturn(new Account(1L, "A", AccountStatus.ACTIVE, 5_000_000L));
+		when(accountPort.findByIdForUpdate(2L)).thenReturn(new Account(2L, "B", AccountStatus.ACTIVE, 0L));
+		when(dailyLimitPort.getOrCreate(1L, LocalDate.now(clock)))
+			.thenReturn(new DailyLimit(1L, 1L, LocalDate.now(clock), 0L, 2_900_000L));
+
+		List<RecordedEvent> events = record("remit-limit.jfr", () ->
+			assertThatThrownBy(() -> service.remit(new RemitCommand("A", "B", 200_000L)))
+				.isInstanceOf(DomainException.class));
+
+		assertThat(events).extracting(e -> e.getString("phase")).containsExactly(
+			"RESOLVE_ACCOUNT", "LOCK_ACCOUNT", "LOCK_ACCOUNT", "DAILY_LIMIT");
+		assertThat(events.get(3).getString("outcome")).isEqualTo("TRANSFER_DAILY_LIMIT_EXCEEDED");
+	}
+
+	private List<RecordedEvent> record(String fileName, Runnable useCase) throws Exception {
+		Path file = tempDir.resolve(fileName);
+		try (Recording recording = new Recording()) {
+			recording.enable(UseCasePhaseEvent.NAME).withThreshold(Duration.ZERO);
+			recording.start();
+			useCase.run();
+			recording.stop();
+			recording.dump(file);
+		}
+		assertThat(Files.size(file)).isPositive();
+		return RecordingFile.readAllEvents(file).stream()
+			.filter(e -> e.getEventType().getName().equals(UseCasePhaseEvent.NAME))
+			.toList();
+	}
+}
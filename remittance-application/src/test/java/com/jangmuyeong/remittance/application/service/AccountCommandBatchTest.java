@@ -0,0 +1,138 @@
+package com.jangmuyeong.remittance.application.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.jangmuyeong.remittance.application.dto.result.BalanceResult;
+import com.jangmuyeong.remittance.application.dto.result.RemitResult;
+import com.jangmuyeong.remittance.application.service.AccountCommandBatch.Mutation;
+import com.jangmuyeong.remittance.domain.account.Account;
+import com.jangmuyeong.remittance.domain.account.AccountStatus;
+import com.jangmuyeong.remittance.domain.exception.DomainException;
+import com.jangmuyeong.remittance.domain.exception.ErrorCode;
+import com.jangmuyeong.remittance.domain.ledger.LedgerEntry;
+import com.jangmuyeong.remittance.domain.ledger.TransactionType;
+import com.jangmuyeong.remittance.domain.limit.DailyLimit;
+import com.jangmuyeong.remittance.domain.policy.FeePolicy;
+import com.jangmuyeong.remittance.domain.port.AccountPort;
+import com.jangmuyeong.remittance.domain.port.DailyLimitPort;
+import com.jangmuyeong.remittance.domain.port.LedgerPort;
+
+@ExtendWith(MockitoExtension.class)
+class AccountCommandBatchTest {
+
+	@Mock AccountPort accountPort;
+	@Mock DailyLimitPort dailyLimitPort;
+	@Mock LedgerPort ledgerPort;
+	@Mock FeePolicy feePolicy;
+
+	Clock clock;
+	AccountCommandBatch batch;
+
+	@BeforeEach
+	void setUp() {
+		clock = Clock.fixed(Instant.parse("2025-12-30T10:00:00Z"), ZoneOffset.UTC);
+		batch = new AccountCommandBatch(accountPort, dailyLimitPort, ledgerPort, feePolicy, clock,
+			TransferLedgerFormat.SPLIT);
+	}
+
+	@Test
+	void failed_command_only_fails_itself_and_ledger_is_saved_once() {
+		Account hot = new Account(1L, "HOT", AccountStatus.ACTIVE, 10_000L);
+		when(accountPort.findByIdForUpdate(1L)).thenReturn(hot);
+		DailyLimit limit = new DailyLimit(7L, 1L, LocalDate.now(clock), 0L, 0L);
+		when(dailyLimitPort.getOrCreate(1L, LocalDate.now(clock))).thenReturn(limit);
+
+		List<Object> results = batch.apply(List.of(
+			Mutation.deposit(1L, 5_000L),
+			Mutation.withdraw(1L, 20_000L), // 잔액 15,000 → 잔액 부족, 이 명령만 실패
+			Mutation.withdraw(1L, 3_000L)));
+
+		assertThat(results.get(0)).isEqualTo(new BalanceResult(1L, "HOT", 15_000L));
+		assertThat(results.get(1)).isInstanceOf(DomainException.class);
+		assertThat(((DomainException)results.get(1)).getErrorCode()).isEqualTo(ErrorCode.INSUFFICIENT_BALANCE);
+		assertThat(results.get(2)).isEqualTo(new BalanceResult(1L, "HOT", 12_000L));
+
+		// 실패한 출금은 일 한도 누적에도 남지 않음
+		assertThat(limit.getWithdrawSum()).isEqualTo(3_000L);
+		verify(accountPort, times(1)).findByIdForUpdate(1L);
+		verify(accountPort, times(1)).update(hot);
+		verify(dailyLimitPort, times(1)).save(limit);
+
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<List<LedgerEntry>> captor = ArgumentCaptor.forClass(List.class);
+		verify(ledgerPort).saveAll(captor.capture());
+		verify(ledgerPort, never()).save(any());
+		assertThat(captor.getValue()).extracting(LedgerEntry::getType, LedgerEntry::getBalanceAfter)
+			.containsExactly(tuple(TransactionType.DEPOSIT, 15_000L), tuple(TransactionType.WITHDRAW, 12_000L));
+	}
+
+	@Test
+	void remits_to_one_recipient_lock_accounts_once_in_ascending_id_order() {
+		Account hot = new Account(1L, "HOT", AccountStatus.ACTIVE, 0L);
+		Account senderA = new Account(3L, "A", AccountStatus.ACTIVE, 100_000L);
+		Account senderB = new Account(2L, "B", AccountStatus.ACTIVE, 100_000L);
+		when(accountPort.findByIdForUpdate(1L)).thenReturn(hot);
+		when(accountPort.findByIdForUpdate(2L)).thenReturn(senderB);
+		when(accountPort.findByIdForUpdate(3L)).thenReturn(senderA);
+		LocalDate today = LocalDate.now(clock);
+		when(dailyLimitPort.getOrCreate(3L, today)).thenReturn(new DailyLimit(8L, 3L, today, 0L, 0L));
+		when(dailyLimitPort.getOrCreate(2L, today)).thenReturn(new DailyLimit(9L, 2L, today, 0L, 0L));
+		when(feePolicy.calculateFee(10_000L)).thenReturn(100L);
+
+		List<Object> results = batch.apply(List.of(
+			Mutation.remit(3L, 1L, 10_000L),
+			Mutation.remit(2L, 1L, 10_000L)));
+
+		assertThat(results).containsExactly(
+			new RemitResult(3L, "A", 1L, "HOT", 10_000L, 100L, 89_900L, 10_000L),
+			new RemitResult(2L, "B", 1L, "HOT", 10_000L, 100L, 89_900L, 20_000L));
+
+		InOrder inOrder = inOrder(accountPort);
+		inOrder.verify(accountPort).findByIdForUpdate(1L);
+		inOrder.verify(accountPort).findByIdForUpdate(2L);
+		inOrder.verify(accountPort).findByIdForUpdate(3L);
+		verify(accountPort, times(1)).update(hot);
+
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<List<LedgerEntry>> captor = ArgumentCaptor.forClass(List.class);
+		verify(ledgerPort).saveAll(captor.capture());
+		assertThat(captor.getValue()).extracting(LedgerEntry::getType).containsExactly(
+			TransactionType.TRANSFER_OUT, TransactionType.FEE, TransactionType.TRANSFER_IN,
+			TransactionType.TRANSFER_OUT, TransactionType.FEE, TransactionType.TRANSFER_IN);
+	}
+
+	@Test
+	void inactive_recipient_fails_remit_without_touching_sender() {
+		Account from = new Account(1L, "FROM", AccountStatus.ACTIVE, 100_000L);
+		Account to = new Account(2L, "TO", AccountStatus.DELETED, 0L);
+		when(accountPort.findByIdForUpdate(1L)).thenReturn(from);
+		when(accountPort.findByIdForUpdate(2L)).thenReturn(to);
+		DailyLimit limit = new DailyLimit(7L, 1L, LocalDate.now(clock), 0L, 0L);
+		when(dailyLimitPort.getOrCreate(1L, LocalDate.now(clock))).thenReturn(limit);
+		when(feePolicy.calculateFee(10_000L)).thenReturn(100L);
+
+		List<Object> results = batch.apply(List.of(Mutation.remit(1L, 2L, 10_000L)));
+
+		assertThat(((DomainException)results.get(0)).getErrorCode()).isEqualTo(ErrorCode.ACCOUNT_INACTIVE);
+		assertThat(from.getBalance()).isEqualTo(100_000L);
+		assertThat(limit.getTransferSum()).isZero();
+		verify(accountPort, never()).update(any());
+		verify(dailyLimitPort, never()).save(any());
+		verifyNoInteractions(ledgerPort);
+	}
+}
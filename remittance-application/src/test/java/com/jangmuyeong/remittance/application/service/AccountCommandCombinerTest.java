@@ -0,0 +1,124 @@
+package com.jangmuyeong.remittance.application.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.jangmuyeong.remittance.application.dto.command.DepositCommand;
+import com.jangmuyeong.remittance.application.dto.command.RemitCommand;
+import com.jangmuyeong.remittance.application.dto.command.WithdrawCommand;
+import com.jangmuyeong.remittance.application.dto.result.BalanceResult;
+import com.jangmuyeong.remittance.application.dto.result.RemitResult;
+import com.jangmuyeong.remittance.application.service.AccountCommandBatch.Mutation;
+import com.jangmuyeong.remittance.domain.exception.DomainException;
+import com.jangmuyeong.remittance.domain.exception.ErrorCode;
+import com.jangmuyeong.remittance.domain.port.AccountPort;
+import com.jangmuyeong.remittance.domain.port.BalanceShardPort;
+import com.jangmuyeong.remittance.domain.port.PendingCreditPort;
+
+@ExtendWith(MockitoExtension.class)
+class AccountCommandCombinerTest {
+
+	private static final int THREADS = 8;
+
+	@Mock AccountPort accountPort;
+	@Mock BalanceShardPort balanceShards;
+	@Mock PendingCreditPort pendingCredits;
+	@Mock AccountCommandBatch batch;
+
+	AccountCommandCombiner combiner;
+
+	@BeforeEach
+	void setUp() {
+		combiner = new AccountCommandCombiner(accountPort, balanceShards, pendingCredits, batch, 64,
+			Duration.ofNanos(100_000));
+	}
+
+	@Test
+	void concurrent_deposits_are_combined_and_each_caller_gets_its_own_result() throws Exception {
+		when(accountPort.findIdByAccountNo("HOT")).thenReturn(1L);
+		CountDownLatch firstBatchEntered = new CountDownLatch(1);
+		CountDownLatch othersQueued = new CountDownLatch(1);
+		AtomicInteger batches = new AtomicInteger();
+		when(batch.apply(anyList())).thenAnswer(inv -> {
+			// 첫 배치가 도는 동안 나머지 요청이 대기열에 쌓이게 함
+			if (batches.getAndIncrement() == 0) {
+				firstBatchEntered.countDown();
+				othersQueued.await();
+			}
+			List<Mutation> mutations = inv.getArgument(0);
+			List<Object> results = new ArrayList<>();
+			for (Mutation m : mutations) results.add(new BalanceResult(m.accountId(), "HOT", m.amount()));
+			return results;
+		});
+
+		ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+		try {
+			List<Future<BalanceResult>> futures = new ArrayList<>();
+			futures.add(pool.submit(deposit(1)));
+			firstBatchEntered.await();
+			for (int t = 2; t <= THREADS; t++) futures.add(pool.submit(deposit(t)));
+			Thread.sleep(100);
+			othersQueued.countDown();
+
+			for (int t = 1; t <= THREADS; t++) {
+				assertThat(futures.get(t - 1).get().balance()).isEqualTo(t); // 금액을 결과로 돌려주는 배치
+			}
+		} finally {
+			pool.shutdownNow();
+		}
+		assertThat(batches.get()).isLessThan(THREADS);
+	}
+
+	@Test
+	void batch_failure_is_delivered_to_caller() {
+		when(accountPort.findIdByAccountNo("HOT")).thenReturn(1L);
+		when(batch.apply(anyList())).thenThrow(new IllegalStateException("commit failed"));
+
+		assertThatThrownBy(() -> combiner.withdraw(new WithdrawCommand("HOT", 1_000L), () -> fail("direct")))
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessage("commit failed");
+	}
+
+	@Test
+	void per_command_domain_error_is_thrown_to_that_caller() {
+		when(accountPort.findIdByAccountNo("HOT")).thenReturn(1L);
+		when(batch.apply(anyList())).thenReturn(List.of(new DomainException(ErrorCode.INSUFFICIENT_BALANCE)));
+
+		assertThatThrownBy(() -> combiner.withdraw(new WithdrawCommand("HOT", 1_000L), () -> fail("direct")))
+			.isInstanceOf(DomainException.class)
+			.hasMessageContaining(ErrorCode.INSUFFICIENT_BALANCE.name());
+	}
+
+	@Test
+	void sharded_and_same_account_commands_take_direct_path() {
+		when(accountPort.findIdByAccountNo("SHARD")).thenReturn(1L);
+		when(balanceShards.isSharded(1L)).thenReturn(true);
+		BalanceResult direct = new BalanceResult(1L, "SHARD", 1_000L);
+		RemitResult directRemit = new RemitResult(1L, "A", 1L, "A", 1L, 0L, 0L, 0L);
+
+		assertThat(combiner.deposit(new DepositCommand("SHARD", 1_000L), () -> direct)).isSameAs(direct);
+		assertThat(combiner.remit(new RemitCommand("A", "A", 1L), () -> directRemit)).isSameAs(directRemit);
+		verifyNoInteractions(batch);
+	}
+
+	private Callable<BalanceResult> deposit(long amount) {
+		return () -> combiner.deposit(new DepositCommand("HOT", amount), () -> fail("direct"));
+	}
+}
@@ -0,0 +1,106 @@
+package com.jangmuyeong.remittance.application.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AccountContentionTrackerTest {
+
+	private static final Duration HALF_LIFE = Duration.ofSeconds(10);
+
+	AtomicLong clock;
+	AccountContentionTracker tracker;
+
+	@BeforeEach
+	void setUp() {
+		clock = new AtomicLong();
+		tracker = new AccountContentionTracker(64, HALF_LIFE, 3, Duration.ofMillis(2), clock::get);
+	}
+
+	@Test
+	void quiet_account_is_read_optimistically() {
+		assertThat(tracker.strategyFor(1L)).isEqualTo(WriteMode.OPTIMISTIC);
+		assertThat(tracker.isContended(1L)).isFalse();
+	}
+
+	@Test
+	void repeated_conflicts_switch_account_to_pessimistic() {
+		tracker.recordConflict(1L);
+		tracker.recordConflict(1L);
+		assertThat(tracker.strategyFor(1L)).isEqualTo(WriteMode.OPTIMISTIC);
+
+		tracker.recordConflict(1L);
+
+		assertThat(tracker.strategyFor(1L)).isEqualTo(WriteMode.PESSIMISTIC);
+		assertThat(tracker.strategyFor(2L)).isEqualTo(WriteMode.OPTIMISTIC);
+	}
+
+	@Test
+	void score_decays_back_to_optimistic() {
+		for (int i = 0; i < 4; i++) tracker.recordConflict(1L);
+		assertThat(tracker.isContended(1L)).isTrue();
+
+		clock.addAndGet(HALF_LIFE.toNanos());
+
+		assertThat(tracker.isContended(1L)).isFalse();
+	}
+
+	@Test
+	void only_lock_waits_above_threshold_count() {
+		for (int i = 0; i < 10; i++) tracker.recordLockWait(1L, Duration.ofMillis(1).toNanos());
+		assertThat(tracker.isContended(1L)).isFalse();
+
+		for (int i = 0; i < 3; i++) tracker.recordLockWait(1L, Duration.ofMillis(5).toNanos());
+		assertThat(tracker.isContended(1L)).isTrue();
+	}
+
+	@Test
+	void remit_is_pessimistic_when_either_account_is_contended() {
+		for (int i = 0; i < 3; i++) tracker.recordConflict(2L);
+
+		assertThat(tracker.strategyFor(1L, 2L)).isEqualTo(WriteMode.PESSIMISTIC);
+		assertThat(tracker.strategyFor(1L, 3L)).isEqualTo(WriteMode.OPTIMISTIC);
+	}
+
+	@Test
+	void conflicted_attempt_charges_accounts_read_optimistically_in_that_attempt() {
+		tracker.beginAttempt();
+		tracker.strategyFor(1L, 2L);
+		tracker.attemptConflicted();
+		tracker.beginAttempt();
+		tracker.strategyFor(1L, 2L);
+		tracker.attemptConflicted();
+		tracker.beginAttempt();
+		tracker.strategyFor(1L);
+		tracker.attemptConflicted();
+
+		assertThat(tracker.isContended(1L)).isTrue();
+		assertThat(tracker.isContended(2L)).isFalse();
+
+		// 새 시도를 시작하면 이전 시도 기록은 버림
+		tracker.beginAttempt();
+		tracker.attemptConflicted();
+		assertThat(tracker.isContended(2L)).isFalse();
+	}
+
+	@Test
+	void contended_account_keeps_its_slot_against_colliding_accounts() {
+		AccountContentionTracker single = new AccountContentionTracker(1, HALF_LIFE, 3, Duration.ofMillis(2), clock::get);
+		for (int i = 0; i < 3; i++) single.recordConflict(1L);
+
+		for (int i = 0; i < 5; i++) single.recordConflict(2L);
+
+		assertThat(single.isContended(1L)).isTrue();
+		assertThat(single.isContended(2L)).isFalse();
+
+		// 점수가 내려가면 다른 계좌가 자리를 가져감
+		clock.addAndGet(HALF_LIFE.toNanos() * 2);
+		for (int i = 0; i < 3; i++) single.recordConflict(2L);
+		assertThat(single.isContended(2L)).isTrue();
+		assertThat(single.isContended(1L)).isFalse();
+	}
+}
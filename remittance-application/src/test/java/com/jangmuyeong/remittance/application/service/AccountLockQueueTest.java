@@ -0,0 +1,129 @@
+package com.jangmuyeong.remittance.application.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.jangmuyeong.remittance.application.dto.command.DepositCommand;
+import com.jangmuyeong.remittance.application.dto.command.RemitCommand;
+import com.jangmuyeong.remittance.domain.port.AccountPort;
+import com.jangmuyeong.remittance.domain.port.BalanceShardPort;
+import com.jangmuyeong.remittance.domain.port.PendingCreditPort;
+
+@ExtendWith(MockitoExtension.class)
+class AccountLockQueueTest {
+
+	@Mock AccountPort accountPort;
+	@Mock BalanceShardPort balanceShards;
+	@Mock PendingCreditPort pendingCredits;
+
+	AccountLockQueue queue;
+
+	@BeforeEach
+	void setUp() {
+		queue = new AccountLockQueue(accountPort, balanceShards, pendingCredits, 64, Duration.ofMillis(50));
+	}
+
+	@Test
+	void remit_stripes_are_ascending_and_skip_recipient_without_row_lock() {
+		when(accountPort.findIdByAccountNo("A")).thenReturn(1L);
+		when(accountPort.findIdByAccountNo("B")).thenReturn(2L);
+		when(accountPort.findIdByAccountNo("HOT")).thenReturn(3L);
+		when(balanceShards.isSharded(anyLong())).thenAnswer(inv -> inv.getArgument(0, Long.class) == 3L);
+
+		int[] ab = queue.stripesFor(new RemitCommand("A", "B", 1_000L));
+		int[] ba = queue.stripesFor(new RemitCommand("B", "A", 1_000L));
+
+		assertThat(ab).isSorted().isEqualTo(ba);
+		assertThat(queue.stripesFor(new RemitCommand("A", "HOT", 1_000L))).hasSize(1);
+		assertThat(queue.stripesFor(new DepositCommand("HOT", 1_000L))).isEmpty();
+		assertThat(queue.stripesFor(new RemitCommand("A", "A", 1_000L))).isEmpty();
+	}
+
+	@Test
+	void ids_resolved_for_stripes_are_reused_by_the_use_case() {
+		when(accountPort.findIdByAccountNo("A")).thenReturn(1L);
+		when(accountPort.findIdByAccountNo("B")).thenReturn(2L);
+
+		try (ResolvedAccountIds ids = ResolvedAccountIds.open()) {
+			queue.stripesFor(new RemitCommand("A", "B", 1_000L));
+			assertThat(AccountLookups.requireId(accountPort, "A")).isEqualTo(1L);
+			assertThat(AccountLookups.requireId(accountPort, "B")).isEqualTo(2L);
+		}
+		verify(accountPort, times(1)).findIdByAccountNo("A");
+		verify(accountPort, times(1)).findIdByAccountNo("B");
+
+		// 범위를 닫은 뒤에는 다시 조회
+		AccountLookups.requireId(accountPort, "A");
+		verify(accountPort, times(2)).findIdByAccountNo("A");
+	}
+
+	@Test
+	void timed_out_lock_releases_stripes_it_already_holds() throws Exception {
+		ExecutorService pool = Executors.newFixedThreadPool(2);
+		CountDownLatch holding = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		try {
+			pool.submit(() -> {
+				queue.lock(new int[] {7});
+				holding.countDown();
+				release.await();
+				queue.unlock(new int[] {7});
+				return null;
+			});
+			holding.await();
+
+			assertThat(queue.lock(new int[] {3, 7})).isFalse();
+
+			// 실패한 호출이 잡았던 stripe 3은 다른 스레드가 바로 잡을 수 있음
+			Future<Boolean> other = pool.submit(() -> {
+				boolean acquired = queue.lock(new int[] {3});
+				if (acquired) queue.unlock(new int[] {3});
+				return acquired;
+			});
+			assertThat(other.get()).isTrue();
+		} finally {
+			release.countDown();
+			pool.shutdownNow();
+		}
+	}
+
+	@Test
+	void waiting_threads_are_counted_as_queued() throws Exception {
+		queue = new AccountLockQueue(accountPort, balanceShards, pendingCredits, 64, Duration.ofSeconds(5));
+		ExecutorService pool = Executors.newFixedThreadPool(2);
+		queue.lock(new int[] {5});
+		try {
+			Future<?> first = pool.submit(() -> lockAndRelease(5));
+			Future<?> second = pool.submit(() -> lockAndRelease(5));
+			long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+			while (queue.queued() < 2 && System.nanoTime() < deadline) Thread.sleep(1);
+
+			assertThat(queue.queued()).isEqualTo(2);
+
+			queue.unlock(new int[] {5});
+			first.get();
+			second.get();
+			assertThat(queue.queued()).isZero();
+		} finally {
+			pool.shutdownNow();
+		}
+	}
+
+	private Void lockAndRelease(int stripe) throws InterruptedException {
+		assertThat(queue.lock(new int[] {stripe})).isTrue();
+		queue.unlock(new int[] {stripe});
+		return null;
+	}
+}
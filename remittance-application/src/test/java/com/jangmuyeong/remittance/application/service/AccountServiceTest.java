@@ -54,24 +54,23 @@ class AccountServiceTest {
 		Account base = new Account(1L, "111-222", AccountStatus.ACTIVE, 0L);
 		Account locked = new Account(1L, "111-222", AccountStatus.ACTIVE, 0L);
 
-		when(accountPort.findByAccountNo("111-222")).thenReturn(Optional.of(base));
-		when(accountPort.findByIdForUpdate(1L)).thenReturn(Optional.of(locked));
-		when(accountPort.save(any(Account.class))).thenAnswer(inv -> inv.getArgument(0));
+		when(accountPort.findIdByAccountNo("111-222")).thenReturn(base.getId());
+		when(accountPort.findByIdForUpdate(1L)).thenReturn(locked);
 
 		service.delete("111-222");
 
 		ArgumentCaptor<Account> captor = ArgumentCaptor.forClass(Account.class);
-		verify(accountPort).save(captor.capture());
+		verify(accountPort).update(captor.capture());
 		assertThat(captor.getValue().getStatus()).isEqualTo(AccountStatus.DELETED);
 	}
 
 	@Test
 	void delete_throws_when_account_not_found() {
-		when(accountPort.findByAccountNo("999-000")).thenReturn(Optional.empty());
+		when(accountPort.findIdByAccountNo("999-000")).thenReturn(Account.NO_ID);
 
 		assertThatThrownBy(() -> service.delete("999-000"))
 			.isInstanceOf(DomainException.class);
 
-		verify(accountPort, never()).save(any());
+		verify(accountPort, never()).update(any());
 	}
 }
@@ -4,15 +4,16 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneOffset;
-import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 
 import com.jangmuyeong.remittance.application.dto.command.DepositCommand;
@@ -20,12 +21,15 @@ import com.jangmuyeong.remittance.application.dto.command.WithdrawCommand;
 import com.jangmuyeong.remittance.domain.account.Account;
 import com.jangmuyeong.remittance.domain.account.AccountStatus;
 import com.jangmuyeong.remittance.domain.exception.DomainException;
+import com.jangmuyeong.remittance.domain.exception.ErrorCode;
 import com.jangmuyeong.remittance.domain.ledger.LedgerEntry;
 import com.jangmuyeong.remittance.domain.ledger.TransactionType;
 import com.jangmuyeong.remittance.domain.limit.DailyLimit;
 import com.jangmuyeong.remittance.domain.port.AccountPort;
+import com.jangmuyeong.remittance.domain.port.BalanceShardPort;
 import com.jangmuyeong.remittance.domain.port.DailyLimitPort;
 import com.jangmuyeong.remittance.domain.port.LedgerPort;
+import com.jangmuyeong.remittance.domain.port.PendingCreditPort;
 
 @ExtendWith(org.mockito.junit.jupiter.MockitoExtension.class)
 class MoneyServiceTest {
@@ -33,6 +37,8 @@ class MoneyServiceTest {
 	@Mock AccountPort accountPort;
 	@Mock DailyLimitPort dailyLimitPort;
 	@Mock LedgerPort ledgerPort;
+	@Mock BalanceShardPort balanceShards;
+	@Mock PendingCreditPort pendingCredits;
 
 	Clock clock;
 	MoneyService service;
@@ -40,7 +46,7 @@ class MoneyServiceTest {
 	@BeforeEach
 	void setUp() {
 		clock = Clock.fixed(Instant.parse("2025-12-30T10:00:00Z"), ZoneOffset.UTC);
-		service = new MoneyService(accountPort, dailyLimitPort, ledgerPort, clock);
+		service = services().moneyService();
 	}
 
 	@Test
@@ -48,9 +54,8 @@ class MoneyServiceTest {
 		Account base = new Account(1L, "111-222", AccountStatus.ACTIVE, 0L);
 		Account locked = new Account(1L, "111-222", AccountStatus.ACTIVE, 0L);
 
-		when(accountPort.findByAccountNo("111-222")).thenReturn(Optional.of(base));
-		when(accountPort.findByIdForUpdate(1L)).thenReturn(Optional.of(locked));
-		when(accountPort.save(any(Account.class))).thenAnswer(inv -> inv.getArgument(0));
+		when(accountPort.findIdByAccountNo("111-222")).thenReturn(base.getId());
+		when(accountPort.findByIdForUpdate(1L)).thenReturn(locked);
 
 		com.jangmuyeong.remittance.application.dto.result.BalanceResult res =
 			service.deposit(new DepositCommand("111-222", 1_000_000));
@@ -73,12 +78,12 @@ class MoneyServiceTest {
 
 	@Test
 	void deposit_throws_when_account_not_found() {
-		when(accountPort.findByAccountNo("999-000")).thenReturn(Optional.empty());
+		when(accountPort.findIdByAccountNo("999-000")).thenReturn(Account.NO_ID);
 
 		assertThatThrownBy(() -> service.deposit(new DepositCommand("999-000", 1000)))
 			.isInstanceOf(DomainException.class);
 
-		verify(accountPort, never()).save(any());
+		verify(accountPort, never()).update(any());
 		verify(ledgerPort, never()).save(any());
 	}
 
@@ -87,13 +92,11 @@ class MoneyServiceTest {
 		Account base = new Account(1L, "111-222", AccountStatus.ACTIVE, 1_000_000L);
 		Account locked = new Account(1L, "111-222", AccountStatus.ACTIVE, 1_000_000L);
 
-		when(accountPort.findByAccountNo("111-222")).thenReturn(Optional.of(base));
-		when(accountPort.findByIdForUpdate(1L)).thenReturn(Optional.of(locked));
-		when(accountPort.save(any(Account.class))).thenAnswer(inv -> inv.getArgument(0));
+		when(accountPort.findIdByAccountNo("111-222")).thenReturn(base.getId());
+		when(accountPort.findByIdForUpdate(1L)).thenReturn(locked);
 
 		DailyLimit limit = new DailyLimit(1L, 1L, LocalDate.now(clock), 0L, 0L);
 		when(dailyLimitPort.getOrCreate(eq(1L), eq(LocalDate.now(clock)))).thenReturn(limit);
-		when(dailyLimitPort.save(any(DailyLimit.class))).thenAnswer(inv -> inv.getArgument(0));
 
 		com.jangmuyeong.remittance.application.dto.result.BalanceResult res =
 			service.withdraw(new WithdrawCommand("111-222", 200_000));
@@ -115,8 +118,8 @@ class MoneyServiceTest {
 		Account base = new Account(1L, "111-222", AccountStatus.ACTIVE, 1_000_000L);
 		Account locked = new Account(1L, "111-222", AccountStatus.ACTIVE, 1_000_000L);
 
-		when(accountPort.findByAccountNo("111-222")).thenReturn(Optional.of(base));
-		when(accountPort.findByIdForUpdate(1L)).thenReturn(Optional.of(locked));
+		when(accountPort.findIdByAccountNo("111-222")).thenReturn(base.getId());
+		when(accountPort.findByIdForUpdate(1L)).thenReturn(locked);
 
 		// 이미 900,000 출금된 상태에서 200,000 추가 시 한도 초과
 		DailyLimit limit = new DailyLimit(1L, 1L, LocalDate.now(clock), 900_000L, 0L);
@@ -126,7 +129,253 @@ class MoneyServiceTest {
 			.isInstanceOf(DomainException.class);
 
 		verify(dailyLimitPort, never()).save(any());   // addWithdraw에서 터져서 save까지 못감
-		verify(accountPort, never()).save(any());
+		verify(accountPort, never()).update(any());
 		verify(ledgerPort, never()).save(any());
 	}
+
+	@Test
+	void conditional_deposit_uses_single_update_and_returned_balance() {
+		MoneyService conditional = services().writeMode(WriteMode.CONDITIONAL).moneyService();
+		when(accountPort.findIdByAccountNo("111-222")).thenReturn(1L);
+		when(accountPort.depositIfActive(1L, 300_000L)).thenReturn(1_300_000L);
+
+		com.jangmuyeong.remittance.application.dto.result.BalanceResult res =
+			conditional.deposit(new DepositCommand("111-222", 300_000));
+
+		assertThat(res.balance()).isEqualTo(1_300_000L);
+		ArgumentCaptor<LedgerEntry> captor = ArgumentCaptor.forClass(LedgerEntry.class);
+		verify(ledgerPort).save(captor.capture());
+		assertThat(captor.getValue().getBalanceAfter()).isEqualTo(1_300_000L);
+		verify(accountPort, never()).findByIdForUpdate(anyLong());
+		verify(accountPort, never()).update(any());
+	}
+
+	@Test
+	void conditional_withdraw_uses_single_update_then_checks_limit() {
+		MoneyService conditional = services().writeMode(WriteMode.CONDITIONAL).moneyService();
+		when(accountPort.findIdByAccountNo("111-222")).thenReturn(1L);
+		when(accountPort.withdrawIfSufficient(1L, 200_000L)).thenReturn(800_000L);
+		DailyLimit limit = new DailyLimit(1L, 1L, LocalDate.now(clock), 0L, 0L);
+		when(dailyLimitPort.getOrCreate(eq(1L), eq(LocalDate.now(clock)))).thenReturn(limit);
+
+		com.jangmuyeong.remittance.application.dto.result.BalanceResult res =
+			conditional.withdraw(new WithdrawCommand("111-222", 200_000));
+
+		assertThat(res.balance()).isEqualTo(800_000L);
+		assertThat(limit.getWithdrawSum()).isEqualTo(200_000L);
+		ArgumentCaptor<LedgerEntry> captor = ArgumentCaptor.forClass(LedgerEntry.class);
+		verify(ledgerPort).save(captor.capture());
+		assertThat(captor.getValue().getBalanceAfter()).isEqualTo(800_000L);
+		verify(accountPort, never()).findByIdForUpdate(anyLong());
+	}
+
+	@Test
+	void conditional_withdraw_miss_falls_back_to_domain_rules() {
+		MoneyService conditional = services().writeMode(WriteMode.CONDITIONAL).moneyService();
+		when(accountPort.findIdByAccountNo("111-222")).thenReturn(1L);
+		when(accountPort.withdrawIfSufficient(1L, 200_000L)).thenReturn(AccountPort.NOT_UPDATED);
+		when(accountPort.findByIdForUpdate(1L)).thenReturn(new Account(1L, "111-222", AccountStatus.ACTIVE, 100_000L));
+
+		assertThatThrownBy(() -> conditional.withdraw(new WithdrawCommand("111-222", 200_000)))
+			.isInstanceOf(DomainException.class)
+			.hasMessageContaining(ErrorCode.INSUFFICIENT_BALANCE.name());
+
+		verify(accountPort, never()).update(any());
+		verifyNoInteractions(dailyLimitPort, ledgerPort);
+	}
+
+	@Test
+	void optimistic_withdraw_reads_without_locks() {
+		MoneyService optimistic = services().writeMode(WriteMode.OPTIMISTIC).moneyService();
+		Account account = new Account(1L, "111-222", AccountStatus.ACTIVE, 1_000_000L);
+		DailyLimit limit = new DailyLimit(1L, 1L, LocalDate.now(clock), 0L, 0L);
+		when(accountPort.findIdByAccountNo("111-222")).thenReturn(1L);
+		when(accountPort.findByIdOptimistic(1L)).thenReturn(account);
+		when(dailyLimitPort.getOrCreateOptimistic(1L, LocalDate.now(clock))).thenReturn(limit);
+
+		com.jangmuyeong.remittance.application.dto.result.BalanceResult res =
+			optimistic.withdraw(new WithdrawCommand("111-222", 200_000));
+
+		assertThat(res.balance()).isEqualTo(800_000L);
+		assertThat(limit.getWithdrawSum()).isEqualTo(200_000L);
+		verify(accountPort).update(account);
+		verify(dailyLimitPort).save(limit);
+		verify(accountPort, never()).findByIdForUpdate(anyLong());
+		verify(dailyLimitPort, never()).getOrCreate(anyLong(), any());
+	}
+
+	@Test
+	void optimistic_deposit_throws_when_account_disappears() {
+		MoneyService optimistic = services().writeMode(WriteMode.OPTIMISTIC).moneyService();
+		when(accountPort.findIdByAccountNo("111-222")).thenReturn(1L);
+		when(accountPort.findByIdOptimistic(1L)).thenReturn(null);
+
+		assertThatThrownBy(() -> optimistic.deposit(new DepositCommand("111-222", 1000)))
+			.isInstanceOf(DomainException.class)
+			.hasMessageContaining(ErrorCode.ACCOUNT_NOT_FOUND.name());
+
+		verifyNoInteractions(ledgerPort);
+	}
+
+	@Test
+	void adaptive_withdraw_locks_only_contended_accounts() {
+		AccountContentionTracker contention = new AccountContentionTracker(64, Duration.ofSeconds(10), 3, Duration.ofMillis(2), () -> 0L);
+		MoneyService adaptive = services().writeMode(WriteMode.ADAPTIVE).contention(contention).moneyService();
+		when(accountPort.findIdByAccountNo("acc-1")).thenReturn(1L);
+		when(accountPort.findIdByAccountNo("acc-2")).thenReturn(2L);
+		when(dailyLimitPort.getOrCreateOptimistic(1L, LocalDate.now(clock)))
+			.thenReturn(new DailyLimit(1L, 1L, LocalDate.now(clock), 0L, 0L));
+		when(dailyLimitPort.getOrCreate(2L, LocalDate.now(clock)))
+			.thenReturn(new DailyLimit(2L, 2L, LocalDate.now(clock), 0L, 0L));
+		when(accountPort.findByIdOptimistic(1L)).thenReturn(new Account(1L, "acc-1", AccountStatus.ACTIVE, 100_000L));
+		when(accountPort.findByIdForUpdate(2L)).thenReturn(new Account(2L, "acc-2", AccountStatus.ACTIVE, 100_000L));
+		for (int i = 0; i < 3; i++) contention.recordConflict(2L);
+
+		adaptive.withdraw(new WithdrawCommand("acc-1", 1_000));
+		adaptive.withdraw(new WithdrawCommand("acc-2", 1_000));
+
+		verify(accountPort, never()).findByIdForUpdate(1L);
+		verify(dailyLimitPort, never()).getOrCreate(eq(1L), any());
+		verify(accountPort, never()).findByIdOptimistic(2L);
+		verify(dailyLimitPort, never()).getOrCreateOptimistic(eq(2L), any());
+	}
+
+	@Test
+	void sharded_deposit_credits_a_shard_without_locking_account_row() {
+		MoneyService sharded = sharded(WriteMode.CONDITIONAL);
+		when(accountPort.findIdByAccountNo("merchant")).thenReturn(1L);
+		when(balanceShards.isSharded(1L)).thenReturn(true);
+		when(balanceShards.creditIfActive(1L, 5_000L)).thenReturn(105_000L);
+
+		com.jangmuyeong.remittance.application.dto.result.BalanceResult res =
+			sharded.deposit(new DepositCommand("merchant", 5_000));
+
+		assertThat(res.balance()).isEqualTo(105_000L);
+		ArgumentCaptor<LedgerEntry> captor = ArgumentCaptor.forClass(LedgerEntry.class);
+		verify(ledgerPort).save(captor.capture());
+		assertThat(captor.getValue().getBalanceAfter()).isEqualTo(105_000L);
+		verify(accountPort, never()).findByIdForUpdate(anyLong());
+		verify(accountPort, never()).depositIfActive(anyLong(), anyLong());
+	}
+
+	@Test
+	void sharded_deposit_to_inactive_account_is_rejected() {
+		MoneyService sharded = sharded(WriteMode.PESSIMISTIC);
+		when(accountPort.findIdByAccountNo("merchant")).thenReturn(1L);
+		when(balanceShards.isSharded(1L)).thenReturn(true);
+		when(balanceShards.creditIfActive(1L, 5_000L)).thenReturn(AccountPort.NOT_UPDATED);
+
+		assertThatThrownBy(() -> sharded.deposit(new DepositCommand("merchant", 5_000)))
+			.isInstanceOf(DomainException.class)
+			.hasMessageContaining(ErrorCode.ACCOUNT_INACTIVE.name());
+
+		verifyNoInteractions(ledgerPort);
+	}
+
+	@Test
+	void sharded_withdraw_validates_total_balance_then_debits_shards() {
+		MoneyService sharded = sharded(WriteMode.OPTIMISTIC);
+		DailyLimit limit = new DailyLimit(1L, 1L, LocalDate.now(clock), 0L, 0L);
+		when(accountPort.findIdByAccountNo("merchant")).thenReturn(1L);
+		when(balanceShards.isSharded(1L)).thenReturn(true);
+		// 계좌 행 잔액 0 + shard 합 300,000
+		when(balanceShards.findByIdForDebit(1L)).thenReturn(new Account(1L, "merchant", AccountStatus.ACTIVE, 300_000L));
+		when(dailyLimitPort.getOrCreate(1L, LocalDate.now(clock))).thenReturn(limit);
+		when(balanceShards.debit(1L, 200_000L)).thenReturn(100_000L);
+
+		com.jangmuyeong.remittance.application.dto.result.BalanceResult res =
+			sharded.withdraw(new WithdrawCommand("merchant", 200_000));
+
+		assertThat(res.balance()).isEqualTo(100_000L);
+		assertThat(limit.getWithdrawSum()).isEqualTo(200_000L);
+		ArgumentCaptor<LedgerEntry> captor = ArgumentCaptor.forClass(LedgerEntry.class);
+		verify(ledgerPort).save(captor.capture());
+		assertThat(captor.getValue().getBalanceAfter()).isEqualTo(100_000L);
+		verify(accountPort, never()).findByIdOptimistic(anyLong());
+		verify(accountPort, never()).update(any());
+	}
+
+	@Test
+	void sharded_withdraw_over_total_balance_does_not_touch_shards() {
+		MoneyService sharded = sharded(WriteMode.PESSIMISTIC);
+		when(accountPort.findIdByAccountNo("merchant")).thenReturn(1L);
+		when(balanceShards.isSharded(1L)).thenReturn(true);
+		when(balanceShards.findByIdForDebit(1L)).thenReturn(new Account(1L, "merchant", AccountStatus.ACTIVE, 100_000L));
+		when(dailyLimitPort.getOrCreate(1L, LocalDate.now(clock)))
+			.thenReturn(new DailyLimit(1L, 1L, LocalDate.now(clock), 0L, 0L));
+
+		assertThatThrownBy(() -> sharded.withdraw(new WithdrawCommand("merchant", 200_000)))
+			.isInstanceOf(DomainException.class)
+			.hasMessageContaining(ErrorCode.INSUFFICIENT_BALANCE.name());
+
+		verify(balanceShards, never()).debit(anyLong(), anyLong());
+		verifyNoInteractions(ledgerPort);
+	}
+
+	@Test
+	void balance_of_sharded_account_adds_shard_balances() {
+		MoneyService sharded = sharded(WriteMode.PESSIMISTIC);
+		when(accountPort.findByAccountNo("merchant"))
+			.thenReturn(java.util.Optional.of(new Account(1L, "merchant", AccountStatus.ACTIVE, 1_000L)));
+		when(balanceShards.isSharded(1L)).thenReturn(true);
+		when(balanceShards.shardBalance(1L)).thenReturn(49_000L);
+
+		assertThat(sharded.balance("merchant").balance()).isEqualTo(50_000L);
+	}
+
+	@Test
+	void deferred_deposit_appends_pending_credit_without_ledger_or_lock() {
+		MoneyService deferred = deferred(WriteMode.CONDITIONAL);
+		when(accountPort.findIdByAccountNo("merchant")).thenReturn(1L);
+		when(pendingCredits.isDeferred(1L)).thenReturn(true);
+		when(pendingCredits.appendIfActive(1L, LedgerEntry.NO_ID, TransactionType.DEPOSIT, 5_000L, Instant.now(clock)))
+			.thenReturn(105_000L);
+
+		assertThat(deferred.deposit(new DepositCommand("merchant", 5_000)).balance()).isEqualTo(105_000L);
+
+		verifyNoInteractions(ledgerPort); // 원장은 반영 시점에 기록
+		verify(accountPort, never()).findByIdForUpdate(anyLong());
+		verify(accountPort, never()).depositIfActive(anyLong(), anyLong());
+	}
+
+	@Test
+	void deferred_withdraw_folds_pending_credits_before_locking() {
+		MoneyService deferred = deferred(WriteMode.CONDITIONAL);
+		when(accountPort.findIdByAccountNo("merchant")).thenReturn(1L);
+		when(pendingCredits.isDeferred(1L)).thenReturn(true);
+		// 반영 후 계좌 행 잔액 (미반영 입금 포함)
+		when(accountPort.findByIdForUpdate(1L)).thenReturn(new Account(1L, "merchant", AccountStatus.ACTIVE, 300_000L));
+		when(dailyLimitPort.getOrCreate(1L, LocalDate.now(clock)))
+			.thenReturn(new DailyLimit(1L, 1L, LocalDate.now(clock), 0L, 0L));
+
+		assertThat(deferred.withdraw(new WithdrawCommand("merchant", 200_000)).balance()).isEqualTo(100_000L);
+
+		InOrder inOrder = inOrder(pendingCredits, accountPort);
+		inOrder.verify(pendingCredits).fold(1L, PendingCreditPort.ALL);
+		inOrder.verify(accountPort).findByIdForUpdate(1L);
+		verify(accountPort, never()).withdrawIfSufficient(anyLong(), anyLong());
+	}
+
+	@Test
+	void balance_of_deferred_account_adds_pending_credits() {
+		MoneyService deferred = deferred(WriteMode.PESSIMISTIC);
+		when(accountPort.findByAccountNo("merchant"))
+			.thenReturn(java.util.Optional.of(new Account(1L, "merchant", AccountStatus.ACTIVE, 1_000L)));
+		when(pendingCredits.isDeferred(1L)).thenReturn(true);
+		when(pendingCredits.pendingBalance(1L)).thenReturn(9_000L);
+
+		assertThat(deferred.balance("merchant").balance()).isEqualTo(10_000L);
+	}
+
+	private MoneyService deferred(WriteMode writeMode) {
+		return services().writeMode(writeMode).pendingCredits(pendingCredits).moneyService();
+	}
+
+	private MoneyService sharded(WriteMode writeMode) {
+		return services().writeMode(writeMode).balanceShards(balanceShards).moneyService();
+	}
+
+	private UseCaseServices services() {
+		return UseCaseServices.of(accountPort, dailyLimitPort, ledgerPort, clock);
+	}
 }
@@ -4,21 +4,23 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneOffset;
 import java.util.List;
-import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.jangmuyeong.remittance.application.dto.command.RemitCommand;
+import com.jangmuyeong.remittance.application.dto.result.RemitResult;
 import com.jangmuyeong.remittance.domain.account.Account;
 import com.jangmuyeong.remittance.domain.account.AccountStatus;
 import com.jangmuyeong.remittance.domain.exception.DomainException;
@@ -27,8 +29,10 @@ import com.jangmuyeong.remittance.domain.ledger.TransactionType;
 import com.jangmuyeong.remittance.domain.limit.DailyLimit;
 import com.jangmuyeong.remittance.domain.policy.FeePolicy;
 import com.jangmuyeong.remittance.domain.port.AccountPort;
+import com.jangmuyeong.remittance.domain.port.BalanceShardPort;
 import com.jangmuyeong.remittance.domain.port.DailyLimitPort;
 import com.jangmuyeong.remittance.domain.port.LedgerPort;
+import com.jangmuyeong.remittance.domain.port.PendingCreditPort;
 
 @ExtendWith(MockitoExtension.class)
 class RemittanceServiceTest {
@@ -37,6 +41,9 @@ class RemittanceServiceTest {
 	@Mock DailyLimitPort dailyLimitPort;
 	@Mock LedgerPort ledgerPort;
 	@Mock FeePolicy feePolicy;
+	@Mock BalanceShardPort balanceShards;
+	@Mock PendingCreditPort pendingCredits;
+	@Captor ArgumentCaptor<List<LedgerEntry>> ledgers;
 
 	Clock clock;
 	RemittanceService service;
@@ -44,7 +51,7 @@ class RemittanceServiceTest {
 	@BeforeEach
 	void setUp() {
 		clock = Clock.fixed(Instant.parse("2025-12-30T10:00:00Z"), ZoneOffset.UTC);
-		service = new RemittanceService(accountPort, dailyLimitPort, ledgerPort, feePolicy, clock);
+		service = services().remittanceService();
 	}
 
 	@Test
@@ -59,19 +66,17 @@ class RemittanceServiceTest {
 		Account lockedFrom = new Account(fromId, fromNo, AccountStatus.ACTIVE, 1_000_000L);
 		Account lockedTo = new Account(toId, toNo, AccountStatus.ACTIVE, 0L);
 
-		when(accountPort.findByAccountNo(fromNo)).thenReturn(Optional.of(baseFrom));
-		when(accountPort.findByAccountNo(toNo)).thenReturn(Optional.of(baseTo));
+		when(accountPort.findIdByAccountNo(fromNo)).thenReturn(baseFrom.getId());
+		when(accountPort.findIdByAccountNo(toNo)).thenReturn(baseTo.getId());
 
-		when(accountPort.findByIdForUpdate(1L)).thenReturn(Optional.of(lockedFrom));
-		when(accountPort.findByIdForUpdate(2L)).thenReturn(Optional.of(lockedTo));
+		when(accountPort.findByIdForUpdate(1L)).thenReturn(lockedFrom);
+		when(accountPort.findByIdForUpdate(2L)).thenReturn(lockedTo);
 
-		when(accountPort.save(any(Account.class))).thenAnswer(inv -> inv.getArgument(0));
 
 		when(feePolicy.calculateFee(100_000L)).thenReturn(1_000L);
 
 		DailyLimit limit = new DailyLimit(1L, fromId, LocalDate.now(clock), 0L, 0L);
 		when(dailyLimitPort.getOrCreate(eq(fromId), eq(LocalDate.now(clock)))).thenReturn(limit);
-		when(dailyLimitPort.save(any(DailyLimit.class))).thenAnswer(inv -> inv.getArgument(0));
 
 		com.jangmuyeong.remittance.application.dto.result.RemitResult res =
 			service.remit(new RemitCommand(fromNo, toNo, 100_000L));
@@ -82,9 +87,9 @@ class RemittanceServiceTest {
 		assertThat(res.fromAccountNo()).isEqualTo(fromNo);
 		assertThat(res.toAccountNo()).isEqualTo(toNo);
 
-		ArgumentCaptor<LedgerEntry> captor = ArgumentCaptor.forClass(LedgerEntry.class);
-		verify(ledgerPort, times(3)).save(captor.capture());
-		List<LedgerEntry> entries = captor.getAllValues();
+		verify(ledgerPort).saveAll(ledgers.capture());
+		verify(ledgerPort, never()).save(any());
+		List<LedgerEntry> entries = ledgers.getValue();
 
 		assertThat(entries).hasSize(3);
 
@@ -110,6 +115,132 @@ class RemittanceServiceTest {
 		assertThat(entries.get(2).getBalanceAfter()).isEqualTo(100_000L);
 	}
 
+	@Test
+	void remit_consolidated_writes_fee_on_transfer_out_row() {
+		service = services().ledgerFormat(TransferLedgerFormat.CONSOLIDATED).remittanceService();
+		List<LedgerEntry> entries = remitAndCaptureLedgers(1_000L);
+
+		assertThat(entries).extracting(LedgerEntry::getType)
+			.containsExactly(TransactionType.TRANSFER_OUT, TransactionType.TRANSFER_IN);
+		assertThat(entries.get(0).getAmount()).isEqualTo(100_000L);
+		assertThat(entries.get(0).getFeeAmount()).isEqualTo(1_000L);
+		assertThat(entries.get(0).getBalanceAfter()).isEqualTo(899_000L);
+		assertThat(entries.get(1).getAmount()).isEqualTo(100_000L);
+	}
+
+	@Test
+	void remit_consolidated_keeps_split_rows_when_fee_is_zero() {
+		service = services().ledgerFormat(TransferLedgerFormat.CONSOLIDATED).remittanceService();
+		List<LedgerEntry> entries = remitAndCaptureLedgers(0L);
+
+		assertThat(entries).extracting(LedgerEntry::getType)
+			.containsExactly(TransactionType.TRANSFER_OUT, TransactionType.FEE, TransactionType.TRANSFER_IN);
+	}
+
+	private List<LedgerEntry> remitAndCaptureLedgers(long fee) {
+		when(accountPort.findIdByAccountNo("111-222")).thenReturn(1L);
+		when(accountPort.findIdByAccountNo("333-444")).thenReturn(2L);
+		when(accountPort.findByIdForUpdate(1L)).thenReturn(new Account(1L, "111-222", AccountStatus.ACTIVE, 1_000_000L));
+		when(accountPort.findByIdForUpdate(2L)).thenReturn(new Account(2L, "333-444", AccountStatus.ACTIVE, 0L));
+		when(feePolicy.calculateFee(100_000L)).thenReturn(fee);
+		when(dailyLimitPort.getOrCreate(1L, LocalDate.now(clock)))
+			.thenReturn(new DailyLimit(1L, 1L, LocalDate.now(clock), 0L, 0L));
+
+		service.remit(new RemitCommand("111-222", "333-444", 100_000L));
+
+		verify(ledgerPort).saveAll(ledgers.capture());
+		return ledgers.getValue();
+	}
+
+	@Test
+	void remit_optimistic_reads_accounts_and_limit_without_locks() {
+		service = services().writeMode(WriteMode.OPTIMISTIC).remittanceService();
+		Account from = new Account(1L, "111-222", AccountStatus.ACTIVE, 1_000_000L);
+		Account to = new Account(2L, "333-444", AccountStatus.ACTIVE, 0L);
+		DailyLimit limit = new DailyLimit(1L, 1L, LocalDate.now(clock), 0L, 0L);
+		when(accountPort.findIdByAccountNo("111-222")).thenReturn(1L);
+		when(accountPort.findIdByAccountNo("333-444")).thenReturn(2L);
+		when(accountPort.findByIdOptimistic(1L)).thenReturn(from);
+		when(accountPort.findByIdOptimistic(2L)).thenReturn(to);
+		when(feePolicy.calculateFee(100_000L)).thenReturn(1_000L);
+		when(dailyLimitPort.getOrCreateOptimistic(1L, LocalDate.now(clock))).thenReturn(limit);
+
+		RemitResult res = service.remit(new RemitCommand("111-222", "333-444", 100_000L));
+
+		assertThat(res.fromBalance()).isEqualTo(899_000L);
+		assertThat(res.toBalance()).isEqualTo(100_000L);
+		assertThat(limit.getTransferSum()).isEqualTo(100_000L);
+		verify(accountPort).update(from);
+		verify(accountPort).update(to);
+		verify(accountPort, never()).findByIdForUpdate(anyLong());
+		verify(dailyLimitPort, never()).getOrCreate(anyLong(), any());
+	}
+
+	@Test
+	void remit_adaptive_locks_both_accounts_when_one_is_contended() {
+		AccountContentionTracker contention = new AccountContentionTracker(64, Duration.ofSeconds(10), 3, Duration.ofMillis(2), () -> 0L);
+		for (int i = 0; i < 3; i++) contention.recordConflict(2L);
+		service = services().writeMode(WriteMode.ADAPTIVE).contention(contention).remittanceService();
+
+		remitAndCaptureLedgers(1_000L);
+
+		verify(accountPort).findByIdForUpdate(1L);
+		verify(accountPort).findByIdForUpdate(2L);
+		verify(accountPort, never()).findByIdOptimistic(anyLong());
+		verify(dailyLimitPort, never()).getOrCreateOptimistic(anyLong(), any());
+	}
+
+	@Test
+	void remit_to_sharded_account_credits_a_shard_without_locking_recipient() {
+		service = sharded();
+		Account from = new Account(1L, "111-222", AccountStatus.ACTIVE, 1_000_000L);
+		when(accountPort.findIdByAccountNo("111-222")).thenReturn(1L);
+		when(accountPort.findIdByAccountNo("merchant")).thenReturn(2L);
+		when(balanceShards.isSharded(1L)).thenReturn(false);
+		when(balanceShards.isSharded(2L)).thenReturn(true);
+		when(accountPort.findByIdForUpdate(1L)).thenReturn(from);
+		when(feePolicy.calculateFee(100_000L)).thenReturn(1_000L);
+		when(dailyLimitPort.getOrCreate(1L, LocalDate.now(clock)))
+			.thenReturn(new DailyLimit(1L, 1L, LocalDate.now(clock), 0L, 0L));
+		when(balanceShards.creditIfActive(2L, 100_000L)).thenReturn(5_100_000L);
+
+		RemitResult res = service.remit(new RemitCommand("111-222", "merchant", 100_000L));
+
+		assertThat(res.fromBalance()).isEqualTo(899_000L);
+		assertThat(res.toBalance()).isEqualTo(5_100_000L);
+		assertThat(res.toAccountNo()).isEqualTo("merchant");
+		verify(accountPort, never()).findByIdForUpdate(2L);
+		verify(accountPort).update(from);
+		verify(ledgerPort).saveAll(ledgers.capture());
+		LedgerEntry transferIn = ledgers.getValue().get(ledgers.getValue().size() - 1);
+		assertThat(transferIn.getType()).isEqualTo(TransactionType.TRANSFER_IN);
+		assertThat(transferIn.getBalanceAfter()).isEqualTo(5_100_000L);
+	}
+
+	@Test
+	void remit_between_sharded_accounts_touches_shards_in_ascending_id_order() {
+		service = sharded();
+		when(accountPort.findIdByAccountNo("settle")).thenReturn(5L);
+		when(accountPort.findIdByAccountNo("merchant")).thenReturn(3L);
+		when(balanceShards.isSharded(anyLong())).thenReturn(true);
+		when(balanceShards.findByIdForDebit(5L)).thenReturn(new Account(5L, "settle", AccountStatus.ACTIVE, 1_000_000L));
+		when(feePolicy.calculateFee(100_000L)).thenReturn(1_000L);
+		when(dailyLimitPort.getOrCreate(5L, LocalDate.now(clock)))
+			.thenReturn(new DailyLimit(1L, 5L, LocalDate.now(clock), 0L, 0L));
+		when(balanceShards.creditIfActive(3L, 100_000L)).thenReturn(100_000L);
+		when(balanceShards.debit(5L, 101_000L)).thenReturn(899_000L);
+
+		RemitResult res = service.remit(new RemitCommand("settle", "merchant", 100_000L));
+
+		assertThat(res.fromBalance()).isEqualTo(899_000L);
+		assertThat(res.toBalance()).isEqualTo(100_000L);
+		InOrder inOrder = inOrder(balanceShards);
+		inOrder.verify(balanceShards).creditIfActive(3L, 100_000L);
+		inOrder.verify(balanceShards).debit(5L, 101_000L);
+		verify(accountPort, never()).findByIdForUpdate(anyLong());
+		verify(accountPort, never()).update(any());
+	}
+
 	@Test
 	void remit_throws_when_same_account() {
 		assertThatThrownBy(() -> service.remit(new RemitCommand("111-222", "111-222", 1000L)))
@@ -131,17 +262,15 @@ class RemittanceServiceTest {
 		Account locked3 = new Account(3L, toNo, AccountStatus.ACTIVE, 0L);
 		Account locked5 = new Account(5L, fromNo, AccountStatus.ACTIVE, 1_000_000L);
 
-		when(accountPort.findByAccountNo(fromNo)).thenReturn(Optional.of(baseFrom));
-		when(accountPort.findByAccountNo(toNo)).thenReturn(Optional.of(baseTo));
+		when(accountPort.findIdByAccountNo(fromNo)).thenReturn(baseFrom.getId());
+		when(accountPort.findIdByAccountNo(toNo)).thenReturn(baseTo.getId());
 
-		when(accountPort.findByIdForUpdate(3L)).thenReturn(Optional.of(locked3));
-		when(accountPort.findByIdForUpdate(5L)).thenReturn(Optional.of(locked5));
-		when(accountPort.save(any(Account.class))).thenAnswer(inv -> inv.getArgument(0));
+		when(accountPort.findByIdForUpdate(3L)).thenReturn(locked3);
+		when(accountPort.findByIdForUpdate(5L)).thenReturn(locked5);
 
 		when(feePolicy.calculateFee(100_000L)).thenReturn(1_000L);
 		DailyLimit limit = new DailyLimit(1L, 5L, LocalDate.now(clock), 0L, 0L);
 		when(dailyLimitPort.getOrCreate(eq(5L), eq(LocalDate.now(clock)))).thenReturn(limit);
-		when(dailyLimitPort.save(any(DailyLimit.class))).thenAnswer(inv -> inv.getArgument(0));
 
 		service.remit(new RemitCommand(fromNo, toNo, 100_000L));
 
@@ -162,11 +291,11 @@ class RemittanceServiceTest {
 		Account lockedFrom = new Account(fromId, fromNo, AccountStatus.ACTIVE, 10_000_000L);
 		Account lockedTo = new Account(toId, toNo, AccountStatus.ACTIVE, 0L);
 
-		when(accountPort.findByAccountNo(fromNo)).thenReturn(Optional.of(baseFrom));
-		when(accountPort.findByAccountNo(toNo)).thenReturn(Optional.of(baseTo));
+		when(accountPort.findIdByAccountNo(fromNo)).thenReturn(baseFrom.getId());
+		when(accountPort.findIdByAccountNo(toNo)).thenReturn(baseTo.getId());
 
-		when(accountPort.findByIdForUpdate(1L)).thenReturn(Optional.of(lockedFrom));
-		when(accountPort.findByIdForUpdate(2L)).thenReturn(Optional.of(lockedTo));
+		when(accountPort.findByIdForUpdate(1L)).thenReturn(lockedFrom);
+		when(accountPort.findByIdForUpdate(2L)).thenReturn(lockedTo);
 		when(feePolicy.calculateFee(anyLong())).thenReturn(0L);
 
 		// 이미 2,000,000 이체된 상태에서 1,500,000 추가 -> 한도 초과
@@ -177,7 +306,67 @@ class RemittanceServiceTest {
 			.isInstanceOf(DomainException.class);
 
 		verify(dailyLimitPort, never()).save(any()); // addTransfer에서 터짐
-		verify(accountPort, never()).save(any());
-		verify(ledgerPort, never()).save(any());
+		verify(accountPort, never()).update(any());
+		verify(ledgerPort, never()).saveAll(any());
+	}
+
+	@Test
+	void remit_to_deferred_account_appends_pending_credit_and_leaves_transfer_in_to_fold() {
+		service = deferred();
+		Account from = new Account(1L, "111-222", AccountStatus.ACTIVE, 1_000_000L);
+		when(accountPort.findIdByAccountNo("111-222")).thenReturn(1L);
+		when(accountPort.findIdByAccountNo("merchant")).thenReturn(2L);
+		when(pendingCredits.isDeferred(1L)).thenReturn(false);
+		when(pendingCredits.isDeferred(2L)).thenReturn(true);
+		when(accountPort.findByIdForUpdate(1L)).thenReturn(from);
+		when(feePolicy.calculateFee(100_000L)).thenReturn(1_000L);
+		when(dailyLimitPort.getOrCreate(1L, LocalDate.now(clock)))
+			.thenReturn(new DailyLimit(1L, 1L, LocalDate.now(clock), 0L, 0L));
+		when(pendingCredits.appendIfActive(2L, 1L, TransactionType.TRANSFER_IN, 100_000L, Instant.now(clock)))
+			.thenReturn(5_100_000L);
+
+		RemitResult res = service.remit(new RemitCommand("111-222", "merchant", 100_000L));
+
+		assertThat(res.fromBalance()).isEqualTo(899_000L);
+		assertThat(res.toBalance()).isEqualTo(5_100_000L);
+		verify(accountPort, never()).findByIdForUpdate(2L);
+		verify(ledgerPort).saveAll(ledgers.capture());
+		assertThat(ledgers.getValue()).extracting(LedgerEntry::getType)
+			.containsExactly(TransactionType.TRANSFER_OUT, TransactionType.FEE);
+	}
+
+	@Test
+	void remit_from_deferred_account_folds_pending_credits_in_lock_order() {
+		service = deferred();
+		when(accountPort.findIdByAccountNo("merchant")).thenReturn(2L);
+		when(accountPort.findIdByAccountNo("111-222")).thenReturn(1L);
+		when(pendingCredits.isDeferred(1L)).thenReturn(false);
+		when(pendingCredits.isDeferred(2L)).thenReturn(true);
+		Account to = new Account(1L, "111-222", AccountStatus.ACTIVE, 0L);
+		when(accountPort.findByIdForUpdate(1L)).thenReturn(to);
+		when(accountPort.findByIdForUpdate(2L)).thenReturn(new Account(2L, "merchant", AccountStatus.ACTIVE, 500_000L));
+		when(feePolicy.calculateFee(100_000L)).thenReturn(1_000L);
+		when(dailyLimitPort.getOrCreate(2L, LocalDate.now(clock)))
+			.thenReturn(new DailyLimit(1L, 2L, LocalDate.now(clock), 0L, 0L));
+
+		RemitResult res = service.remit(new RemitCommand("merchant", "111-222", 100_000L));
+
+		assertThat(res.fromBalance()).isEqualTo(399_000L);
+		InOrder inOrder = inOrder(accountPort, pendingCredits);
+		inOrder.verify(accountPort).findByIdForUpdate(1L);
+		inOrder.verify(pendingCredits).fold(2L, PendingCreditPort.ALL);
+		inOrder.verify(accountPort).findByIdForUpdate(2L);
+	}
+
+	private RemittanceService deferred() {
+		return services().pendingCredits(pendingCredits).remittanceService();
+	}
+
+	private RemittanceService sharded() {
+		return services().balanceShards(balanceShards).remittanceService();
+	}
+
+	private UseCaseServices services() {
+		return UseCaseServices.of(accountPort, dailyLimitPort, ledgerPort, clock).feePolicy(feePolicy);
 	}
 }
@@ -5,7 +5,6 @@ import static org.mockito.Mockito.*;
 
 import java.time.Instant;
 import java.util.List;
-import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -31,13 +30,13 @@ class TransactionQueryServiceTest {
 	@Test
 	void latest_returns_ledger_list_when_account_exists() {
 		Account a = new Account(1L, "111-222", AccountStatus.ACTIVE, 0L);
-		when(accountPort.findByAccountNo("111-222")).thenReturn(Optional.of(a));
+		when(accountPort.findIdByAccountNo("111-222")).thenReturn(a.getId());
 
 		List<LedgerEntry> ledgers = List.of(
 			new LedgerEntry(
 				1L,
 				1L,
-				null,
+				LedgerEntry.NO_ID,
 				TransactionType.DEPOSIT,
 				1000L,
 				0L,
@@ -55,11 +54,45 @@ class TransactionQueryServiceTest {
 
 	@Test
 	void latest_throws_when_account_not_found() {
-		when(accountPort.findByAccountNo("999-000")).thenReturn(Optional.empty());
+		when(accountPort.findIdByAccountNo("999-000")).thenReturn(Account.NO_ID);
 
 		assertThatThrownBy(() -> service.latest("999-000", 20))
 			.isInstanceOf(DomainException.class);
 
 		verify(ledgerPort, never()).findLatestByAccountId(anyLong(), anyInt());
 	}
-}
\ No newline at end of file
+
+	@Test
+	void latest_splits_consolidated_transfer_out_into_fee_and_transfer_out() {
+		Instant t = Instant.parse("2025-12-30T10:00:00Z");
+		LedgerEntry consolidated = new LedgerEntry(7L, 1L, 2L, TransactionType.TRANSFER_OUT, 100_000L, 1_000L, t, 899_000L);
+		LedgerEntry deposit = new LedgerEntry(5L, 1L, LedgerEntry.NO_ID, TransactionType.DEPOSIT, 1_000_000L, 0L, t, 1_000_000L);
+		when(accountPort.findIdByAccountNo("111-222")).thenReturn(1L);
+		when(ledgerPort.findLatestByAccountId(1L, 20)).thenReturn(List.of(consolidated, deposit));
+
+		List<LedgerEntry> res = service.latest("111-222", 20);
+
+		assertThat(res).extracting(LedgerEntry::getType)
+			.containsExactly(TransactionType.FEE, TransactionType.TRANSFER_OUT, TransactionType.DEPOSIT);
+		assertThat(res.get(0).getAmount()).isEqualTo(0L);
+		assertThat(res.get(0).getFeeAmount()).isEqualTo(1_000L);
+		assertThat(res.get(1).getAmount()).isEqualTo(100_000L);
+		assertThat(res.get(1).getFeeAmount()).isEqualTo(0L);
+		assertThat(res.get(0).getBalanceAfter()).isEqualTo(899_000L);
+		assertThat(res.get(1).getBalanceAfter()).isEqualTo(899_000L);
+	}
+
+	@Test
+	void split_consolidated_truncates_to_size() {
+		Instant t = Instant.parse("2025-12-30T10:00:00Z");
+		List<LedgerEntry> rows = List.of(
+			new LedgerEntry(9L, 1L, 2L, TransactionType.TRANSFER_OUT, 100L, 10L, t, 800L),
+			new LedgerEntry(8L, 1L, 2L, TransactionType.TRANSFER_OUT, 100L, 10L, t, 910L)
+		);
+
+		assertThat(TransactionQueryService.splitConsolidated(rows, 3)).extracting(LedgerEntry::getType)
+			.containsExactly(TransactionType.FEE, TransactionType.TRANSFER_OUT, TransactionType.FEE);
+		assertThat(TransactionQueryService.splitConsolidated(rows, 1)).extracting(LedgerEntry::getType)
+			.containsExactly(TransactionType.FEE);
+	}
+}
@@ -0,0 +1,92 @@
+package com.jangmuyeong.remittance.application.service;
+
+import java.time.Clock;
+import java.time.Duration;
+
+import com.jangmuyeong.remittance.domain.policy.FeePolicy;
+import com.jangmuyeong.remittance.domain.policy.PercentFeePolicy;
+import com.jangmuyeong.remittance.domain.port.AccountPort;
+import com.jangmuyeong.remittance.domain.port.BalanceShardPort;
+import com.jangmuyeong.remittance.domain.port.DailyLimitPort;
+import com.jangmuyeong.remittance.domain.port.LedgerPort;
+import com.jangmuyeong.remittance.domain.port.PendingCreditPort;
+
+/**
+ * 스프링 없이 MoneyService/RemittanceService를 만드는 테스트/벤치마크용 빌더 (java-test-fixtures)
+ *
+ * 필수 포트와 Clock만 받고 나머지는 application.yml 기본값과 같은 설정으로 채운다.
+ * - 수수료 1%(PercentFeePolicy), 송금 원장 SPLIT, 쓰기 모드 PESSIMISTIC
+ * - 경합 추적기 기본 설정, 잔액 샤딩/입금 지연 반영 계좌 없음(NONE)
+ */
+public final class UseCaseServices {
+
+	private final AccountPort accountPort;
+	private final DailyLimitPort dailyLimitPort;
+	private final LedgerPort ledgerPort;
+	private final Clock clock;
+	private FeePolicy feePolicy = new PercentFeePolicy();
+	private TransferLedgerFormat ledgerFormat = TransferLedgerFormat.SPLIT;
+	private WriteMode writeMode = WriteMode.PESSIMISTIC;
+	private AccountContentionTracker contention;
+	private BalanceShardPort balanceShards = BalanceShardPort.NONE;
+	private PendingCreditPort pendingCredits = PendingCreditPort.NONE;
+
+	private UseCaseServices(AccountPort accountPort, DailyLimitPort dailyLimitPort, LedgerPort ledgerPort,
+		Clock clock) {
+		this.accountPort = accountPort;
+		this.dailyLimitPort = dailyLimitPort;
+		this.ledgerPort = ledgerPort;
+		this.clock = clock;
+	}
+
+	public static UseCaseServices of(AccountPort accountPort, DailyLimitPort dailyLimitPort, LedgerPort ledgerPort,
+		Clock clock) {
+		return new UseCaseServices(accountPort, dailyLimitPort, ledgerPort, clock);
+	}
+
+	public UseCaseServices feePolicy(FeePolicy feePolicy) {
+		this.feePolicy = feePolicy;
+		return this;
+	}
+
+	public UseCaseServices ledgerFormat(TransferLedgerFormat ledgerFormat) {
+		this.ledgerFormat = ledgerFormat;
+		return this;
+	}
+
+	public UseCaseServices writeMode(WriteMode writeMode) {
+		this.writeMode = writeMode;
+		return this;
+	}
+
+	public UseCaseServices contention(AccountContentionTracker contention) {
+		this.contention = contention;
+		return this;
+	}
+
+	public UseCaseServices balanceShards(BalanceShardPort balanceShards) {
+		this.balanceShards = balanceShards;
+		return this;
+	}
+
+	public UseCaseServices pendingCredits(PendingCreditPort pendingCredits) {
+		this.pendingCredits = pendingCredits;
+		return this;
+	}
+
+	public MoneyService moneyService() {
+		return new MoneyService(accountPort, dailyLimitPort, ledgerPort, clock, writeMode, contention(),
+			balanceShards, pendingCredits);
+	}
+
+	public RemittanceService remittanceService() {
+		return new RemittanceService(accountPort, dailyLimitPort, ledgerPort, feePolicy, clock, ledgerFormat,
+			writeMode, contention(), balanceShards, pendingCredits);
+	}
+
+	// 지정하지 않았으면 application.yml 기본값(slots 4096, half-life 10s, contended-score 3, lock-wait-threshold 2ms)
+	private AccountContentionTracker contention() {
+		return contention != null ? contention
+			: new AccountContentionTracker(4096, Duration.ofSeconds(10), 3, Duration.ofMillis(2));
+	}
+}
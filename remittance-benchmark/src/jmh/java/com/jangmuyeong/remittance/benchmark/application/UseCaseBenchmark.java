@@ -0,0 +1,101 @@
+package com.jangmuyeong.remittance.benchmark.application;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.jangmuyeong.remittance.application.dto.command.RemitCommand;
+import com.jangmuyeong.remittance.application.dto.command.WithdrawCommand;
+import com.jangmuyeong.remittance.application.dto.result.BalanceResult;
+import com.jangmuyeong.remittance.application.dto.result.RemitResult;
+import com.jangmuyeong.remittance.application.service.MoneyService;
+import com.jangmuyeong.remittance.application.service.RemittanceService;
+import com.jangmuyeong.remittance.application.service.UseCaseServices;
+import com.jangmuyeong.remittance.application.service.TransactionQueryService;
+import com.jangmuyeong.remittance.benchmark.support.InMemoryAccountPort;
+import com.jangmuyeong.remittance.benchmark.support.InMemoryDailyLimitPort;
+import com.jangmuyeong.remittance.benchmark.support.InMemoryLedgerPort;
+import com.jangmuyeong.remittance.benchmark.support.SteppingClock;
+import com.jangmuyeong.remittance.domain.ledger.LedgerEntry;
+
+/**
+ * 유스케이스 단위(서비스 전체 흐름) 비용
+ * DB를 제외한 애플리케이션/도메인 계층의 요청당 비용과 할당량을 측정한다.
+ * 포트는 메모리 구현체를 사용하므로 DB 왕복 비용은 포함되지 않는다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class UseCaseBenchmark {
+
+	@Param({"1024"})
+	int accounts;
+
+	@Param({"20"})
+	int historySize;
+
+	private RemittanceService remittanceService;
+	private MoneyService moneyService;
+	private TransactionQueryService queryService;
+
+	private String[] accountNos;
+	private int cursor;
+
+	@Setup
+	public void setUp() {
+		InMemoryAccountPort accountPort = new InMemoryAccountPort();
+		InMemoryDailyLimitPort dailyLimitPort = new InMemoryDailyLimitPort();
+		InMemoryLedgerPort ledgerPort = new InMemoryLedgerPort(historySize);
+
+		// 호출마다 1초씩 흐르므로 계좌당 하루 거래 건수가 한도에 닿지 않는다
+		SteppingClock clock = new SteppingClock(Instant.parse("2025-12-30T00:00:00Z"), Duration.ofSeconds(1));
+
+		UseCaseServices services = UseCaseServices.of(accountPort, dailyLimitPort, ledgerPort, clock);
+		remittanceService = services.remittanceService();
+		moneyService = services.moneyService();
+		queryService = new TransactionQueryService(accountPort, ledgerPort);
+
+		accountNos = new String[accounts];
+		for (int i = 0; i < accounts; i++) {
+			accountNos[i] = "BENCH-" + i;
+			accountPort.open(accountNos[i], 1_000_000_000_000L);
+		}
+		// 조회 벤치마크가 빈 목록을 보지 않도록 이력을 채워 둔다
+		for (int i = 0; i < accounts * historySize; i++) {
+			remit();
+		}
+	}
+
+	@Benchmark
+	public RemitResult remit() {
+		int from = next();
+		int to = (from + 1) % accounts;
+		return remittanceService.remit(new RemitCommand(accountNos[from], accountNos[to], 1_000L));
+	}
+
+	@Benchmark
+	public BalanceResult withdraw() {
+		return moneyService.withdraw(new WithdrawCommand(accountNos[next()], 1_000L));
+	}
+
+	@Benchmark
+	public List<LedgerEntry> latest() {
+		return queryService.latest(accountNos[next()], historySize);
+	}
+
+	private int next() {
+		int i = cursor;
+		cursor = (i + 1) % accounts;
+		return i;
+	}
+}
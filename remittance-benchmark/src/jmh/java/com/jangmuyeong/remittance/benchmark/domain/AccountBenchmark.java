@@ -0,0 +1,43 @@
+package com.jangmuyeong.remittance.benchmark.domain;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.jangmuyeong.remittance.domain.account.Account;
+import com.jangmuyeong.remittance.domain.account.AccountStatus;
+
+/**
+ * Account 잔액 변경 규칙(입금/출금) 단위 비용
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class AccountBenchmark {
+
+	private Account account;
+
+	@Setup
+	public void setUp() {
+		// 반복 실행 중 잔액 부족/오버플로가 나지 않을 만큼 충분한 잔액
+		account = new Account(1L, "111-222", AccountStatus.ACTIVE, Long.MAX_VALUE / 2);
+	}
+
+	@Benchmark
+	public long deposit() {
+		account.deposit(1_000L);
+		return account.getBalance();
+	}
+
+	@Benchmark
+	public long withdraw() {
+		account.withdraw(1_000L);
+		return account.getBalance();
+	}
+}
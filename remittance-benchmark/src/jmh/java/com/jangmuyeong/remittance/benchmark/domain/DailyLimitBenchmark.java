@@ -0,0 +1,53 @@
+package com.jangmuyeong.remittance.benchmark.domain;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import com.jangmuyeong.remittance.domain.exception.DomainException;
+import com.jangmuyeong.remittance.domain.exception.ErrorCode;
+import com.jangmuyeong.remittance.domain.limit.DailyLimit;
+
+/**
+ * 일 한도 누적 규칙 비용
+ * 실제 요청마다 DailyLimit이 새로 복원되므로 매 op마다 새 객체로 측정하고,
+ * 한도 초과(예외 생성) 경로도 따로 측정한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class DailyLimitBenchmark {
+
+	private final LocalDate today = LocalDate.of(2025, 12, 30);
+
+	@Benchmark
+	public long addWithdraw() {
+		DailyLimit limit = new DailyLimit(1L, 1L, today, 500_000L, 0L);
+		limit.addWithdraw(100_000L);
+		return limit.getWithdrawSum();
+	}
+
+	@Benchmark
+	public long addTransfer() {
+		DailyLimit limit = new DailyLimit(1L, 1L, today, 0L, 1_000_000L);
+		limit.addTransfer(100_000L);
+		return limit.getTransferSum();
+	}
+
+	@Benchmark
+	public ErrorCode addTransfer_rejected() {
+		DailyLimit limit = new DailyLimit(1L, 1L, today, 0L, 2_950_000L);
+		try {
+			limit.addTransfer(100_000L);
+			return null;
+		} catch (DomainException e) {
+			return e.getErrorCode();
+		}
+	}
+}
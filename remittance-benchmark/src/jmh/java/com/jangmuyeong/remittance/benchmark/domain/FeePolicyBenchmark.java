@@ -0,0 +1,32 @@
+package com.jangmuyeong.remittance.benchmark.domain;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import com.jangmuyeong.remittance.domain.policy.FeePolicy;
+import com.jangmuyeong.remittance.domain.policy.PercentFeePolicy;
+
+/**
+ * 수수료 계산 비용
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class FeePolicyBenchmark {
+
+	private final FeePolicy feePolicy = new PercentFeePolicy();
+	private long amount = 100_000L;
+
+	@Benchmark
+	public long calculateFee() {
+		// 상수 폴딩 방지를 위해 금액을 조금씩 바꿔가며 계산
+		amount = (amount & 0xFFFFF) + 1;
+		return feePolicy.calculateFee(amount);
+	}
+}
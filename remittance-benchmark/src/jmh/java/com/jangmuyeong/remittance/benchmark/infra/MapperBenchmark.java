@@ -0,0 +1,66 @@
+package com.jangmuyeong.remittance.benchmark.infra;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.jangmuyeong.remittance.domain.account.Account;
+import com.jangmuyeong.remittance.domain.account.AccountStatus;
+import com.jangmuyeong.remittance.domain.ledger.LedgerEntry;
+import com.jangmuyeong.remittance.domain.ledger.TransactionType;
+import com.jangmuyeong.remittance.infra.persistence.entity.AccountJpaEntity;
+import com.jangmuyeong.remittance.infra.persistence.entity.LedgerEntryJpaEntity;
+import com.jangmuyeong.remittance.infra.persistence.mapper.AccountMapper;
+import com.jangmuyeong.remittance.infra.persistence.mapper.LedgerMapper;
+
+/**
+ * 도메인 ↔ 엔티티 변환(*Mapper) 비용
+ * 요청 한 건마다 여러 번 호출되므로 변환 로직 변경이 op당 비용/할당에 어떤 영향을 주는지 확인한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class MapperBenchmark {
+
+	private AccountJpaEntity accountEntity;
+	private Account account;
+	private LedgerEntry ledgerEntry;
+	private LedgerEntryJpaEntity ledgerEntity;
+
+	@Setup
+	public void setUp() {
+		accountEntity = new AccountJpaEntity(1L, "111-222", AccountMapper.statusCode(AccountStatus.ACTIVE), 1_000_000L);
+		account = new Account(1L, "111-222", AccountStatus.ACTIVE, 1_000_000L);
+		ledgerEntry = new LedgerEntry(LedgerEntry.NO_ID, 1L, 2L, TransactionType.TRANSFER_OUT,
+			100_000L, 0L, Instant.parse("2025-12-30T10:00:00Z"), 899_000L);
+		ledgerEntity = LedgerMapper.toNewEntity(ledgerEntry, 1L);
+	}
+
+	@Benchmark
+	public Account accountToDomain() {
+		return AccountMapper.toDomain(accountEntity);
+	}
+
+	@Benchmark
+	public AccountJpaEntity accountApply() {
+		AccountMapper.apply(account, accountEntity);
+		return accountEntity;
+	}
+
+	@Benchmark
+	public LedgerEntryJpaEntity ledgerToNewEntity() {
+		return LedgerMapper.toNewEntity(ledgerEntry, 1L);
+	}
+
+	@Benchmark
+	public LedgerEntry ledgerToDomain() {
+		return LedgerMapper.toDomain(ledgerEntity);
+	}
+}
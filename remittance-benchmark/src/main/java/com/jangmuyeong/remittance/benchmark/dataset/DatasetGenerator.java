@@ -0,0 +1,304 @@
+package com.jangmuyeong.remittance.benchmark.dataset;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Calendar;
+import java.util.SplittableRandom;
+import java.util.TimeZone;
+
+import com.jangmuyeong.remittance.benchmark.support.ZipfSampler;
+import com.jangmuyeong.remittance.domain.account.Account;
+import com.jangmuyeong.remittance.domain.account.AccountStatus;
+import com.jangmuyeong.remittance.domain.exception.DomainException;
+import com.jangmuyeong.remittance.domain.ledger.TransactionType;
+import com.jangmuyeong.remittance.domain.limit.DailyLimit;
+import com.jangmuyeong.remittance.domain.policy.FeePolicy;
+import com.jangmuyeong.remittance.domain.policy.PercentFeePolicy;
+import com.jangmuyeong.remittance.infra.persistence.id.TimeOrderedIdGenerator;
+import com.jangmuyeong.remittance.infra.persistence.mapper.AccountMapper;
+import com.jangmuyeong.remittance.infra.persistence.mapper.LedgerMapper;
+
+/**
+ * accounts / ledger_entries / daily_limits 대용량 합성 데이터 생성기
+ *
+ * - LedgerPortAdapter.save(1건씩) 대신 JDBC batch INSERT로 적재한다. (MySQL은 rewriteBatchedStatements=true 권장)
+ * - 계좌별 활동량은 Zipf 분포(핫 계좌 소수 + 롱테일), occurred_at은 years 기간 동안 시간순으로 증가한다.
+ * - id는 애플리케이션과 같은 TimeOrderedIdGenerator(도구용 노드 1023)로 occurred_at 시각 기준으로 발급한다.
+ * - 잔액/수수료/일 한도는 도메인 객체(Account, DailyLimit, PercentFeePolicy)로 검증하며 쌓으므로,
+ *   계좌 잔액 = 마지막 원장의 balance_after = 원장 합계, daily_limits 누적치 = 당일 출금/이체 합계가 성립한다.
+ *
+ * 스키마는 미리 있어야 한다. (애플리케이션을 한 번 기동해 ddl-auto로 생성)
+ * 실행: ./gradlew :remittance-benchmark:generateDataset --args="--accounts=100000 --ledger-rows=10000000 --years=3"
+ */
+public final class DatasetGenerator {
+
+	private static final Calendar UTC = Calendar.getInstance(TimeZone.getTimeZone(ZoneOffset.UTC));
+	private static final long PROGRESS_EVERY = 1_000_000L;
+
+	private final DatasetOptions options;
+	private final FeePolicy feePolicy = new PercentFeePolicy();
+	// 실제 시각 대신 생성 중인 데이터의 시각으로 id를 발급 (id 순서 = occurred_at 순서)
+	private long idClockMillis;
+	private final TimeOrderedIdGenerator ids = new TimeOrderedIdGenerator(TimeOrderedIdGenerator.TOOL_NODE, () -> idClockMillis);
+
+	private Account[] accounts;
+	private DailyLimit[] limits;
+	private long rows;
+	private long limitRows;
+	private long rejected;
+	private int pendingLedger;
+	private int pendingLimits;
+
+	DatasetGenerator(DatasetOptions options) {
+		this.options = options;
+	}
+
+	public static void main(String[] args) throws Exception {
+		DatasetOptions options = DatasetOptions.parse(args);
+		try (Connection conn = DriverManager.getConnection(options.dbUrl(), options.dbUser(), options.dbPassword())) {
+			DatasetStats stats = new DatasetGenerator(options).generate(conn);
+			System.out.println(stats);
+		}
+	}
+
+	/**
+	 * 생성 결과 요약
+	 */
+	record DatasetStats(int accounts, long ledgerRows, long dailyLimitRows, long rejected, Duration elapsed) {
+		@Override
+		public String toString() {
+			double seconds = Math.max(1, elapsed.toMillis()) / 1000.0;
+			return String.format("accounts=%d ledgerRows=%d dailyLimitRows=%d rejected=%d elapsed=%.1fs (%.0f rows/s)",
+				accounts, ledgerRows, dailyLimitRows, rejected, seconds, ledgerRows / seconds);
+		}
+	}
+
+	DatasetStats generate(Connection conn) throws SQLException {
+		long startNanos = System.nanoTime();
+		boolean autoCommit = conn.getAutoCommit();
+		conn.setAutoCommit(false);
+		try {
+			insertAccounts(conn);
+			try (PreparedStatement ledger = conn.prepareStatement(
+				"insert into ledger_entries (id, account_id, counterparty_account_id, type, amount, fee_amount, occurred_at, balance_after) "
+					+ "values (?, ?, ?, ?, ?, ?, ?, ?)");
+				 PreparedStatement limit = conn.prepareStatement(
+					 "insert into daily_limits (id, account_id, limit_date, withdraw_sum, transfer_sum) values (?, ?, ?, ?, ?)")) {
+				generateLedger(conn, ledger, limit);
+				for (int i = 0; i < limits.length; i++) {
+					flushLimit(conn, limit, i);
+				}
+				flush(conn, ledger, limit);
+			}
+			updateBalances(conn);
+			conn.commit();
+		} catch (SQLException | RuntimeException e) {
+			conn.rollback();
+			throw e;
+		} finally {
+			conn.setAutoCommit(autoCommit);
+		}
+		return new DatasetStats(accounts.length, rows, limitRows, rejected,
+			Duration.ofNanos(System.nanoTime() - startNanos));
+	}
+
+	private void insertAccounts(Connection conn) throws SQLException {
+		int n = options.accounts();
+		String pattern = options.prefix() + "-" + options.seed() + "-";
+		idClockMillis = ledgerStart().toEpochMilli();
+		accounts = new Account[n];
+		limits = new DailyLimit[n];
+		try (PreparedStatement ps = conn.prepareStatement(
+			"insert into accounts (id, account_no, status, balance) values (?, ?, ?, 0)")) {
+			for (int i = 0; i < n; i++) {
+				accounts[i] = new Account(ids.nextId(), pattern + String.format("%08d", i), AccountStatus.ACTIVE, 0L);
+				ps.setLong(1, accounts[i].getId());
+				ps.setString(2, accounts[i].getAccountNo());
+				ps.setByte(3, AccountMapper.statusCode(AccountStatus.ACTIVE));
+				ps.addBatch();
+				if ((i + 1) % options.batchSize() == 0) {
+					ps.executeBatch();
+					conn.commit();
+				}
+			}
+			ps.executeBatch();
+			conn.commit();
+		}
+	}
+
+	private Instant ledgerStart() {
+		Instant end = options.end().atStartOfDay(ZoneOffset.UTC).toInstant();
+		return end.minus(Duration.ofDays(365L * options.years()));
+	}
+
+	private void generateLedger(Connection conn, PreparedStatement ledger, PreparedStatement limit) throws SQLException {
+		SplittableRandom random = new SplittableRandom(options.seed());
+		int n = accounts.length;
+		// Zipf 순위 → 계좌 인덱스 (핫 계좌가 앞 id에 몰리지 않도록 섞는다)
+		int[] rankToAccount = shuffledIndexes(n, random);
+		ZipfSampler zipf = new ZipfSampler(n, options.zipfExponent());
+
+		Instant start = ledgerStart();
+		long spanMillis = Duration.ofDays(365L * options.years()).toMillis();
+
+		// 계좌 개설 입금 (시작 시점)
+		for (int i = 0; i < n; i++) {
+			Instant at = start.plusMillis(i % 86_400_000L);
+			long amount = logUniformAmount(random, 1_000_000, 50_000_000);
+			accounts[i].deposit(amount);
+			addLedger(conn, ledger, limit, i, -1, TransactionType.DEPOSIT, amount, 0L, at, accounts[i].getBalance());
+		}
+
+		long target = options.ledgerRows();
+		long lastMillis = start.toEpochMilli() + n;
+		while (rows < target) {
+			// 진행률에 비례해 시각을 전진 → 전체 기간에 고르게 분포하면서 시간순 유지
+			long millis = start.toEpochMilli() + (long) (spanMillis * ((double) rows / target)) + random.nextLong(1_000);
+			lastMillis = Math.max(lastMillis, millis);
+			Instant at = Instant.ofEpochMilli(lastMillis);
+			LocalDate date = LocalDate.ofInstant(at, ZoneOffset.UTC);
+
+			int a = rankToAccount[zipf.sample(random)];
+			int op = random.nextInt(100);
+			if (op < 30) {
+				long amount = logUniformAmount(random, 10_000, 2_000_000);
+				accounts[a].deposit(amount);
+				addLedger(conn, ledger, limit, a, -1, TransactionType.DEPOSIT, amount, 0L, at, accounts[a].getBalance());
+			} else if (op < 50) {
+				long amount = logUniformAmount(random, 10_000, 1_000_000);
+				if (accounts[a].getBalance() < amount || !tryLimit(conn, limit, a, date, amount, true)) {
+					rejected++;
+					continue;
+				}
+				accounts[a].withdraw(amount);
+				addLedger(conn, ledger, limit, a, -1, TransactionType.WITHDRAW, amount, 0L, at, accounts[a].getBalance());
+			} else {
+				int b = rankToAccount[zipf.sample(random)];
+				if (b == a) b = (a + 1 + random.nextInt(n - 1)) % n;
+				long amount = logUniformAmount(random, 10_000, 3_000_000);
+				long fee = feePolicy.calculateFee(amount);
+				if (accounts[a].getBalance() < amount + fee || !tryLimit(conn, limit, a, date, amount, false)) {
+					rejected++;
+					continue;
+				}
+				accounts[a].withdraw(amount + fee);
+				accounts[b].deposit(amount);
+				long fromAfter = accounts[a].getBalance();
+				addLedger(conn, ledger, limit, a, b, TransactionType.TRANSFER_OUT, amount, 0L, at, fromAfter);
+				addLedger(conn, ledger, limit, a, b, TransactionType.FEE, 0L, fee, at, fromAfter);
+				addLedger(conn, ledger, limit, b, a, TransactionType.TRANSFER_IN, amount, 0L, at, accounts[b].getBalance());
+			}
+		}
+	}
+
+	/**
+	 * 일 한도 누적. 날짜가 바뀌면 이전 날짜의 누적치를 daily_limits row로 내보낸다.
+	 */
+	private boolean tryLimit(Connection conn, PreparedStatement limit, int a, LocalDate date, long amount, boolean withdraw)
+		throws SQLException {
+		if (limits[a] == null || !limits[a].getDate().equals(date)) {
+			flushLimit(conn, limit, a);
+			limits[a] = new DailyLimit(DailyLimit.NO_ID, accounts[a].getId(), date, 0L, 0L);
+		}
+		try {
+			if (withdraw) {
+				limits[a].addWithdraw(amount);
+			} else {
+				limits[a].addTransfer(amount);
+			}
+			return true;
+		} catch (DomainException e) {
+			return false;
+		}
+	}
+
+	private void flushLimit(Connection conn, PreparedStatement limit, int a) throws SQLException {
+		DailyLimit l = limits[a];
+		if (l == null || (l.getWithdrawSum() == 0 && l.getTransferSum() == 0)) return;
+		limit.setLong(1, ids.nextId());
+		limit.setLong(2, l.getAccountId());
+		limit.setObject(3, l.getDate());
+		limit.setLong(4, l.getWithdrawSum());
+		limit.setLong(5, l.getTransferSum());
+		limit.addBatch();
+		limits[a] = null;
+		limitRows++;
+		if (++pendingLimits >= options.batchSize()) {
+			limit.executeBatch();
+			pendingLimits = 0;
+			conn.commit();
+		}
+	}
+
+	private void addLedger(Connection conn, PreparedStatement ledger, PreparedStatement limit, int a, int counterparty,
+		TransactionType type, long amount, long fee, Instant at, long balanceAfter) throws SQLException {
+		idClockMillis = at.toEpochMilli();
+		ledger.setLong(1, ids.nextId());
+		ledger.setLong(2, accounts[a].getId());
+		if (counterparty < 0) {
+			ledger.setNull(3, java.sql.Types.BIGINT);
+		} else {
+			ledger.setLong(3, accounts[counterparty].getId());
+		}
+		ledger.setByte(4, LedgerMapper.typeCode(type));
+		ledger.setLong(5, amount);
+		ledger.setLong(6, fee);
+		ledger.setTimestamp(7, Timestamp.from(at), UTC);
+		ledger.setLong(8, balanceAfter);
+		ledger.addBatch();
+		rows++;
+		if (++pendingLedger >= options.batchSize()) {
+			flush(conn, ledger, limit);
+		}
+		if (rows % PROGRESS_EVERY == 0) {
+			System.out.printf("%,d ledger rows (%s)%n", rows, at);
+		}
+	}
+
+	private void flush(Connection conn, PreparedStatement ledger, PreparedStatement limit) throws SQLException {
+		ledger.executeBatch();
+		limit.executeBatch();
+		pendingLedger = 0;
+		pendingLimits = 0;
+		conn.commit();
+	}
+
+	private void updateBalances(Connection conn) throws SQLException {
+		try (PreparedStatement ps = conn.prepareStatement("update accounts set balance = ? where id = ?")) {
+			for (int i = 0; i < accounts.length; i++) {
+				ps.setLong(1, accounts[i].getBalance());
+				ps.setLong(2, accounts[i].getId());
+				ps.addBatch();
+				if ((i + 1) % options.batchSize() == 0) {
+					ps.executeBatch();
+				}
+			}
+			ps.executeBatch();
+		}
+	}
+
+	/** 1,000원 단위, 로그 균등 분포 금액 (소액 거래가 많고 고액은 드물게) */
+	private static long logUniformAmount(SplittableRandom random, long min, long max) {
+		double v = Math.exp(random.nextDouble(Math.log(min), Math.log(max)));
+		return Math.max(min, Math.round(v / 1_000) * 1_000);
+	}
+
+	private static int[] shuffledIndexes(int n, SplittableRandom random) {
+		int[] a = new int[n];
+		for (int i = 0; i < n; i++) a[i] = i;
+		for (int i = n - 1; i > 0; i--) {
+			int j = random.nextInt(i + 1);
+			int t = a[i];
+			a[i] = a[j];
+			a[j] = t;
+		}
+		return a;
+	}
+}
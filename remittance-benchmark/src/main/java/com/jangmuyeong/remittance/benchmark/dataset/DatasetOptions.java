@@ -0,0 +1,61 @@
+package com.jangmuyeong.remittance.benchmark.dataset;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 대용량 데이터셋 생성 옵션 (--key=value 형식)
+ *
+ * --db-url=jdbc:mysql://localhost:3306/remittance?rewriteBatchedStatements=true
+ * --db-user=root / --db-password=root   (기본값: DB_USER / DB_PASSWORD 환경변수)
+ * --accounts=100000                     생성할 계좌 수
+ * --ledger-rows=10000000                생성할 원장 row 수(목표치, 마지막 거래까지 채우므로 약간 넘을 수 있음)
+ * --years=3                             occurred_at 분포 기간(end 이전 N년)
+ * --end=2026-01-01                      마지막 거래 시각(UTC, 해당 날짜 00:00)
+ * --zipf=1.0                            계좌별 활동량 치우침(Zipf 지수)
+ * --batch=5000                          JDBC batch 크기(=커밋 단위)
+ * --prefix=GEN                          계좌번호 접두어 (계좌번호: PREFIX-seed-00000001)
+ * --seed=42                             난수 시드
+ */
+record DatasetOptions(
+	String dbUrl,
+	String dbUser,
+	String dbPassword,
+	int accounts,
+	long ledgerRows,
+	int years,
+	LocalDate end,
+	double zipfExponent,
+	int batchSize,
+	String prefix,
+	long seed
+) {
+
+	static DatasetOptions parse(String[] args) {
+		Map<String, String> kv = new HashMap<>();
+		for (String arg : args) {
+			if (!arg.startsWith("--") || !arg.contains("=")) {
+				throw new IllegalArgumentException("expected --key=value but was: " + arg);
+			}
+			int eq = arg.indexOf('=');
+			kv.put(arg.substring(2, eq), arg.substring(eq + 1));
+		}
+
+		return new DatasetOptions(
+			kv.getOrDefault("db-url",
+				"jdbc:mysql://localhost:3306/remittance?useSSL=false&allowPublicKeyRetrieval=true"
+					+ "&serverTimezone=UTC&rewriteBatchedStatements=true"),
+			kv.getOrDefault("db-user", System.getenv().getOrDefault("DB_USER", "root")),
+			kv.getOrDefault("db-password", System.getenv().getOrDefault("DB_PASSWORD", "root")),
+			Integer.parseInt(kv.getOrDefault("accounts", "100000")),
+			Long.parseLong(kv.getOrDefault("ledger-rows", "10000000")),
+			Integer.parseInt(kv.getOrDefault("years", "3")),
+			LocalDate.parse(kv.getOrDefault("end", "2026-01-01")),
+			Double.parseDouble(kv.getOrDefault("zipf", "1.0")),
+			Integer.parseInt(kv.getOrDefault("batch", "5000")),
+			kv.getOrDefault("prefix", "GEN"),
+			Long.parseLong(kv.getOrDefault("seed", "42"))
+		);
+	}
+}
@@ -0,0 +1,19 @@
+package com.jangmuyeong.remittance.benchmark.load;
+
+/**
+ * 부하 대상 엔드포인트 (리포트는 엔드포인트별로 분리)
+ */
+enum Endpoint {
+	/** POST /accounts (시드 전용) */
+	CREATE_ACCOUNT,
+	/** POST /accounts/{accountNo}/deposit */
+	DEPOSIT,
+	/** POST /accounts/{accountNo}/withdraw */
+	WITHDRAW,
+	/** GET /accounts/{accountNo}/balance */
+	BALANCE,
+	/** POST /remittances */
+	REMIT,
+	/** GET /accounts/{accountNo}/transactions */
+	TRANSACTIONS
+}
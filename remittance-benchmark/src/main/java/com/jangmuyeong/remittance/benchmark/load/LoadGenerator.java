@@ -0,0 +1,329 @@
+package com.jangmuyeong.remittance.benchmark.load;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+/**
+ * End-to-end HTTP 부하 발생기
+ * 실제 서버(Tomcat → Jackson → Controller → RsData/GlobalExceptionHandler)를 JDK HttpClient로 호출하고,
+ * 엔드포인트별 응답 시간을 HdrHistogram 백분위 리포트(.hgrm)로 남긴다.
+ *
+ * - open 모드: 고정 도착률로 요청을 "예정 시각"에 보내고, 지연은 예정 시각부터 잰다.
+ *   서버가 밀려도 요청 발생이 늦춰지지 않으므로 coordinated omission 없는 꼬리 지연을 얻는다.
+ * - closed 모드: 고정 개수의 워커가 응답을 받은 뒤 다음 요청을 보낸다. (최대 처리량 확인용)
+ *
+ * 실행: ./gradlew :remittance-benchmark:loadTest --args="--mode=open --rate=500 --duration=60"
+ */
+public final class LoadGenerator {
+
+	private static final long MAX_LATENCY_MICROS = TimeUnit.HOURS.toMicros(1);
+
+	private final LoadOptions options;
+	private final HttpClient client;
+	private final ExecutorService executor;
+	private final Map<Endpoint, Recorder> latency = new EnumMap<>(Endpoint.class);
+	private final Map<Endpoint, Map<Integer, LongAdder>> statuses = new ConcurrentHashMap<>();
+	private final AtomicLong inFlight = new AtomicLong();
+	private final Endpoint[] weighted;
+	private String[] accountNos;
+	private volatile boolean recording;
+
+	LoadGenerator(LoadOptions options) {
+		this.options = options;
+		this.executor = VirtualThreads.newPerTaskExecutor();
+		this.client = HttpClient.newBuilder()
+			.executor(executor)
+			.connectTimeout(Duration.ofSeconds(5))
+			.build();
+		for (Endpoint e : Endpoint.values()) {
+			latency.put(e, new Recorder(MAX_LATENCY_MICROS, 3));
+		}
+		this.weighted = weightedEndpoints(options.mix());
+	}
+
+	public static void main(String[] args) throws Exception {
+		LoadOptions options = LoadOptions.parse(args);
+		LoadGenerator generator = new LoadGenerator(options);
+		try {
+			generator.run();
+		} finally {
+			generator.executor.shutdownNow();
+		}
+	}
+
+	void run() throws Exception {
+		seed();
+
+		log("warmup %ds (%s)", options.warmup().toSeconds(), options.mode());
+		recording = false;
+		drive(options.warmup());
+
+		log("measure %ds (%s)", options.duration().toSeconds(), options.mode());
+		latency.values().forEach(Recorder::reset);
+		statuses.clear();
+		recording = true;
+		long begin = System.nanoTime();
+		drive(options.duration());
+		long elapsed = System.nanoTime() - begin;
+		recording = false;
+
+		report(elapsed);
+	}
+
+	// ===================== 시드 =====================
+
+	/**
+	 * POST /accounts 로 계좌를 만들고 초기 입금까지 끝내 둔다.
+	 */
+	private void seed() throws Exception {
+		String runId = Long.toString(System.currentTimeMillis(), 36);
+		accountNos = new String[options.accounts()];
+		Semaphore permits = new Semaphore(32);
+		List<Future<?>> futures = new ArrayList<>();
+
+		log("seeding %d accounts (run=%s)", options.accounts(), runId);
+		for (int i = 0; i < accountNos.length; i++) {
+			String accountNo = "LOAD-" + runId + "-" + i;
+			accountNos[i] = accountNo;
+			permits.acquire();
+			futures.add(executor.submit(() -> {
+				try {
+					expectOk(post("/accounts", "{\"accountNo\":\"" + accountNo + "\"}"));
+					expectOk(post("/accounts/" + accountNo + "/deposit", amountBody(options.initialDeposit())));
+					return null;
+				} finally {
+					permits.release();
+				}
+			}));
+		}
+		for (Future<?> f : futures) f.get();
+	}
+
+	private void expectOk(HttpRequest request) throws IOException, InterruptedException {
+		HttpResponse<String> res = client.send(request, HttpResponse.BodyHandlers.ofString());
+		if (res.statusCode() != 200) {
+			throw new IllegalStateException("seed failed: " + request.uri() + " -> " + res.statusCode() + " " + res.body());
+		}
+	}
+
+	// ===================== 부하 =====================
+
+	private void drive(Duration duration) throws InterruptedException {
+		if (options.mode() == LoadOptions.Mode.OPEN) {
+			openLoop(duration);
+		} else {
+			closedLoop(duration);
+		}
+	}
+
+	/**
+	 * 고정 도착률: i번째 요청의 예정 시각 = start + i * interval
+	 * 응답을 기다리지 않고 예정 시각마다 가상 스레드에 넘긴다.
+	 */
+	private void openLoop(Duration duration) throws InterruptedException {
+		SplittableRandom random = new SplittableRandom(options.seed());
+		long interval = TimeUnit.SECONDS.toNanos(1) / options.rate();
+		long start = System.nanoTime();
+		long end = start + duration.toNanos();
+
+		for (long i = 0; ; i++) {
+			long intended = start + i * interval;
+			if (intended >= end) break;
+			parkUntil(intended);
+			Request request = nextRequest(random);
+			inFlight.incrementAndGet();
+			executor.execute(() -> send(request, intended));
+		}
+		awaitInFlight();
+	}
+
+	/**
+	 * 고정 동시성: 각 워커가 응답을 받은 직후 다음 요청을 보낸다.
+	 */
+	private void closedLoop(Duration duration) throws InterruptedException {
+		long end = System.nanoTime() + duration.toNanos();
+		List<Future<?>> workers = new ArrayList<>();
+		for (int w = 0; w < options.concurrency(); w++) {
+			SplittableRandom random = new SplittableRandom(options.seed() + w);
+			workers.add(executor.submit(() -> {
+				while (System.nanoTime() < end) {
+					Request request = nextRequest(random);
+					inFlight.incrementAndGet();
+					send(request, System.nanoTime());
+				}
+			}));
+		}
+		for (Future<?> f : workers) {
+			try {
+				f.get();
+			} catch (ExecutionException e) {
+				throw new IllegalStateException(e.getCause());
+			}
+		}
+	}
+
+	private void send(Request request, long intendedStart) {
+		int status;
+		try {
+			status = client.send(request.http(), HttpResponse.BodyHandlers.discarding()).statusCode();
+		} catch (IOException e) {
+			status = -1;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			status = -1;
+		} finally {
+			inFlight.decrementAndGet();
+		}
+
+		if (recording) {
+			long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intendedStart);
+			latency.get(request.endpoint()).recordValue(Math.min(micros, MAX_LATENCY_MICROS));
+			statuses.computeIfAbsent(request.endpoint(), k -> new ConcurrentHashMap<>())
+				.computeIfAbsent(status, k -> new LongAdder())
+				.increment();
+		}
+	}
+
+	private void awaitInFlight() throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+		while (inFlight.get() > 0 && System.nanoTime() < deadline) {
+			Thread.sleep(10);
+		}
+	}
+
+	private static void parkUntil(long deadline) {
+		long remaining;
+		while ((remaining = deadline - System.nanoTime()) > 0) {
+			LockSupport.parkNanos(remaining);
+		}
+	}
+
+	// ===================== 요청 생성 =====================
+
+	private record Request(Endpoint endpoint, HttpRequest http) {}
+
+	private Request nextRequest(SplittableRandom random) {
+		Endpoint endpoint = weighted[random.nextInt(weighted.length)];
+		int idx = random.nextInt(accountNos.length);
+		String account = accountNos[idx];
+		long amount = 1_000L + random.nextInt(9_001);
+
+		HttpRequest http = switch (endpoint) {
+			case DEPOSIT -> post("/accounts/" + account + "/deposit", amountBody(amount));
+			case WITHDRAW -> post("/accounts/" + account + "/withdraw", amountBody(amount));
+			case BALANCE -> get("/accounts/" + account + "/balance");
+			case TRANSACTIONS -> get("/accounts/" + account + "/transactions?size=20");
+			case REMIT -> {
+				// 자기 자신을 제외한 계좌 중 하나로 송금
+				String to = accountNos[(idx + 1 + random.nextInt(accountNos.length - 1)) % accountNos.length];
+				yield post("/remittances",
+					"{\"fromAccountNo\":\"" + account + "\",\"toAccountNo\":\"" + to + "\",\"amount\":" + amount + "}");
+			}
+			case CREATE_ACCOUNT -> throw new IllegalStateException("seed only");
+		};
+		return new Request(endpoint, http);
+	}
+
+	private static Endpoint[] weightedEndpoints(Map<Endpoint, Integer> mix) {
+		List<Endpoint> list = new ArrayList<>();
+		mix.forEach((endpoint, weight) -> {
+			for (int i = 0; i < weight; i++) list.add(endpoint);
+		});
+		if (list.isEmpty()) throw new IllegalArgumentException("empty mix");
+		return list.toArray(Endpoint[]::new);
+	}
+
+	private HttpRequest post(String path, String json) {
+		return HttpRequest.newBuilder(uri(path))
+			.header("Content-Type", "application/json")
+			.POST(HttpRequest.BodyPublishers.ofString(json))
+			.build();
+	}
+
+	private HttpRequest get(String path) {
+		return HttpRequest.newBuilder(uri(path)).GET().build();
+	}
+
+	private URI uri(String path) {
+		return options.baseUrl().resolve(path);
+	}
+
+	private static String amountBody(long amount) {
+		return "{\"amount\":" + amount + "}";
+	}
+
+	// ===================== 리포트 =====================
+
+	/**
+	 * 엔드포인트별 .hgrm(백분위 분포, ms 단위)과 요약(summary.txt)을 기록한다.
+	 */
+	private void report(long elapsedNanos) throws IOException {
+		Files.createDirectories(options.out());
+		double seconds = elapsedNanos / 1e9;
+
+		StringBuilder summary = new StringBuilder();
+		summary.append(String.format("mode=%s rate=%d concurrency=%d duration=%.1fs accounts=%d%n",
+			options.mode(), options.rate(), options.concurrency(), seconds, options.accounts()));
+		summary.append(String.format("%-13s %8s %9s %22s %9s %9s %9s %9s %9s%n",
+			"endpoint", "count", "req/s", "status", "p50(ms)", "p90(ms)", "p99(ms)", "p999(ms)", "max(ms)"));
+
+		for (Endpoint endpoint : Endpoint.values()) {
+			Histogram h = latency.get(endpoint).getIntervalHistogram();
+			if (h.getTotalCount() == 0) continue;
+
+			Path hgrm = options.out().resolve(endpoint.name().toLowerCase() + ".hgrm");
+			try (PrintStream ps = new PrintStream(Files.newOutputStream(hgrm))) {
+				h.outputPercentileDistribution(ps, 1000.0);
+			}
+
+			summary.append(String.format("%-13s %8d %9.1f %22s %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+				endpoint.name().toLowerCase(), h.getTotalCount(), h.getTotalCount() / seconds,
+				statusSummary(endpoint),
+				h.getValueAtPercentile(50) / 1000.0, h.getValueAtPercentile(90) / 1000.0,
+				h.getValueAtPercentile(99) / 1000.0, h.getValueAtPercentile(99.9) / 1000.0,
+				h.getMaxValue() / 1000.0));
+		}
+
+		Files.writeString(options.out().resolve("summary.txt"), summary);
+		System.out.print(summary);
+		log("reports written to %s", options.out().toAbsolutePath());
+	}
+
+	private String statusSummary(Endpoint endpoint) {
+		Map<Integer, LongAdder> byStatus = statuses.getOrDefault(endpoint, Map.of());
+		StringBuilder sb = new StringBuilder();
+		byStatus.entrySet().stream()
+			.sorted(Map.Entry.comparingByKey())
+			.forEach(e -> sb.append(sb.isEmpty() ? "" : " ")
+				.append(e.getKey() < 0 ? "io" : e.getKey()).append('=').append(e.getValue().sum()));
+		return sb.toString();
+	}
+
+	private static void log(String format, Object... args) {
+		System.out.printf("[load] " + format + "%n", args);
+	}
+}
@@ -0,0 +1,77 @@
+package com.jangmuyeong.remittance.benchmark.load;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 부하 발생기 실행 옵션 (--key=value 형식)
+ *
+ * --base-url=http://localhost:8080   대상 서버
+ * --mode=open|closed                 open: 고정 도착률, closed: 고정 동시 사용자
+ * --rate=200                         open 모드 초당 요청 수
+ * --concurrency=32                   closed 모드 동시 워커 수
+ * --duration=60                      측정 시간(초)
+ * --warmup=10                        워밍업 시간(초, 기록 제외)
+ * --accounts=100                     사전 생성할 계좌 수
+ * --initial-deposit=100000000        계좌별 초기 입금액
+ * --mix=remit:60,deposit:15,withdraw:10,balance:10,transactions:5
+ * --seed=42                          요청 선택용 난수 시드
+ * --out=build/reports/load           리포트 출력 디렉토리
+ */
+record LoadOptions(
+	URI baseUrl,
+	Mode mode,
+	int rate,
+	int concurrency,
+	Duration duration,
+	Duration warmup,
+	int accounts,
+	long initialDeposit,
+	Map<Endpoint, Integer> mix,
+	long seed,
+	Path out
+) {
+
+	enum Mode { OPEN, CLOSED }
+
+	static LoadOptions parse(String[] args) {
+		Map<String, String> kv = new HashMap<>();
+		for (String arg : args) {
+			if (!arg.startsWith("--") || !arg.contains("=")) {
+				throw new IllegalArgumentException("expected --key=value but was: " + arg);
+			}
+			int eq = arg.indexOf('=');
+			kv.put(arg.substring(2, eq), arg.substring(eq + 1));
+		}
+
+		return new LoadOptions(
+			URI.create(kv.getOrDefault("base-url", "http://localhost:8080")),
+			Mode.valueOf(kv.getOrDefault("mode", "open").toUpperCase()),
+			Integer.parseInt(kv.getOrDefault("rate", "200")),
+			Integer.parseInt(kv.getOrDefault("concurrency", "32")),
+			Duration.ofSeconds(Long.parseLong(kv.getOrDefault("duration", "60"))),
+			Duration.ofSeconds(Long.parseLong(kv.getOrDefault("warmup", "10"))),
+			Integer.parseInt(kv.getOrDefault("accounts", "100")),
+			Long.parseLong(kv.getOrDefault("initial-deposit", "100000000")),
+			parseMix(kv.getOrDefault("mix", "remit:60,deposit:15,withdraw:10,balance:10,transactions:5")),
+			Long.parseLong(kv.getOrDefault("seed", "42")),
+			Path.of(kv.getOrDefault("out", "build/reports/load"))
+		);
+	}
+
+	private static Map<Endpoint, Integer> parseMix(String spec) {
+		Map<Endpoint, Integer> mix = new EnumMap<>(Endpoint.class);
+		for (String part : spec.split(",")) {
+			String[] p = part.trim().split(":");
+			mix.put(Endpoint.valueOf(p[0].trim().toUpperCase()), Integer.parseInt(p[1].trim()));
+		}
+		if (mix.containsKey(Endpoint.CREATE_ACCOUNT)) {
+			throw new IllegalArgumentException("create_account is only used for seeding");
+		}
+		return mix;
+	}
+}
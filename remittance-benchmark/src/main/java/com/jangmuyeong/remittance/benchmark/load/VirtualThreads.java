@@ -0,0 +1,23 @@
+package com.jangmuyeong.remittance.benchmark.load;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 요청당 가상 스레드 하나를 쓰는 Executor
+ * 빌드 JDK가 21 미만이어도 컴파일되도록 리플렉션으로 찾고,
+ * 가상 스레드를 지원하지 않는 런타임에서는 캐시 스레드 풀로 대체한다.
+ */
+final class VirtualThreads {
+
+	private VirtualThreads() {}
+
+	static ExecutorService newPerTaskExecutor() {
+		try {
+			return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+		} catch (ReflectiveOperationException e) {
+			System.err.println("[load] virtual threads unavailable on this JDK, falling back to a cached thread pool");
+			return Executors.newCachedThreadPool();
+		}
+	}
+}
@@ -0,0 +1,12 @@
+package com.jangmuyeong.remittance.benchmark.simulation;
+
+/**
+ * 시뮬레이션에서 실행하는 유스케이스
+ */
+enum Operation {
+	REMIT,
+	DEPOSIT,
+	WITHDRAW,
+	BALANCE,
+	LATEST
+}
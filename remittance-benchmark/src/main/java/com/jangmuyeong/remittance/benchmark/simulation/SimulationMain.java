@@ -0,0 +1,108 @@
+package com.jangmuyeong.remittance.benchmark.simulation;
+
+import java.time.Clock;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.support.GenericApplicationContext;
+
+import com.jangmuyeong.remittance.RemittanceApplication;
+import com.jangmuyeong.remittance.application.service.AccountService;
+import com.jangmuyeong.remittance.application.service.MoneyService;
+import com.jangmuyeong.remittance.application.service.RemittanceService;
+import com.jangmuyeong.remittance.application.service.TransactionQueryService;
+import com.jangmuyeong.remittance.application.service.UseCaseServices;
+import com.jangmuyeong.remittance.benchmark.support.InMemoryAccountPort;
+import com.jangmuyeong.remittance.benchmark.support.InMemoryDailyLimitPort;
+import com.jangmuyeong.remittance.benchmark.support.InMemoryLedgerPort;
+import com.jangmuyeong.remittance.benchmark.support.InMemoryUndoLog;
+import com.jangmuyeong.remittance.benchmark.support.VirtualClock;
+
+/**
+ * 시뮬레이션 실행 진입점
+ *
+ * - jpa: remittance-api 컨텍스트(웹 제외)를 띄우고 AppConfig의 Clock 대신 VirtualClock을 @Primary로 등록
+ * - jdbc: jpa와 같되 jdbc 프로파일을 함께 활성화 (Jdbc*PortAdapter)
+ * - memory: 메모리 포트로 서비스를 직접 조립 (도메인 규칙/재현성만 빠르게 확인)
+ *   거절된 호출의 변경은 InMemoryUndoLog가 jpa 롤백처럼 되돌리므로 ErrorCode별 거절 집계는 jpa와 같은 의미다.
+ *   다이제스트는 저장소별로 비교한다.
+ *
+ * 실행: ./gradlew :remittance-benchmark:simulate --args="--days=28 --ops-per-day=2000 --seed=42"
+ */
+public final class SimulationMain {
+
+	private SimulationMain() {
+	}
+
+	public static void main(String[] args) throws Exception {
+		SimulationOptions options = SimulationOptions.parse(args);
+		VirtualClock clock = new VirtualClock(options.start().atStartOfDay(ZoneOffset.UTC).toInstant());
+
+		SimulationReport report;
+		if (options.store() == SimulationOptions.Store.MEMORY) {
+			report = inMemoryRunner(clock, options).run();
+		} else {
+			try (ConfigurableApplicationContext ctx = startContext(clock, options)) {
+				report = new SimulationRunner(
+					ctx.getBean(AccountService.class),
+					ctx.getBean(MoneyService.class),
+					ctx.getBean(RemittanceService.class),
+					ctx.getBean(TransactionQueryService.class),
+					SimulationRunner.Scope.TRANSACTIONAL, clock, options).run();
+			}
+		}
+
+		report.print(System.out);
+		report.write(options.out());
+		System.out.println("report written to " + options.out().toAbsolutePath());
+	}
+
+	static SimulationRunner inMemoryRunner(VirtualClock clock, SimulationOptions options) {
+		// 거절된 호출의 변경(예: 잔액 부족 전에 저장한 일 한도)은 jpa 저장소의 롤백처럼 되돌린다.
+		InMemoryUndoLog undoLog = new InMemoryUndoLog();
+		InMemoryAccountPort accountPort = new InMemoryAccountPort(undoLog);
+		InMemoryDailyLimitPort dailyLimitPort = new InMemoryDailyLimitPort(undoLog);
+		InMemoryLedgerPort ledgerPort = new InMemoryLedgerPort(Math.max(1, options.latestSize()), undoLog);
+		UseCaseServices services = UseCaseServices.of(accountPort, dailyLimitPort, ledgerPort, clock);
+		return new SimulationRunner(
+			new AccountService(accountPort),
+			services.moneyService(),
+			services.remittanceService(),
+			new TransactionQueryService(accountPort, ledgerPort),
+			undoLog::inTransaction, clock, options);
+	}
+
+	private static ConfigurableApplicationContext startContext(VirtualClock clock, SimulationOptions options) {
+		// 프로파일 yml보다 우선하도록 커맨드라인 인자로 전달
+		List<String> args = new ArrayList<>(List.of(
+			"--logging.level.org.hibernate.SQL=warn",
+			"--spring.jpa.properties.hibernate.format_sql=false",
+			"--remittance.id.node-id=0" // 단일 프로세스
+		));
+		String profile = "local";
+		if (options.dbUrl() != null) {
+			profile = "default";
+			args.add("--spring.datasource.url=" + options.dbUrl());
+		} else {
+			args.add("--spring.datasource.url=jdbc:h2:mem:simulation;MODE=MySQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE");
+		}
+
+		List<String> profiles = new ArrayList<>(List.of(profile));
+		if (options.store() == SimulationOptions.Store.JDBC) {
+			profiles.add("jdbc");
+		}
+
+		return new SpringApplicationBuilder(RemittanceApplication.class)
+			.web(WebApplicationType.NONE)
+			.bannerMode(Banner.Mode.OFF)
+			.profiles(profiles.toArray(String[]::new))
+			.initializers(ctx -> ((GenericApplicationContext) ctx)
+				.registerBean("virtualClock", Clock.class, () -> clock, bd -> bd.setPrimary(true)))
+			.run(args.toArray(String[]::new));
+	}
+}
@@ -0,0 +1,76 @@
+package com.jangmuyeong.remittance.benchmark.simulation;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 시뮬레이션 실행 옵션 (--key=value 형식)
+ *
+ * --store=jpa|jdbc|memory            jpa/jdbc: 실제 Spring 컨텍스트(JPA 또는 JDBC 어댑터 + H2), memory: 메모리 포트
+ * --db-url=jdbc:mysql://...          (jpa) 지정 시 local 프로파일 H2 대신 해당 DB 사용 (DB_USER/DB_PASSWORD 환경변수)
+ * --days=28                          시뮬레이션 일수
+ * --ops-per-day=2000                 하루 유스케이스 호출 수 (하루 동안 가상 시각에 고르게 분포)
+ * --accounts=200                     계좌 수
+ * --initial-deposit=5000000          계좌별 초기 입금액
+ * --zipf=1.1                         계좌 선택 치우침(Zipf 지수)
+ * --mix=remit:45,deposit:20,withdraw:15,latest:15,balance:5
+ * --latest-size=20                   거래내역 조회 개수
+ * --start=2026-01-01                 시작 날짜(UTC)
+ * --seed=42                          난수 시드 (같은 시드 → 같은 결과/다이제스트)
+ * --out=build/reports/simulation     리포트 출력 디렉토리
+ */
+record SimulationOptions(
+	Store store,
+	String dbUrl,
+	int days,
+	int opsPerDay,
+	int accounts,
+	long initialDeposit,
+	double zipfExponent,
+	Map<Operation, Integer> mix,
+	int latestSize,
+	LocalDate start,
+	long seed,
+	Path out
+) {
+
+	enum Store { JPA, JDBC, MEMORY }
+
+	static SimulationOptions parse(String[] args) {
+		Map<String, String> kv = new HashMap<>();
+		for (String arg : args) {
+			if (!arg.startsWith("--") || !arg.contains("=")) {
+				throw new IllegalArgumentException("expected --key=value but was: " + arg);
+			}
+			int eq = arg.indexOf('=');
+			kv.put(arg.substring(2, eq), arg.substring(eq + 1));
+		}
+
+		return new SimulationOptions(
+			Store.valueOf(kv.getOrDefault("store", "jpa").toUpperCase()),
+			kv.get("db-url"),
+			Integer.parseInt(kv.getOrDefault("days", "28")),
+			Integer.parseInt(kv.getOrDefault("ops-per-day", "2000")),
+			Integer.parseInt(kv.getOrDefault("accounts", "200")),
+			Long.parseLong(kv.getOrDefault("initial-deposit", "5000000")),
+			Double.parseDouble(kv.getOrDefault("zipf", "1.1")),
+			parseMix(kv.getOrDefault("mix", "remit:45,deposit:20,withdraw:15,latest:15,balance:5")),
+			Integer.parseInt(kv.getOrDefault("latest-size", "20")),
+			LocalDate.parse(kv.getOrDefault("start", "2026-01-01")),
+			Long.parseLong(kv.getOrDefault("seed", "42")),
+			Path.of(kv.getOrDefault("out", "build/reports/simulation"))
+		);
+	}
+
+	static Map<Operation, Integer> parseMix(String spec) {
+		Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+		for (String part : spec.split(",")) {
+			String[] p = part.trim().split(":");
+			mix.put(Operation.valueOf(p[0].trim().toUpperCase()), Integer.parseInt(p[1].trim()));
+		}
+		return mix;
+	}
+}
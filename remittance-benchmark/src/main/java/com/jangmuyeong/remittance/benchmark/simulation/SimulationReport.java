@@ -0,0 +1,181 @@
+package com.jangmuyeong.remittance.benchmark.simulation;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.HdrHistogram.Histogram;
+
+import com.jangmuyeong.remittance.domain.exception.ErrorCode;
+
+/**
+ * 시뮬레이션 결과
+ *
+ * - summary(): 옵션 + 일자별 호출/거절/원장 건수 + 다이제스트 (같은 시드면 항상 동일)
+ * - latencyTable(): 일자별 유스케이스 지연(실측, 실행마다 다름)
+ */
+final class SimulationReport {
+
+	private final SimulationOptions options;
+	private final List<Day> days;
+	private final long digest;
+
+	SimulationReport(SimulationOptions options, List<Day> days, long digest) {
+		this.options = options;
+		this.days = days;
+		this.digest = digest;
+	}
+
+	List<Day> days() {
+		return days;
+	}
+
+	long digest() {
+		return digest;
+	}
+
+	/**
+	 * 재현 가능한 부분만 모은 요약
+	 */
+	String summary() {
+		StringBuilder sb = new StringBuilder();
+		sb.append(String.format("seed=%d days=%d ops/day=%d accounts=%d zipf=%.2f mix=%s start=%s%n",
+			options.seed(), options.days(), options.opsPerDay(), options.accounts(), options.zipfExponent(),
+			options.mix(), options.start()));
+		sb.append(String.format("%-4s %-10s %8s %8s %12s %10s  %s%n",
+			"day", "date", "ops", "rejected", "ledgerRows", "hotAcct", "rejections"));
+		for (Day d : days) {
+			sb.append(String.format("%-4d %-10s %8d %8d %12d %10d  %s%n",
+				d.index, d.date, d.ops(), d.rejected(), d.ledgerRowsTotal, d.ledgerRowsMax, d.rejectionsText()));
+		}
+		sb.append(String.format("digest=%016x%n", digest));
+		return sb.toString();
+	}
+
+	/**
+	 * 일자별 지연 표 (µs). hotAcct(가장 원장이 많은 계좌의 건수)와 함께 보면 데이터 크기에 따른 변화가 보인다.
+	 */
+	String latencyTable() {
+		StringBuilder sb = new StringBuilder();
+		sb.append(String.format("%-4s %10s", "day", "hotAcct"));
+		for (Operation op : Operation.values()) {
+			sb.append(String.format(" %16s", op.name().toLowerCase() + " p50/p99"));
+		}
+		sb.append(System.lineSeparator());
+		for (Day d : days) {
+			sb.append(String.format("%-4d %10d", d.index, d.ledgerRowsMax));
+			for (Operation op : Operation.values()) {
+				Histogram h = d.latency.get(op);
+				sb.append(String.format(" %16s", h.getTotalCount() == 0 ? "-"
+					: h.getValueAtPercentile(50) + "/" + h.getValueAtPercentile(99)));
+			}
+			sb.append(System.lineSeparator());
+		}
+		return sb.toString();
+	}
+
+	void print(PrintStream out) {
+		out.println("== simulation summary ==");
+		out.print(summary());
+		out.println();
+		out.println("== latency (us) ==");
+		out.print(latencyTable());
+	}
+
+	void write(Path dir) throws IOException {
+		Files.createDirectories(dir);
+		try (PrintStream out = new PrintStream(Files.newOutputStream(dir.resolve("report.txt")), false, "UTF-8")) {
+			print(out);
+		}
+		try (PrintStream out = new PrintStream(Files.newOutputStream(dir.resolve("days.csv")), false, "UTF-8")) {
+			StringBuilder header = new StringBuilder("day,date,ops,rejected,ledger_rows,hot_account_rows");
+			for (Operation op : Operation.values()) {
+				String name = op.name().toLowerCase();
+				header.append(',').append(name).append("_count,")
+					.append(name).append("_p50_us,").append(name).append("_p99_us,").append(name).append("_max_us");
+			}
+			out.println(header);
+			for (Day d : days) {
+				StringBuilder row = new StringBuilder();
+				row.append(d.index).append(',').append(d.date).append(',').append(d.ops()).append(',')
+					.append(d.rejected()).append(',').append(d.ledgerRowsTotal).append(',').append(d.ledgerRowsMax);
+				for (Operation op : Operation.values()) {
+					Histogram h = d.latency.get(op);
+					row.append(',').append(h.getTotalCount())
+						.append(',').append(h.getValueAtPercentile(50))
+						.append(',').append(h.getValueAtPercentile(99))
+						.append(',').append(h.getMaxValue());
+				}
+				out.println(row);
+			}
+		}
+	}
+
+	/**
+	 * 하루치 집계
+	 */
+	static final class Day {
+
+		private static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+		final int index;
+		final LocalDate date;
+		final Map<Operation, Histogram> latency = new EnumMap<>(Operation.class);
+		final Map<ErrorCode, Long> rejections = new EnumMap<>(ErrorCode.class);
+		long ledgerRowsTotal;
+		long ledgerRowsMax;
+
+		Day(int index, LocalDate date) {
+			this.index = index;
+			this.date = date;
+			for (Operation op : Operation.values()) {
+				latency.put(op, new Histogram(MAX_LATENCY_MICROS, 3));
+			}
+		}
+
+		void record(Operation op, long micros) {
+			latency.get(op).recordValue(Math.min(micros, MAX_LATENCY_MICROS));
+		}
+
+		void reject(ErrorCode code) {
+			rejections.merge(code, 1L, Long::sum);
+		}
+
+		/** 하루가 끝난 시점의 누적 원장 건수(전체, 계좌별 최대) */
+		void ledgerRows(long[] rowsPerAccount) {
+			long total = 0;
+			long max = 0;
+			for (long rows : rowsPerAccount) {
+				total += rows;
+				max = Math.max(max, rows);
+			}
+			this.ledgerRowsTotal = total;
+			this.ledgerRowsMax = max;
+		}
+
+		long ops() {
+			return latency.values().stream().mapToLong(Histogram::getTotalCount).sum();
+		}
+
+		long rejected() {
+			return rejections.values().stream().mapToLong(Long::longValue).sum();
+		}
+
+		long rejections(ErrorCode code) {
+			return rejections.getOrDefault(code, 0L);
+		}
+
+		String rejectionsText() {
+			return rejections.entrySet().stream()
+				.map(e -> e.getKey().name() + "=" + e.getValue())
+				.collect(Collectors.joining(" "));
+		}
+	}
+}
@@ -0,0 +1,203 @@
+package com.jangmuyeong.remittance.benchmark.simulation;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import com.jangmuyeong.remittance.application.dto.command.CreateAccountCommand;
+import com.jangmuyeong.remittance.application.dto.command.DepositCommand;
+import com.jangmuyeong.remittance.application.dto.command.RemitCommand;
+import com.jangmuyeong.remittance.application.dto.command.WithdrawCommand;
+import com.jangmuyeong.remittance.application.dto.result.RemitResult;
+import com.jangmuyeong.remittance.application.service.AccountService;
+import com.jangmuyeong.remittance.application.service.MoneyService;
+import com.jangmuyeong.remittance.application.service.RemittanceService;
+import com.jangmuyeong.remittance.application.service.TransactionQueryService;
+import com.jangmuyeong.remittance.benchmark.support.VirtualClock;
+import com.jangmuyeong.remittance.benchmark.support.ZipfSampler;
+import com.jangmuyeong.remittance.domain.exception.DomainException;
+import com.jangmuyeong.remittance.domain.ledger.LedgerEntry;
+
+/**
+ * 가상 시각 기반 결정적(deterministic) 시뮬레이터
+ *
+ * - 하루치 호출(opsPerDay)을 가상 시각 00:00~24:00 사이에 고르게 배치하고, 호출 직전에 VirtualClock을 옮긴다.
+ *   → 실제로는 몇 초 만에 수 주치 트래픽(일 한도 롤오버, 원장 누적)을 재현한다.
+ * - 계좌/유스케이스/금액 선택은 모두 시드 난수로 결정되고 단일 스레드로 실행되므로,
+ *   같은 옵션/저장소면 항상 같은 결과 다이제스트가 나온다.
+ * - 지연(실측 시간)은 결과와 별도로 일자별로 기록해서, 데이터 나이/크기에 따른 지연 변화를 본다.
+ * - 호출은 Scope로 감싸 거절(DomainException)된 호출의 변경이 남지 않게 한다. (저장소와 무관하게 거절 집계가 같은 의미)
+ */
+final class SimulationRunner {
+
+	private static final long DAY_NANOS = TimeUnit.DAYS.toNanos(1);
+	private static final long AMOUNT_UNIT = 1_000L;
+
+	private final AccountService accountService;
+	private final MoneyService moneyService;
+	private final RemittanceService remittanceService;
+	private final TransactionQueryService transactionQueryService;
+	private final Scope scope;
+	private final VirtualClock clock;
+	private final SimulationOptions options;
+
+	private String[] accountNos;
+	private long[] ledgerRows;
+	private long digest = 0xcbf29ce484222325L;
+
+	SimulationRunner(AccountService accountService, MoneyService moneyService, RemittanceService remittanceService,
+		TransactionQueryService transactionQueryService, Scope scope, VirtualClock clock, SimulationOptions options) {
+		this.accountService = accountService;
+		this.moneyService = moneyService;
+		this.remittanceService = remittanceService;
+		this.transactionQueryService = transactionQueryService;
+		this.scope = scope;
+		this.clock = clock;
+		this.options = options;
+	}
+
+	SimulationReport run() {
+		if (options.accounts() < 2) throw new IllegalArgumentException("accounts must be >= 2");
+		SplittableRandom random = new SplittableRandom(options.seed());
+		ZipfSampler zipf = new ZipfSampler(options.accounts(), options.zipfExponent());
+		Operation[] weighted = weightedOperations(options.mix());
+
+		seedAccounts();
+
+		List<SimulationReport.Day> days = new ArrayList<>(options.days());
+		long gapNanos = Math.max(1, DAY_NANOS / options.opsPerDay());
+		for (int d = 0; d < options.days(); d++) {
+			LocalDate date = options.start().plusDays(d);
+			Instant dayStart = date.atStartOfDay(ZoneOffset.UTC).toInstant();
+			SimulationReport.Day day = new SimulationReport.Day(d + 1, date);
+
+			for (int i = 0; i < options.opsPerDay(); i++) {
+				// 예정 시각 + 지터(간격 안에서) → 시각은 항상 증가
+				clock.set(dayStart.plusNanos(i * gapNanos + random.nextLong(gapNanos)));
+				execute(weighted[random.nextInt(weighted.length)], random, zipf, day);
+			}
+			day.ledgerRows(ledgerRows);
+			days.add(day);
+		}
+		return new SimulationReport(options, days, digest);
+	}
+
+	private void seedAccounts() {
+		clock.set(options.start().atStartOfDay(ZoneOffset.UTC).toInstant());
+		accountNos = new String[options.accounts()];
+		ledgerRows = new long[options.accounts()];
+		for (int i = 0; i < accountNos.length; i++) {
+			accountNos[i] = String.format("SIM-%06d", i);
+			accountService.create(new CreateAccountCommand(accountNos[i]));
+			if (options.initialDeposit() > 0) {
+				moneyService.deposit(new DepositCommand(accountNos[i], options.initialDeposit()));
+				ledgerRows[i]++;
+			}
+		}
+	}
+
+	private void execute(Operation op, SplittableRandom random, ZipfSampler zipf, SimulationReport.Day day) {
+		// 난수 소비 순서를 결과와 무관하게 고정해야 재현 가능하다.
+		int account = zipf.sample(random);
+		int counterparty = counterparty(account, random, zipf);
+		long amount = switch (op) {
+			case REMIT -> amount(random, 10_000, 1_500_000);
+			case DEPOSIT -> amount(random, 10_000, 500_000);
+			case WITHDRAW -> amount(random, 10_000, 400_000);
+			case BALANCE, LATEST -> 0L;
+		};
+
+		String outcome = "OK";
+		long value = 0L;
+		long startNanos = System.nanoTime();
+		try {
+			value = scope.call(() -> invoke(op, account, counterparty, amount));
+		} catch (DomainException e) {
+			outcome = e.getErrorCode().name();
+			day.reject(e.getErrorCode());
+		}
+		day.record(op, TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos));
+
+		mix(op.ordinal());
+		mix(account);
+		mix(op == Operation.REMIT ? counterparty : -1);
+		mix(amount);
+		mix(outcome.hashCode());
+		mix(value);
+	}
+
+	private long invoke(Operation op, int account, int counterparty, long amount) {
+		String accountNo = accountNos[account];
+		switch (op) {
+			case REMIT -> {
+				RemitResult r = remittanceService.remit(new RemitCommand(accountNo, accountNos[counterparty], amount));
+				ledgerRows[account] += 2; // TRANSFER_OUT + FEE
+				ledgerRows[counterparty] += 1; // TRANSFER_IN
+				return r.fromBalance() * 31 + r.toBalance();
+			}
+			case DEPOSIT -> {
+				long balance = moneyService.deposit(new DepositCommand(accountNo, amount)).balance();
+				ledgerRows[account]++;
+				return balance;
+			}
+			case WITHDRAW -> {
+				long balance = moneyService.withdraw(new WithdrawCommand(accountNo, amount)).balance();
+				ledgerRows[account]++;
+				return balance;
+			}
+			case BALANCE -> {
+				return moneyService.balance(accountNo).balance();
+			}
+			case LATEST -> {
+				List<LedgerEntry> entries = transactionQueryService.latest(accountNo, options.latestSize());
+				return entries.size() * 31L + (entries.isEmpty() ? 0L : entries.get(0).getBalanceAfter());
+			}
+			default -> throw new IllegalStateException("unknown operation: " + op);
+		}
+	}
+
+	/**
+	 * 유스케이스 호출 하나를 트랜잭션처럼 감싸는 방법
+	 * - jpa: 서비스의 @Transactional이 이미 롤백하므로 그대로 호출 (TRANSACTIONAL)
+	 * - memory: InMemoryUndoLog.inTransaction으로 예외 시 포트 변경을 되돌림
+	 */
+	@FunctionalInterface
+	interface Scope {
+
+		Scope TRANSACTIONAL = LongSupplier::getAsLong;
+
+		long call(LongSupplier invocation);
+	}
+
+	private int counterparty(int account, SplittableRandom random, ZipfSampler zipf) {
+		int other = zipf.sample(random);
+		if (other != account) return other;
+		// 자기 자신이 뽑히면 나머지 계좌 중 균등 선택
+		return (account + 1 + random.nextInt(accountNos.length - 1)) % accountNos.length;
+	}
+
+	private static long amount(SplittableRandom random, long min, long max) {
+		return random.nextLong(min / AMOUNT_UNIT, max / AMOUNT_UNIT + 1) * AMOUNT_UNIT;
+	}
+
+	/** FNV-1a 스타일 64비트 누적 해시 (호출 순서 + 결과) */
+	private void mix(long v) {
+		digest ^= v;
+		digest *= 0x100000001b3L;
+	}
+
+	private static Operation[] weightedOperations(Map<Operation, Integer> mix) {
+		List<Operation> list = new ArrayList<>();
+		mix.forEach((op, weight) -> {
+			for (int i = 0; i < weight; i++) list.add(op);
+		});
+		if (list.isEmpty()) throw new IllegalArgumentException("empty mix");
+		return list.toArray(Operation[]::new);
+	}
+}
@@ -0,0 +1,244 @@
+package com.jangmuyeong.remittance.benchmark.startup;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * remittance-api 기동 벤치마크
+ * bootJar를 자식 프로세스로 띄우고, 프로세스 시작부터 "첫 번째 성공한 POST /remittances"까지의 시간을 잰다.
+ * (스케일 아웃된 새 인스턴스가 실제 트래픽을 받을 수 있게 되는 시점)
+ *
+ * - first-response : 처음으로 HTTP 응답을 받은 시점 (Tomcat 기동 완료)
+ * - first-remit    : 계좌 2개 생성 + 입금 + 송금이 모두 200으로 끝난 시점 (JPA/트랜잭션/첫 요청 경로 포함)
+ *
+ * 방식(StartupMode)마다 runs회 반복해 중앙값/최솟값/최댓값을 startup.txt, 개별 결과를 startup.csv로 남긴다.
+ * FAST_AOT_CDS는 jar를 추출(extract)하고 학습 실행(-XX:ArchiveClassesAtExit)으로 아카이브를 먼저 만든다.
+ *
+ * 실행: ./gradlew :remittance-benchmark:startupBenchmark --args="--runs=5"
+ */
+public final class StartupBenchmark {
+
+	private static final Duration POLL_INTERVAL = Duration.ofMillis(5);
+
+	private final StartupOptions options;
+	private final HttpClient client;
+	private Path cdsJar;
+	private Path cdsArchive;
+
+	StartupBenchmark(StartupOptions options) {
+		this.options = options;
+		this.client = HttpClient.newBuilder()
+			.connectTimeout(Duration.ofSeconds(1))
+			.build();
+	}
+
+	public static void main(String[] args) throws Exception {
+		new StartupBenchmark(StartupOptions.parse(args)).run();
+	}
+
+	void run() throws Exception {
+		Files.createDirectories(options.out().resolve("logs"));
+		if (options.modes().stream().anyMatch(m -> m.cds)) {
+			prepareCds();
+		}
+
+		Map<StartupMode, List<long[]>> results = new EnumMap<>(StartupMode.class);
+		for (int run = 1; run <= options.runs(); run++) {
+			// 방식을 번갈아 실행해서 디스크 캐시/CPU 상태 차이가 한쪽에 몰리지 않게 함
+			for (StartupMode mode : options.modes()) {
+				long[] millis = measure(mode, run);
+				results.computeIfAbsent(mode, k -> new ArrayList<>()).add(millis);
+				log("%-13s run %d: first-response %,d ms, first-remit %,d ms", mode, run, millis[0], millis[1]);
+			}
+		}
+		report(results);
+	}
+
+	// ===================== CDS 준비 =====================
+
+	/**
+	 * Spring Boot 권장 방식: jar를 추출한 뒤, 컨텍스트 refresh 직후 종료하는 학습 실행으로 동적 CDS 아카이브 생성
+	 */
+	private void prepareCds() throws Exception {
+		Path dir = options.out().resolve("cds");
+		Path extracted = dir.resolve("extracted");
+		cdsArchive = dir.resolve("app.jsa");
+		cdsJar = extracted.resolve(options.jar().getFileName());
+
+		log("extracting %s", options.jar());
+		exec(dir.resolve("extract.log"), List.of(options.java().toString(), "-Djarmode=tools",
+			"-jar", options.jar().toString(), "extract", "--force", "--destination", extracted.toString()));
+
+		log("training run -> %s", cdsArchive);
+		List<String> command = new ArrayList<>(List.of(options.java().toString(),
+			"-XX:ArchiveClassesAtExit=" + cdsArchive, "-Dspring.context.exit=onRefresh"));
+		command.addAll(StartupMode.FAST_AOT_CDS.jvmArgs());
+		command.addAll(List.of("-jar", cdsJar.toString()));
+		command.addAll(StartupMode.FAST_AOT_CDS.appArgs());
+		command.addAll(dataSourceArgs(StartupMode.FAST_AOT_CDS));
+		exec(dir.resolve("training.log"), command);
+	}
+
+	private void exec(Path logFile, List<String> command) throws Exception {
+		Files.createDirectories(logFile.getParent());
+		Process process = new ProcessBuilder(command)
+			.redirectErrorStream(true)
+			.redirectOutput(logFile.toFile())
+			.start();
+		if (!process.waitFor(options.timeout().toSeconds(), TimeUnit.SECONDS) || process.exitValue() != 0) {
+			process.destroyForcibly();
+			throw new IllegalStateException("command failed, see " + logFile + ": " + command);
+		}
+	}
+
+	// ===================== 측정 =====================
+
+	/**
+	 * @return [first-response ms, first-remit ms]
+	 */
+	private long[] measure(StartupMode mode, int run) throws Exception {
+		int port = freePort();
+		Path logFile = options.out().resolve("logs").resolve(mode.name().toLowerCase() + "-" + run + ".log");
+
+		List<String> command = new ArrayList<>();
+		command.add(options.java().toString());
+		if (mode.cds) command.add("-XX:SharedArchiveFile=" + cdsArchive);
+		command.addAll(mode.jvmArgs());
+		command.addAll(List.of("-jar", (mode.cds ? cdsJar : options.jar()).toString()));
+		command.addAll(mode.appArgs());
+		command.addAll(dataSourceArgs(mode));
+		command.add("--server.port=" + port);
+
+		long start = System.nanoTime();
+		Process process = new ProcessBuilder(command)
+			.redirectErrorStream(true)
+			.redirectOutput(logFile.toFile())
+			.start();
+		try {
+			return firstRemit(process, URI.create("http://localhost:" + port), start, logFile);
+		} finally {
+			process.destroy();
+			if (!process.waitFor(15, TimeUnit.SECONDS)) {
+				process.destroyForcibly().waitFor();
+			}
+		}
+	}
+
+	/**
+	 * 서버가 뜰 때까지 같은 요청을 재시도하면서 계좌 생성 → 입금 → 송금 순서로 진행
+	 */
+	private long[] firstRemit(Process process, URI base, long start, Path logFile) throws Exception {
+		String runId = Long.toString(System.nanoTime(), 36);
+		String from = "STARTUP-" + runId + "-A";
+		String to = "STARTUP-" + runId + "-B";
+		List<HttpRequest> steps = List.of(
+			post(base, "/accounts", "{\"accountNo\":\"" + from + "\"}"),
+			post(base, "/accounts", "{\"accountNo\":\"" + to + "\"}"),
+			post(base, "/accounts/" + from + "/deposit", "{\"amount\":1000000}"),
+			post(base, "/remittances",
+				"{\"fromAccountNo\":\"" + from + "\",\"toAccountNo\":\"" + to + "\",\"amount\":10000}")
+		);
+
+		long deadline = start + options.timeout().toNanos();
+		long firstResponse = -1;
+		int step = 0;
+		while (step < steps.size()) {
+			if (!process.isAlive()) {
+				throw new IllegalStateException("server exited (" + process.exitValue() + "), see " + logFile);
+			}
+			if (System.nanoTime() > deadline) {
+				throw new IllegalStateException("timeout after " + options.timeout() + ", see " + logFile);
+			}
+			HttpResponse<String> res;
+			try {
+				res = client.send(steps.get(step), HttpResponse.BodyHandlers.ofString());
+			} catch (IOException notYetListening) {
+				Thread.sleep(POLL_INTERVAL.toMillis());
+				continue;
+			}
+			if (firstResponse < 0) firstResponse = System.nanoTime() - start;
+			if (res.statusCode() != 200) {
+				throw new IllegalStateException(steps.get(step).uri() + " -> " + res.statusCode() + " " + res.body());
+			}
+			step++;
+		}
+		long remit = System.nanoTime() - start;
+		return new long[] {TimeUnit.NANOSECONDS.toMillis(firstResponse), TimeUnit.NANOSECONDS.toMillis(remit)};
+	}
+
+	private List<String> dataSourceArgs(StartupMode mode) {
+		List<String> args = new ArrayList<>(List.of(
+			"--spring.datasource.url=" + options.dbUrl(),
+			"--spring.datasource.username=" + options.dbUser(),
+			"--spring.datasource.password=" + options.dbPassword()));
+		if (options.h2() && mode.fastProfile) {
+			// fast 프로파일은 DB 종류를 MySQL로 고정하므로 H2로 측정할 때만 덮어씀
+			args.add("--spring.jpa.properties.jakarta.persistence.database-product-name=H2");
+			args.add("--spring.jpa.properties.jakarta.persistence.database-major-version=2");
+			args.add("--spring.jpa.properties.jakarta.persistence.database-minor-version=4");
+		}
+		return args;
+	}
+
+	private static HttpRequest post(URI base, String path, String json) {
+		return HttpRequest.newBuilder(base.resolve(path))
+			.header("Content-Type", "application/json")
+			.timeout(Duration.ofSeconds(30))
+			.POST(HttpRequest.BodyPublishers.ofString(json))
+			.build();
+	}
+
+	private static int freePort() throws IOException {
+		try (ServerSocket socket = new ServerSocket(0)) {
+			return socket.getLocalPort();
+		}
+	}
+
+	// ===================== 리포트 =====================
+
+	private void report(Map<StartupMode, List<long[]>> results) throws IOException {
+		StringBuilder txt = new StringBuilder();
+		txt.append(String.format("jar=%s runs=%d db=%s java=%s%n%n", options.jar().getFileName(), options.runs(),
+			options.h2() ? "h2" : options.dbUrl(), Runtime.version()));
+		txt.append(String.format("%-13s %28s %28s%n", "mode", "first-response p50/min/max", "first-remit p50/min/max"));
+
+		StringBuilder csv = new StringBuilder("mode,run,first_response_ms,first_remit_ms\n");
+		for (Map.Entry<StartupMode, List<long[]>> e : results.entrySet()) {
+			List<long[]> runs = e.getValue();
+			txt.append(String.format("%-13s %28s %28s%n", e.getKey(),
+				stats(runs, 0), stats(runs, 1)));
+			for (int i = 0; i < runs.size(); i++) {
+				csv.append(e.getKey()).append(',').append(i + 1).append(',')
+					.append(runs.get(i)[0]).append(',').append(runs.get(i)[1]).append('\n');
+			}
+		}
+
+		Files.writeString(options.out().resolve("startup.txt"), txt);
+		Files.writeString(options.out().resolve("startup.csv"), csv);
+		System.out.print(txt);
+		log("report written to %s", options.out());
+	}
+
+	private static String stats(List<long[]> runs, int column) {
+		long[] values = runs.stream().mapToLong(r -> r[column]).toArray();
+		Arrays.sort(values);
+		return String.format("%,d / %,d / %,d ms", values[values.length / 2], values[0], values[values.length - 1]);
+	}
+
+	private static void log(String format, Object... args) {
+		System.out.printf("[startup] " + format + "%n", args);
+	}
+}
@@ -0,0 +1,43 @@
+package com.jangmuyeong.remittance.benchmark.startup;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 기동 방식
+ *
+ * - DEFAULT      : java -jar (기본 프로파일, ddl-auto: update, springdoc 포함)
+ * - FAST         : fast 프로파일 (스키마 조회/DDL 없음, JDBC 메타데이터 미조회, springdoc 제외)
+ * - FAST_AOT     : FAST + -Dspring.aot.enabled=true (빌드 시점에 만든 빈 정의 사용)
+ * - FAST_AOT_CDS : FAST_AOT + 추출(extract)한 jar와 학습 실행으로 만든 CDS 아카이브
+ */
+enum StartupMode {
+
+	DEFAULT(false, false, false),
+	FAST(true, false, false),
+	FAST_AOT(true, true, false),
+	FAST_AOT_CDS(true, true, true);
+
+	final boolean fastProfile;
+	final boolean aot;
+	final boolean cds;
+
+	StartupMode(boolean fastProfile, boolean aot, boolean cds) {
+		this.fastProfile = fastProfile;
+		this.aot = aot;
+		this.cds = cds;
+	}
+
+	List<String> jvmArgs() {
+		List<String> args = new ArrayList<>();
+		if (aot) args.add("-Dspring.aot.enabled=true");
+		return args;
+	}
+
+	List<String> appArgs() {
+		List<String> args = new ArrayList<>();
+		if (fastProfile) args.add("--spring.profiles.active=fast");
+		args.add("--remittance.id.node-id=0"); // 한 번에 한 프로세스만 띄움
+		return args;
+	}
+}
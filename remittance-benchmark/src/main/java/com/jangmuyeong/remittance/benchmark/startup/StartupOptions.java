@@ -0,0 +1,73 @@
+package com.jangmuyeong.remittance.benchmark.startup;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 기동 벤치마크 실행 옵션 (--key=value 형식)
+ *
+ * --jar=remittance-api/build/libs/remittance-api-0.0.1-SNAPSHOT.jar   대상 bootJar (gradle 태스크가 자동 지정)
+ * --modes=default,fast,fast_aot,fast_aot_cds                          비교할 기동 방식 (StartupMode)
+ * --runs=5                                                            방식별 반복 횟수
+ * --timeout=120                                                       1회 기동 제한 시간(초)
+ * --db-url=jdbc:h2:mem:...                                            기본은 실행마다 새 H2(MySQL 모드, db/schema.sql 적용)
+ * --db-user=sa --db-password=
+ * --java=$JAVA_HOME/bin/java                                          자식 프로세스 JVM
+ * --out=build/reports/startup                                         리포트/로그/CDS 아카이브 디렉토리
+ */
+record StartupOptions(
+	Path jar,
+	List<StartupMode> modes,
+	int runs,
+	Duration timeout,
+	String dbUrl,
+	String dbUser,
+	String dbPassword,
+	Path java,
+	Path out
+) {
+
+	static final String H2_URL =
+		"jdbc:h2:mem:startup;MODE=MySQL;DB_CLOSE_DELAY=-1;INIT=RUNSCRIPT FROM 'classpath:db/schema.sql'";
+
+	static StartupOptions parse(String[] args) {
+		Map<String, String> kv = new HashMap<>();
+		for (String arg : args) {
+			if (!arg.startsWith("--") || !arg.contains("=")) {
+				throw new IllegalArgumentException("expected --key=value but was: " + arg);
+			}
+			int eq = arg.indexOf('=');
+			kv.put(arg.substring(2, eq), arg.substring(eq + 1));
+		}
+
+		String jar = kv.getOrDefault("jar", System.getProperty("startup.jar"));
+		if (jar == null) {
+			throw new IllegalArgumentException("--jar is required (or run via ./gradlew :remittance-benchmark:startupBenchmark)");
+		}
+
+		List<StartupMode> modes = new ArrayList<>();
+		for (String m : kv.getOrDefault("modes", "default,fast,fast_aot,fast_aot_cds").split(",")) {
+			modes.add(StartupMode.valueOf(m.trim().toUpperCase().replace('-', '_')));
+		}
+
+		return new StartupOptions(
+			Path.of(jar).toAbsolutePath(),
+			modes,
+			Integer.parseInt(kv.getOrDefault("runs", "5")),
+			Duration.ofSeconds(Long.parseLong(kv.getOrDefault("timeout", "120"))),
+			kv.getOrDefault("db-url", H2_URL),
+			kv.getOrDefault("db-user", "sa"),
+			kv.getOrDefault("db-password", ""),
+			Path.of(kv.getOrDefault("java", Path.of(System.getProperty("java.home"), "bin", "java").toString())),
+			Path.of(kv.getOrDefault("out", "build/reports/startup")).toAbsolutePath()
+		);
+	}
+
+	boolean h2() {
+		return dbUrl.startsWith("jdbc:h2:");
+	}
+}
@@ -0,0 +1,114 @@
+package com.jangmuyeong.remittance.benchmark.support;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import com.jangmuyeong.remittance.domain.account.Account;
+import com.jangmuyeong.remittance.domain.account.AccountRules;
+import com.jangmuyeong.remittance.domain.account.AccountStatus;
+import com.jangmuyeong.remittance.domain.port.AccountPort;
+
+/**
+ * 벤치마크용 AccountPort 메모리 구현체
+ * JPA 어댑터처럼 조회할 때마다 새 도메인 객체를 만들어 돌려주고, save/update 시 상태만 반영한다.
+ * 변경 전 상태는 undo log에 남겨 inTransaction이 예외로 끝나면 되돌린다.
+ * (단일 스레드 벤치마크 전용, 동시성 보장 없음)
+ */
+public class InMemoryAccountPort implements AccountPort {
+
+	private final Map<Long, Account> byId = new HashMap<>();
+	private final Map<String, Long> idByAccountNo = new HashMap<>();
+	private final InMemoryUndoLog undoLog;
+	private long sequence;
+
+	public InMemoryAccountPort() {
+		this(new InMemoryUndoLog());
+	}
+
+	public InMemoryAccountPort(InMemoryUndoLog undoLog) {
+		this.undoLog = undoLog;
+	}
+
+	/** 잔액을 가진 활성 계좌를 바로 만들어 두는 헬퍼 */
+	public Account open(String accountNo, long balance) {
+		Account saved = save(new Account(Account.NO_ID, accountNo, AccountStatus.ACTIVE, 0L));
+		if (balance > 0) {
+			saved.deposit(balance);
+			update(saved);
+		}
+		return saved;
+	}
+
+	@Override
+	public long findIdByAccountNo(String accountNo) {
+		Long id = idByAccountNo.get(accountNo);
+		return id == null ? Account.NO_ID : id;
+	}
+
+	@Override
+	public Account findByIdForUpdate(long accountId) {
+		Account stored = byId.get(accountId);
+		return stored == null ? null : copy(stored);
+	}
+
+	@Override
+	public Optional<Account> findByAccountNo(String accountNo) {
+		return Optional.ofNullable(findByIdForUpdate(findIdByAccountNo(accountNo)));
+	}
+
+	@Override
+	public Account save(Account account) {
+		long id = account.getId() == Account.NO_ID ? ++sequence : account.getId();
+		Account stored = new Account(id, account.getAccountNo(), account.getStatus(), account.getBalance());
+		remember(id);
+		byId.put(id, stored);
+		idByAccountNo.put(stored.getAccountNo(), id);
+		return copy(stored);
+	}
+
+	@Override
+	public void update(Account account) {
+		remember(account.getId());
+		byId.put(account.getId(), copy(account));
+	}
+
+	@Override
+	public long depositIfActive(long accountId, long amount) {
+		Account stored = byId.get(accountId);
+		if (stored == null || stored.getStatus() != AccountRules.MUTABLE_STATUS) return NOT_UPDATED;
+		remember(accountId);
+		stored.deposit(amount);
+		return stored.getBalance();
+	}
+
+	@Override
+	public long withdrawIfSufficient(long accountId, long amount) {
+		Account stored = byId.get(accountId);
+		if (stored == null || stored.getStatus() != AccountRules.MUTABLE_STATUS || stored.getBalance() < amount) {
+			return NOT_UPDATED;
+		}
+		remember(accountId);
+		stored.withdraw(amount);
+		return stored.getBalance();
+	}
+
+	// 저장된 객체는 조건부 UPDATE에서 직접 바뀌므로 복사본을 남긴다.
+	private void remember(long accountId) {
+		if (!undoLog.recording()) return;
+		Account stored = byId.get(accountId);
+		if (stored == null) {
+			undoLog.record(() -> {
+				Account created = byId.remove(accountId);
+				if (created != null) idByAccountNo.remove(created.getAccountNo());
+			});
+		} else {
+			Account previous = copy(stored);
+			undoLog.record(() -> byId.put(accountId, previous));
+		}
+	}
+
+	private static Account copy(Account a) {
+		return new Account(a.getId(), a.getAccountNo(), a.getStatus(), a.getBalance());
+	}
+}
@@ -0,0 +1,62 @@
+package com.jangmuyeong.remittance.benchmark.support;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.jangmuyeong.remittance.domain.limit.DailyLimit;
+import com.jangmuyeong.remittance.domain.port.DailyLimitPort;
+
+/**
+ * 벤치마크용 DailyLimitPort 메모리 구현체
+ * 계좌별로 "가장 최근 날짜"의 누적치 하나만 보관한다. (장시간 실행해도 메모리가 늘지 않도록)
+ * 변경 전 상태는 undo log에 남겨 inTransaction이 예외로 끝나면 되돌린다.
+ */
+public class InMemoryDailyLimitPort implements DailyLimitPort {
+
+	private final Map<Long, DailyLimit> byAccountId = new HashMap<>();
+	private final InMemoryUndoLog undoLog;
+	private long sequence;
+
+	public InMemoryDailyLimitPort() {
+		this(new InMemoryUndoLog());
+	}
+
+	public InMemoryDailyLimitPort(InMemoryUndoLog undoLog) {
+		this.undoLog = undoLog;
+	}
+
+	@Override
+	public DailyLimit getOrCreate(long accountId, LocalDate date) {
+		DailyLimit current = byAccountId.get(accountId);
+		if (current == null || !current.getDate().equals(date)) {
+			current = new DailyLimit(++sequence, accountId, date, 0L, 0L);
+			remember(accountId);
+			byAccountId.put(accountId, current);
+		}
+		return copy(current);
+	}
+
+	@Override
+	public void save(DailyLimit limit) {
+		remember(limit.getAccountId());
+		byAccountId.put(limit.getAccountId(), copy(limit));
+	}
+
+	// 저장된 객체는 바뀌지 않고(조회/저장 모두 복사본) 교체만 되므로 참조를 남긴다.
+	private void remember(long accountId) {
+		if (!undoLog.recording()) return;
+		DailyLimit previous = byAccountId.get(accountId);
+		undoLog.record(() -> {
+			if (previous == null) {
+				byAccountId.remove(accountId);
+			} else {
+				byAccountId.put(accountId, previous);
+			}
+		});
+	}
+
+	private static DailyLimit copy(DailyLimit d) {
+		return new DailyLimit(d.getId(), d.getAccountId(), d.getDate(), d.getWithdrawSum(), d.getTransferSum());
+	}
+}
@@ -0,0 +1,70 @@
+package com.jangmuyeong.remittance.benchmark.support;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import com.jangmuyeong.remittance.domain.ledger.LedgerEntry;
+import com.jangmuyeong.remittance.domain.port.LedgerPort;
+
+/**
+ * 벤치마크용 LedgerPort 메모리 구현체
+ * 계좌별로 최근 retainPerAccount 건만 링 버퍼처럼 보관한다.
+ * 추가한 행은 undo log에 남겨 inTransaction이 예외로 끝나면 되돌린다. (밀려난 행도 복원)
+ */
+public class InMemoryLedgerPort implements LedgerPort {
+
+	private final int retainPerAccount;
+	private final Map<Long, Deque<LedgerEntry>> byAccountId = new HashMap<>();
+	private final InMemoryUndoLog undoLog;
+	private long sequence;
+
+	public InMemoryLedgerPort(int retainPerAccount) {
+		this(retainPerAccount, new InMemoryUndoLog());
+	}
+
+	public InMemoryLedgerPort(int retainPerAccount, InMemoryUndoLog undoLog) {
+		this.retainPerAccount = retainPerAccount;
+		this.undoLog = undoLog;
+	}
+
+	@Override
+	public void save(LedgerEntry entry) {
+		LedgerEntry saved = new LedgerEntry(++sequence, entry.getAccountId(), entry.getCounterpartyAccountId(),
+			entry.getType(), entry.getAmount(), entry.getFeeAmount(), entry.getOccurredAt(), entry.getBalanceAfter());
+
+		Deque<LedgerEntry> entries = byAccountId.computeIfAbsent(saved.getAccountId(), k -> new ArrayDeque<>());
+		LedgerEntry evicted = entries.size() == retainPerAccount ? entries.removeLast() : null;
+		entries.addFirst(saved);
+		if (undoLog.recording()) {
+			undoLog.record(() -> {
+				entries.removeFirst();
+				if (evicted != null) entries.addLast(evicted);
+			});
+		}
+	}
+
+	@Override
+	public void saveAll(List<LedgerEntry> entries) {
+		for (LedgerEntry entry : entries) {
+			save(entry);
+		}
+	}
+
+	@Override
+	public List<LedgerEntry> findLatestByAccountId(long accountId, int size) {
+		Deque<LedgerEntry> entries = byAccountId.get(accountId);
+		if (entries == null) return List.of();
+
+		List<LedgerEntry> result = new ArrayList<>(Math.min(size, entries.size()));
+		Iterator<LedgerEntry> it = entries.iterator(); // 최신순
+		while (it.hasNext() && result.size() < size) {
+			result.add(it.next());
+		}
+		return result;
+	}
+}
@@ -0,0 +1,44 @@
+package com.jangmuyeong.remittance.benchmark.support;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.function.LongSupplier;
+
+/**
+ * 메모리 포트(InMemory*Port)가 공유하는 undo log
+ *
+ * JPA 저장소는 유스케이스가 예외로 끝나면 트랜잭션이 롤백되지만 메모리 포트는 바로 반영되므로,
+ * inTransaction 안에서는 포트가 바꾸기 전 상태를 되돌리는 작업을 기록해 두고 예외가 나면 역순으로 실행한다.
+ * (예: 출금은 일 한도를 저장한 뒤 잔액을 검증하므로, 잔액 부족으로 거절돼도 한도가 남지 않아야 함)
+ * inTransaction 밖에서는 아무것도 기록하지 않는다. (단일 스레드 전용)
+ */
+public final class InMemoryUndoLog {
+
+	private final Deque<Runnable> undo = new ArrayDeque<>();
+	private boolean active;
+
+	public long inTransaction(LongSupplier work) {
+		if (active) return work.getAsLong();
+		active = true;
+		try {
+			return work.getAsLong();
+		} catch (RuntimeException e) {
+			while (!undo.isEmpty()) {
+				undo.pop().run();
+			}
+			throw e;
+		} finally {
+			undo.clear();
+			active = false;
+		}
+	}
+
+	/** 기록 중일 때만 포트가 되돌릴 상태를 복사한다. (밖에서는 할당 없음) */
+	boolean recording() {
+		return active;
+	}
+
+	void record(Runnable restore) {
+		if (active) undo.push(restore);
+	}
+}
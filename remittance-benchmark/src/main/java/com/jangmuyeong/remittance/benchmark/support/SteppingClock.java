@@ -0,0 +1,38 @@
+package com.jangmuyeong.remittance.benchmark.support;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+/**
+ * instant()를 호출할 때마다 step 만큼 앞으로 가는 Clock
+ * 벤치마크가 수백만 번 반복되는 동안 날짜가 넘어가도록 해서 일 한도에 막히지 않게 한다.
+ */
+public class SteppingClock extends Clock {
+
+	private final long stepNanos;
+	private long nanos;
+
+	public SteppingClock(Instant start, Duration step) {
+		this.nanos = start.getEpochSecond() * 1_000_000_000L + start.getNano();
+		this.stepNanos = step.toNanos();
+	}
+
+	@Override
+	public ZoneId getZone() {
+		return ZoneOffset.UTC;
+	}
+
+	@Override
+	public Clock withZone(ZoneId zone) {
+		throw new UnsupportedOperationException("UTC only");
+	}
+
+	@Override
+	public Instant instant() {
+		nanos += stepNanos;
+		return Instant.ofEpochSecond(0, nanos);
+	}
+}
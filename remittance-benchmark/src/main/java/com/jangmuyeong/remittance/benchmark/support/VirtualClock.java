@@ -0,0 +1,46 @@
+package com.jangmuyeong.remittance.benchmark.support;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+/**
+ * 외부에서 시간을 직접 움직이는 가상 Clock (시뮬레이션용)
+ * instant()를 여러 번 호출해도 set/advance 전까지는 같은 시각을 돌려준다.
+ */
+public class VirtualClock extends Clock {
+
+	private volatile Instant now;
+
+	public VirtualClock(Instant start) {
+		this.now = start;
+	}
+
+	public void set(Instant instant) {
+		if (instant.isBefore(now)) {
+			throw new IllegalArgumentException("time cannot go backwards: " + now + " -> " + instant);
+		}
+		this.now = instant;
+	}
+
+	public void advance(Duration duration) {
+		set(now.plus(duration));
+	}
+
+	@Override
+	public ZoneId getZone() {
+		return ZoneOffset.UTC;
+	}
+
+	@Override
+	public Clock withZone(ZoneId zone) {
+		throw new UnsupportedOperationException("UTC only");
+	}
+
+	@Override
+	public Instant instant() {
+		return now;
+	}
+}
@@ -0,0 +1,36 @@
+package com.jangmuyeong.remittance.benchmark.support;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Zipf 분포 샘플러 (0 ~ n-1 인덱스 반환, 0번이 가장 자주 뽑힘)
+ * 누적분포를 미리 계산해 두고 이진 탐색으로 뽑는다.
+ */
+public class ZipfSampler {
+
+	private final double[] cdf;
+
+	/**
+	 * @param n 원소 개수
+	 * @param exponent 치우침 정도(클수록 상위 원소에 집중, 1.0 전후가 일반적)
+	 */
+	public ZipfSampler(int n, double exponent) {
+		if (n <= 0) throw new IllegalArgumentException("n must be positive");
+		this.cdf = new double[n];
+		double sum = 0;
+		for (int i = 0; i < n; i++) {
+			sum += 1.0 / Math.pow(i + 1, exponent);
+			cdf[i] = sum;
+		}
+		for (int i = 0; i < n; i++) {
+			cdf[i] /= sum;
+		}
+	}
+
+	public int sample(RandomGenerator random) {
+		int idx = Arrays.binarySearch(cdf, random.nextDouble());
+		int i = idx >= 0 ? idx : -idx - 1;
+		return Math.min(i, cdf.length - 1);
+	}
+}
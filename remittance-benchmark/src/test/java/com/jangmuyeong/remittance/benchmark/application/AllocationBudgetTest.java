@@ -0,0 +1,94 @@
+package com.jangmuyeong.remittance.benchmark.application;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.Instant;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.jangmuyeong.remittance.application.dto.command.RemitCommand;
+import com.jangmuyeong.remittance.application.dto.command.WithdrawCommand;
+import com.jangmuyeong.remittance.application.service.MoneyService;
+import com.jangmuyeong.remittance.application.service.RemittanceService;
+import com.jangmuyeong.remittance.application.service.UseCaseServices;
+import com.jangmuyeong.remittance.benchmark.support.InMemoryAccountPort;
+import com.jangmuyeong.remittance.benchmark.support.InMemoryDailyLimitPort;
+import com.jangmuyeong.remittance.benchmark.support.InMemoryLedgerPort;
+import com.jangmuyeong.remittance.benchmark.support.SteppingClock;
+
+/**
+ * remit / withdraw 1회당 할당 바이트 예산 검증
+ * UseCaseBenchmark와 같은 구성(메모리 포트)으로 JIT 워밍업 후 스레드 할당량(ThreadMXBean)을 잰다.
+ * 포트 구현체의 복사 비용도 포함되므로, 서비스/도메인 계층에서 할당이 늘면 여기서 걸린다.
+ */
+class AllocationBudgetTest {
+
+	// 예산(bytes/op): 측정치(remit ~1,080 / withdraw ~610) + 약 25% 여유
+	// (primitive id/Optional 제거 전에는 remit ~1,590 / withdraw ~1,050)
+	static final long REMIT_BUDGET = 1_350;
+	static final long WITHDRAW_BUDGET = 780;
+
+	private static final int ACCOUNTS = 256;
+	private static final int WARMUP = 50_000;
+	private static final int MEASURED = 20_000;
+
+	private final com.sun.management.ThreadMXBean threads =
+		(com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+	private RemittanceService remittanceService;
+	private MoneyService moneyService;
+	private String[] accountNos;
+	private int cursor;
+
+	@BeforeEach
+	void setUp() {
+		InMemoryAccountPort accountPort = new InMemoryAccountPort();
+		InMemoryDailyLimitPort dailyLimitPort = new InMemoryDailyLimitPort();
+		InMemoryLedgerPort ledgerPort = new InMemoryLedgerPort(20);
+		SteppingClock clock = new SteppingClock(Instant.parse("2025-12-30T00:00:00Z"), Duration.ofSeconds(1));
+
+		UseCaseServices services = UseCaseServices.of(accountPort, dailyLimitPort, ledgerPort, clock);
+		remittanceService = services.remittanceService();
+		moneyService = services.moneyService();
+
+		accountNos = new String[ACCOUNTS];
+		for (int i = 0; i < ACCOUNTS; i++) {
+			accountNos[i] = "ALLOC-" + i;
+			accountPort.open(accountNos[i], 1_000_000_000_000L);
+		}
+	}
+
+	@Test
+	void remit_allocation_budget() {
+		long bytes = bytesPerOp(() -> {
+			int from = next();
+			remittanceService.remit(new RemitCommand(accountNos[from], accountNos[(from + 1) % ACCOUNTS], 1_000L));
+		});
+		System.out.printf("[alloc] remit    %,d bytes/op (budget %,d)%n", bytes, REMIT_BUDGET);
+		assertThat(bytes).isLessThanOrEqualTo(REMIT_BUDGET);
+	}
+
+	@Test
+	void withdraw_allocation_budget() {
+		long bytes = bytesPerOp(() -> moneyService.withdraw(new WithdrawCommand(accountNos[next()], 1_000L)));
+		System.out.printf("[alloc] withdraw %,d bytes/op (budget %,d)%n", bytes, WITHDRAW_BUDGET);
+		assertThat(bytes).isLessThanOrEqualTo(WITHDRAW_BUDGET);
+	}
+
+	private long bytesPerOp(Runnable op) {
+		for (int i = 0; i < WARMUP; i++) op.run();
+		long tid = Thread.currentThread().getId();
+		long before = threads.getThreadAllocatedBytes(tid);
+		for (int i = 0; i < MEASURED; i++) op.run();
+		return (threads.getThreadAllocatedBytes(tid) - before) / MEASURED;
+	}
+
+	private int next() {
+		int i = cursor;
+		cursor = (i + 1) % ACCOUNTS;
+		return i;
+	}
+}
@@ -0,0 +1,11 @@
+package com.jangmuyeong.remittance.benchmark.contention;
+
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * 계좌별 적응형 쓰기 모드(remittance.write.mode=ADAPTIVE)로 같은 경합 벤치마크를 실행
+ * HOT_ACCOUNT/ZIPF의 핫 계좌는 락 조회, 나머지 계좌는 낙관적 경로로 처리되는지 PESSIMISTIC/OPTIMISTIC 리포트와 비교한다.
+ */
+@TestPropertySource(properties = "remittance.write.mode=ADAPTIVE")
+class AdaptiveContentionBenchmarkTest extends ContentionBenchmarkTest {
+}
@@ -0,0 +1,11 @@
+package com.jangmuyeong.remittance.benchmark.contention;
+
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * 계좌별 명령 결합 모드(remittance.write.mode=COMBINING)로 같은 경합 벤치마크를 실행
+ * HOT_ACCOUNT에서 핫 계좌의 락 획득/커밋이 배치 단위로 줄어드는지 PESSIMISTIC 리포트와 비교한다.
+ */
+@TestPropertySource(properties = "remittance.write.mode=COMBINING")
+class CombiningContentionBenchmarkTest extends ContentionBenchmarkTest {
+}
@@ -0,0 +1,358 @@
+package com.jangmuyeong.remittance.benchmark.contention;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.jangmuyeong.remittance.RemittanceApplication;
+import com.jangmuyeong.remittance.application.dto.command.CreateAccountCommand;
+import com.jangmuyeong.remittance.application.dto.command.DepositCommand;
+import com.jangmuyeong.remittance.application.dto.command.RemitCommand;
+import com.jangmuyeong.remittance.application.dto.command.WithdrawCommand;
+import com.jangmuyeong.remittance.application.dto.result.RemitResult;
+import com.jangmuyeong.remittance.application.service.AccountService;
+import com.jangmuyeong.remittance.application.service.MoneyService;
+import com.jangmuyeong.remittance.application.service.RemittanceService;
+import com.jangmuyeong.remittance.application.service.WriteMode;
+import com.jangmuyeong.remittance.domain.exception.DomainException;
+import com.jangmuyeong.remittance.domain.exception.ErrorCode;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 동시 송금 경합 벤치마크
+ * 실제 JPA 어댑터(AccountPortAdapter, DailyLimitPortAdapter, LedgerPortAdapter)와 H2(MySQL 모드)로
+ * remit / deposit / withdraw 를 여러 스레드에서 동시에 실행하고,
+ * 처리량, 지연 분포(p50/p99/p999), 락 대기 시간을 리포트한 뒤 정합성을 검증한다.
+ *
+ * 검증 항목:
+ * - 총액 보존: 최종 잔액 합 = 초기 잔액 합 + 입금 - 출금 - 수수료
+ * - 계좌별 잔액 = 해당 계좌 ledger_entries 의 부호 있는 합
+ * - 계좌별 마지막 원장의 balance_after = 현재 잔액
+ *
+ * 쓰기 모드(remittance.write.mode)별로 리포트를 남긴다. (<mode>-<workload>.txt)
+ * OPTIMISTIC/ADAPTIVE는 Optimistic/AdaptiveContentionBenchmarkTest에서 실행하고, 재시도 횟수와 재시도 소진(409) 건수를 함께 기록한다.
+ *
+ * 실행: ./gradlew :remittance-benchmark:contentionBenchmark
+ */
+@Tag("contention")
+@ActiveProfiles("local")
+@SpringBootTest(classes = {RemittanceApplication.class, ContentionBenchmarkTest.ProbeConfig.class}, properties = {
+	"spring.datasource.url=jdbc:h2:mem:contention;MODE=MySQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;LOCK_TIMEOUT=30000",
+	"spring.jpa.properties.hibernate.format_sql=false",
+	"logging.level.org.hibernate.SQL=warn"
+})
+class ContentionBenchmarkTest {
+
+	private static final int THREADS = Integer.getInteger("contention.threads", 16);
+	private static final int OPS_PER_THREAD = Integer.getInteger("contention.opsPerThread", 500);
+	private static final int WARMUP_OPS_PER_THREAD = Integer.getInteger("contention.warmupOpsPerThread", 200);
+	private static final int ACCOUNTS = Integer.getInteger("contention.accounts", 100);
+	private static final long INITIAL_BALANCE = 10_000_000L;
+	private static final long MAX_LATENCY_MICROS = TimeUnit.SECONDS.toMicros(60);
+
+	@TestConfiguration
+	static class ProbeConfig {
+		@Bean
+		static LockWaitProbe lockWaitProbe() {
+			return new LockWaitProbe();
+		}
+	}
+
+	@Autowired AccountService accountService;
+	@Autowired MoneyService moneyService;
+	@Autowired RemittanceService remittanceService;
+	@Autowired LockWaitProbe lockWaitProbe;
+	@Autowired JdbcTemplate jdbc;
+	@Autowired MeterRegistry meterRegistry;
+	@Value("${remittance.write.mode:PESSIMISTIC}") WriteMode writeMode;
+
+	enum Op { REMIT, DEPOSIT, WITHDRAW }
+
+	@ParameterizedTest
+	@EnumSource(Workload.class)
+	void concurrent_money_movement_conserves_total_and_matches_ledger(Workload workload) throws Exception {
+		String[] accountNos = seedAccounts(workload);
+		List<Long> accountIds = accountIds(accountNos);
+
+		// JIT 워밍업: 측정에서는 제외하지만 잔액은 움직이므로 정합성 검증에는 포함한다
+		RunStats warmup = run(workload, accountNos, WARMUP_OPS_PER_THREAD, 1000);
+
+		// 시드/워밍업 단계에서 쌓인 락 측정치는 버린다
+		lockWaitProbe.accountLock().reset();
+		lockWaitProbe.dailyLimitLock().reset();
+
+		double retriesBefore = conflictCount("retried");
+		RunStats stats = run(workload, accountNos, OPS_PER_THREAD, 0);
+		stats.retries = (long) (conflictCount("retried") - retriesBefore);
+
+		String report = report(workload, stats);
+		System.out.println(report);
+		writeReport(workload, report);
+
+		assertThat(warmup.unexpectedErrors.sum() + stats.unexpectedErrors.sum())
+			.as("락 프로토콜 오류(데드락/락 타임아웃 등): %s / %s", warmup.firstUnexpected.get(), stats.firstUnexpected.get())
+			.isZero();
+		assertConservation(accountIds, warmup, stats);
+		assertLedgerMatchesBalances(accountIds);
+	}
+
+	// ===================== 실행 =====================
+
+	private RunStats run(Workload workload, String[] accountNos, int opsPerThread, long seedOffset) throws Exception {
+		RunStats stats = new RunStats();
+		ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<?>> futures = new ArrayList<>();
+
+		for (int t = 0; t < THREADS; t++) {
+			long seed = seedOffset + 31L * workload.ordinal() + t;
+			futures.add(pool.submit(() -> {
+				Workload.AccountPicker picker = workload.picker(accountNos.length);
+				SplittableRandom random = new SplittableRandom(seed);
+				start.await();
+				for (int i = 0; i < opsPerThread; i++) {
+					execute(random, picker, accountNos, stats);
+				}
+				return null;
+			}));
+		}
+
+		long begin = System.nanoTime();
+		start.countDown();
+		for (Future<?> f : futures) f.get();
+		stats.elapsedNanos = System.nanoTime() - begin;
+		pool.shutdown();
+		return stats;
+	}
+
+	private void execute(SplittableRandom random, Workload.AccountPicker picker, String[] accountNos, RunStats stats) {
+		int hot = picker.pick(random);
+		int other = random.nextInt(accountNos.length);
+		if (other == hot) other = (hot + 1) % accountNos.length;
+		long amount = 1_000L + random.nextInt(9_001);
+
+		double roll = random.nextDouble();
+		Op op = roll < 0.6 ? Op.REMIT : roll < 0.8 ? Op.DEPOSIT : Op.WITHDRAW;
+
+		long begin = System.nanoTime();
+		try {
+			switch (op) {
+				case REMIT -> {
+					// 절반은 선택된 계좌가 받는 쪽, 절반은 보내는 쪽
+					boolean hotReceives = random.nextBoolean();
+					String from = accountNos[hotReceives ? other : hot];
+					String to = accountNos[hotReceives ? hot : other];
+					RemitResult res = remittanceService.remit(new RemitCommand(from, to, amount));
+					stats.fees.add(res.fee());
+				}
+				case DEPOSIT -> {
+					moneyService.deposit(new DepositCommand(accountNos[hot], amount));
+					stats.deposits.add(amount);
+				}
+				case WITHDRAW -> {
+					moneyService.withdraw(new WithdrawCommand(accountNos[hot], amount));
+					stats.withdraws.add(amount);
+				}
+			}
+			stats.succeeded.add(1);
+		} catch (DomainException e) {
+			stats.rejections.computeIfAbsent(e.getErrorCode(), k -> new LongAdder()).add(1);
+		} catch (OptimisticLockingFailureException e) {
+			// 낙관적 모드에서 재시도를 다 쓰고 실패 (아무것도 반영되지 않음)
+			stats.conflictsExhausted.add(1);
+		} catch (RuntimeException e) {
+			stats.unexpectedErrors.add(1);
+			stats.firstUnexpected.compareAndSet(null, e.toString());
+		} finally {
+			long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - begin);
+			stats.latency.get(op).recordValue(Math.min(micros, MAX_LATENCY_MICROS));
+		}
+	}
+
+	// ===================== 시드 =====================
+
+	private String[] seedAccounts(Workload workload) {
+		String[] accountNos = new String[ACCOUNTS];
+		String prefix = workload.name() + "-" + System.nanoTime() + "-";
+		for (int i = 0; i < ACCOUNTS; i++) {
+			accountNos[i] = accountService.create(new CreateAccountCommand(prefix + i)).accountNo();
+			moneyService.deposit(new DepositCommand(accountNos[i], INITIAL_BALANCE));
+		}
+		return accountNos;
+	}
+
+	private List<Long> accountIds(String[] accountNos) {
+		List<Long> ids = new ArrayList<>();
+		for (String no : accountNos) {
+			ids.add(moneyService.balance(no).accountId());
+		}
+		return ids;
+	}
+
+	// ===================== 정합성 검증 =====================
+
+	private void assertConservation(List<Long> accountIds, RunStats... runs) {
+		Long total = jdbc.queryForObject(
+			"select coalesce(sum(balance), 0) from accounts where id in (" + in(accountIds) + ")", Long.class);
+
+		long expected = INITIAL_BALANCE * accountIds.size();
+		for (RunStats stats : runs) {
+			expected += stats.deposits.sum() - stats.withdraws.sum() - stats.fees.sum();
+		}
+
+		assertThat(total).as("총액 보존(초기 + 입금 - 출금 - 수수료)").isEqualTo(expected);
+	}
+
+	private void assertLedgerMatchesBalances(List<Long> accountIds) {
+		List<Map<String, Object>> rows = jdbc.queryForList("""
+			select a.id as id, a.balance as balance,
+			       coalesce(sum(case l.type
+			           when 1 then l.amount                      -- DEPOSIT (LedgerMapper.typeCode)
+			           when 4 then l.amount                      -- TRANSFER_IN
+			           when 2 then -l.amount                     -- WITHDRAW
+			           when 3 then -(l.amount + l.fee_amount)    -- TRANSFER_OUT
+			           when 5 then -l.fee_amount                 -- FEE
+			           else 0 end), 0) as ledger_sum
+			from accounts a
+			left join ledger_entries l on l.account_id = a.id
+			where a.id in (%s)
+			group by a.id, a.balance
+			""".formatted(in(accountIds)));
+
+		assertThat(rows).hasSize(accountIds.size());
+		for (Map<String, Object> row : rows) {
+			assertThat(((Number) row.get("ledger_sum")).longValue())
+				.as("계좌 %s 잔액 = 원장 합계", row.get("id"))
+				.isEqualTo(((Number) row.get("balance")).longValue());
+		}
+
+		List<Map<String, Object>> latest = jdbc.queryForList("""
+			select a.id as id, a.balance as balance, l.balance_after as balance_after
+			from accounts a
+			join ledger_entries l on l.account_id = a.id
+			where a.id in (%s)
+			  and l.id = (select max(x.id) from ledger_entries x where x.account_id = a.id)
+			""".formatted(in(accountIds)));
+
+		for (Map<String, Object> row : latest) {
+			assertThat(((Number) row.get("balance_after")).longValue())
+				.as("계좌 %s 마지막 원장 balance_after = 현재 잔액", row.get("id"))
+				.isEqualTo(((Number) row.get("balance")).longValue());
+		}
+	}
+
+	private static String in(List<Long> ids) {
+		return ids.stream().map(String::valueOf).collect(Collectors.joining(","));
+	}
+
+	// ===================== 리포트 =====================
+
+	private String report(Workload workload, RunStats stats) {
+		StringBuilder sb = new StringBuilder();
+		long ops = (long) THREADS * OPS_PER_THREAD;
+		double seconds = stats.elapsedNanos / 1e9;
+
+		sb.append("=== contention: ").append(workload)
+			.append(" (mode=").append(writeMode)
+			.append(", threads=").append(THREADS)
+			.append(", ops=").append(ops)
+			.append(", accounts=").append(ACCOUNTS).append(") ===\n");
+		sb.append(String.format("throughput      : %.1f ops/s (%.2fs)%n", ops / seconds, seconds));
+		sb.append(String.format("succeeded       : %d%n", stats.succeeded.sum()));
+		sb.append(String.format("rejections      : %s%n", stats.rejections.entrySet().stream()
+			.map(e -> e.getKey() + "=" + e.getValue().sum())
+			.sorted()
+			.collect(Collectors.joining(", "))));
+		sb.append(String.format("unexpected      : %d%n", stats.unexpectedErrors.sum()));
+		if (writeMode == WriteMode.OPTIMISTIC || writeMode == WriteMode.ADAPTIVE) {
+			sb.append(String.format("conflicts       : retried=%d, exhausted=%d%n",
+				stats.retries, stats.conflictsExhausted.sum()));
+		}
+		sb.append("latency (us)      p50       p99      p999       max\n");
+		for (Op op : Op.values()) {
+			appendPercentiles(sb, op.name(), stats.latency.get(op).getIntervalHistogram());
+		}
+		Histogram accountLock = lockWaitProbe.accountLock().getIntervalHistogram();
+		Histogram limitLock = lockWaitProbe.dailyLimitLock().getIntervalHistogram();
+		appendPercentiles(sb, "lock:account", accountLock);
+		appendPercentiles(sb, "lock:daily", limitLock);
+		sb.append(String.format("lock wait total : account=%.1fms, daily_limit=%.1fms%n",
+			totalMillis(accountLock), totalMillis(limitLock)));
+		return sb.toString();
+	}
+
+	private static void appendPercentiles(StringBuilder sb, String label, Histogram h) {
+		sb.append(String.format("%-14s %9d %9d %9d %9d%n", label,
+			h.getValueAtPercentile(50), h.getValueAtPercentile(99), h.getValueAtPercentile(99.9), h.getMaxValue()));
+	}
+
+	private static double totalMillis(Histogram h) {
+		return h.getMean() * h.getTotalCount() / 1000.0;
+	}
+
+	private double conflictCount(String outcome) {
+		return meterRegistry.find("remittance.write.conflicts").tag("outcome", outcome).counters().stream()
+			.mapToDouble(Counter::count)
+			.sum();
+	}
+
+	private void writeReport(Workload workload, String report) throws IOException {
+		String dir = System.getProperty("contention.reportDir");
+		if (dir == null) return;
+		Path path = Path.of(dir, writeMode.name().toLowerCase() + "-" + workload.name().toLowerCase() + ".txt");
+		Files.createDirectories(path.getParent());
+		Files.writeString(path, report);
+	}
+
+	private static class RunStats {
+		final Map<Op, Recorder> latency = new EnumMap<>(Op.class);
+		final Map<ErrorCode, LongAdder> rejections = new ConcurrentHashMap<>();
+		final LongAdder succeeded = new LongAdder();
+		final LongAdder deposits = new LongAdder();
+		final LongAdder withdraws = new LongAdder();
+		final LongAdder fees = new LongAdder();
+		final LongAdder unexpectedErrors = new LongAdder();
+		final LongAdder conflictsExhausted = new LongAdder();
+		final AtomicReference<String> firstUnexpected = new AtomicReference<>();
+		long elapsedNanos;
+		long retries;
+
+		RunStats() {
+			for (Op op : Op.values()) {
+				latency.put(op, new Recorder(MAX_LATENCY_MICROS, 3));
+			}
+		}
+	}
+}
@@ -0,0 +1,51 @@
+package com.jangmuyeong.remittance.benchmark.contention;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.TimeUnit;
+
+import org.HdrHistogram.Recorder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import com.jangmuyeong.remittance.domain.port.AccountPort;
+import com.jangmuyeong.remittance.domain.port.DailyLimitPort;
+
+/**
+ * 락 대기 시간 측정기
+ * AccountPort.findByIdForUpdate / DailyLimitPort.getOrCreate 를 감싸서
+ * 호출 시간(= 락 대기 + 조회 쿼리)을 히스토그램으로 기록한다.
+ */
+class LockWaitProbe implements BeanPostProcessor {
+
+	private final Recorder accountLock = new Recorder(TimeUnit.SECONDS.toMicros(60), 3);
+	private final Recorder dailyLimitLock = new Recorder(TimeUnit.SECONDS.toMicros(60), 3);
+
+	Recorder accountLock() { return accountLock; }
+	Recorder dailyLimitLock() { return dailyLimitLock; }
+
+	@Override
+	public Object postProcessAfterInitialization(Object bean, String beanName) {
+		if (bean instanceof AccountPort port) {
+			return timed(AccountPort.class, port, "findByIdForUpdate", accountLock);
+		}
+		if (bean instanceof DailyLimitPort port) {
+			return timed(DailyLimitPort.class, port, "getOrCreate", dailyLimitLock);
+		}
+		return bean;
+	}
+
+	private static <T> T timed(Class<T> type, T target, String method, Recorder recorder) {
+		Object proxy = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (p, m, args) -> {
+			boolean measured = m.getName().equals(method);
+			long start = measured ? System.nanoTime() : 0L;
+			try {
+				return m.invoke(target, args);
+			} catch (InvocationTargetException e) {
+				throw e.getCause();
+			} finally {
+				if (measured) recorder.recordValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start));
+			}
+		});
+		return type.cast(proxy);
+	}
+}
@@ -0,0 +1,12 @@
+package com.jangmuyeong.remittance.benchmark.contention;
+
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * 낙관적 쓰기 모드(remittance.write.mode=OPTIMISTIC)로 같은 경합 벤치마크를 실행
+ * 비관락 모드(ContentionBenchmarkTest) 리포트와 처리량/지연 분포를 비교한다.
+ * (UNIFORM: 경합 낮음, HOT_ACCOUNT: 경합 높음, 재시도 소진은 unexpected가 아니라 conflicts로 집계)
+ */
+@TestPropertySource(properties = "remittance.write.mode=OPTIMISTIC")
+class OptimisticContentionBenchmarkTest extends ContentionBenchmarkTest {
+}
@@ -0,0 +1,36 @@
+package com.jangmuyeong.remittance.benchmark.contention;
+
+import java.util.random.RandomGenerator;
+
+import com.jangmuyeong.remittance.benchmark.support.ZipfSampler;
+
+/**
+ * 경합 벤치마크 부하 패턴
+ * - UNIFORM: 모든 계좌가 고르게 선택됨 (경합 낮음)
+ * - ZIPF: 소수 계좌에 트래픽이 몰림 (실제 트래픽과 유사)
+ * - HOT_ACCOUNT: 모든 요청이 0번 계좌를 한쪽으로 포함 (단일 핫 계좌)
+ */
+enum Workload {
+	UNIFORM,
+	ZIPF,
+	HOT_ACCOUNT;
+
+	/**
+	 * 스레드별로 하나씩 만들어 쓰는 계좌 선택기
+	 */
+	AccountPicker picker(int accounts) {
+		return switch (this) {
+			case UNIFORM -> random -> random.nextInt(accounts);
+			case ZIPF -> {
+				ZipfSampler zipf = new ZipfSampler(accounts, 1.1);
+				yield zipf::sample;
+			}
+			case HOT_ACCOUNT -> random -> 0;
+		};
+	}
+
+	@FunctionalInterface
+	interface AccountPicker {
+		int pick(RandomGenerator random);
+	}
+}
@@ -0,0 +1,92 @@
+package com.jangmuyeong.remittance.benchmark.dataset;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.sql.Connection;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.jangmuyeong.remittance.RemittanceApplication;
+
+/**
+ * 스키마는 애플리케이션 컨텍스트(ddl-auto)로 만들고, 생성기는 같은 DataSource에 JDBC batch로 적재한다.
+ */
+@ActiveProfiles("local")
+@SpringBootTest(classes = RemittanceApplication.class, properties = {
+	"spring.datasource.url=jdbc:h2:mem:dataset;MODE=MySQL;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+	"spring.jpa.properties.hibernate.format_sql=false",
+	"logging.level.org.hibernate.SQL=warn"
+})
+class DatasetGeneratorTest {
+
+	@Autowired DataSource dataSource;
+	@Autowired JdbcTemplate jdbc;
+
+	@Test
+	void generates_consistent_skewed_multi_year_dataset() throws Exception {
+		DatasetOptions options = DatasetOptions.parse(new String[] {
+			"--accounts=300", "--ledger-rows=30000", "--years=2", "--batch=1000", "--prefix=TEST"
+		});
+
+		DatasetGenerator.DatasetStats stats;
+		try (Connection conn = dataSource.getConnection()) {
+			stats = new DatasetGenerator(options).generate(conn);
+		}
+
+		assertThat(stats.ledgerRows()).isBetween(30_000L, 30_002L); // 마지막 이체는 3 row
+		assertThat(jdbc.queryForObject("select count(*) from ledger_entries", Long.class)).isEqualTo(stats.ledgerRows());
+		assertThat(jdbc.queryForObject("select count(*) from daily_limits", Long.class)).isEqualTo(stats.dailyLimitRows());
+
+		// 계좌 잔액 = 원장 합계 = 마지막 원장 balance_after
+		List<Map<String, Object>> rows = jdbc.queryForList("""
+			select a.balance as balance,
+			       sum(case l.type
+			           when 1 then l.amount                      -- DEPOSIT (LedgerMapper.typeCode)
+			           when 4 then l.amount                      -- TRANSFER_IN
+			           when 2 then -l.amount                     -- WITHDRAW
+			           when 3 then -(l.amount + l.fee_amount)    -- TRANSFER_OUT
+			           when 5 then -l.fee_amount                 -- FEE
+			           else 0 end) as ledger_sum,
+			       max(l.id) as last_id
+			from accounts a
+			join ledger_entries l on l.account_id = a.id
+			group by a.id, a.balance
+			""");
+		assertThat(rows).hasSize(300);
+		for (Map<String, Object> row : rows) {
+			long balance = ((Number) row.get("balance")).longValue();
+			assertThat(((Number) row.get("ledger_sum")).longValue()).isEqualTo(balance);
+			Long lastBalanceAfter = jdbc.queryForObject("select balance_after from ledger_entries where id = ?",
+				Long.class, row.get("last_id"));
+			assertThat(lastBalanceAfter).isEqualTo(balance);
+		}
+
+		// daily_limits 누적치 = 날짜별 출금/이체 합계, 한도 이내
+		assertThat(jdbc.queryForObject("select coalesce(sum(withdraw_sum), 0) from daily_limits", Long.class))
+			.isEqualTo(jdbc.queryForObject("select coalesce(sum(amount), 0) from ledger_entries where type = 2", Long.class));
+		assertThat(jdbc.queryForObject("select coalesce(sum(transfer_sum), 0) from daily_limits", Long.class))
+			.isEqualTo(jdbc.queryForObject("select coalesce(sum(amount), 0) from ledger_entries where type = 3", Long.class));
+		assertThat(jdbc.queryForObject("select max(withdraw_sum) from daily_limits", Long.class)).isLessThanOrEqualTo(1_000_000L);
+		assertThat(jdbc.queryForObject("select max(transfer_sum) from daily_limits", Long.class)).isLessThanOrEqualTo(3_000_000L);
+
+		// 시간 분포: 2년 가까이 퍼져 있어야 함
+		Timestamp min = jdbc.queryForObject("select min(occurred_at) from ledger_entries", Timestamp.class);
+		Timestamp max = jdbc.queryForObject("select max(occurred_at) from ledger_entries", Timestamp.class);
+		assertThat(Duration.between(min.toInstant(), max.toInstant())).isGreaterThan(Duration.ofDays(700));
+
+		// 활동량 치우침: 가장 활발한 계좌가 평균의 10배 이상
+		Long hottest = jdbc.queryForObject(
+			"select max(c) from (select count(*) as c from ledger_entries group by account_id) t", Long.class);
+		assertThat(hottest).isGreaterThan(10 * stats.ledgerRows() / 300);
+	}
+}
@@ -0,0 +1,58 @@
+package com.jangmuyeong.remittance.benchmark.simulation;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.Test;
+
+import com.jangmuyeong.remittance.benchmark.support.VirtualClock;
+import com.jangmuyeong.remittance.domain.exception.ErrorCode;
+
+class SimulationRunnerTest {
+
+	@Test
+	void same_seed_produces_identical_summary_and_digest() {
+		SimulationReport first = run("--days=5", "--ops-per-day=500", "--accounts=50", "--seed=7");
+		SimulationReport second = run("--days=5", "--ops-per-day=500", "--accounts=50", "--seed=7");
+		SimulationReport otherSeed = run("--days=5", "--ops-per-day=500", "--accounts=50", "--seed=8");
+
+		assertThat(second.summary()).isEqualTo(first.summary());
+		assertThat(second.digest()).isEqualTo(first.digest());
+		assertThat(otherSeed.digest()).isNotEqualTo(first.digest());
+	}
+
+	@Test
+	void withdraw_daily_limit_rolls_over_every_virtual_day() {
+		// 출금만, 계좌 2개에 몰아서 매일 한도(1,000,000)를 넘기도록 구성
+		SimulationReport report = run("--days=4", "--ops-per-day=40", "--accounts=2", "--zipf=3",
+			"--initial-deposit=1000000000", "--mix=withdraw:1");
+
+		long previousRows = 0;
+		for (SimulationReport.Day day : report.days()) {
+			assertThat(day.rejections(ErrorCode.WITHDRAW_DAILY_LIMIT_EXCEEDED))
+				.as("day %d", day.index).isPositive();
+			// 날짜가 바뀌면 한도가 초기화되어 다시 출금이 성공해야 한다
+			assertThat(day.ledgerRowsTotal).as("day %d", day.index).isGreaterThan(previousRows);
+			previousRows = day.ledgerRowsTotal;
+		}
+	}
+
+	@Test
+	void rejected_withdraw_does_not_use_up_daily_limit() {
+		// 잔액 0 계좌에 출금만: 일 한도는 잔액 검증 전에 저장되지만 거절되면 jpa 롤백처럼 되돌려져야 한다
+		SimulationReport report = run("--days=2", "--ops-per-day=40", "--accounts=2",
+			"--initial-deposit=0", "--mix=withdraw:1");
+
+		for (SimulationReport.Day day : report.days()) {
+			assertThat(day.rejections(ErrorCode.INSUFFICIENT_BALANCE)).as("day %d", day.index).isEqualTo(day.ops());
+			assertThat(day.rejections(ErrorCode.WITHDRAW_DAILY_LIMIT_EXCEEDED)).as("day %d", day.index).isZero();
+		}
+	}
+
+	private static SimulationReport run(String... args) {
+		SimulationOptions options = SimulationOptions.parse(args);
+		VirtualClock clock = new VirtualClock(options.start().atStartOfDay(ZoneOffset.UTC).toInstant());
+		return SimulationMain.inMemoryRunner(clock, options).run();
+	}
+}
@@ -0,0 +1,31 @@
+package com.jangmuyeong.remittance.domain.account;
+
+import com.jangmuyeong.remittance.domain.exception.DomainException;
+import com.jangmuyeong.remittance.domain.exception.ErrorCode;
+
+/**
+ * 잔액 변경 규칙 (Account와 조건부 UPDATE 어댑터가 같은 정의를 사용)
+ * - 잔액 변경은 MUTABLE_STATUS 계좌만 허용
+ * - 금액은 0원 초과
+ * - 출금은 잔액 >= 금액 (SQL 조건: balance >= ?)
+ */
+public final class AccountRules {
+
+	/** 입금/출금이 허용되는 상태 (조건부 UPDATE의 status = ? 조건에 바인딩) */
+	public static final AccountStatus MUTABLE_STATUS = AccountStatus.ACTIVE;
+
+	private AccountRules() {
+	}
+
+	public static void validateActive(AccountStatus status) {
+		if (status != MUTABLE_STATUS) throw new DomainException(ErrorCode.ACCOUNT_INACTIVE);
+	}
+
+	public static void validatePositive(long amount) {
+		if (amount <= 0) throw new DomainException(ErrorCode.INVALID_AMOUNT);
+	}
+
+	public static void validateSufficient(long balance, long amount) {
+		if (balance < amount) throw new DomainException(ErrorCode.INSUFFICIENT_BALANCE);
+	}
+}
@@ -8,19 +8,23 @@ import java.time.Instant;
  * - amount: 실제 이체 or 입출금 금액
  * - feeAmount: 수수로 금액
  * - balanceAfter: 거래 후 잔액(수수료 포함 총 차감/반영된 결과)
+ * - id/counterpartyAccountId: 미저장 또는 상대 계좌 없음(입출금)이면 NO_ID
+ * - 통합 형식(remittance.ledger.transfer-format=CONSOLIDATED)의 송금인 측 행은 TRANSFER_OUT 한 건에 amount와 feeAmount를 함께 기록
  */
 public class LedgerEntry {
 
-	private final Long id;
-	private final Long accountId;
-	private final Long counterpartyAccountId;
+	public static final long NO_ID = 0L;
+
+	private final long id;
+	private final long accountId;
+	private final long counterpartyAccountId;
 	private final TransactionType type;
 	private final long amount;
 	private final long feeAmount;
 	private final Instant occurredAt;
 	private final long balanceAfter;
 
-	public LedgerEntry(Long id, Long accountId, Long counterpartyAccountId,
+	public LedgerEntry(long id, long accountId, long counterpartyAccountId,
 		TransactionType type, long amount, long feeAmount, Instant occurredAt, long balanceAfter) {
 		this.id = id;
 		this.accountId = accountId;
@@ -32,12 +36,30 @@ public class LedgerEntry {
 		this.balanceAfter = balanceAfter;
 	}
 
-	public Long getId() { return id; }
-	public Long getAccountId() { return accountId; }
-	public Long getCounterpartyAccountId() { return counterpartyAccountId; }
+	public long getId() { return id; }
+	public long getAccountId() { return accountId; }
+	public long getCounterpartyAccountId() { return counterpartyAccountId; }
+	public boolean hasCounterparty() { return counterpartyAccountId != NO_ID; }
 	public TransactionType getType() { return type; }
 	public long getAmount() { return amount; }
 	public long getFeeAmount() { return feeAmount; }
 	public Instant getOccurredAt() { return occurredAt; }
 	public long getBalanceAfter() { return balanceAfter; }
+
+	/** 수수료까지 담은 송금인 측 통합 행인지 (분리 형식의 TRANSFER_OUT은 feeAmount = 0) */
+	public boolean isConsolidatedTransferOut() {
+		return type == TransactionType.TRANSFER_OUT && feeAmount > 0;
+	}
+
+	/** 통합 행의 이체 부분 (분리 형식의 TRANSFER_OUT 행과 같은 값) */
+	public LedgerEntry transferOutPart() {
+		return new LedgerEntry(id, accountId, counterpartyAccountId, TransactionType.TRANSFER_OUT,
+			amount, 0L, occurredAt, balanceAfter);
+	}
+
+	/** 통합 행의 수수료 부분 (분리 형식의 FEE 행과 같은 값, id는 통합 행과 같음) */
+	public LedgerEntry feePart() {
+		return new LedgerEntry(id, accountId, counterpartyAccountId, TransactionType.FEE,
+			0L, feeAmount, occurredAt, balanceAfter);
+	}
 }
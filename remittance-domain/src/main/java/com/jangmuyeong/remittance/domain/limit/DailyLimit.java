@@ -15,13 +15,16 @@ public class DailyLimit {
 	private static final long WITHDRAW_DAILY_LIMIT = 1_000_000L;
 	private static final long TRANSFER_DAILY_LIMIT = 3_000_000L;
 
-	private final Long id;
-	private final Long accountId;
+	/** 아직 저장되지 않은 일 한도 row의 id */
+	public static final long NO_ID = 0L;
+
+	private final long id;
+	private final long accountId;
 	private final LocalDate date;
 	private long withdrawSum;
 	private long transferSum;
 
-	public DailyLimit(Long id, Long accountId, LocalDate date, long withdrawSum, long transferSum) {
+	public DailyLimit(long id, long accountId, LocalDate date, long withdrawSum, long transferSum) {
 		this.id = id;
 		this.accountId = accountId;
 		this.date = date;
@@ -29,8 +32,8 @@ public class DailyLimit {
 		this.transferSum = transferSum;
 	}
 
-	public Long getId() { return id; }
-	public Long getAccountId() { return accountId; }
+	public long getId() { return id; }
+	public long getAccountId() { return accountId; }
 	public LocalDate getDate() { return date; }
 	public long getWithdrawSum() { return withdrawSum; }
 	public long getTransferSum() { return transferSum; }
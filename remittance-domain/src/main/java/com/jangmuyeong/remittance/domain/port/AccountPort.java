@@ -8,12 +8,40 @@ import com.jangmuyeong.remittance.domain.account.Account;
  * Account 저장소 포트
  */
 public interface AccountPort {
-	Optional<Account> findById(Long accountId);
+	/** 조건부 UPDATE가 반영되지 않았음(없음/비활성/잔액 부족), 잔액은 음수가 될 수 없으므로 -1 */
+	long NOT_UPDATED = -1L;
 
-	/** 정합성 보장을 위한 락 조회(출금/이체 등 잔액 변경 시 사용) */
-	Optional<Account> findByIdForUpdate(Long accountId);
+	/** 계좌번호로 id만 조회 (도메인 객체를 만들지 않음), 없으면 Account.NO_ID */
+	long findIdByAccountNo(String accountNo);
+
+	/** 정합성 보장을 위한 락 조회(출금/이체 등 잔액 변경 시 사용), 없으면 null */
+	Account findByIdForUpdate(long accountId);
+
+	/**
+	 * 낙관적 쓰기 모드용 조회: 락 없이 읽고, update 시점에 읽은 뒤 다른 트랜잭션이 바꿨으면 충돌로 실패한다. 없으면 null
+	 * 버전 검사를 지원하지 않는 구현은 락 조회로 대신한다. (정합성은 같고 동시성만 낮아짐)
+	 */
+	default Account findByIdOptimistic(long accountId) {
+		return findByIdForUpdate(accountId);
+	}
 
 	Optional<Account> findByAccountNo(String accountNo);
 
+	/** 신규 계좌 저장(INSERT), id가 부여된 계좌 반환 */
 	Account save(Account account);
+
+	/** findByIdForUpdate/findByIdOptimistic으로 조회한 계좌의 상태/잔액 반영(UPDATE) */
+	void update(Account account);
+
+	/**
+	 * 조건부 입금 UPDATE 한 문장 (status = AccountRules.MUTABLE_STATUS 조건)
+	 * @return 반영 후 잔액, 조건 불만족이면 NOT_UPDATED
+	 */
+	long depositIfActive(long accountId, long amount);
+
+	/**
+	 * 조건부 출금 UPDATE 한 문장 (status = AccountRules.MUTABLE_STATUS and balance >= amount 조건)
+	 * @return 반영 후 잔액, 조건 불만족이면 NOT_UPDATED
+	 */
+	long withdrawIfSufficient(long accountId, long amount);
 }
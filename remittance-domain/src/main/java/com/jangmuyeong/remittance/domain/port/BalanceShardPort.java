@@ -0,0 +1,63 @@
+package com.jangmuyeong.remittance.domain.port;
+
+import com.jangmuyeong.remittance.domain.account.Account;
+
+/**
+ * 잔액 샤딩 계좌 저장소 포트 (remittance.balance-shards.accounts로 지정한 입금이 몰리는 가맹점/정산 계좌)
+ *
+ * 지정 계좌의 잔액 = 계좌 행 balance + 하위 잔액(shard) 행 balance 합
+ * - 입금은 shard 하나에만 더하므로 계좌 행 락을 잡지 않고, 동시 입금은 서로 다른 shard 행에서 병렬로 진행된다.
+ * - 출금은 계좌 행 락(findByIdForDebit) 뒤 shard 행 전체를 잠그고 잔액이 충분한 shard부터 차감한다.
+ * Account 도메인은 그대로 쓰고, 잔액만 합계로 채워 돌려준다.
+ */
+public interface BalanceShardPort {
+
+	/** 샤딩 지정 계좌가 없는 구성 (저장소 없이 서비스를 만들 때) */
+	BalanceShardPort NONE = new BalanceShardPort() {
+		@Override
+		public boolean isSharded(long accountId) {
+			return false;
+		}
+
+		@Override
+		public long creditIfActive(long accountId, long amount) {
+			throw new IllegalStateException("account is not sharded: " + accountId);
+		}
+
+		@Override
+		public Account findByIdForDebit(long accountId) {
+			throw new IllegalStateException("account is not sharded: " + accountId);
+		}
+
+		@Override
+		public long debit(long accountId, long amount) {
+			throw new IllegalStateException("account is not sharded: " + accountId);
+		}
+
+		@Override
+		public long shardBalance(long accountId) {
+			return 0L;
+		}
+	};
+
+	/** 샤딩 지정 계좌인지 (메모리 조회, 쿼리 없음) */
+	boolean isSharded(long accountId);
+
+	/**
+	 * 활성 계좌면 shard 하나에 입금 (계좌 행 락 없음, status = AccountRules.MUTABLE_STATUS 조건)
+	 * @return 반영 후 잔액(이 트랜잭션에서 보이는 합계), 조건 불만족이면 AccountPort.NOT_UPDATED
+	 */
+	long creditIfActive(long accountId, long amount);
+
+	/** 출금용 계좌 행 락 조회, 잔액은 계좌 행 + shard 합, 없으면 null */
+	Account findByIdForDebit(long accountId);
+
+	/**
+	 * findByIdForDebit으로 락을 잡은 계좌에서 출금 (shard 행 전체 락 후 잔액이 큰 shard부터 차감)
+	 * @return 반영 후 잔액, 잔액 부족이면 AccountPort.NOT_UPDATED
+	 */
+	long debit(long accountId, long amount);
+
+	/** shard 행 잔액 합 (계좌 행 balance 제외), 샤딩 계좌가 아니면 0 */
+	long shardBalance(long accountId);
+}
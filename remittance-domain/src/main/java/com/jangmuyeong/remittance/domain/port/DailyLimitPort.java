@@ -8,6 +8,15 @@ import com.jangmuyeong.remittance.domain.limit.DailyLimit;
  * 일 한도 누적 저장소 포트
  */
 public interface DailyLimitPort {
-	DailyLimit getOrCreate(Long accountId, LocalDate date);
-	DailyLimit save(DailyLimit limit);
+	DailyLimit getOrCreate(long accountId, LocalDate date);
+
+	/**
+	 * 낙관적 쓰기 모드용 조회/생성: 락 없이 읽고, save 시점에 충돌을 검사한다.
+	 * 버전 검사를 지원하지 않는 구현은 getOrCreate(락 조회)로 대신한다.
+	 */
+	default DailyLimit getOrCreateOptimistic(long accountId, LocalDate date) {
+		return getOrCreate(accountId, date);
+	}
+
+	void save(DailyLimit limit);
 }
\ No newline at end of file
@@ -8,8 +8,11 @@ import com.jangmuyeong.remittance.domain.ledger.LedgerEntry;
  * 거래 내역 저장소 포트 (최신순 조회)
  */
 public interface LedgerPort {
-	LedgerEntry save(LedgerEntry entry);
+	void save(LedgerEntry entry);
+
+	// 여러 건을 한 번의 왕복(batch)으로 기록 (송금의 TRANSFER_OUT/FEE/TRANSFER_IN)
+	void saveAll(List<LedgerEntry> entries);
 
 	// 최신순 조회
-	List<LedgerEntry> findLatestByAccountId(Long accountId, int size);
+	List<LedgerEntry> findLatestByAccountId(long accountId, int size);
 }
\ No newline at end of file
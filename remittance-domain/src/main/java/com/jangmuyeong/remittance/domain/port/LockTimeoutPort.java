@@ -0,0 +1,20 @@
+package com.jangmuyeong.remittance.domain.port;
+
+import java.time.Duration;
+
+/**
+ * 행 락 대기 시간 설정 포트 (유스케이스별 remittance.write.lock-timeout)
+ *
+ * 호출 스레드에 대기 시간을 묶어 두면, 그 스레드의 트랜잭션이 처음 계좌 행을 락 조회할 때
+ * DB 세션의 락 대기 시간을 그 값으로 바꾼다. (트랜잭션마다 한 번)
+ * 묶인 값이 없으면 세션 값을 건드리지 않는다.
+ */
+public interface LockTimeoutPort {
+
+	/**
+	 * 이 스레드에서 이후 시작하는 트랜잭션의 행 락 대기 시간
+	 * @param timeout null이면 묶인 값을 지움
+	 * @return 이전에 묶여 있던 값(복원용), 없으면 null
+	 */
+	Duration bind(Duration timeout);
+}
@@ -0,0 +1,66 @@
+package com.jangmuyeong.remittance.domain.port;
+
+import java.time.Instant;
+
+import com.jangmuyeong.remittance.domain.ledger.TransactionType;
+
+/**
+ * 입금 지연 반영 계좌 저장소 포트 (remittance.pending-credits.accounts로 지정한 수취가 몰리는 계좌)
+ *
+ * 지정 계좌의 잔액 = 계좌 행 balance + 미반영 입금(pending_credits) 합
+ * - 입금/수취(DEPOSIT, TRANSFER_IN)는 미반영 입금 행 INSERT 한 건이므로 계좌 행 락을 잡지 않는다.
+ *   (입금은 더하기만 하고 비활성 계좌 외에는 실패하지 않으므로 순서를 미뤄도 결과가 같음)
+ * - 반영(fold)은 계좌 행 락 후 미반영 입금을 오래된 순으로 잔액에 더하고, 그 시점의 잔액으로 원장 balance_after를 채워 기록한다.
+ * - 출금/송금 계좌로 쓰일 때는 락 조회 직전에 전부 반영해, 도메인 검증이 미반영 입금을 포함한 잔액으로 이뤄지게 한다.
+ */
+public interface PendingCreditPort {
+
+	/** 한 번에 반영할 입금 수 제한 없음 (출금 직전 반영) */
+	int ALL = Integer.MAX_VALUE;
+
+	/** 지연 반영 계좌가 없는 구성 (저장소 없이 서비스를 만들 때) */
+	PendingCreditPort NONE = new PendingCreditPort() {
+		@Override
+		public boolean isDeferred(long accountId) {
+			return false;
+		}
+
+		@Override
+		public long appendIfActive(long accountId, long counterpartyAccountId, TransactionType type, long amount,
+			Instant occurredAt) {
+			throw new IllegalStateException("account is not deferred: " + accountId);
+		}
+
+		@Override
+		public int fold(long accountId, int maxCredits) {
+			return 0;
+		}
+
+		@Override
+		public long pendingBalance(long accountId) {
+			return 0L;
+		}
+	};
+
+	/** 지연 반영 지정 계좌인지 (메모리 조회, 쿼리 없음) */
+	boolean isDeferred(long accountId);
+
+	/**
+	 * 활성 계좌면 미반영 입금 한 건 추가 (계좌 행 락 없음, status = AccountRules.MUTABLE_STATUS 조건)
+	 * 원장은 반영 시점에 기록하므로 호출자는 이 입금의 원장을 저장하지 않는다.
+	 * @param counterpartyAccountId 송금 계좌 id, 입금이면 LedgerEntry.NO_ID
+	 * @return 반영 후 잔액(이 트랜잭션에서 보이는 계좌 행 + 미반영 합), 조건 불만족이면 AccountPort.NOT_UPDATED
+	 */
+	long appendIfActive(long accountId, long counterpartyAccountId, TransactionType type, long amount,
+		Instant occurredAt);
+
+	/**
+	 * 계좌 행 락 후 미반영 입금을 오래된 순으로 최대 maxCredits건 잔액에 반영하고 원장 기록 (balance_after는 반영 시점 잔액)
+	 * 같은 트랜잭션에서 이 계좌를 락 조회하기 전에 호출한다. (락 순서는 호출자가 정함)
+	 * @return 반영한 건수 (계좌가 없으면 0)
+	 */
+	int fold(long accountId, int maxCredits);
+
+	/** 미반영 입금 합 (계좌 행 balance 제외), 지연 반영 계좌가 아니면 0 */
+	long pendingBalance(long accountId);
+}
@@ -1,56 +1,139 @@
 package com.jangmuyeong.remittance.infra.persistence.adapter;
 
+import java.util.NoSuchElementException;
 import java.util.Optional;
 
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
 import com.jangmuyeong.remittance.domain.account.Account;
+import com.jangmuyeong.remittance.domain.account.AccountRules;
 import com.jangmuyeong.remittance.domain.port.AccountPort;
 import com.jangmuyeong.remittance.infra.persistence.entity.AccountJpaEntity;
+import com.jangmuyeong.remittance.infra.persistence.id.TimeOrderedIdGenerator;
+import com.jangmuyeong.remittance.infra.persistence.lock.LockTimeoutSession;
 import com.jangmuyeong.remittance.infra.persistence.mapper.AccountMapper;
 import com.jangmuyeong.remittance.infra.persistence.repository.AccountJpaRepository;
+import com.jangmuyeong.remittance.infra.persistence.unitofwork.UnitOfWork;
+
+import jakarta.persistence.EntityManager;
 
 /**
- * AccountPort의 JPA 구현체
+ * AccountPort의 JPA 구현체 (기본, jdbc 프로파일에서는 Jdbc*PortAdapter 사용)
  * 애플리케이션/도메인은 AccountPort 인터페이스만 의존
  * 이 어댑터에서 JPA Repository를 호출하고, 도메인 ↔ 엔티티 변환을 수행
+ * 락 조회/생성한 계좌는 UnitOfWork에 엔티티와 짝지어 두고, 저장 시 재조회 없이 그 엔티티에 반영
  */
 @Component
+@Profile("!jdbc")
 public class AccountPortAdapter implements AccountPort {
 
 	private final AccountJpaRepository repo;
+	private final EntityManager em;
+	private final TimeOrderedIdGenerator ids;
+	private final UnitOfWork uow;
+	private final LockTimeoutSession lockTimeouts;
 
-	public AccountPortAdapter(AccountJpaRepository repo) {
+	public AccountPortAdapter(AccountJpaRepository repo, EntityManager em, TimeOrderedIdGenerator ids, UnitOfWork uow,
+		LockTimeoutSession lockTimeouts) {
 		this.repo = repo;
+		this.em = em;
+		this.ids = ids;
+		this.uow = uow;
+		this.lockTimeouts = lockTimeouts;
 	}
 
 	@Override
-	public Optional<Account> findById(Long accountId) {
-		return repo.findById(accountId).map(AccountMapper::toDomain);
+	public long findIdByAccountNo(String accountNo) {
+		Long id = repo.findIdByAccountNo(accountNo);
+		return id == null ? Account.NO_ID : id;
 	}
 
 	@Override
-	public Optional<Account> findByIdForUpdate(Long accountId) {
-		// 잔액 변경(입금/출금/이체)은 비관락으로 조회
-		return repo.findByIdForUpdate(accountId).map(AccountMapper::toDomain);
+	public Account findByIdForUpdate(long accountId) {
+		// 같은 트랜잭션에서 이미 락으로 읽은 계좌면 락이 유지되고 있으므로 쿼리 없이 같은 인스턴스
+		Account tracked = uow.find(Account.class, accountId);
+		if (tracked != null) return tracked;
+
+		// 잔액 변경(입금/출금/이체)은 비관락으로 조회 (유스케이스별 락 대기 시간이 있으면 먼저 세션에 설정)
+		lockTimeouts.applyToCurrentTransaction();
+		AccountJpaEntity entity = repo.findByIdForUpdate(accountId);
+		if (entity == null) return null;
+		Account account = AccountMapper.toDomain(entity);
+		uow.register(Account.class, accountId, account, entity);
+		return account;
+	}
+
+	@Override
+	public Account findByIdOptimistic(long accountId) {
+		// 낙관적 쓰기 모드: 락 없이 읽고 UPDATE 시 version 조건으로 충돌 검사 (충돌이면 커밋 시 OptimisticLockingFailureException)
+		// 쓰기 모드는 프로세스 단위이므로 같은 트랜잭션에서 findByIdForUpdate와 섞어 쓰지 않는다.
+		Account tracked = uow.find(Account.class, accountId);
+		if (tracked != null) return tracked;
+
+		AccountJpaEntity entity = em.find(AccountJpaEntity.class, accountId);
+		if (entity == null) return null;
+		Account account = AccountMapper.toDomain(entity);
+		uow.register(Account.class, accountId, account, entity);
+		return account;
 	}
 
 	@Override
 	public Optional<Account> findByAccountNo(String accountNo) {
-		return repo.findByAccountNo(accountNo).map(AccountMapper::toDomain);
+		return repo.findByAccountNo(accountNo).map(this::toDomainDetached);
 	}
 
 	@Override
 	public Account save(Account account) {
-		// 신규 생성: INSERT
-		if (account.getId() == null) {
-			AccountJpaEntity saved = repo.save(AccountMapper.toNewEntity(account));
-			return AccountMapper.toDomain(saved);
+		// 신규 생성: id를 먼저 발급하고 INSERT는 flush 시점에 실행 (id 조회 왕복 없음)
+		if (account.getId() == Account.NO_ID) {
+			long id = ids.nextId();
+			AccountJpaEntity created = AccountMapper.toNewEntity(account, id);
+			em.persist(created);
+			Account saved = AccountMapper.toDomain(created);
+			uow.register(Account.class, id, saved, created);
+			return saved;
 		}
-		// 수정: 영속 상태 엔티티를 가져와 dirty-checking으로 UPDATE
+		update(account);
+		return account;
+	}
+
+	@Override
+	public void update(Account account) {
+		// 락/낙관적 조회, 생성 시 짝지어 둔 영속 엔티티에 반영 -> dirty-checking으로 UPDATE (조회/도메인 객체 생성 없음)
+		// 기록이 없으면(트랜잭션 밖, 어댑터를 거치지 않은 도메인 객체) 1차 캐시/DB에서 찾음
 		// (존재하지 않으면 NoSuchElementException -> 상위 계층에서 NOT_FOUND로 처리)
-		AccountJpaEntity entity = repo.findById(account.getId()).orElseThrow();
+		AccountJpaEntity entity = uow.entityOf(account, AccountJpaEntity.class);
+		if (entity == null) entity = em.find(AccountJpaEntity.class, account.getId());
+		if (entity == null) throw new NoSuchElementException("account not found: " + account.getId());
 		AccountMapper.apply(account, entity);
+	}
+
+	@Override
+	public long depositIfActive(long accountId, long amount) {
+		// 벌크 UPDATE는 영속성 컨텍스트를 거치지 않으므로 기록해 둔 계좌는 버림
+		uow.evict(Account.class, accountId);
+		int updated = repo.depositIfStatus(accountId, AccountMapper.statusCode(AccountRules.MUTABLE_STATUS), amount);
+		return updated == 0 ? NOT_UPDATED : repo.findBalanceById(accountId);
+	}
+
+	@Override
+	public long withdrawIfSufficient(long accountId, long amount) {
+		uow.evict(Account.class, accountId);
+		int updated = repo.withdrawIfStatusAndSufficient(accountId, AccountMapper.statusCode(AccountRules.MUTABLE_STATUS), amount);
+		return updated == 0 ? NOT_UPDATED : repo.findBalanceById(accountId);
+	}
+
+	/**
+	 * 락 없이 읽은 엔티티는 영속성 컨텍스트에서 분리한다.
+	 * 같은 트랜잭션에서 이미 관리 중인 엔티티가 있으면 findByIdForUpdate가 락은 잡지만
+	 * 최신 상태 대신 먼저 읽어 둔(stale) 엔티티를 그대로 돌려주므로, 동시 요청에서 갱신 손실이 생긴다.
+	 * 단, 이번 트랜잭션에서 이미 락으로 읽은 계좌면 분리하지 않고 그 인스턴스를 돌려준다. (분리하면 변경이 저장되지 않음)
+	 */
+	private Account toDomainDetached(AccountJpaEntity entity) {
+		Account tracked = uow.find(Account.class, entity.getId());
+		if (tracked != null) return tracked;
+		em.detach(entity);
 		return AccountMapper.toDomain(entity);
 	}
 }
\ No newline at end of file
@@ -0,0 +1,73 @@
+package com.jangmuyeong.remittance.infra.persistence.adapter;
+
+import java.time.LocalDate;
+import java.util.NoSuchElementException;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import com.jangmuyeong.remittance.domain.account.Account;
+import com.jangmuyeong.remittance.domain.limit.DailyLimit;
+import com.jangmuyeong.remittance.infra.persistence.entity.AccountJpaEntity;
+import com.jangmuyeong.remittance.infra.persistence.limit.DailyLimitStorage;
+import com.jangmuyeong.remittance.infra.persistence.limit.DailyLimitStorageAdapter;
+import com.jangmuyeong.remittance.infra.persistence.mapper.DailyLimitMapper;
+import com.jangmuyeong.remittance.infra.persistence.unitofwork.UnitOfWork;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * DailyLimitPort의 JPA 구현체 - 당일 누적치를 계좌 행(accounts.limit_*)에 저장 (remittance.daily-limit.storage=account-row)
+ * (선택은 DailyLimitStorageConfig)
+ *
+ * 출금/이체는 항상 계좌 행 락을 먼저 잡으므로, 일 한도용 두 번째 락/조회/당일 첫 INSERT 없이
+ * 영속성 컨텍스트의 계좌 엔티티에서 읽고, 잔액과 같은 UPDATE 한 번으로 저장한다.
+ * 날짜가 바뀌면 다음 getOrCreate에서 0부터 다시 누적한다. (한도 규칙은 DailyLimit 도메인 그대로)
+ */
+@Component
+@Profile("!jdbc")
+public class AccountRowDailyLimitPortAdapter implements DailyLimitStorageAdapter {
+
+	private final EntityManager em;
+	private final UnitOfWork uow;
+
+	public AccountRowDailyLimitPortAdapter(EntityManager em, UnitOfWork uow) {
+		this.em = em;
+		this.uow = uow;
+	}
+
+	@Override
+	public DailyLimitStorage storage() {
+		return DailyLimitStorage.ACCOUNT_ROW;
+	}
+
+	@Override
+	public DailyLimit getOrCreate(long accountId, LocalDate date) {
+		DailyLimit tracked = uow.find(DailyLimit.class, accountId);
+		if (tracked != null && tracked.getDate().equals(date)) return tracked;
+
+		AccountJpaEntity account = lockedAccount(accountId);
+		DailyLimit limit = DailyLimitMapper.fromAccountRow(account, date);
+		uow.register(DailyLimit.class, accountId, limit, account);
+		return limit;
+	}
+
+	@Override
+	public void save(DailyLimit limit) {
+		AccountJpaEntity account = uow.entityOf(limit, AccountJpaEntity.class);
+		DailyLimitMapper.applyToAccountRow(limit, account != null ? account : lockedAccount(limit.getAccountId()));
+	}
+
+	// 락 조회(findByIdForUpdate)로 이미 영속 상태이므로 추가 쿼리 없음
+	// (낙관적 쓰기 모드는 findByIdOptimistic으로 읽은 엔티티, 한도 변경도 계좌 행 version으로 충돌 검사됨)
+	// (조건부 쓰기 모드는 UPDATE로 행 락을 잡은 뒤 여기서 한 번 조회)
+	private AccountJpaEntity lockedAccount(long accountId) {
+		Account tracked = uow.find(Account.class, accountId);
+		AccountJpaEntity entity = tracked == null ? null : uow.entityOf(tracked, AccountJpaEntity.class);
+		if (entity != null) return entity;
+
+		AccountJpaEntity account = em.find(AccountJpaEntity.class, accountId);
+		if (account == null) throw new NoSuchElementException("account not found: " + accountId);
+		return account;
+	}
+}
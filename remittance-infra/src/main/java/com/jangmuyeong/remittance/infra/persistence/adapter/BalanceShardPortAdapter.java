@@ -0,0 +1,98 @@
+package com.jangmuyeong.remittance.infra.persistence.adapter;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import com.jangmuyeong.remittance.domain.account.Account;
+import com.jangmuyeong.remittance.domain.account.AccountRules;
+import com.jangmuyeong.remittance.domain.port.AccountPort;
+import com.jangmuyeong.remittance.domain.port.BalanceShardPort;
+import com.jangmuyeong.remittance.infra.persistence.entity.AccountBalanceShardJpaEntity;
+import com.jangmuyeong.remittance.infra.persistence.entity.AccountJpaEntity;
+import com.jangmuyeong.remittance.infra.persistence.lock.LockTimeoutSession;
+import com.jangmuyeong.remittance.infra.persistence.mapper.AccountMapper;
+import com.jangmuyeong.remittance.infra.persistence.repository.AccountBalanceShardJpaRepository;
+import com.jangmuyeong.remittance.infra.persistence.repository.AccountJpaRepository;
+import com.jangmuyeong.remittance.infra.persistence.shard.BalanceShardRegistry;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * BalanceShardPort의 JPA 구현체 (기본, jdbc 프로파일에서는 JdbcBalanceShardPortAdapter 사용)
+ * 입금은 임의의 shard 행 하나에 벌크 UPDATE, 출금은 shard 엔티티를 락 조회해 dirty-checking으로 UPDATE
+ * 잔액 합계를 담은 Account는 UnitOfWork에 등록하지 않는다. (AccountPort.update로 계좌 행에 합계가 저장되지 않도록)
+ */
+@Component
+@Profile("!jdbc")
+public class BalanceShardPortAdapter implements BalanceShardPort {
+
+	private final AccountBalanceShardJpaRepository shardRepo;
+	private final AccountJpaRepository accountRepo;
+	private final EntityManager em;
+	private final BalanceShardRegistry registry;
+	private final LockTimeoutSession lockTimeouts;
+
+	public BalanceShardPortAdapter(AccountBalanceShardJpaRepository shardRepo, AccountJpaRepository accountRepo,
+		EntityManager em, BalanceShardRegistry registry, LockTimeoutSession lockTimeouts) {
+		this.shardRepo = shardRepo;
+		this.accountRepo = accountRepo;
+		this.em = em;
+		this.registry = registry;
+		this.lockTimeouts = lockTimeouts;
+	}
+
+	@Override
+	public boolean isSharded(long accountId) {
+		return registry.isSharded(accountId);
+	}
+
+	@Override
+	public long creditIfActive(long accountId, long amount) {
+		// 상태는 락 없이 확인 (삭제와 동시에 들어온 입금은 삭제 전 입금으로 반영됨, 소프트 딜리트라 잔액은 보존)
+		Long total = shardRepo.findTotalIfStatus(accountId, AccountMapper.statusCode(AccountRules.MUTABLE_STATUS));
+		if (total == null) return AccountPort.NOT_UPDATED;
+		int shardNo = ThreadLocalRandom.current().nextInt(registry.shardCount(accountId));
+		shardRepo.credit(accountId, shardNo, amount);
+		return total + amount;
+	}
+
+	@Override
+	public Account findByIdForDebit(long accountId) {
+		lockTimeouts.applyToCurrentTransaction();
+		AccountJpaEntity entity = accountRepo.findByIdForUpdate(accountId);
+		if (entity == null) return null;
+		return new Account(accountId, entity.getAccountNo(), AccountMapper.statusOf(entity.getStatus()),
+			entity.getBalance() + shardRepo.sumBalance(accountId));
+	}
+
+	@Override
+	public long debit(long accountId, long amount) {
+		List<AccountBalanceShardJpaEntity> shards = shardRepo.findAllForUpdate(accountId);
+		// findByIdForDebit으로 이미 락 조회한 영속 엔티티 (쿼리 없음)
+		AccountJpaEntity account = em.find(AccountJpaEntity.class, accountId);
+
+		long[] balances = new long[shards.size()];
+		long total = account.getBalance();
+		for (int i = 0; i < balances.length; i++) {
+			balances[i] = shards.get(i).getBalance();
+			total += balances[i];
+		}
+		long[] take = BalanceShardRegistry.planDebit(balances, account.getBalance(), amount);
+		if (take == null) return AccountPort.NOT_UPDATED;
+
+		for (int i = 0; i < balances.length; i++) {
+			if (take[i] > 0) shards.get(i).withdraw(take[i]);
+		}
+		long fromRow = take[balances.length];
+		if (fromRow > 0) account.update(account.getStatus(), account.getBalance() - fromRow);
+		return total - amount;
+	}
+
+	@Override
+	public long shardBalance(long accountId) {
+		return registry.isSharded(accountId) ? shardRepo.sumBalance(accountId) : 0L;
+	}
+}
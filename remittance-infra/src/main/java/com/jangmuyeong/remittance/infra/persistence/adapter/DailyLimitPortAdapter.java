@@ -1,52 +1,103 @@
 package com.jangmuyeong.remittance.infra.persistence.adapter;
 
 import java.time.LocalDate;
+import java.util.NoSuchElementException;
 
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Component;
 
 import com.jangmuyeong.remittance.domain.limit.DailyLimit;
-import com.jangmuyeong.remittance.domain.port.DailyLimitPort;
 import com.jangmuyeong.remittance.infra.persistence.entity.DailyLimitJpaEntity;
+import com.jangmuyeong.remittance.infra.persistence.id.TimeOrderedIdGenerator;
+import com.jangmuyeong.remittance.infra.persistence.limit.DailyLimitStorage;
+import com.jangmuyeong.remittance.infra.persistence.limit.DailyLimitStorageAdapter;
 import com.jangmuyeong.remittance.infra.persistence.mapper.DailyLimitMapper;
 import com.jangmuyeong.remittance.infra.persistence.repository.DailyLimitJpaRepository;
+import com.jangmuyeong.remittance.infra.persistence.unitofwork.UnitOfWork;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
 
 /**
- * DailyLimitPort의 JPA 구현체
+ * DailyLimitPort의 JPA 구현체 (기본, jdbc 프로파일에서는 Jdbc*PortAdapter 사용)
+ * daily_limits 테이블에 (계좌, 날짜)별 행으로 저장 (remittance.daily-limit.storage=table, 기본, 선택은 DailyLimitStorageConfig)
  */
 @Component
-public class DailyLimitPortAdapter implements DailyLimitPort {
+@Profile("!jdbc")
+public class DailyLimitPortAdapter implements DailyLimitStorageAdapter {
 
 	private final DailyLimitJpaRepository repo;
+	private final EntityManager em;
+	private final TimeOrderedIdGenerator ids;
+	private final UnitOfWork uow;
 
-	public DailyLimitPortAdapter(DailyLimitJpaRepository repo) {
+	public DailyLimitPortAdapter(DailyLimitJpaRepository repo, EntityManager em, TimeOrderedIdGenerator ids,
+		UnitOfWork uow) {
 		this.repo = repo;
+		this.em = em;
+		this.ids = ids;
+		this.uow = uow;
+	}
+
+	@Override
+	public DailyLimitStorage storage() {
+		return DailyLimitStorage.TABLE;
+	}
+
+	@Override
+	public DailyLimit getOrCreate(long accountId, LocalDate date) {
+		// 같은 트랜잭션에서 이미 락 조회/생성한 (계좌, 날짜)면 쿼리 없이 같은 인스턴스
+		DailyLimit tracked = uow.find(DailyLimit.class, accountId);
+		if (tracked != null && tracked.getDate().equals(date)) return tracked;
+
+		DailyLimitJpaEntity locked = repo.findByAccountIdAndDateForUpdate(accountId, date);
+		if (locked != null) {
+			return track(DailyLimitMapper.toDomain(locked), locked);
+		}
+		// INSERT는 flush 시점에 다른 쓰기와 함께 실행
+		// (호출하는 유스케이스가 계좌 행 락을 먼저 잡으므로 같은 계좌/날짜 행이 동시에 생성되지 않음, 중복이면 커밋 시 uk_daily_limit 위반)
+		DailyLimitJpaEntity created = new DailyLimitJpaEntity(ids.nextId(), accountId, date, 0L, 0L);
+		em.persist(created);
+		return track(DailyLimitMapper.toDomain(created), created);
 	}
 
 	@Override
-	public DailyLimit getOrCreate(Long accountId, LocalDate date) {
-		return repo.findByAccountIdAndDateForUpdate(accountId, date)
-			.map(DailyLimitMapper::toDomain)
-			.orElseGet(() -> {
-				try {
-					DailyLimitJpaEntity saved = repo.save(new DailyLimitJpaEntity(accountId, date, 0L, 0L));
-					return DailyLimitMapper.toDomain(saved);
-				} catch (org.springframework.dao.DataIntegrityViolationException ex) {
-					// 동시에 생성된 경우: 다시 락 조회
-					return repo.findByAccountIdAndDateForUpdate(accountId, date)
-						.map(DailyLimitMapper::toDomain)
-						.orElseThrow();
-				}
-			});
+	public DailyLimit getOrCreateOptimistic(long accountId, LocalDate date) {
+		DailyLimit tracked = uow.find(DailyLimit.class, accountId);
+		if (tracked != null && tracked.getDate().equals(date)) return tracked;
+
+		DailyLimitJpaEntity found = repo.findByAccountIdAndDate(accountId, date).orElse(null);
+		if (found != null) {
+			return track(DailyLimitMapper.toDomain(found), found);
+		}
+		// 계좌 행 락이 없으므로 당일 첫 행은 동시에 생성될 수 있다.
+		// 바로 flush해서 uk_daily_limit 위반을 버전 충돌과 같은 실패로 돌려주면 재시도 시 먼저 생긴 행을 읽는다.
+		DailyLimitJpaEntity created = new DailyLimitJpaEntity(ids.nextId(), accountId, date, 0L, 0L);
+		try {
+			em.persist(created);
+			em.flush();
+		} catch (PersistenceException e) {
+			throw new OptimisticLockingFailureException("daily limit created concurrently: " + accountId + " " + date, e);
+		}
+		return track(DailyLimitMapper.toDomain(created), created);
 	}
 
 	@Override
-	public DailyLimit save(DailyLimit limit) {
-		if (limit.getId() == null) {
-			DailyLimitJpaEntity saved = repo.save(DailyLimitMapper.toNewEntity(limit));
-			return DailyLimitMapper.toDomain(saved);
+	public void save(DailyLimit limit) {
+		if (limit.getId() == DailyLimit.NO_ID) {
+			em.persist(DailyLimitMapper.toNewEntity(limit, ids.nextId()));
+			return;
 		}
-		DailyLimitJpaEntity entity = repo.findById(limit.getId()).orElseThrow();
+		// getOrCreate(Optimistic)에서 짝지어 둔 엔티티에 반영 -> dirty-checking (기록이 없으면 1차 캐시/DB에서 찾음)
+		DailyLimitJpaEntity entity = uow.entityOf(limit, DailyLimitJpaEntity.class);
+		if (entity == null) entity = em.find(DailyLimitJpaEntity.class, limit.getId());
+		if (entity == null) throw new NoSuchElementException("daily limit not found: " + limit.getId());
 		DailyLimitMapper.apply(limit, entity);
-		return DailyLimitMapper.toDomain(entity);
+	}
+
+	private DailyLimit track(DailyLimit limit, DailyLimitJpaEntity entity) {
+		uow.register(DailyLimit.class, limit.getAccountId(), limit, entity);
+		return limit;
 	}
 }
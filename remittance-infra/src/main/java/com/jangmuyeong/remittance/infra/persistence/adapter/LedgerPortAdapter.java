@@ -3,32 +3,51 @@ package com.jangmuyeong.remittance.infra.persistence.adapter;
 import java.util.List;
 
 import org.springframework.data.domain.PageRequest;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
 import com.jangmuyeong.remittance.domain.ledger.LedgerEntry;
 import com.jangmuyeong.remittance.domain.port.LedgerPort;
+import com.jangmuyeong.remittance.infra.persistence.id.TimeOrderedIdGenerator;
 import com.jangmuyeong.remittance.infra.persistence.mapper.LedgerMapper;
 import com.jangmuyeong.remittance.infra.persistence.repository.LedgerEntryJpaRepository;
 
+import jakarta.persistence.EntityManager;
+
 /**
- * LedgerPort의 JPA 구현체
+ * LedgerPort의 JPA 구현체 (기본, jdbc 프로파일에서는 Jdbc*PortAdapter 사용)
  */
 @Component
+@Profile("!jdbc")
 public class LedgerPortAdapter implements LedgerPort {
 
 	private final LedgerEntryJpaRepository repo;
+	private final EntityManager em;
+	private final TimeOrderedIdGenerator ids;
 
-	public LedgerPortAdapter(LedgerEntryJpaRepository repo) {
+	public LedgerPortAdapter(LedgerEntryJpaRepository repo, EntityManager em, TimeOrderedIdGenerator ids) {
 		this.repo = repo;
+		this.em = em;
+		this.ids = ids;
+	}
+
+	@Override
+	public void save(LedgerEntry entry) {
+		// 원장은 항상 INSERT이고 저장 결과를 다시 쓰지 않으므로 도메인 객체로 되돌리지 않는다
+		// id를 미리 발급하므로 INSERT는 flush 시점까지 미뤄지고, 한 트랜잭션의 원장 INSERT는 JDBC batch로 나간다
+		em.persist(LedgerMapper.toNewEntity(entry, ids.nextId()));
 	}
 
 	@Override
-	public LedgerEntry save(LedgerEntry entry) {
-		return LedgerMapper.toDomain(repo.save(LedgerMapper.toNewEntity(entry)));
+	public void saveAll(List<LedgerEntry> entries) {
+		// 같은 엔티티의 INSERT가 연속되므로 flush 시점에 hibernate.jdbc.batch_size 단위 batch 하나로 실행된다
+		for (LedgerEntry entry : entries) {
+			em.persist(LedgerMapper.toNewEntity(entry, ids.nextId()));
+		}
 	}
 
 	@Override
-	public List<LedgerEntry> findLatestByAccountId(Long accountId, int size) {
+	public List<LedgerEntry> findLatestByAccountId(long accountId, int size) {
 		return repo.findByAccountIdOrderByOccurredAtDescIdDesc(accountId, PageRequest.of(0, size))
 			.stream()
 			.map(LedgerMapper::toDomain)
@@ -0,0 +1,107 @@
+package com.jangmuyeong.remittance.infra.persistence.adapter;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import com.jangmuyeong.remittance.domain.account.Account;
+import com.jangmuyeong.remittance.domain.account.AccountRules;
+import com.jangmuyeong.remittance.domain.ledger.LedgerEntry;
+import com.jangmuyeong.remittance.domain.ledger.TransactionType;
+import com.jangmuyeong.remittance.domain.port.AccountPort;
+import com.jangmuyeong.remittance.domain.port.LedgerPort;
+import com.jangmuyeong.remittance.domain.port.PendingCreditPort;
+import com.jangmuyeong.remittance.infra.persistence.credit.PendingCreditRegistry;
+import com.jangmuyeong.remittance.infra.persistence.entity.AccountJpaEntity;
+import com.jangmuyeong.remittance.infra.persistence.entity.PendingCreditJpaEntity;
+import com.jangmuyeong.remittance.infra.persistence.id.TimeOrderedIdGenerator;
+import com.jangmuyeong.remittance.infra.persistence.lock.LockTimeoutSession;
+import com.jangmuyeong.remittance.infra.persistence.mapper.AccountMapper;
+import com.jangmuyeong.remittance.infra.persistence.mapper.LedgerMapper;
+import com.jangmuyeong.remittance.infra.persistence.repository.AccountJpaRepository;
+import com.jangmuyeong.remittance.infra.persistence.repository.PendingCreditJpaRepository;
+import com.jangmuyeong.remittance.infra.persistence.unitofwork.UnitOfWork;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * PendingCreditPort의 JPA 구현체 (기본, jdbc 프로파일에서는 JdbcPendingCreditPortAdapter 사용)
+ * 입금은 미반영 입금 엔티티 persist(INSERT는 flush 시점), 반영은 계좌 엔티티를 락 조회해 dirty-checking으로 UPDATE
+ * 반영한 계좌는 UnitOfWork에 등록해, 이어지는 AccountPort.findByIdForUpdate가 쿼리 없이 같은 계좌를 돌려주게 한다.
+ */
+@Component
+@Profile("!jdbc")
+public class PendingCreditPortAdapter implements PendingCreditPort {
+
+	private final PendingCreditJpaRepository pendingRepo;
+	private final AccountJpaRepository accountRepo;
+	private final EntityManager em;
+	private final TimeOrderedIdGenerator ids;
+	private final LedgerPort ledgerPort;
+	private final UnitOfWork uow;
+	private final PendingCreditRegistry registry;
+	private final LockTimeoutSession lockTimeouts;
+
+	public PendingCreditPortAdapter(PendingCreditJpaRepository pendingRepo, AccountJpaRepository accountRepo,
+		EntityManager em, TimeOrderedIdGenerator ids, LedgerPort ledgerPort, UnitOfWork uow,
+		PendingCreditRegistry registry, LockTimeoutSession lockTimeouts) {
+		this.pendingRepo = pendingRepo;
+		this.accountRepo = accountRepo;
+		this.em = em;
+		this.ids = ids;
+		this.ledgerPort = ledgerPort;
+		this.uow = uow;
+		this.registry = registry;
+		this.lockTimeouts = lockTimeouts;
+	}
+
+	@Override
+	public boolean isDeferred(long accountId) {
+		return registry.isDeferred(accountId);
+	}
+
+	@Override
+	public long appendIfActive(long accountId, long counterpartyAccountId, TransactionType type, long amount,
+		Instant occurredAt) {
+		// 상태는 락 없이 확인 (삭제와 동시에 들어온 입금은 삭제 전 입금으로 반영됨, 소프트 딜리트라 잔액은 보존)
+		Long total = pendingRepo.findTotalIfStatus(accountId, AccountMapper.statusCode(AccountRules.MUTABLE_STATUS));
+		if (total == null) return AccountPort.NOT_UPDATED;
+		em.persist(new PendingCreditJpaEntity(ids.nextId(), accountId,
+			counterpartyAccountId == LedgerEntry.NO_ID ? null : counterpartyAccountId,
+			LedgerMapper.typeCode(type), amount, occurredAt));
+		return total + amount;
+	}
+
+	@Override
+	public int fold(long accountId, int maxCredits) {
+		lockTimeouts.applyToCurrentTransaction();
+		AccountJpaEntity account = accountRepo.findByIdForUpdate(accountId);
+		if (account == null) return 0;
+		List<PendingCreditJpaEntity> credits = pendingRepo.findOldestForUpdate(accountId, PageRequest.of(0, maxCredits));
+
+		if (!credits.isEmpty()) {
+			long balance = account.getBalance();
+			List<LedgerEntry> entries = new ArrayList<>(credits.size());
+			for (PendingCreditJpaEntity credit : credits) {
+				balance += credit.getAmount();
+				entries.add(new LedgerEntry(LedgerEntry.NO_ID, accountId,
+					credit.getCounterpartyAccountId() == null ? LedgerEntry.NO_ID : credit.getCounterpartyAccountId(),
+					LedgerMapper.typeOf(credit.getType()), credit.getAmount(), 0L, credit.getOccurredAt(), balance));
+			}
+			account.update(account.getStatus(), balance);
+			ledgerPort.saveAll(entries);
+			pendingRepo.deleteAllInBatch(credits);
+		}
+		uow.register(Account.class, accountId, AccountMapper.toDomain(account), account);
+		return credits.size();
+	}
+
+	@Override
+	public long pendingBalance(long accountId) {
+		return registry.isDeferred(accountId) ? pendingRepo.sumAmount(accountId) : 0L;
+	}
+}
@@ -0,0 +1,108 @@
+package com.jangmuyeong.remittance.infra.persistence.credit;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.jangmuyeong.remittance.domain.port.PendingCreditPort;
+
+/**
+ * 미반영 입금 백그라운드 반영기 (remittance.pending-credits)
+ *
+ * fold-interval마다 미반영 입금이 있는 계좌를 찾아 계좌별로 짧은 트랜잭션 하나씩 PendingCreditPort.fold를 실행한다.
+ * - 한 트랜잭션에서 batch-size건까지만 반영 (계좌 행 락 보유 시간 제한), 남은 입금은 다음 주기에 반영
+ * - 출금/송금은 락 조회 직전에 직접 반영하므로, 이 반영기는 입금만 계속 들어오는 계좌의 잔액/원장을 따라잡는 역할
+ * - 한 계좌의 반영이 실패해도(락 대기 시간 초과 등) 다른 계좌는 계속 진행하고, 실패한 계좌는 다음 주기에 다시 시도
+ * 지연 반영 계좌가 없으면 주기마다 아무 쿼리도 하지 않는다. fold-interval이 0이면 백그라운드 반영을 끈다. (출금 직전 반영과 foldAll 호출만)
+ */
+@Component
+public class PendingCreditFolder implements SmartLifecycle {
+
+	private static final Logger log = LoggerFactory.getLogger(PendingCreditFolder.class);
+
+	private static final String SELECT_PENDING_ACCOUNTS = "select distinct account_id from pending_credits";
+
+	private final JdbcTemplate jdbc;
+	private final TransactionTemplate tx;
+	private final PendingCreditPort pendingCredits;
+	private final PendingCreditRegistry registry;
+	private final long intervalNanos;
+	private final int batchSize;
+
+	private ScheduledExecutorService executor;
+
+	public PendingCreditFolder(JdbcTemplate jdbc, PlatformTransactionManager transactionManager,
+		PendingCreditPort pendingCredits, PendingCreditRegistry registry,
+		@Value("${remittance.pending-credits.fold-interval:200ms}") Duration interval,
+		@Value("${remittance.pending-credits.batch-size:500}") int batchSize) {
+		if (batchSize < 1) throw new IllegalArgumentException("pending-credits.batch-size must be >= 1: " + batchSize);
+		this.jdbc = jdbc;
+		this.tx = new TransactionTemplate(transactionManager);
+		this.pendingCredits = pendingCredits;
+		this.registry = registry;
+		this.intervalNanos = interval.toNanos();
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * 지금 미반영 입금이 있는 계좌를 한 번씩 반영
+	 * @return 반영한 입금 건수
+	 */
+	public int foldAll() {
+		List<Long> accountIds = jdbc.queryForList(SELECT_PENDING_ACCOUNTS, Long.class);
+		int folded = 0;
+		for (long accountId : accountIds) {
+			try {
+				Integer count = tx.execute(status -> pendingCredits.fold(accountId, batchSize));
+				folded += count == null ? 0 : count;
+			} catch (RuntimeException e) {
+				log.warn("pending credit fold failed: accountId={}", accountId, e);
+			}
+		}
+		return folded;
+	}
+
+	@Override
+	public synchronized void start() {
+		if (intervalNanos <= 0 || executor != null) return;
+		executor = Executors.newSingleThreadScheduledExecutor(r -> {
+			Thread thread = new Thread(r, "pending-credit-folder");
+			thread.setDaemon(true);
+			return thread;
+		});
+		executor.scheduleWithFixedDelay(this::foldQuietly, intervalNanos, intervalNanos, TimeUnit.NANOSECONDS);
+	}
+
+	@Override
+	public synchronized void stop() {
+		if (executor == null) return;
+		executor.shutdownNow();
+		executor = null;
+	}
+
+	@Override
+	public synchronized boolean isRunning() {
+		return executor != null;
+	}
+
+	// 예약 작업은 예외가 나면 이후 실행이 취소되므로 여기서 모두 잡는다
+	private void foldQuietly() {
+		if (registry.isEmpty()) return; // 지정 계좌가 없으면 조회도 하지 않음
+		try {
+			foldAll();
+		} catch (RuntimeException e) {
+			log.warn("pending credit fold round failed", e);
+		}
+	}
+}
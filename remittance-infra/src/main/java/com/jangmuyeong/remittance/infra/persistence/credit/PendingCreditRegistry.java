@@ -0,0 +1,89 @@
+package com.jangmuyeong.remittance.infra.persistence.credit;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.jangmuyeong.remittance.domain.account.Account;
+
+/**
+ * 입금 지연 반영 계좌 목록 (PendingCreditPort 어댑터가 공유, JPA/jdbc 프로파일 공통)
+ *
+ * - 기동 시 remittance.pending-credits.accounts의 계좌번호를 id로 바꿔 메모리에 올린다. (요청마다 쿼리 없이 판단)
+ * - 설정에서 빠졌어도 아직 미반영 입금 행이 남은 계좌는 목록에 넣는다. (잔액 조회/출금이 미반영 입금을 계속 포함하도록)
+ *
+ * 목록에 없는 계좌의 입금은 계좌 행에 바로 반영되므로, 목록을 아직 모르는 인스턴스가 있어도 잔액은 틀어지지 않는다.
+ * (그 인스턴스는 미반영 입금을 모르고 출금을 잔액 부족으로 거절할 수 있으므로 모든 인스턴스에 같은 설정을 둔다)
+ */
+@Component
+public class PendingCreditRegistry implements ApplicationRunner {
+
+	private static final Logger log = LoggerFactory.getLogger(PendingCreditRegistry.class);
+
+	private static final String SELECT_ACCOUNT_ID = "select id from accounts where account_no = ?";
+	private static final String SELECT_PENDING_ACCOUNTS = "select distinct account_id from pending_credits";
+
+	private final JdbcTemplate jdbc;
+	private final List<String> accountNos;
+
+	private volatile Set<Long> accountIds = Set.of();
+
+	public PendingCreditRegistry(JdbcTemplate jdbc,
+		@Value("${remittance.pending-credits.accounts:}") List<String> accountNos) {
+		this.jdbc = jdbc;
+		this.accountNos = accountNos;
+	}
+
+	@Override
+	public void run(ApplicationArguments args) {
+		Set<Long> ids = new HashSet<>(jdbc.queryForList(SELECT_PENDING_ACCOUNTS, Long.class));
+		for (String accountNo : accountNos) {
+			if (accountNo.isBlank()) continue;
+			long id = resolve(accountNo.trim());
+			if (id != Account.NO_ID) ids.add(id);
+		}
+		accountIds = Set.copyOf(ids);
+		if (!ids.isEmpty()) log.info("pending credit accounts loaded: {} accounts", ids.size());
+	}
+
+	/**
+	 * 계좌를 지연 반영 계좌로 지정
+	 * @return 지정한 계좌 id, 계좌가 없으면 Account.NO_ID
+	 */
+	public long designate(String accountNo) {
+		long id = resolve(accountNo);
+		if (id == Account.NO_ID) return id;
+		synchronized (this) {
+			Set<Long> ids = new HashSet<>(accountIds);
+			ids.add(id);
+			accountIds = Set.copyOf(ids);
+		}
+		return id;
+	}
+
+	public boolean isDeferred(long accountId) {
+		return accountIds.contains(accountId);
+	}
+
+	/** 지연 반영 계좌가 하나도 없으면 true (백그라운드 반영 생략) */
+	public boolean isEmpty() {
+		return accountIds.isEmpty();
+	}
+
+	private long resolve(String accountNo) {
+		List<Long> found = jdbc.queryForList(SELECT_ACCOUNT_ID, Long.class, accountNo);
+		if (found.isEmpty()) {
+			log.warn("pending credit account not found: {}", accountNo);
+			return Account.NO_ID;
+		}
+		return found.get(0);
+	}
+}
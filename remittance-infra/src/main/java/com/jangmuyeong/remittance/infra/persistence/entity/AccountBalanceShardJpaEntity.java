@@ -0,0 +1,50 @@
+package com.jangmuyeong.remittance.infra.persistence.entity;
+
+import static lombok.AccessLevel.*;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 잔액 샤딩 계좌의 하위 잔액(shard) 영속성 엔티티
+ * 계좌 잔액 = accounts.balance + 이 계좌 shard 행 balance 합 (BalanceShardPort)
+ */
+@Getter
+@NoArgsConstructor(access = PROTECTED)
+@Entity
+@Table(name = "account_balance_shards",
+	uniqueConstraints = @UniqueConstraint(name = "uk_account_balance_shard", columnNames = {"account_id", "shard_no"}))
+public class AccountBalanceShardJpaEntity {
+
+	// 애플리케이션에서 발급(TimeOrderedIdGenerator), 행은 BalanceShardRegistry가 지정 시 만든다
+	@Id
+	private Long id;
+
+	@Column(name = "account_id", nullable = false)
+	private Long accountId;
+
+	@Column(name = "shard_no", nullable = false)
+	private int shardNo; // 0 ~ (계좌의 shard 수 - 1)
+
+	@Column(nullable = false)
+	private long balance;
+
+	public AccountBalanceShardJpaEntity(Long id, Long accountId, int shardNo, long balance) {
+		this.id = id;
+		this.accountId = accountId;
+		this.shardNo = shardNo;
+		this.balance = balance;
+	}
+
+	/**
+	 * 출금 시 차감 (shard 행 락을 잡은 뒤 dirty-checking으로 UPDATE)
+	 */
+	public void withdraw(long amount) {
+		this.balance -= amount;
+	}
+}
@@ -2,13 +2,16 @@ package com.jangmuyeong.remittance.infra.persistence.entity;
 
 import static lombok.AccessLevel.*;
 
+import java.time.LocalDate;
+
+import org.hibernate.annotations.ColumnDefault;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
+import jakarta.persistence.Version;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
@@ -21,19 +24,39 @@ import lombok.NoArgsConstructor;
 @Table(name = "accounts", uniqueConstraints = @UniqueConstraint(name = "uk_account_no", columnNames = "account_no"))
 public class AccountJpaEntity {
 
-	@Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+	// 애플리케이션에서 발급(TimeOrderedIdGenerator) -> INSERT를 flush 시점에 batch로 실행
+	@Id
 	private Long id;
 
 	@Column(name = "account_no", nullable = false, length = 40)
 	private String accountNo;
 
-	@Column(nullable = false, length = 20)
-	private String status; // ACTIVE/DELETED
+	@Column(nullable = false)
+	private byte status; // AccountMapper.statusCode (1: ACTIVE, 2: DELETED)
 
 	@Column(nullable = false)
 	private long balance;
 
-	public AccountJpaEntity(String accountNo, String status, long balance) {
+	// 낙관적 쓰기 모드(remittance.write.mode=OPTIMISTIC)의 충돌 검사용, 다른 모드/JDBC 쓰기도 UPDATE마다 증가시킨다
+	@Version
+	@ColumnDefault("0")
+	@Column(nullable = false)
+	private long version;
+
+	// 일 한도 누적치 (remittance.daily-limit.storage=account-row일 때만 사용, limit_date가 오늘이 아니면 0부터 다시 누적)
+	@Column(name = "limit_date")
+	private LocalDate limitDate;
+
+	@ColumnDefault("0")
+	@Column(name = "limit_withdraw_sum", nullable = false)
+	private long limitWithdrawSum;
+
+	@ColumnDefault("0")
+	@Column(name = "limit_transfer_sum", nullable = false)
+	private long limitTransferSum;
+
+	public AccountJpaEntity(Long id, String accountNo, byte status, long balance) {
+		this.id = id;
 		this.accountNo = accountNo;
 		this.status = status;
 		this.balance = balance;
@@ -42,8 +65,17 @@ public class AccountJpaEntity {
 	/**
 	 * 변경 감지 기반 업데이트, 포트 어댑터에서 도메인 객체의 상태를 반영할 때 사용
 	 */
-	public void update(String status, long balance) {
+	public void update(byte status, long balance) {
 		this.status = status;
 		this.balance = balance;
 	}
+
+	/**
+	 * 계좌 행에 함께 저장하는 일 한도 누적치 반영 (잔액과 같은 UPDATE로 flush)
+	 */
+	public void updateDailyLimit(LocalDate limitDate, long withdrawSum, long transferSum) {
+		this.limitDate = limitDate;
+		this.limitWithdrawSum = withdrawSum;
+		this.limitTransferSum = transferSum;
+	}
 }
\ No newline at end of file
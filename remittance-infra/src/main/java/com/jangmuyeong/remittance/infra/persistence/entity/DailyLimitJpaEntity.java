@@ -4,13 +4,14 @@ import static lombok.AccessLevel.*;
 
 import java.time.LocalDate;
 
+import org.hibernate.annotations.ColumnDefault;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
+import jakarta.persistence.Version;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
@@ -25,7 +26,8 @@ import lombok.NoArgsConstructor;
 	uniqueConstraints = @UniqueConstraint(name = "uk_daily_limit", columnNames = {"account_id", "limit_date"}))
 public class DailyLimitJpaEntity {
 
-	@Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+	// 애플리케이션에서 발급(TimeOrderedIdGenerator) -> INSERT를 flush 시점에 batch로 실행
+	@Id
 	private Long id;
 
 	@Column(name = "account_id", nullable = false)
@@ -40,7 +42,14 @@ public class DailyLimitJpaEntity {
 	@Column(nullable = false)
 	private long transferSum;
 
-	public DailyLimitJpaEntity(Long accountId, LocalDate date, long withdrawSum, long transferSum) {
+	// 낙관적 쓰기 모드의 충돌 검사용 (AccountJpaEntity.version과 같음)
+	@Version
+	@ColumnDefault("0")
+	@Column(nullable = false)
+	private long version;
+
+	public DailyLimitJpaEntity(Long id, Long accountId, LocalDate date, long withdrawSum, long transferSum) {
+		this.id = id;
 		this.accountId = accountId;
 		this.date = date;
 		this.withdrawSum = withdrawSum;
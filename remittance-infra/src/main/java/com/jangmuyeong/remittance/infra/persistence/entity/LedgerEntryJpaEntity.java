@@ -6,8 +6,6 @@ import java.time.Instant;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.Table;
@@ -17,16 +15,18 @@ import lombok.NoArgsConstructor;
 /**
  * 거래 기록 영속성 엔티티
  * 입금/출금/이체/수수료를 한 테이블로 기록
- * 조회 성능을 위해 (account_id, occurred_at) 인덱스 둠
+ * 거래내역 조회(account_id = ? order by occurred_at desc, id desc)가 정렬 없이 인덱스 순서로 읽히도록
+ * (account_id, occurred_at, id) 인덱스를 둔다. type은 tinyint 코드(LedgerMapper.typeCode)로 저장해 행 크기를 줄인다.
  */
 @Getter
 @NoArgsConstructor(access = PROTECTED)
 @Entity
 @Table(name = "ledger_entries",
-	indexes = @Index(name = "idx_ledger_account_time", columnList = "account_id, occurred_at"))
+	indexes = @Index(name = "idx_ledger_account_time_id", columnList = "account_id, occurred_at, id"))
 public class LedgerEntryJpaEntity {
 
-	@Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+	// 애플리케이션에서 발급(TimeOrderedIdGenerator) -> INSERT를 flush 시점에 batch로 실행
+	@Id
 	private Long id;
 
 	@Column(name = "account_id", nullable = false)
@@ -35,8 +35,8 @@ public class LedgerEntryJpaEntity {
 	@Column(name = "counterparty_account_id")
 	private Long counterpartyAccountId;
 
-	@Column(nullable = false, length = 30)
-	private String type;
+	@Column(nullable = false)
+	private byte type;
 
 	@Column(nullable = false)
 	private long amount;
@@ -50,8 +50,9 @@ public class LedgerEntryJpaEntity {
 	@Column(name = "balance_after", nullable = false)
 	private long balanceAfter;
 
-	public LedgerEntryJpaEntity(Long accountId, Long counterpartyAccountId, String type,
+	public LedgerEntryJpaEntity(Long id, Long accountId, Long counterpartyAccountId, byte type,
 		long amount, long feeAmount, Instant occurredAt, long balanceAfter) {
+		this.id = id;
 		this.accountId = accountId;
 		this.counterpartyAccountId = counterpartyAccountId;
 		this.type = type;
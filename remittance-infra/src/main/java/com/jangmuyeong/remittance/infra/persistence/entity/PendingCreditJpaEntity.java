@@ -0,0 +1,55 @@
+package com.jangmuyeong.remittance.infra.persistence.entity;
+
+import static lombok.AccessLevel.*;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 입금 지연 반영 계좌의 미반영 입금 영속성 엔티티
+ * 계좌 잔액 = accounts.balance + 이 계좌 행 amount 합 (PendingCreditPort), 반영(fold) 시 원장 행으로 옮기고 삭제
+ * 반영은 오래된 순(id 순)이므로 (account_id, id) 인덱스로 정렬 없이 읽는다.
+ */
+@Getter
+@NoArgsConstructor(access = PROTECTED)
+@Entity
+@Table(name = "pending_credits",
+	indexes = @Index(name = "idx_pending_credit_account_id", columnList = "account_id, id"))
+public class PendingCreditJpaEntity {
+
+	// 애플리케이션에서 발급(TimeOrderedIdGenerator), 발급 순서가 반영 순서
+	@Id
+	private Long id;
+
+	@Column(name = "account_id", nullable = false)
+	private Long accountId;
+
+	@Column(name = "counterparty_account_id")
+	private Long counterpartyAccountId;
+
+	@Column(nullable = false)
+	private byte type; // 원장과 같은 코드 (LedgerMapper.typeCode): DEPOSIT, TRANSFER_IN
+
+	@Column(nullable = false)
+	private long amount;
+
+	@Column(name = "occurred_at", nullable = false)
+	private Instant occurredAt;
+
+	public PendingCreditJpaEntity(Long id, Long accountId, Long counterpartyAccountId, byte type, long amount,
+		Instant occurredAt) {
+		this.id = id;
+		this.accountId = accountId;
+		this.counterpartyAccountId = counterpartyAccountId;
+		this.type = type;
+		this.amount = amount;
+		this.occurredAt = occurredAt;
+	}
+}
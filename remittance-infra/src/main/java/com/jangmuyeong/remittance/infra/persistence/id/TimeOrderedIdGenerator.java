@@ -0,0 +1,101 @@
+package com.jangmuyeong.remittance.infra.persistence.id;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 시간 순으로 증가하는 64비트 id 생성기 (Snowflake/TSID 방식)
+ *
+ *   [0][ 41비트: EPOCH 이후 밀리초 ][ 10비트: 노드 ][ 12비트: 시퀀스 ]
+ *
+ * - DB IDENTITY 대신 애플리케이션에서 id를 정하므로 INSERT를 flush 시점까지 미루고 JDBC batch로 묶을 수 있다.
+ * - 같은 노드 안에서는 항상 증가한다. 같은 밀리초에 4096개를 넘기거나 시계가 뒤로 가면 이전 시각에 이어서 발급한다.
+ * - 노드가 다르면 같은 밀리초 안의 순서는 보장하지 않는다. (occurred_at, id) 정렬에서 id는 동시각 타이브레이커로만 쓰인다.
+ * - 노드 id(remittance.id.node-id)는 인스턴스마다 달라야 한다. 1023은 오프라인 도구(데이터 생성기)용으로 남겨 둔다.
+ *   같은 노드 id로 뜬 두 인스턴스는 같은 밀리초/시퀀스에서 같은 id를 발급하므로 기본값을 두지 않고,
+ *   설정이 없거나 0~1022 밖이면 기동을 중단한다. (local 프로파일은 단일 인스턴스이므로 0)
+ */
+@Component
+public class TimeOrderedIdGenerator {
+
+	/** 2020-01-01T00:00:00Z (41비트 밀리초 → 2089년까지) */
+	public static final long EPOCH_MILLIS = Instant.parse("2020-01-01T00:00:00Z").toEpochMilli();
+
+	public static final int NODE_BITS = 10;
+	public static final int SEQUENCE_BITS = 12;
+	public static final int MAX_NODE = (1 << NODE_BITS) - 1;
+	public static final int TOOL_NODE = MAX_NODE;
+
+	private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+	private static final long MAX_MILLIS = (1L << (63 - NODE_BITS - SEQUENCE_BITS)) - 1;
+
+	private final long node;
+	private final LongSupplier currentMillis;
+
+	// (EPOCH 이후 밀리초 << SEQUENCE_BITS) | 시퀀스, 시퀀스가 넘치면 자연스럽게 다음 밀리초로 올라간다
+	private final AtomicLong state = new AtomicLong(-1L);
+
+	@Autowired
+	public TimeOrderedIdGenerator(@Value("${remittance.id.node-id:}") String node) {
+		this(applicationNode(node), System::currentTimeMillis);
+	}
+
+	public TimeOrderedIdGenerator(int node, LongSupplier currentMillis) {
+		if (node < 0 || node > MAX_NODE) {
+			throw new IllegalArgumentException("node must be in [0, " + MAX_NODE + "]: " + node);
+		}
+		this.node = node;
+		this.currentMillis = currentMillis;
+	}
+
+	/**
+	 * 애플리케이션 인스턴스의 노드 id (필수, 0~1022)
+	 */
+	static int applicationNode(String node) {
+		if (node == null || node.isBlank()) {
+			throw new IllegalStateException("remittance.id.node-id (ID_NODE) must be set to a value unique per instance"
+				+ " in [0, " + (TOOL_NODE - 1) + "]");
+		}
+		int value;
+		try {
+			value = Integer.parseInt(node.trim());
+		} catch (NumberFormatException e) {
+			throw new IllegalStateException("remittance.id.node-id (ID_NODE) is not a number: " + node, e);
+		}
+		if (value < 0 || value >= TOOL_NODE) {
+			throw new IllegalStateException("remittance.id.node-id (ID_NODE) must be in [0, " + (TOOL_NODE - 1) + "]"
+				+ " (" + TOOL_NODE + " is reserved for offline tools): " + value);
+		}
+		return value;
+	}
+
+	public long nextId() {
+		while (true) {
+			long prev = state.get();
+			long millis = currentMillis.getAsLong() - EPOCH_MILLIS;
+			if (millis < 0 || millis > MAX_MILLIS) {
+				throw new IllegalStateException("clock out of id range: " + Instant.ofEpochMilli(millis + EPOCH_MILLIS));
+			}
+			long next = millis > (prev >> SEQUENCE_BITS) ? millis << SEQUENCE_BITS : prev + 1;
+			if (state.compareAndSet(prev, next)) {
+				return (next >>> SEQUENCE_BITS) << (NODE_BITS + SEQUENCE_BITS)
+					| node << SEQUENCE_BITS
+					| next & SEQUENCE_MASK;
+			}
+		}
+	}
+
+	/** id에 기록된 발급 시각 (디버깅/운영 조회용) */
+	public static Instant timestampOf(long id) {
+		return Instant.ofEpochMilli((id >>> (NODE_BITS + SEQUENCE_BITS)) + EPOCH_MILLIS);
+	}
+
+	public static int nodeOf(long id) {
+		return (int)((id >>> SEQUENCE_BITS) & MAX_NODE);
+	}
+}
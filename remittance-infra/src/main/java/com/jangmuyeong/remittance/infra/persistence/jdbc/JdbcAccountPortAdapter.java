@@ -0,0 +1,109 @@
+package com.jangmuyeong.remittance.infra.persistence.jdbc;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import com.jangmuyeong.remittance.domain.account.Account;
+import com.jangmuyeong.remittance.domain.account.AccountRules;
+import com.jangmuyeong.remittance.domain.port.AccountPort;
+import com.jangmuyeong.remittance.infra.persistence.id.TimeOrderedIdGenerator;
+import com.jangmuyeong.remittance.infra.persistence.lock.LockTimeoutSession;
+import com.jangmuyeong.remittance.infra.persistence.mapper.AccountMapper;
+
+/**
+ * AccountPort의 JDBC 구현체 (jdbc 프로파일)
+ * 영속성 컨텍스트/엔티티 없이 SQL을 직접 실행하고, ResultSet을 바로 도메인 객체로 만든다.
+ * update는 변경 감지 대신 UPDATE 한 번으로 끝낸다.
+ */
+@Component
+@Profile("jdbc")
+public class JdbcAccountPortAdapter implements AccountPort {
+
+	private static final String SELECT_ID_BY_ACCOUNT_NO = "select id from accounts where account_no = ?";
+	private static final String SELECT_BY_ID_FOR_UPDATE =
+		"select id, account_no, status, balance from accounts where id = ? for update";
+	private static final String SELECT_BY_ACCOUNT_NO =
+		"select id, account_no, status, balance from accounts where account_no = ?";
+	private static final String INSERT = "insert into accounts (id, account_no, status, balance) values (?, ?, ?, ?)";
+	private static final String UPDATE = "update accounts set status = ?, balance = ?, version = version + 1 where id = ?";
+	private static final String DEPOSIT_IF_ACTIVE =
+		"update accounts set balance = balance + ?, version = version + 1 where id = ? and status = ?";
+	private static final String WITHDRAW_IF_SUFFICIENT =
+		"update accounts set balance = balance - ?, version = version + 1 where id = ? and status = ? and balance >= ?";
+	private static final String SELECT_BALANCE = "select balance from accounts where id = ?";
+	private static final byte MUTABLE_STATUS_CODE = AccountMapper.statusCode(AccountRules.MUTABLE_STATUS);
+
+	private static final RowMapper<Account> ROW_MAPPER = (rs, rowNum) -> new Account(
+		rs.getLong(1), rs.getString(2), AccountMapper.statusOf(rs.getByte(3)), rs.getLong(4));
+	private static final ResultSetExtractor<Account> SINGLE = rs -> rs.next() ? ROW_MAPPER.mapRow(rs, 0) : null;
+	private static final ResultSetExtractor<Long> SINGLE_ID = rs -> rs.next() ? rs.getLong(1) : Account.NO_ID;
+
+	private final JdbcTemplate jdbc;
+	private final TimeOrderedIdGenerator ids;
+	private final LockTimeoutSession lockTimeouts;
+
+	public JdbcAccountPortAdapter(JdbcTemplate jdbc, TimeOrderedIdGenerator ids, LockTimeoutSession lockTimeouts) {
+		this.jdbc = jdbc;
+		this.ids = ids;
+		this.lockTimeouts = lockTimeouts;
+	}
+
+	@Override
+	public long findIdByAccountNo(String accountNo) {
+		return jdbc.query(SELECT_ID_BY_ACCOUNT_NO, SINGLE_ID, accountNo);
+	}
+
+	@Override
+	public Account findByIdForUpdate(long accountId) {
+		// 잔액 변경(입금/출금/이체)은 비관락(SELECT ... FOR UPDATE)으로 조회 (유스케이스별 락 대기 시간이 있으면 먼저 세션에 설정)
+		lockTimeouts.applyToCurrentTransaction();
+		return jdbc.query(SELECT_BY_ID_FOR_UPDATE, SINGLE, accountId);
+	}
+
+	@Override
+	public Optional<Account> findByAccountNo(String accountNo) {
+		return Optional.ofNullable(jdbc.query(SELECT_BY_ACCOUNT_NO, SINGLE, accountNo));
+	}
+
+	@Override
+	public Account save(Account account) {
+		if (account.getId() != Account.NO_ID) {
+			update(account);
+			return account;
+		}
+		long id = ids.nextId();
+		jdbc.update(INSERT, id, account.getAccountNo(), AccountMapper.statusCode(account.getStatus()), account.getBalance());
+		return new Account(id, account.getAccountNo(), account.getStatus(), account.getBalance());
+	}
+
+	@Override
+	public void update(Account account) {
+		// (존재하지 않으면 NoSuchElementException -> 상위 계층에서 NOT_FOUND로 처리, JPA 어댑터와 동일)
+		int updated = jdbc.update(UPDATE, AccountMapper.statusCode(account.getStatus()), account.getBalance(), account.getId());
+		if (updated == 0) throw new NoSuchElementException("account not found: " + account.getId());
+	}
+
+	@Override
+	public long depositIfActive(long accountId, long amount) {
+		int updated = jdbc.update(DEPOSIT_IF_ACTIVE, amount, accountId, MUTABLE_STATUS_CODE);
+		return updated == 0 ? NOT_UPDATED : balanceOf(accountId);
+	}
+
+	@Override
+	public long withdrawIfSufficient(long accountId, long amount) {
+		int updated = jdbc.update(WITHDRAW_IF_SUFFICIENT, amount, accountId, MUTABLE_STATUS_CODE, amount);
+		return updated == 0 ? NOT_UPDATED : balanceOf(accountId);
+	}
+
+	// UPDATE로 이미 행 락을 잡았으므로 일반 조회로도 방금 반영한 잔액을 읽는다
+	private long balanceOf(long accountId) {
+		return Objects.requireNonNull(jdbc.queryForObject(SELECT_BALANCE, Long.class, accountId));
+	}
+}
@@ -0,0 +1,58 @@
+package com.jangmuyeong.remittance.infra.persistence.jdbc;
+
+import java.time.LocalDate;
+import java.util.NoSuchElementException;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Component;
+
+import com.jangmuyeong.remittance.domain.limit.DailyLimit;
+import com.jangmuyeong.remittance.infra.persistence.limit.DailyLimitStorage;
+import com.jangmuyeong.remittance.infra.persistence.limit.DailyLimitStorageAdapter;
+
+/**
+ * DailyLimitPort의 JDBC 구현체 - 당일 누적치를 계좌 행(accounts.limit_*)에 저장
+ * (jdbc 프로파일 + remittance.daily-limit.storage=account-row, 선택은 DailyLimitStorageConfig)
+ * 호출 시점에 계좌 행 락을 이미 잡고 있으므로 FOR UPDATE 없이 읽는다.
+ */
+@Component
+@Profile("jdbc")
+public class JdbcAccountRowDailyLimitPortAdapter implements DailyLimitStorageAdapter {
+
+	private static final String SELECT =
+		"select limit_date, limit_withdraw_sum, limit_transfer_sum from accounts where id = ?";
+	private static final String UPDATE =
+		"update accounts set limit_date = ?, limit_withdraw_sum = ?, limit_transfer_sum = ?, version = version + 1 where id = ?";
+
+	private final JdbcTemplate jdbc;
+
+	public JdbcAccountRowDailyLimitPortAdapter(JdbcTemplate jdbc) {
+		this.jdbc = jdbc;
+	}
+
+	@Override
+	public DailyLimitStorage storage() {
+		return DailyLimitStorage.ACCOUNT_ROW;
+	}
+
+	@Override
+	public DailyLimit getOrCreate(long accountId, LocalDate date) {
+		ResultSetExtractor<DailyLimit> extractor = rs -> {
+			if (!rs.next()) throw new NoSuchElementException("account not found: " + accountId);
+			if (!date.equals(rs.getObject(1, LocalDate.class))) {
+				return new DailyLimit(accountId, accountId, date, 0L, 0L);
+			}
+			return new DailyLimit(accountId, accountId, date, rs.getLong(2), rs.getLong(3));
+		};
+		return jdbc.query(SELECT, extractor, accountId);
+	}
+
+	@Override
+	public void save(DailyLimit limit) {
+		int updated = jdbc.update(UPDATE, limit.getDate(), limit.getWithdrawSum(), limit.getTransferSum(),
+			limit.getAccountId());
+		if (updated == 0) throw new NoSuchElementException("account not found: " + limit.getAccountId());
+	}
+}
@@ -0,0 +1,119 @@
+package com.jangmuyeong.remittance.infra.persistence.jdbc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Component;
+
+import com.jangmuyeong.remittance.domain.account.Account;
+import com.jangmuyeong.remittance.domain.account.AccountRules;
+import com.jangmuyeong.remittance.domain.port.AccountPort;
+import com.jangmuyeong.remittance.domain.port.BalanceShardPort;
+import com.jangmuyeong.remittance.infra.persistence.lock.LockTimeoutSession;
+import com.jangmuyeong.remittance.infra.persistence.mapper.AccountMapper;
+import com.jangmuyeong.remittance.infra.persistence.shard.BalanceShardRegistry;
+
+/**
+ * BalanceShardPort의 JDBC 구현체 (jdbc 프로파일)
+ * 출금은 shard 행을 FOR UPDATE로 읽고 차감할 shard만 UPDATE (JPA 어댑터와 같은 규칙)
+ */
+@Component
+@Profile("jdbc")
+public class JdbcBalanceShardPortAdapter implements BalanceShardPort {
+
+	private static final String SELECT_TOTAL_IF_STATUS =
+		"select a.balance + coalesce(sum(s.balance), 0) from accounts a "
+			+ "left join account_balance_shards s on s.account_id = a.id "
+			+ "where a.id = ? and a.status = ? group by a.id, a.balance";
+	private static final String CREDIT =
+		"update account_balance_shards set balance = balance + ? where account_id = ? and shard_no = ?";
+	private static final String SELECT_ACCOUNT_FOR_UPDATE =
+		"select id, account_no, status, balance from accounts where id = ? for update";
+	private static final String SUM_SHARDS =
+		"select coalesce(sum(balance), 0) from account_balance_shards where account_id = ?";
+	private static final String SELECT_SHARDS_FOR_UPDATE =
+		"select shard_no, balance from account_balance_shards where account_id = ? order by shard_no for update";
+	private static final String SELECT_ROW_BALANCE = "select balance from accounts where id = ?";
+	private static final String DEBIT_SHARD =
+		"update account_balance_shards set balance = balance - ? where account_id = ? and shard_no = ?";
+	private static final String DEBIT_ROW = "update accounts set balance = balance - ?, version = version + 1 where id = ?";
+	private static final byte MUTABLE_STATUS_CODE = AccountMapper.statusCode(AccountRules.MUTABLE_STATUS);
+
+	private static final ResultSetExtractor<Long> SINGLE_LONG = rs -> rs.next() ? rs.getLong(1) : null;
+
+	private final JdbcTemplate jdbc;
+	private final BalanceShardRegistry registry;
+	private final LockTimeoutSession lockTimeouts;
+
+	public JdbcBalanceShardPortAdapter(JdbcTemplate jdbc, BalanceShardRegistry registry,
+		LockTimeoutSession lockTimeouts) {
+		this.jdbc = jdbc;
+		this.registry = registry;
+		this.lockTimeouts = lockTimeouts;
+	}
+
+	@Override
+	public boolean isSharded(long accountId) {
+		return registry.isSharded(accountId);
+	}
+
+	@Override
+	public long creditIfActive(long accountId, long amount) {
+		// 상태는 락 없이 확인 (삭제와 동시에 들어온 입금은 삭제 전 입금으로 반영됨, 소프트 딜리트라 잔액은 보존)
+		Long total = jdbc.query(SELECT_TOTAL_IF_STATUS, SINGLE_LONG, accountId, MUTABLE_STATUS_CODE);
+		if (total == null) return AccountPort.NOT_UPDATED;
+		int shardNo = ThreadLocalRandom.current().nextInt(registry.shardCount(accountId));
+		jdbc.update(CREDIT, amount, accountId, shardNo);
+		return total + amount;
+	}
+
+	@Override
+	public Account findByIdForDebit(long accountId) {
+		lockTimeouts.applyToCurrentTransaction();
+		Account row = jdbc.query(SELECT_ACCOUNT_FOR_UPDATE, rs -> rs.next()
+			? new Account(rs.getLong(1), rs.getString(2), AccountMapper.statusOf(rs.getByte(3)), rs.getLong(4))
+			: null, accountId);
+		if (row == null) return null;
+		return new Account(accountId, row.getAccountNo(), row.getStatus(), row.getBalance() + sumShards(accountId));
+	}
+
+	@Override
+	public long debit(long accountId, long amount) {
+		List<long[]> shards = jdbc.query(SELECT_SHARDS_FOR_UPDATE,
+			(rs, rowNum) -> new long[] {rs.getInt(1), rs.getLong(2)}, accountId);
+		// findByIdForDebit으로 계좌 행 락을 이미 잡았으므로 일반 조회
+		long rowBalance = Objects.requireNonNull(jdbc.queryForObject(SELECT_ROW_BALANCE, Long.class, accountId));
+
+		long[] balances = new long[shards.size()];
+		long total = rowBalance;
+		for (int i = 0; i < balances.length; i++) {
+			balances[i] = shards.get(i)[1];
+			total += balances[i];
+		}
+		long[] take = BalanceShardRegistry.planDebit(balances, rowBalance, amount);
+		if (take == null) return AccountPort.NOT_UPDATED;
+
+		List<Object[]> updates = new ArrayList<>();
+		for (int i = 0; i < balances.length; i++) {
+			if (take[i] > 0) updates.add(new Object[] {take[i], accountId, (int)shards.get(i)[0]});
+		}
+		if (!updates.isEmpty()) jdbc.batchUpdate(DEBIT_SHARD, updates);
+		long fromRow = take[balances.length];
+		if (fromRow > 0) jdbc.update(DEBIT_ROW, fromRow, accountId);
+		return total - amount;
+	}
+
+	@Override
+	public long shardBalance(long accountId) {
+		return registry.isSharded(accountId) ? sumShards(accountId) : 0L;
+	}
+
+	private long sumShards(long accountId) {
+		return Objects.requireNonNull(jdbc.queryForObject(SUM_SHARDS, Long.class, accountId));
+	}
+}
@@ -0,0 +1,78 @@
+package com.jangmuyeong.remittance.infra.persistence.jdbc;
+
+import java.time.LocalDate;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Component;
+
+import com.jangmuyeong.remittance.domain.limit.DailyLimit;
+import com.jangmuyeong.remittance.infra.persistence.id.TimeOrderedIdGenerator;
+import com.jangmuyeong.remittance.infra.persistence.limit.DailyLimitStorage;
+import com.jangmuyeong.remittance.infra.persistence.limit.DailyLimitStorageAdapter;
+
+/**
+ * DailyLimitPort의 JDBC 구현체 (jdbc 프로파일 + remittance.daily-limit.storage=table, 선택은 DailyLimitStorageConfig)
+ */
+@Component
+@Profile("jdbc")
+public class JdbcDailyLimitPortAdapter implements DailyLimitStorageAdapter {
+
+	private static final String SELECT_FOR_UPDATE =
+		"select id, account_id, limit_date, withdraw_sum, transfer_sum from daily_limits "
+			+ "where account_id = ? and limit_date = ? for update";
+	private static final String INSERT =
+		"insert into daily_limits (id, account_id, limit_date, withdraw_sum, transfer_sum) values (?, ?, ?, ?, ?)";
+	private static final String UPDATE = "update daily_limits set withdraw_sum = ?, transfer_sum = ?, version = version + 1 where id = ?";
+
+	private static final ResultSetExtractor<DailyLimit> SINGLE = rs -> rs.next()
+		? new DailyLimit(rs.getLong(1), rs.getLong(2), rs.getObject(3, LocalDate.class), rs.getLong(4), rs.getLong(5))
+		: null;
+
+	private final JdbcTemplate jdbc;
+	private final TimeOrderedIdGenerator ids;
+
+	public JdbcDailyLimitPortAdapter(JdbcTemplate jdbc, TimeOrderedIdGenerator ids) {
+		this.jdbc = jdbc;
+		this.ids = ids;
+	}
+
+	@Override
+	public DailyLimitStorage storage() {
+		return DailyLimitStorage.TABLE;
+	}
+
+	@Override
+	public DailyLimit getOrCreate(long accountId, LocalDate date) {
+		DailyLimit locked = jdbc.query(SELECT_FOR_UPDATE, SINGLE, accountId, date);
+		if (locked != null) {
+			return locked;
+		}
+		try {
+			return insert(new DailyLimit(DailyLimit.NO_ID, accountId, date, 0L, 0L));
+		} catch (DataIntegrityViolationException ex) {
+			// 동시에 생성된 경우: 다시 락 조회
+			return Objects.requireNonNull(jdbc.query(SELECT_FOR_UPDATE, SINGLE, accountId, date));
+		}
+	}
+
+	@Override
+	public void save(DailyLimit limit) {
+		if (limit.getId() == DailyLimit.NO_ID) {
+			insert(limit);
+			return;
+		}
+		int updated = jdbc.update(UPDATE, limit.getWithdrawSum(), limit.getTransferSum(), limit.getId());
+		if (updated == 0) throw new NoSuchElementException("daily limit not found: " + limit.getId());
+	}
+
+	private DailyLimit insert(DailyLimit limit) {
+		long id = ids.nextId();
+		jdbc.update(INSERT, id, limit.getAccountId(), limit.getDate(), limit.getWithdrawSum(), limit.getTransferSum());
+		return new DailyLimit(id, limit.getAccountId(), limit.getDate(), limit.getWithdrawSum(), limit.getTransferSum());
+	}
+}
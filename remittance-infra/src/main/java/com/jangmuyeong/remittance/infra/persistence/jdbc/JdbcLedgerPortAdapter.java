@@ -0,0 +1,102 @@
+package com.jangmuyeong.remittance.infra.persistence.jdbc;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.Calendar;
+import java.util.List;
+import java.util.TimeZone;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import com.jangmuyeong.remittance.domain.ledger.LedgerEntry;
+import com.jangmuyeong.remittance.domain.port.LedgerPort;
+import com.jangmuyeong.remittance.infra.persistence.id.TimeOrderedIdGenerator;
+import com.jangmuyeong.remittance.infra.persistence.mapper.LedgerMapper;
+
+/**
+ * LedgerPort의 JDBC 구현체 (jdbc 프로파일)
+ * occurred_at은 JPA 어댑터(Hibernate)와 같게 UTC 기준으로 읽고 쓴다.
+ */
+@Component
+@Profile("jdbc")
+public class JdbcLedgerPortAdapter implements LedgerPort {
+
+	private static final String INSERT =
+		"insert into ledger_entries (id, account_id, counterparty_account_id, type, amount, fee_amount, occurred_at, balance_after) "
+			+ "values (?, ?, ?, ?, ?, ?, ?, ?)";
+	private static final String SELECT_LATEST =
+		"select id, account_id, counterparty_account_id, type, amount, fee_amount, occurred_at, balance_after "
+			+ "from ledger_entries where account_id = ? order by occurred_at desc, id desc limit ?";
+
+	private static final TimeZone UTC = TimeZone.getTimeZone("UTC");
+
+	private static final RowMapper<LedgerEntry> ROW_MAPPER = (rs, rowNum) -> {
+		long counterparty = rs.getLong(3);
+		return new LedgerEntry(
+			rs.getLong(1),
+			rs.getLong(2),
+			rs.wasNull() ? LedgerEntry.NO_ID : counterparty,
+			LedgerMapper.typeOf(rs.getByte(4)),
+			rs.getLong(5),
+			rs.getLong(6),
+			rs.getTimestamp(7, Calendar.getInstance(UTC)).toInstant(),
+			rs.getLong(8)
+		);
+	};
+
+	private final JdbcTemplate jdbc;
+	private final TimeOrderedIdGenerator ids;
+
+	public JdbcLedgerPortAdapter(JdbcTemplate jdbc, TimeOrderedIdGenerator ids) {
+		this.jdbc = jdbc;
+		this.ids = ids;
+	}
+
+	@Override
+	public void save(LedgerEntry entry) {
+		long id = ids.nextId();
+		jdbc.update(INSERT, ps -> bind(ps, id, entry));
+	}
+
+	@Override
+	public void saveAll(List<LedgerEntry> entries) {
+		// addBatch/executeBatch 한 번 (MySQL은 rewriteBatchedStatements=true면 multi-row INSERT 한 문장)
+		jdbc.batchUpdate(INSERT, new BatchPreparedStatementSetter() {
+			@Override
+			public void setValues(PreparedStatement ps, int i) throws SQLException {
+				bind(ps, ids.nextId(), entries.get(i));
+			}
+
+			@Override
+			public int getBatchSize() {
+				return entries.size();
+			}
+		});
+	}
+
+	@Override
+	public List<LedgerEntry> findLatestByAccountId(long accountId, int size) {
+		return jdbc.query(SELECT_LATEST, ROW_MAPPER, accountId, size);
+	}
+
+	private static void bind(PreparedStatement ps, long id, LedgerEntry entry) throws SQLException {
+		ps.setLong(1, id);
+		ps.setLong(2, entry.getAccountId());
+		if (entry.hasCounterparty()) {
+			ps.setLong(3, entry.getCounterpartyAccountId());
+		} else {
+			ps.setNull(3, Types.BIGINT);
+		}
+		ps.setByte(4, LedgerMapper.typeCode(entry.getType()));
+		ps.setLong(5, entry.getAmount());
+		ps.setLong(6, entry.getFeeAmount());
+		ps.setTimestamp(7, Timestamp.from(entry.getOccurredAt()), Calendar.getInstance(UTC));
+		ps.setLong(8, entry.getBalanceAfter());
+	}
+}
@@ -0,0 +1,134 @@
+package com.jangmuyeong.remittance.infra.persistence.jdbc;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+import java.util.Objects;
+import java.util.TimeZone;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import com.jangmuyeong.remittance.domain.account.AccountRules;
+import com.jangmuyeong.remittance.domain.ledger.LedgerEntry;
+import com.jangmuyeong.remittance.domain.ledger.TransactionType;
+import com.jangmuyeong.remittance.domain.port.AccountPort;
+import com.jangmuyeong.remittance.domain.port.LedgerPort;
+import com.jangmuyeong.remittance.domain.port.PendingCreditPort;
+import com.jangmuyeong.remittance.infra.persistence.credit.PendingCreditRegistry;
+import com.jangmuyeong.remittance.infra.persistence.id.TimeOrderedIdGenerator;
+import com.jangmuyeong.remittance.infra.persistence.lock.LockTimeoutSession;
+import com.jangmuyeong.remittance.infra.persistence.mapper.AccountMapper;
+import com.jangmuyeong.remittance.infra.persistence.mapper.LedgerMapper;
+
+/**
+ * PendingCreditPort의 JDBC 구현체 (jdbc 프로파일)
+ * 반영은 계좌 행 FOR UPDATE 후 미반영 입금을 오래된 순으로 FOR UPDATE 조회, 계좌 UPDATE + 원장 batch INSERT + 미반영 행 batch DELETE
+ * occurred_at은 원장과 같게 UTC 기준으로 읽고 쓴다.
+ */
+@Component
+@Profile("jdbc")
+public class JdbcPendingCreditPortAdapter implements PendingCreditPort {
+
+	private static final String SELECT_TOTAL_IF_STATUS =
+		"select a.balance + coalesce(sum(p.amount), 0) from accounts a "
+			+ "left join pending_credits p on p.account_id = a.id "
+			+ "where a.id = ? and a.status = ? group by a.id, a.balance";
+	private static final String INSERT =
+		"insert into pending_credits (id, account_id, counterparty_account_id, type, amount, occurred_at) "
+			+ "values (?, ?, ?, ?, ?, ?)";
+	private static final String SELECT_BALANCE_FOR_UPDATE = "select balance from accounts where id = ? for update";
+	private static final String SELECT_OLDEST_FOR_UPDATE =
+		"select id, counterparty_account_id, type, amount, occurred_at from pending_credits "
+			+ "where account_id = ? order by id limit ? for update";
+	private static final String UPDATE_BALANCE = "update accounts set balance = ?, version = version + 1 where id = ?";
+	private static final String DELETE = "delete from pending_credits where id = ?";
+	private static final String SUM_AMOUNT =
+		"select coalesce(sum(amount), 0) from pending_credits where account_id = ?";
+	private static final byte MUTABLE_STATUS_CODE = AccountMapper.statusCode(AccountRules.MUTABLE_STATUS);
+
+	private static final TimeZone UTC = TimeZone.getTimeZone("UTC");
+	private static final ResultSetExtractor<Long> SINGLE_LONG = rs -> rs.next() ? rs.getLong(1) : null;
+
+	private final JdbcTemplate jdbc;
+	private final TimeOrderedIdGenerator ids;
+	private final LedgerPort ledgerPort;
+	private final PendingCreditRegistry registry;
+	private final LockTimeoutSession lockTimeouts;
+
+	public JdbcPendingCreditPortAdapter(JdbcTemplate jdbc, TimeOrderedIdGenerator ids, LedgerPort ledgerPort,
+		PendingCreditRegistry registry, LockTimeoutSession lockTimeouts) {
+		this.jdbc = jdbc;
+		this.ids = ids;
+		this.ledgerPort = ledgerPort;
+		this.registry = registry;
+		this.lockTimeouts = lockTimeouts;
+	}
+
+	@Override
+	public boolean isDeferred(long accountId) {
+		return registry.isDeferred(accountId);
+	}
+
+	@Override
+	public long appendIfActive(long accountId, long counterpartyAccountId, TransactionType type, long amount,
+		Instant occurredAt) {
+		// 상태는 락 없이 확인 (삭제와 동시에 들어온 입금은 삭제 전 입금으로 반영됨, 소프트 딜리트라 잔액은 보존)
+		Long total = jdbc.query(SELECT_TOTAL_IF_STATUS, SINGLE_LONG, accountId, MUTABLE_STATUS_CODE);
+		if (total == null) return AccountPort.NOT_UPDATED;
+		long id = ids.nextId();
+		jdbc.update(INSERT, ps -> {
+			ps.setLong(1, id);
+			ps.setLong(2, accountId);
+			if (counterpartyAccountId == LedgerEntry.NO_ID) {
+				ps.setNull(3, Types.BIGINT);
+			} else {
+				ps.setLong(3, counterpartyAccountId);
+			}
+			ps.setByte(4, LedgerMapper.typeCode(type));
+			ps.setLong(5, amount);
+			ps.setTimestamp(6, Timestamp.from(occurredAt), Calendar.getInstance(UTC));
+		});
+		return total + amount;
+	}
+
+	@Override
+	public int fold(long accountId, int maxCredits) {
+		lockTimeouts.applyToCurrentTransaction();
+		Long balance = jdbc.query(SELECT_BALANCE_FOR_UPDATE, SINGLE_LONG, accountId);
+		if (balance == null) return 0;
+
+		long[] running = {balance};
+		List<Object[]> deletes = new ArrayList<>();
+		RowMapper<LedgerEntry> toLedger = (rs, rowNum) -> {
+			deletes.add(new Object[] {rs.getLong(1)});
+			long counterparty = rs.getLong(2);
+			boolean noCounterparty = rs.wasNull();
+			long amount = rs.getLong(4);
+			running[0] += amount;
+			return new LedgerEntry(LedgerEntry.NO_ID, accountId, noCounterparty ? LedgerEntry.NO_ID : counterparty,
+				LedgerMapper.typeOf(rs.getByte(3)), amount, 0L,
+				rs.getTimestamp(5, Calendar.getInstance(UTC)).toInstant(), running[0]);
+		};
+		List<LedgerEntry> entries = jdbc.query(SELECT_OLDEST_FOR_UPDATE, toLedger, accountId, maxCredits);
+		if (entries.isEmpty()) return 0;
+
+		jdbc.update(UPDATE_BALANCE, running[0], accountId);
+		ledgerPort.saveAll(entries);
+		jdbc.batchUpdate(DELETE, deletes);
+		return entries.size();
+	}
+
+	@Override
+	public long pendingBalance(long accountId) {
+		return registry.isDeferred(accountId)
+			? Objects.requireNonNull(jdbc.queryForObject(SUM_AMOUNT, Long.class, accountId))
+			: 0L;
+	}
+}
@@ -0,0 +1,30 @@
+package com.jangmuyeong.remittance.infra.persistence.limit;
+
+import java.util.Arrays;
+
+/**
+ * 일 한도 누적치 저장 위치 (remittance.daily-limit.storage)
+ */
+public enum DailyLimitStorage {
+
+	TABLE("table"),             // daily_limits 행 (기본)
+	ACCOUNT_ROW("account-row"); // accounts.limit_* 컬럼
+
+	private final String value;
+
+	DailyLimitStorage(String value) {
+		this.value = value;
+	}
+
+	public String value() {
+		return value;
+	}
+
+	public static DailyLimitStorage of(String value) {
+		return Arrays.stream(values())
+			.filter(storage -> storage.value.equalsIgnoreCase(value.trim()))
+			.findFirst()
+			.orElseThrow(() -> new IllegalStateException(
+				"remittance.daily-limit.storage must be table or account-row: " + value));
+	}
+}
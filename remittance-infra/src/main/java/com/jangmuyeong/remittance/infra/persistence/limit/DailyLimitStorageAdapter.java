@@ -0,0 +1,11 @@
+package com.jangmuyeong.remittance.infra.persistence.limit;
+
+import com.jangmuyeong.remittance.domain.port.DailyLimitPort;
+
+/**
+ * 저장 위치별 DailyLimitPort 구현체. 실제로 쓰일 구현체는 DailyLimitStorageConfig가 기동 시 고른다.
+ */
+public interface DailyLimitStorageAdapter extends DailyLimitPort {
+
+	DailyLimitStorage storage();
+}
@@ -0,0 +1,36 @@
+package com.jangmuyeong.remittance.infra.persistence.limit;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import com.jangmuyeong.remittance.domain.port.DailyLimitPort;
+
+/**
+ * 일 한도 저장 위치 선택 (JPA/jdbc 프로파일 공통)
+ *
+ * 저장 위치별 어댑터는 둘 다 빈으로 두고, 서비스가 주입받는 DailyLimitPort는 기동 시점의
+ * remittance.daily-limit.storage 값으로 고른다. (@ConditionalOnProperty는 AOT 처리 때 한 번만 평가되어
+ * AOT 이미지에서는 실행 시 설정이 무시되므로 쓰지 않음, remittance.write.mode와 같은 방식)
+ * 값이 table/account-row가 아니면 기동을 중단한다.
+ */
+@Configuration
+public class DailyLimitStorageConfig {
+
+	@Bean
+	@Primary
+	public DailyLimitPort dailyLimitPort(List<DailyLimitStorageAdapter> adapters,
+		@Value("${remittance.daily-limit.storage:table}") String storage) {
+		return select(adapters, DailyLimitStorage.of(storage));
+	}
+
+	static DailyLimitPort select(List<DailyLimitStorageAdapter> adapters, DailyLimitStorage storage) {
+		return adapters.stream()
+			.filter(adapter -> adapter.storage() == storage)
+			.findFirst()
+			.orElseThrow(() -> new IllegalStateException("no daily limit adapter for storage " + storage.value()));
+	}
+}
@@ -0,0 +1,189 @@
+package com.jangmuyeong.remittance.infra.persistence.lock;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Locale;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.jangmuyeong.remittance.domain.port.LockTimeoutPort;
+
+/**
+ * LockTimeoutPort 구현체 (JPA/jdbc 프로파일 공통)
+ *
+ * 어댑터가 계좌 행을 락 조회하기 직전에 applyToCurrentTransaction을 호출하면, 스레드에 묶인 대기 시간을
+ * 트랜잭션마다 한 번 DB 세션 변수로 설정한다. (같은 트랜잭션 커넥션에서 JdbcTemplate으로 실행)
+ * - MySQL: innodb_lock_wait_timeout (초 단위, 올림, 최소 1초)
+ * - H2: LOCK_TIMEOUT (밀리초)
+ * - 그 외 DB는 설정하지 않는다. (기동 후 처음 적용할 때 경고 한 번)
+ *
+ * 세션 변수는 커넥션이 풀로 돌아간 뒤에도 남으므로, 트랜잭션이 끝나면(afterCompletion, 커넥션 반납 전) 설정 전 값으로 되돌린다.
+ * - MySQL: 설정 statement에서 이전 값을 사용자 변수에 같이 담아 두고 그 값으로 복원
+ * - H2: 기동 후 처음 적용할 때 읽은 세션 기본값으로 복원
+ * 설정과 복원은 각각 SQL 왕복 1회이며(같은 트랜잭션 커넥션에서 JdbcTemplate으로 실행) 유스케이스 SQL 왕복 예산에 포함된다.
+ */
+@Component
+public class LockTimeoutSession implements LockTimeoutPort {
+
+	private static final Logger log = LoggerFactory.getLogger(LockTimeoutSession.class);
+
+	private static final ThreadLocal<Duration> BOUND = new ThreadLocal<>();
+
+	private final JdbcTemplate jdbc;
+	private volatile Session session;
+
+	public LockTimeoutSession(JdbcTemplate jdbc) {
+		this.jdbc = jdbc;
+	}
+
+	@Override
+	public Duration bind(Duration timeout) {
+		Duration previous = BOUND.get();
+		if (timeout == null) {
+			BOUND.remove();
+		} else {
+			BOUND.set(timeout);
+		}
+		return previous;
+	}
+
+	/**
+	 * 계좌 행 락 조회 직전에 호출: 묶인 대기 시간이 있고 이 트랜잭션에서 아직 설정하지 않았으면 세션 값 설정
+	 * 트랜잭션 동기화가 없으면(트랜잭션 밖 호출) 아무것도 하지 않는다.
+	 */
+	public void applyToCurrentTransaction() {
+		Duration timeout = BOUND.get();
+		if (timeout == null || !TransactionSynchronizationManager.isSynchronizationActive()
+			|| TransactionSynchronizationManager.hasResource(this)) {
+			return;
+		}
+		Session current = session();
+		String statement = current.vendor().statement(timeout);
+		if (statement != null) jdbc.execute(statement);
+		Applied applied = new Applied(this, jdbc, statement == null ? null : current.restore());
+		TransactionSynchronizationManager.bindResource(this, applied);
+		TransactionSynchronizationManager.registerSynchronization(applied);
+	}
+
+	private Session session() {
+		Session current = session;
+		if (current == null) {
+			current = jdbc.execute((ConnectionCallback<Session>)c -> {
+				String product = c.getMetaData().getDatabaseProductName();
+				Vendor vendor = Vendor.of(product);
+				if (vendor == Vendor.UNSUPPORTED) log.warn("lock timeout is not supported for {}, ignored", product);
+				return new Session(vendor, vendor.restore(c));
+			});
+			session = current;
+		}
+		return current;
+	}
+
+	/**
+	 * DB 종류와 트랜잭션 종료 시 실행할 복원 statement (기동 후 처음 적용할 때 한 번 정함)
+	 */
+	private record Session(Vendor vendor, String restore) {
+	}
+
+	private enum Vendor {
+		MYSQL {
+			// 한 SET 안의 값은 모두 대입 전에 평가되므로 사용자 변수에는 설정 전 세션 값이 담긴다.
+			@Override
+			String statement(Duration timeout) {
+				long seconds = Math.max(1L, (timeout.toMillis() + 999) / 1000);
+				return "set @remittance_lock_wait_timeout = @@session.innodb_lock_wait_timeout,"
+					+ " session innodb_lock_wait_timeout = " + seconds;
+			}
+
+			@Override
+			String restore(Connection connection) {
+				return "set session innodb_lock_wait_timeout = @remittance_lock_wait_timeout";
+			}
+		},
+		H2 {
+			@Override
+			String statement(Duration timeout) {
+				return "set lock_timeout " + Math.max(0L, timeout.toMillis());
+			}
+
+			@Override
+			String restore(Connection connection) throws SQLException {
+				try (Statement statement = connection.createStatement();
+					 ResultSet rs = statement.executeQuery("select lock_timeout()")) {
+					rs.next();
+					return "set lock_timeout " + rs.getLong(1);
+				}
+			}
+		},
+		UNSUPPORTED {
+			@Override
+			String statement(Duration timeout) {
+				return null;
+			}
+
+			@Override
+			String restore(Connection connection) {
+				return null;
+			}
+		};
+
+		abstract String statement(Duration timeout);
+
+		abstract String restore(Connection connection) throws SQLException;
+
+		static Vendor of(String product) {
+			String name = product == null ? "" : product.toLowerCase(Locale.ROOT);
+			if (name.contains("mysql") || name.contains("mariadb")) return MYSQL;
+			if (name.contains("h2")) return H2;
+			return UNSUPPORTED;
+		}
+	}
+
+	/**
+	 * 이번 트랜잭션에서 설정했다는 표시 (REQUIRES_NEW 등으로 보류되면 같이 풀었다가 재개 시 다시 묶음)
+	 * 트랜잭션이 끝나면 아직 묶여 있는 트랜잭션 커넥션에서 세션 값을 복원한다.
+	 */
+	private static final class Applied implements TransactionSynchronization {
+
+		private final Object resourceKey;
+		private final JdbcTemplate jdbc;
+		private final String restore;
+
+		private Applied(Object resourceKey, JdbcTemplate jdbc, String restore) {
+			this.resourceKey = resourceKey;
+			this.jdbc = jdbc;
+			this.restore = restore;
+		}
+
+		@Override
+		public void suspend() {
+			TransactionSynchronizationManager.unbindResource(resourceKey);
+		}
+
+		@Override
+		public void resume() {
+			TransactionSynchronizationManager.bindResource(resourceKey, this);
+		}
+
+		@Override
+		public void afterCompletion(int status) {
+			TransactionSynchronizationManager.unbindResourceIfPossible(resourceKey);
+			if (restore == null) return;
+			try {
+				jdbc.execute(restore);
+			} catch (DataAccessException e) {
+				log.warn("failed to restore session lock timeout", e);
+			}
+		}
+	}
+}
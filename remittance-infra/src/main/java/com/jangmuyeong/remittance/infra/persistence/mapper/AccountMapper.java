@@ -6,18 +6,44 @@ import com.jangmuyeong.remittance.infra.persistence.entity.AccountJpaEntity;
 
 public class AccountMapper {
 
+	// status는 tinyint 코드로 저장 (코드 -> enum 역조회 표, 코드는 enum 선언 순서와 무관하게 고정)
+	private static final AccountStatus[] STATUS_BY_CODE = new AccountStatus[3];
+
+	static {
+		for (AccountStatus status : AccountStatus.values()) {
+			STATUS_BY_CODE[statusCode(status)] = status;
+		}
+	}
+
 	public static Account toDomain(AccountJpaEntity e) {
-		// Entity의 status는 문자열로 저장하므로 도메인 enum으로 복원
-		return new Account(e.getId(), e.getAccountNo(), AccountStatus.valueOf(e.getStatus()), e.getBalance());
+		// Entity의 status는 코드로 저장하므로 도메인 enum으로 복원 (영속화 전 엔티티는 id가 없으므로 NO_ID)
+		long id = e.getId() == null ? Account.NO_ID : e.getId();
+		return new Account(id, e.getAccountNo(), statusOf(e.getStatus()), e.getBalance());
 	}
 
-	public static AccountJpaEntity toNewEntity(Account a) {
-		// 신규 저장용 엔티티 생성 (id는 DB에서 생성)
-		return new AccountJpaEntity(a.getAccountNo(), a.getStatus().name(), a.getBalance());
+	public static AccountJpaEntity toNewEntity(Account a, long id) {
+		// 신규 저장용 엔티티 생성 (id는 어댑터에서 TimeOrderedIdGenerator로 발급)
+		return new AccountJpaEntity(id, a.getAccountNo(), statusCode(a.getStatus()), a.getBalance());
 	}
 
 	public static void apply(Account a, AccountJpaEntity e) {
 		// 영속성 엔티티를 도메인 상태로 동기화 (dirty checking 대상)
-		e.update(a.getStatus().name(), a.getBalance());
+		e.update(statusCode(a.getStatus()), a.getBalance());
+	}
+
+	/** accounts.status 저장 코드 (이미 저장된 행과 호환되어야 하므로 값을 바꾸지 않는다) */
+	public static byte statusCode(AccountStatus status) {
+		return switch (status) {
+			case ACTIVE -> 1;
+			case DELETED -> 2;
+		};
+	}
+
+	public static AccountStatus statusOf(byte code) {
+		AccountStatus status = code > 0 && code < STATUS_BY_CODE.length ? STATUS_BY_CODE[code] : null;
+		if (status == null) {
+			throw new IllegalStateException("unknown account status code: " + code);
+		}
+		return status;
 	}
-}
\ No newline at end of file
+}
@@ -1,6 +1,9 @@
 package com.jangmuyeong.remittance.infra.persistence.mapper;
 
+import java.time.LocalDate;
+
 import com.jangmuyeong.remittance.domain.limit.DailyLimit;
+import com.jangmuyeong.remittance.infra.persistence.entity.AccountJpaEntity;
 import com.jangmuyeong.remittance.infra.persistence.entity.DailyLimitJpaEntity;
 
 public class DailyLimitMapper {
@@ -11,12 +14,25 @@ public class DailyLimitMapper {
 	}
 
 	/** 도메인 → 신규 엔티티(Insert) */
-	public static DailyLimitJpaEntity toNewEntity(DailyLimit d) {
-		return new DailyLimitJpaEntity(d.getAccountId(), d.getDate(), d.getWithdrawSum(), d.getTransferSum());
+	public static DailyLimitJpaEntity toNewEntity(DailyLimit d, long id) {
+		return new DailyLimitJpaEntity(id, d.getAccountId(), d.getDate(), d.getWithdrawSum(), d.getTransferSum());
 	}
 
 	/** 도메인 상태를 영속성 엔티티에 반영(Dirty Checking) */
 	public static void apply(DailyLimit d, DailyLimitJpaEntity e) {
 		e.update(d.getWithdrawSum(), d.getTransferSum());
 	}
+
+	/** 계좌 행의 누적치 → 도메인 (id = 계좌 id, 저장된 날짜가 date가 아니면 0부터) */
+	public static DailyLimit fromAccountRow(AccountJpaEntity e, LocalDate date) {
+		if (!date.equals(e.getLimitDate())) {
+			return new DailyLimit(e.getId(), e.getId(), date, 0L, 0L);
+		}
+		return new DailyLimit(e.getId(), e.getId(), date, e.getLimitWithdrawSum(), e.getLimitTransferSum());
+	}
+
+	/** 도메인 상태를 계좌 행에 반영(Dirty Checking) */
+	public static void applyToAccountRow(DailyLimit d, AccountJpaEntity e) {
+		e.updateDailyLimit(d.getDate(), d.getWithdrawSum(), d.getTransferSum());
+	}
 }
\ No newline at end of file
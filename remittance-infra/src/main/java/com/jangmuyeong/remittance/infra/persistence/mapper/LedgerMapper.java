@@ -6,12 +6,22 @@ import com.jangmuyeong.remittance.infra.persistence.entity.LedgerEntryJpaEntity;
 
 public class LedgerMapper {
 
-	/** 신규 원장 기록은 항상 INSERT이므로, id 없는 엔티티로 생성 */
-	public static LedgerEntryJpaEntity toNewEntity(LedgerEntry e) {
+	// type은 tinyint 코드로 저장 (코드 -> enum 역조회 표, 코드는 enum 선언 순서와 무관하게 고정)
+	private static final TransactionType[] TYPE_BY_CODE = new TransactionType[6];
+
+	static {
+		for (TransactionType type : TransactionType.values()) {
+			TYPE_BY_CODE[typeCode(type)] = type;
+		}
+	}
+
+	/** 신규 원장 기록은 항상 INSERT이므로, 발급받은 id로 새 엔티티 생성 */
+	public static LedgerEntryJpaEntity toNewEntity(LedgerEntry e, long id) {
 		return new LedgerEntryJpaEntity(
+			id,
 			e.getAccountId(),
-			e.getCounterpartyAccountId(),
-			e.getType().name(),
+			e.hasCounterparty() ? e.getCounterpartyAccountId() : null,
+			typeCode(e.getType()),
 			e.getAmount(),
 			e.getFeeAmount(),
 			e.getOccurredAt(),
@@ -22,14 +32,33 @@ public class LedgerMapper {
 	/** 조회 결과를 서비스/응용계층에서 쓰기 위해 도메인 모델로 복원 */
 	public static LedgerEntry toDomain(LedgerEntryJpaEntity e) {
 		return new LedgerEntry(
-			e.getId(),
+			e.getId() == null ? LedgerEntry.NO_ID : e.getId(),
 			e.getAccountId(),
-			e.getCounterpartyAccountId(),
-			TransactionType.valueOf(e.getType()),
+			e.getCounterpartyAccountId() == null ? LedgerEntry.NO_ID : e.getCounterpartyAccountId(),
+			typeOf(e.getType()),
 			e.getAmount(),
 			e.getFeeAmount(),
 			e.getOccurredAt(),
 			e.getBalanceAfter()
 		);
 	}
-}
\ No newline at end of file
+
+	/** ledger_entries.type 저장 코드 (이미 저장된 행과 호환되어야 하므로 값을 바꾸지 않는다) */
+	public static byte typeCode(TransactionType type) {
+		return switch (type) {
+			case DEPOSIT -> 1;
+			case WITHDRAW -> 2;
+			case TRANSFER_OUT -> 3;
+			case TRANSFER_IN -> 4;
+			case FEE -> 5;
+		};
+	}
+
+	public static TransactionType typeOf(byte code) {
+		TransactionType type = code > 0 && code < TYPE_BY_CODE.length ? TYPE_BY_CODE[code] : null;
+		if (type == null) {
+			throw new IllegalStateException("unknown ledger type code: " + code);
+		}
+		return type;
+	}
+}
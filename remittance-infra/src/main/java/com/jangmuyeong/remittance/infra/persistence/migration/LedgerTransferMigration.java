@@ -0,0 +1,104 @@
+package com.jangmuyeong.remittance.infra.persistence.migration;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.jangmuyeong.remittance.domain.ledger.TransactionType;
+import com.jangmuyeong.remittance.infra.persistence.mapper.LedgerMapper;
+
+/**
+ * 분리 형식(TRANSFER_OUT + FEE) 송금 원장을 통합 형식(TRANSFER_OUT 1행에 fee_amount)으로 옮기는 마이그레이션
+ *
+ * - FEE 행과 같은 계좌/상대 계좌/시각/balance_after를 가진 TRANSFER_OUT(fee_amount = 0) 행을 짝으로 찾는다.
+ *   (같은 시각에 같은 상대에게 보낸 두 송금은 balance_after가 다르므로 짝이 유일)
+ * - 짝의 fee_amount를 채우고 FEE 행을 지운다. batch 단위로 한 트랜잭션, FEE id 기준 keyset으로 진행
+ * - 수수료 0원 FEE 행은 통합 행과 구분되지 않으므로 그대로 둔다. (TransferLedgerFormat.CONSOLIDATED와 같은 규칙)
+ * - 다시 실행해도 안전 (이미 옮긴 행은 짝이 없음), 서비스 중에도 실행 가능 (조회는 두 형식을 같은 항목으로 보여줌)
+ *
+ * 실행: remittance.ledger.migrate-transfers=true 로 기동하면 시작 시 끝까지 실행
+ *   예) java -jar app.jar --remittance.ledger.migrate-transfers=true --spring.main.web-application-type=none
+ */
+@Component
+public class LedgerTransferMigration implements ApplicationRunner {
+
+	private static final Logger log = LoggerFactory.getLogger(LedgerTransferMigration.class);
+
+	private static final String SELECT_PAIRS =
+		"select f.id, o.id, f.fee_amount from ledger_entries f "
+			+ "join ledger_entries o on o.account_id = f.account_id "
+			+ "and o.counterparty_account_id = f.counterparty_account_id "
+			+ "and o.occurred_at = f.occurred_at and o.balance_after = f.balance_after "
+			+ "and o.type = " + LedgerMapper.typeCode(TransactionType.TRANSFER_OUT) + " and o.fee_amount = 0 "
+			+ "where f.type = " + LedgerMapper.typeCode(TransactionType.FEE) + " and f.fee_amount > 0 and f.id > ? "
+			+ "order by f.id limit ?";
+	private static final String UPDATE_FEE = "update ledger_entries set fee_amount = ? where id = ? and fee_amount = 0";
+	private static final String DELETE_FEE = "delete from ledger_entries where id = ?";
+
+	private final JdbcTemplate jdbc;
+	private final TransactionTemplate tx;
+	private final boolean enabled;
+	private final int batchSize;
+
+	public LedgerTransferMigration(JdbcTemplate jdbc, PlatformTransactionManager transactionManager,
+		@Value("${remittance.ledger.migrate-transfers:false}") boolean enabled,
+		@Value("${remittance.ledger.migrate-batch-size:1000}") int batchSize) {
+		this.jdbc = jdbc;
+		this.tx = new TransactionTemplate(transactionManager);
+		this.enabled = enabled;
+		this.batchSize = batchSize;
+	}
+
+	@Override
+	public void run(ApplicationArguments args) {
+		if (!enabled) return;
+		long started = System.nanoTime();
+		long migrated = migrateAll();
+		log.info("ledger transfer migration done: {} FEE rows merged in {} ms",
+			migrated, (System.nanoTime() - started) / 1_000_000);
+	}
+
+	/**
+	 * 남은 행이 없을 때까지 batch 반복
+	 * @return 통합한 FEE 행 수
+	 */
+	public long migrateAll() {
+		long afterId = 0L;
+		long total = 0L;
+		Batch batch;
+		while ((batch = migrateBatch(afterId)).merged() > 0) {
+			total += batch.merged();
+			afterId = batch.lastFeeId();
+		}
+		return total;
+	}
+
+	/**
+	 * FEE id가 afterId보다 큰 짝을 최대 batchSize개 통합 (한 트랜잭션)
+	 */
+	Batch migrateBatch(long afterId) {
+		return tx.execute(status -> {
+			List<long[]> pairs = jdbc.query(SELECT_PAIRS,
+				(rs, rowNum) -> new long[] {rs.getLong(1), rs.getLong(2), rs.getLong(3)}, afterId, batchSize);
+			if (pairs.isEmpty()) return new Batch(afterId, 0);
+
+			jdbc.batchUpdate(UPDATE_FEE, pairs, pairs.size(), (ps, pair) -> {
+				ps.setLong(1, pair[2]);
+				ps.setLong(2, pair[1]);
+			});
+			jdbc.batchUpdate(DELETE_FEE, pairs, pairs.size(), (ps, pair) -> ps.setLong(1, pair[0]));
+			return new Batch(pairs.get(pairs.size() - 1)[0], pairs.size());
+		});
+	}
+
+	record Batch(long lastFeeId, int merged) {
+	}
+}
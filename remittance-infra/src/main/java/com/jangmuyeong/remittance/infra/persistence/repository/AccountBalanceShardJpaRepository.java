@@ -0,0 +1,38 @@
+package com.jangmuyeong.remittance.infra.persistence.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import com.jangmuyeong.remittance.infra.persistence.entity.AccountBalanceShardJpaEntity;
+
+import jakarta.persistence.LockModeType;
+
+/**
+ * AccountBalanceShardJpaEntity를 위한 레포지토리
+ * 입금은 shard 행 하나만 UPDATE (계좌 행 락 없음), 출금은 계좌의 shard 행 전체를 shard_no 순으로 락 조회
+ */
+public interface AccountBalanceShardJpaRepository extends JpaRepository<AccountBalanceShardJpaEntity, Long> {
+
+	// 입금 대상 계좌 상태/잔액 조회: 계좌 행 balance + shard 합, 계좌가 없거나 status가 다르면 null
+	@Query("select a.balance + coalesce(sum(s.balance), 0) from AccountJpaEntity a "
+		+ "left join AccountBalanceShardJpaEntity s on s.accountId = a.id "
+		+ "where a.id = :accountId and a.status = :status group by a.id, a.balance")
+	Long findTotalIfStatus(Long accountId, byte status);
+
+	@Modifying
+	@Query("update AccountBalanceShardJpaEntity s set s.balance = s.balance + :amount "
+		+ "where s.accountId = :accountId and s.shardNo = :shardNo")
+	int credit(Long accountId, int shardNo, long amount);
+
+	@Query("select coalesce(sum(s.balance), 0) from AccountBalanceShardJpaEntity s where s.accountId = :accountId")
+	long sumBalance(Long accountId);
+
+	// 출금: 같은 계좌의 출금끼리는 계좌 행 락으로 직렬화되고, 진행 중인 입금과는 shard 행 락으로 직렬화 (shard_no 순으로 획득)
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("select s from AccountBalanceShardJpaEntity s where s.accountId = :accountId order by s.shardNo")
+	List<AccountBalanceShardJpaEntity> findAllForUpdate(Long accountId);
+}
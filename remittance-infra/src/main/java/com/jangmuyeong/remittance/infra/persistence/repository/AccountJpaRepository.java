@@ -4,6 +4,7 @@ import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
 import com.jangmuyeong.remittance.infra.persistence.entity.AccountJpaEntity;
@@ -18,8 +19,28 @@ public interface AccountJpaRepository extends JpaRepository<AccountJpaEntity, Lo
 
 	Optional<AccountJpaEntity> findByAccountNo(String accountNo);
 
-	// 동시 출금/이체 시 정합성 보장을 위해 비관락 사용
+	// 쓰기 경로용: id만 조회(엔티티를 만들거나 영속성 컨텍스트에 올리지 않음), 없으면 null
+	@Query("select a.id from AccountJpaEntity a where a.accountNo = :accountNo")
+	Long findIdByAccountNo(String accountNo);
+
+	// 동시 출금/이체 시 정합성 보장을 위해 비관락 사용, 없으면 null
 	@Lock(LockModeType.PESSIMISTIC_WRITE)
 	@Query("select a from AccountJpaEntity a where a.id = :id")
-	Optional<AccountJpaEntity> findByIdForUpdate(Long id);
+	AccountJpaEntity findByIdForUpdate(Long id);
+
+	// 조건부 쓰기 모드: 검증과 반영을 UPDATE 한 문장으로 처리 (영속성 컨텍스트를 거치지 않음), 반영된 행 수 반환
+	// (낙관적 모드로 읽어 둔 트랜잭션이 충돌을 알아채도록 version도 올림)
+	@Modifying
+	@Query("update AccountJpaEntity a set a.balance = a.balance + :amount, a.version = a.version + 1 "
+		+ "where a.id = :id and a.status = :status")
+	int depositIfStatus(Long id, byte status, long amount);
+
+	@Modifying
+	@Query("update AccountJpaEntity a set a.balance = a.balance - :amount, a.version = a.version + 1 "
+		+ "where a.id = :id and a.status = :status and a.balance >= :amount")
+	int withdrawIfStatusAndSufficient(Long id, byte status, long amount);
+
+	// 조건부 UPDATE 직후 반영된 잔액 조회 (UPDATE로 이미 행 락을 잡은 상태)
+	@Query("select a.balance from AccountJpaEntity a where a.id = :id")
+	long findBalanceById(Long id);
 }
\ No newline at end of file
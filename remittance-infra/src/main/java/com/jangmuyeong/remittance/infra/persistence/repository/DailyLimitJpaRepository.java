@@ -23,5 +23,5 @@ public interface DailyLimitJpaRepository extends JpaRepository<DailyLimitJpaEnti
 
 	@Lock(LockModeType.PESSIMISTIC_WRITE)
 	@Query("select d from DailyLimitJpaEntity d where d.accountId = :accountId and d.date = :date")
-	Optional<DailyLimitJpaEntity> findByAccountIdAndDateForUpdate(Long accountId, LocalDate date);
+	DailyLimitJpaEntity findByAccountIdAndDateForUpdate(Long accountId, LocalDate date);
 }
\ No newline at end of file
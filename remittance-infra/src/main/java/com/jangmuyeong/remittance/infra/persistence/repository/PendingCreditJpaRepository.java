@@ -0,0 +1,33 @@
+package com.jangmuyeong.remittance.infra.persistence.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+
+import com.jangmuyeong.remittance.infra.persistence.entity.PendingCreditJpaEntity;
+
+import jakarta.persistence.LockModeType;
+
+/**
+ * PendingCreditJpaEntity를 위한 레포지토리
+ * 입금은 행 INSERT만 (계좌 행 락 없음), 반영은 계좌 행 락 후 오래된 순으로 락 조회
+ */
+public interface PendingCreditJpaRepository extends JpaRepository<PendingCreditJpaEntity, Long> {
+
+	// 입금 대상 계좌 상태/잔액 조회: 계좌 행 balance + 미반영 합, 계좌가 없거나 status가 다르면 null
+	@Query("select a.balance + coalesce(sum(p.amount), 0) from AccountJpaEntity a "
+		+ "left join PendingCreditJpaEntity p on p.accountId = a.id "
+		+ "where a.id = :accountId and a.status = :status group by a.id, a.balance")
+	Long findTotalIfStatus(Long accountId, byte status);
+
+	@Query("select coalesce(sum(p.amount), 0) from PendingCreditJpaEntity p where p.accountId = :accountId")
+	long sumAmount(Long accountId);
+
+	// 반영: 같은 계좌의 반영끼리는 계좌 행 락으로 직렬화, 락 조회라 먼저 시작한 트랜잭션의 스냅샷이 아닌 최신 커밋 행을 읽음
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("select p from PendingCreditJpaEntity p where p.accountId = :accountId order by p.id")
+	List<PendingCreditJpaEntity> findOldestForUpdate(Long accountId, Pageable pageable);
+}
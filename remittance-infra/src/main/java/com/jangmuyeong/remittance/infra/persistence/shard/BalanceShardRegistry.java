@@ -0,0 +1,140 @@
+package com.jangmuyeong.remittance.infra.persistence.shard;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.jangmuyeong.remittance.domain.account.Account;
+import com.jangmuyeong.remittance.infra.persistence.id.TimeOrderedIdGenerator;
+
+/**
+ * 잔액 샤딩 계좌 목록 (BalanceShardPort 어댑터가 공유, JPA/jdbc 프로파일 공통)
+ *
+ * - 기동 시 remittance.balance-shards.accounts의 계좌마다 shard 행을 count개까지 만든다. (기존 잔액은 계좌 행에 그대로 둠)
+ * - 그 뒤 account_balance_shards에 행이 있는 계좌를 메모리에 올려, 요청마다 샤딩 여부를 쿼리 없이 판단한다.
+ * - 다시 실행해도 안전 (이미 있는 shard는 그대로, 모자란 shard_no만 추가), shard 수 축소/해제는 지원하지 않음
+ *
+ * 지정 전까지 이 계좌의 입출금은 계좌 행만 쓰고, 지정 뒤에는 계좌 행 + shard 합을 잔액으로 보므로
+ * 기동 중(목록을 올리기 전) 요청이나 목록을 아직 모르는 인스턴스가 있어도 잔액이 틀어지지 않는다.
+ * (그 인스턴스는 shard 잔액을 모르고 출금을 잔액 부족으로 거절할 수 있으므로 모든 인스턴스에 같은 설정을 둔다)
+ */
+@Component
+public class BalanceShardRegistry implements ApplicationRunner {
+
+	private static final Logger log = LoggerFactory.getLogger(BalanceShardRegistry.class);
+
+	private static final String SELECT_ACCOUNT_FOR_UPDATE = "select id from accounts where account_no = ? for update";
+	private static final String COUNT_SHARDS = "select count(*) from account_balance_shards where account_id = ?";
+	private static final String INSERT_SHARD =
+		"insert into account_balance_shards (id, account_id, shard_no, balance) values (?, ?, ?, 0)";
+	private static final String SELECT_SHARD_COUNTS =
+		"select account_id, count(*) from account_balance_shards group by account_id";
+
+	private final JdbcTemplate jdbc;
+	private final TransactionTemplate tx;
+	private final TimeOrderedIdGenerator ids;
+	private final List<String> accountNos;
+	private final int shardCount;
+
+	private volatile Map<Long, Integer> shardCounts = Map.of();
+
+	public BalanceShardRegistry(JdbcTemplate jdbc, PlatformTransactionManager transactionManager,
+		TimeOrderedIdGenerator ids,
+		@Value("${remittance.balance-shards.accounts:}") List<String> accountNos,
+		@Value("${remittance.balance-shards.count:8}") int shardCount) {
+		if (shardCount < 1) throw new IllegalArgumentException("balance-shards.count must be >= 1: " + shardCount);
+		this.jdbc = jdbc;
+		this.tx = new TransactionTemplate(transactionManager);
+		this.ids = ids;
+		this.accountNos = accountNos;
+		this.shardCount = shardCount;
+	}
+
+	@Override
+	public void run(ApplicationArguments args) {
+		for (String accountNo : accountNos) {
+			if (!accountNo.isBlank()) designate(accountNo.trim());
+		}
+		reload();
+		if (!shardCounts.isEmpty()) log.info("balance shards loaded: {} accounts", shardCounts.size());
+	}
+
+	/**
+	 * 계좌를 샤딩 계좌로 지정 (shard 행 생성 후 목록 다시 읽기)
+	 * @return 지정한 계좌 id, 계좌가 없으면 Account.NO_ID
+	 */
+	public long designate(String accountNo) {
+		Long accountId = tx.execute(status -> {
+			List<Long> found = jdbc.queryForList(SELECT_ACCOUNT_FOR_UPDATE, Long.class, accountNo);
+			if (found.isEmpty()) return null;
+			long id = found.get(0);
+			Integer existing = jdbc.queryForObject(COUNT_SHARDS, Integer.class, id);
+			for (int shardNo = existing == null ? 0 : existing; shardNo < shardCount; shardNo++) {
+				jdbc.update(INSERT_SHARD, ids.nextId(), id, shardNo);
+			}
+			return id;
+		});
+		if (accountId == null) {
+			log.warn("balance shard account not found: {}", accountNo);
+			return Account.NO_ID;
+		}
+		reload();
+		return accountId;
+	}
+
+	public void reload() {
+		ResultSetExtractor<Map<Long, Integer>> extractor = rs -> {
+			Map<Long, Integer> counts = new HashMap<>();
+			while (rs.next()) counts.put(rs.getLong(1), rs.getInt(2));
+			return counts;
+		};
+		shardCounts = Map.copyOf(jdbc.query(SELECT_SHARD_COUNTS, extractor));
+	}
+
+	public boolean isSharded(long accountId) {
+		return shardCounts.containsKey(accountId);
+	}
+
+	/** 계좌의 shard 수 (shard_no는 0 ~ 수-1), 샤딩 계좌가 아니면 0 */
+	public int shardCount(long accountId) {
+		return shardCounts.getOrDefault(accountId, 0);
+	}
+
+	/**
+	 * 출금 금액을 어디서 얼마씩 뺄지 계산 (잔액이 큰 shard부터, shard로 모자라면 계좌 행 balance에서)
+	 * 한 shard로 충분하면 그 shard 하나만 바뀌므로 UPDATE가 한 건이다.
+	 * @param shardBalances shard_no 순 잔액
+	 * @return 길이 shard 수 + 1 (마지막 칸은 계좌 행)의 차감액, 합계가 모자라면 null
+	 */
+	public static long[] planDebit(long[] shardBalances, long rowBalance, long amount) {
+		long[] take = new long[shardBalances.length + 1];
+		long[] left = shardBalances.clone();
+
+		long remaining = amount;
+		while (remaining > 0) {
+			int largest = -1;
+			for (int i = 0; i < left.length; i++) {
+				if (left[i] > 0 && (largest < 0 || left[i] > left[largest])) largest = i;
+			}
+			if (largest < 0) break;
+			long taken = Math.min(left[largest], remaining);
+			take[largest] += taken;
+			left[largest] -= taken;
+			remaining -= taken;
+		}
+		if (remaining > rowBalance) return null;
+		take[shardBalances.length] = remaining;
+		return take;
+	}
+}
@@ -0,0 +1,106 @@
+package com.jangmuyeong.remittance.infra.persistence.unitofwork;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 단위 Unit of Work (JPA 어댑터 전용)
+ *
+ * 어댑터가 락 조회/생성(낙관적 쓰기 모드에서는 락 없는 조회)으로 돌려준 도메인 객체와 그 원본인 영속 엔티티를 트랜잭션 동안 짝지어 둔다.
+ * - save/update: em.find 재조회 없이 짝지은 엔티티에 도메인 상태만 반영 (dirty checking)
+ * - identity map: 같은 트랜잭션에서 같은 행을 다시 락 조회하면 (락은 이미 잡혀 있으므로) 쿼리 없이 같은 인스턴스
+ *
+ * 상태는 TransactionSynchronizationManager 리소스로 트랜잭션에 묶고, 커밋/롤백 시 버린다.
+ * 트랜잭션 동기화가 없으면(트랜잭션 밖 호출) 아무것도 기록하지 않으므로 어댑터는 기존 방식(em.find)으로 처리한다.
+ */
+@Component
+@Profile("!jdbc")
+public class UnitOfWork {
+
+	/**
+	 * 락 조회/생성으로 읽은 도메인 객체를 id(계좌 id 등)로 기록
+	 */
+	public <D> void register(Class<D> type, long id, D domain, Object entity) {
+		Work work = current(true);
+		if (work == null) return;
+		work.entities.put(domain, entity);
+		work.domains.put(new Key(type, id), domain);
+	}
+
+	/**
+	 * 이번 트랜잭션에서 이미 기록된 도메인 객체, 없으면 null
+	 */
+	public <D> D find(Class<D> type, long id) {
+		Work work = current(false);
+		return work == null ? null : type.cast(work.domains.get(new Key(type, id)));
+	}
+
+	/**
+	 * 도메인 객체와 짝지어 둔 영속 엔티티, 기록이 없으면 null
+	 */
+	public <E> E entityOf(Object domain, Class<E> entityType) {
+		Work work = current(false);
+		return work == null ? null : entityType.cast(work.entities.get(domain));
+	}
+
+	/**
+	 * 벌크 UPDATE처럼 영속성 컨텍스트를 거치지 않고 행을 바꾼 경우, 다음 조회가 DB를 다시 읽도록 기록을 지운다.
+	 */
+	public void evict(Class<?> type, long id) {
+		Work work = current(false);
+		if (work == null) return;
+		Object domain = work.domains.remove(new Key(type, id));
+		if (domain != null) work.entities.remove(domain);
+	}
+
+	private Work current(boolean create) {
+		Work work = (Work) TransactionSynchronizationManager.getResource(this);
+		if (work != null || !create || !TransactionSynchronizationManager.isSynchronizationActive()) {
+			return work;
+		}
+		work = new Work(this);
+		TransactionSynchronizationManager.bindResource(this, work);
+		TransactionSynchronizationManager.registerSynchronization(work);
+		return work;
+	}
+
+	private record Key(Class<?> type, long id) {
+	}
+
+	/**
+	 * 트랜잭션 하나의 기록 (REQUIRES_NEW 등으로 보류되면 같이 풀었다가 재개 시 다시 묶음)
+	 */
+	private static final class Work implements TransactionSynchronization {
+
+		private final Object resourceKey;
+		// 도메인 객체 -> 영속 엔티티 (equals가 아닌 인스턴스 기준)
+		private final Map<Object, Object> entities = new IdentityHashMap<>();
+		// (도메인 타입, id) -> 도메인 객체
+		private final Map<Key, Object> domains = new HashMap<>();
+
+		private Work(Object resourceKey) {
+			this.resourceKey = resourceKey;
+		}
+
+		@Override
+		public void suspend() {
+			TransactionSynchronizationManager.unbindResource(resourceKey);
+		}
+
+		@Override
+		public void resume() {
+			TransactionSynchronizationManager.bindResource(resourceKey, this);
+		}
+
+		@Override
+		public void afterCompletion(int status) {
+			TransactionSynchronizationManager.unbindResourceIfPossible(resourceKey);
+		}
+	}
+}
@@ -0,0 +1,121 @@
+package com.jangmuyeong.remittance.infra.persistence.id;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+class TimeOrderedIdGeneratorTest {
+
+	private static final long T0 = Instant.parse("2025-12-30T10:00:00Z").toEpochMilli();
+
+	@Test
+	void id_encodes_timestamp_and_node() {
+		TimeOrderedIdGenerator ids = new TimeOrderedIdGenerator(7, () -> T0);
+
+		long id = ids.nextId();
+
+		assertThat(TimeOrderedIdGenerator.timestampOf(id)).isEqualTo(Instant.ofEpochMilli(T0));
+		assertThat(TimeOrderedIdGenerator.nodeOf(id)).isEqualTo(7);
+		assertThat(id).isPositive();
+	}
+
+	@Test
+	void ids_increase_within_and_across_millis() {
+		AtomicLong clock = new AtomicLong(T0);
+		TimeOrderedIdGenerator ids = new TimeOrderedIdGenerator(0, clock::get);
+
+		long a = ids.nextId();
+		long b = ids.nextId();
+		clock.incrementAndGet();
+		long c = ids.nextId();
+
+		assertThat(a).isLessThan(b);
+		assertThat(b).isLessThan(c);
+	}
+
+	@Test
+	void sequence_overflow_borrows_next_milli_and_stays_increasing() {
+		TimeOrderedIdGenerator ids = new TimeOrderedIdGenerator(0, () -> T0);
+
+		long prev = ids.nextId();
+		for (int i = 0; i < 5_000; i++) {
+			long next = ids.nextId();
+			assertThat(next).isGreaterThan(prev);
+			prev = next;
+		}
+		assertThat(TimeOrderedIdGenerator.timestampOf(prev)).isEqualTo(Instant.ofEpochMilli(T0 + 1));
+	}
+
+	@Test
+	void clock_going_backwards_does_not_reissue_ids() {
+		AtomicLong clock = new AtomicLong(T0);
+		TimeOrderedIdGenerator ids = new TimeOrderedIdGenerator(0, clock::get);
+
+		long before = ids.nextId();
+		clock.set(T0 - 10_000);
+		long after = ids.nextId();
+
+		assertThat(after).isGreaterThan(before);
+	}
+
+	@Test
+	void ids_are_unique_across_threads() throws Exception {
+		TimeOrderedIdGenerator ids = new TimeOrderedIdGenerator(1, System::currentTimeMillis);
+		Set<Long> seen = ConcurrentHashMap.newKeySet();
+		ExecutorService pool = Executors.newFixedThreadPool(8);
+		for (int t = 0; t < 8; t++) {
+			pool.submit(() -> {
+				for (int i = 0; i < 10_000; i++) seen.add(ids.nextId());
+			});
+		}
+		pool.shutdown();
+		assertThat(pool.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+
+		assertThat(seen).hasSize(80_000);
+	}
+
+	@Test
+	void different_nodes_never_collide_in_same_milli() {
+		TimeOrderedIdGenerator node0 = new TimeOrderedIdGenerator(0, () -> T0);
+		TimeOrderedIdGenerator node1 = new TimeOrderedIdGenerator(1, () -> T0);
+		Set<Long> seen = new HashSet<>();
+
+		for (int i = 0; i < 1_000; i++) {
+			seen.add(node0.nextId());
+			seen.add(node1.nextId());
+		}
+
+		assertThat(seen).hasSize(2_000);
+	}
+
+	@Test
+	void rejects_node_out_of_range() {
+		assertThatThrownBy(() -> new TimeOrderedIdGenerator(TimeOrderedIdGenerator.MAX_NODE + 1, () -> T0))
+			.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void application_node_is_required_and_excludes_tool_node() {
+		assertThat(TimeOrderedIdGenerator.applicationNode(" 7 ")).isEqualTo(7);
+		assertThat(TimeOrderedIdGenerator.applicationNode(String.valueOf(TimeOrderedIdGenerator.TOOL_NODE - 1)))
+			.isEqualTo(TimeOrderedIdGenerator.TOOL_NODE - 1);
+
+		assertThatThrownBy(() -> TimeOrderedIdGenerator.applicationNode(""))
+			.isInstanceOf(IllegalStateException.class).hasMessageContaining("ID_NODE");
+		assertThatThrownBy(() -> TimeOrderedIdGenerator.applicationNode("node-a"))
+			.isInstanceOf(IllegalStateException.class);
+		assertThatThrownBy(() -> TimeOrderedIdGenerator.applicationNode("-1"))
+			.isInstanceOf(IllegalStateException.class);
+		assertThatThrownBy(() -> TimeOrderedIdGenerator.applicationNode(String.valueOf(TimeOrderedIdGenerator.TOOL_NODE)))
+			.isInstanceOf(IllegalStateException.class);
+	}
+}
@@ -0,0 +1,36 @@
+package com.jangmuyeong.remittance.infra.persistence.limit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class DailyLimitStorageConfigTest {
+
+	@Test
+	void selects_adapter_by_runtime_storage_value() {
+		DailyLimitStorageAdapter table = adapter(DailyLimitStorage.TABLE);
+		DailyLimitStorageAdapter accountRow = adapter(DailyLimitStorage.ACCOUNT_ROW);
+		DailyLimitStorageConfig config = new DailyLimitStorageConfig();
+
+		assertThat(config.dailyLimitPort(List.of(table, accountRow), "table")).isSameAs(table);
+		assertThat(config.dailyLimitPort(List.of(table, accountRow), "account-row")).isSameAs(accountRow);
+	}
+
+	@Test
+	void unknown_storage_value_fails_fast() {
+		DailyLimitStorageConfig config = new DailyLimitStorageConfig();
+
+		assertThatThrownBy(() -> config.dailyLimitPort(List.of(adapter(DailyLimitStorage.TABLE)), "account_row"))
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessageContaining("account_row");
+	}
+
+	private DailyLimitStorageAdapter adapter(DailyLimitStorage storage) {
+		DailyLimitStorageAdapter adapter = mock(DailyLimitStorageAdapter.class);
+		when(adapter.storage()).thenReturn(storage);
+		return adapter;
+	}
+}
@@ -0,0 +1,28 @@
+package com.jangmuyeong.remittance.infra.persistence.mapper;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import com.jangmuyeong.remittance.domain.account.Account;
+import com.jangmuyeong.remittance.domain.account.AccountStatus;
+
+class AccountMapperTest {
+
+	@Test
+	void status_codes_are_fixed_and_round_trip() {
+		assertThat(AccountMapper.statusCode(AccountStatus.ACTIVE)).isEqualTo((byte) 1);
+		assertThat(AccountMapper.statusCode(AccountStatus.DELETED)).isEqualTo((byte) 2);
+		for (AccountStatus status : AccountStatus.values()) {
+			assertThat(AccountMapper.statusOf(AccountMapper.statusCode(status))).isEqualTo(status);
+		}
+		Account deleted = new Account(3L, "111-222", AccountStatus.DELETED, 0L);
+		assertThat(AccountMapper.toDomain(AccountMapper.toNewEntity(deleted, 3L)).getStatus()).isEqualTo(AccountStatus.DELETED);
+	}
+
+	@Test
+	void unknown_status_code_is_rejected() {
+		assertThatThrownBy(() -> AccountMapper.statusOf((byte) 0)).isInstanceOf(IllegalStateException.class);
+		assertThatThrownBy(() -> AccountMapper.statusOf((byte) 3)).isInstanceOf(IllegalStateException.class);
+	}
+}
@@ -0,0 +1,52 @@
+package com.jangmuyeong.remittance.infra.persistence.mapper;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import com.jangmuyeong.remittance.domain.account.AccountStatus;
+import com.jangmuyeong.remittance.domain.limit.DailyLimit;
+import com.jangmuyeong.remittance.infra.persistence.entity.AccountJpaEntity;
+
+class DailyLimitMapperTest {
+
+	private static final LocalDate TODAY = LocalDate.of(2025, 12, 30);
+
+	@Test
+	void account_row_limit_continues_on_same_day() {
+		AccountJpaEntity account = new AccountJpaEntity(7L, "111-222", AccountMapper.statusCode(AccountStatus.ACTIVE), 1_000_000L);
+		account.updateDailyLimit(TODAY, 300_000L, 1_000_000L);
+
+		DailyLimit limit = DailyLimitMapper.fromAccountRow(account, TODAY);
+
+		assertThat(limit.getAccountId()).isEqualTo(7L);
+		assertThat(limit.getWithdrawSum()).isEqualTo(300_000L);
+		assertThat(limit.getTransferSum()).isEqualTo(1_000_000L);
+	}
+
+	@Test
+	void account_row_limit_resets_lazily_on_new_day() {
+		AccountJpaEntity account = new AccountJpaEntity(7L, "111-222", AccountMapper.statusCode(AccountStatus.ACTIVE), 1_000_000L);
+		account.updateDailyLimit(TODAY, 1_000_000L, 3_000_000L);
+
+		DailyLimit limit = DailyLimitMapper.fromAccountRow(account, TODAY.plusDays(1));
+		limit.addWithdraw(1_000_000L);
+		DailyLimitMapper.applyToAccountRow(limit, account);
+
+		assertThat(account.getLimitDate()).isEqualTo(TODAY.plusDays(1));
+		assertThat(account.getLimitWithdrawSum()).isEqualTo(1_000_000L);
+		assertThat(account.getLimitTransferSum()).isZero();
+	}
+
+	@Test
+	void account_row_limit_starts_empty_for_new_account() {
+		AccountJpaEntity account = new AccountJpaEntity(7L, "111-222", AccountMapper.statusCode(AccountStatus.ACTIVE), 0L);
+
+		DailyLimit limit = DailyLimitMapper.fromAccountRow(account, TODAY);
+
+		assertThat(limit.getWithdrawSum()).isZero();
+		assertThat(limit.getTransferSum()).isZero();
+	}
+}
@@ -0,0 +1,44 @@
+package com.jangmuyeong.remittance.infra.persistence.mapper;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Instant;
+
+import org.junit.jupiter.api.Test;
+
+import com.jangmuyeong.remittance.domain.ledger.LedgerEntry;
+import com.jangmuyeong.remittance.domain.ledger.TransactionType;
+import com.jangmuyeong.remittance.infra.persistence.entity.LedgerEntryJpaEntity;
+
+class LedgerMapperTest {
+
+	@Test
+	void type_codes_are_fixed_and_round_trip() {
+		// 저장된 행과 호환되어야 하므로 코드 값 자체를 고정
+		assertThat(LedgerMapper.typeCode(TransactionType.DEPOSIT)).isEqualTo((byte) 1);
+		assertThat(LedgerMapper.typeCode(TransactionType.WITHDRAW)).isEqualTo((byte) 2);
+		assertThat(LedgerMapper.typeCode(TransactionType.TRANSFER_OUT)).isEqualTo((byte) 3);
+		assertThat(LedgerMapper.typeCode(TransactionType.TRANSFER_IN)).isEqualTo((byte) 4);
+		assertThat(LedgerMapper.typeCode(TransactionType.FEE)).isEqualTo((byte) 5);
+		for (TransactionType type : TransactionType.values()) {
+			assertThat(LedgerMapper.typeOf(LedgerMapper.typeCode(type))).isEqualTo(type);
+		}
+	}
+
+	@Test
+	void unknown_codes_are_rejected() {
+		assertThatThrownBy(() -> LedgerMapper.typeOf((byte) 0)).isInstanceOf(IllegalStateException.class);
+		assertThatThrownBy(() -> LedgerMapper.typeOf((byte) 6)).isInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	void entity_round_trip_keeps_type() {
+		LedgerEntry entry = new LedgerEntry(LedgerEntry.NO_ID, 1L, 2L, TransactionType.TRANSFER_OUT,
+			100_000L, 1_000L, Instant.parse("2025-12-30T10:00:00Z"), 899_000L);
+
+		LedgerEntryJpaEntity entity = LedgerMapper.toNewEntity(entry, 9L);
+
+		assertThat(entity.getType()).isEqualTo((byte) 3);
+		assertThat(LedgerMapper.toDomain(entity).getType()).isEqualTo(TransactionType.TRANSFER_OUT);
+	}
+}
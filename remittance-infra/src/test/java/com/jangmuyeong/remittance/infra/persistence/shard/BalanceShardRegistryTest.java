@@ -0,0 +1,29 @@
+package com.jangmuyeong.remittance.infra.persistence.shard;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+class BalanceShardRegistryTest {
+
+	@Test
+	void debit_is_taken_from_one_shard_when_it_has_enough() {
+		long[] take = BalanceShardRegistry.planDebit(new long[] {300, 900, 500}, 1_000, 700);
+
+		assertThat(take).containsExactly(0, 700, 0, 0);
+	}
+
+	@Test
+	void debit_drains_largest_shards_first_then_account_row() {
+		assertThat(BalanceShardRegistry.planDebit(new long[] {300, 900, 500}, 1_000, 1_500))
+			.containsExactly(100, 900, 500, 0);
+		assertThat(BalanceShardRegistry.planDebit(new long[] {300, 900, 500}, 1_000, 2_000))
+			.containsExactly(300, 900, 500, 300);
+	}
+
+	@Test
+	void insufficient_total_returns_null() {
+		assertThat(BalanceShardRegistry.planDebit(new long[] {300, 900, 500}, 1_000, 2_701)).isNull();
+		assertThat(BalanceShardRegistry.planDebit(new long[0], 100, 100)).containsExactly(100);
+	}
+}
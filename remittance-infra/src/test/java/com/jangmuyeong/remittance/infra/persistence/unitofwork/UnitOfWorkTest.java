@@ -0,0 +1,98 @@
+package com.jangmuyeong.remittance.infra.persistence.unitofwork;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.jangmuyeong.remittance.domain.account.Account;
+import com.jangmuyeong.remittance.domain.account.AccountStatus;
+
+class UnitOfWorkTest {
+
+	private final UnitOfWork uow = new UnitOfWork();
+	private final Account account = new Account(7L, "111-222", AccountStatus.ACTIVE, 1_000L);
+	private final Object entity = new Object();
+
+	@AfterEach
+	void tearDown() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+		TransactionSynchronizationManager.unbindResourceIfPossible(uow);
+	}
+
+	@Test
+	void tracks_domain_and_entity_within_transaction() {
+		TransactionSynchronizationManager.initSynchronization();
+
+		uow.register(Account.class, 7L, account, entity);
+
+		assertThat(uow.find(Account.class, 7L)).isSameAs(account);
+		assertThat(uow.entityOf(account, Object.class)).isSameAs(entity);
+		// equals가 아닌 인스턴스 기준
+		assertThat(uow.entityOf(new Account(7L, "111-222", AccountStatus.ACTIVE, 1_000L), Object.class)).isNull();
+		assertThat(uow.find(Account.class, 8L)).isNull();
+	}
+
+	@Test
+	void records_nothing_without_transaction() {
+		uow.register(Account.class, 7L, account, entity);
+
+		assertThat(uow.find(Account.class, 7L)).isNull();
+		assertThat(uow.entityOf(account, Object.class)).isNull();
+	}
+
+	@Test
+	void evict_forgets_domain_and_entity() {
+		TransactionSynchronizationManager.initSynchronization();
+		uow.register(Account.class, 7L, account, entity);
+
+		uow.evict(Account.class, 7L);
+
+		assertThat(uow.find(Account.class, 7L)).isNull();
+		assertThat(uow.entityOf(account, Object.class)).isNull();
+	}
+
+	@Test
+	void completion_discards_records() {
+		TransactionSynchronizationManager.initSynchronization();
+		uow.register(Account.class, 7L, account, entity);
+
+		completeTransaction();
+
+		TransactionSynchronizationManager.initSynchronization();
+		assertThat(uow.find(Account.class, 7L)).isNull();
+	}
+
+	@Test
+	void suspended_transaction_records_are_hidden_until_resume() {
+		TransactionSynchronizationManager.initSynchronization();
+		uow.register(Account.class, 7L, account, entity);
+
+		// REQUIRES_NEW: 바깥 트랜잭션 보류 -> 안쪽 트랜잭션은 빈 기록으로 시작
+		List<TransactionSynchronization> suspended = TransactionSynchronizationManager.getSynchronizations();
+		suspended.forEach(TransactionSynchronization::suspend);
+		TransactionSynchronizationManager.clearSynchronization();
+		TransactionSynchronizationManager.initSynchronization();
+		assertThat(uow.find(Account.class, 7L)).isNull();
+		completeTransaction();
+
+		TransactionSynchronizationManager.initSynchronization();
+		suspended.forEach(s -> {
+			s.resume();
+			TransactionSynchronizationManager.registerSynchronization(s);
+		});
+		assertThat(uow.find(Account.class, 7L)).isSameAs(account);
+	}
+
+	private static void completeTransaction() {
+		List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+		TransactionSynchronizationManager.clearSynchronization();
+		synchronizations.forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+	}
+}
@@ -45,7 +45,7 @@ public class TransactionController {
 			.map(e -> new TransactionItemResponse(
 				e.getId(),
 				e.getType().name(),
-				e.getCounterpartyAccountId(),
+				e.hasCounterparty() ? e.getCounterpartyAccountId() : null, // 입출금은 null 유지
 				e.getAmount(),
 				e.getFeeAmount(),
 				e.getOccurredAt(),
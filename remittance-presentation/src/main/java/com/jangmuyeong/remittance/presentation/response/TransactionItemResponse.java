@@ -13,10 +13,11 @@ import java.time.Instant;
  * - counterpartyAccountId: 상대 계좌 ID(입금/출금은 null)
  * - amount: 거래 금액(수수료(FEE) 타입은 0으로 내려갈 수 있음)
  * - feeAmount: 수수료 금액(일반 거래는 0, FEE 타입에서만 값이 존재)
+ *   (통합 원장 형식에서는 한 행을 TRANSFER_OUT/FEE로 펼치므로 두 항목의 id가 같음)
  * - occurredAt: 발생 시각(UTC Instant)
  */
 public record TransactionItemResponse(
-	Long id,
+	long id,
 	String type,
 	Long counterpartyAccountId,
 	long amount,